@@ -49,6 +49,8 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READ;
+import static org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner.createProperty;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -268,23 +270,27 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
      * @throws Exception If failed.
      */
     public static void main(String[] args) throws Exception {
-        run(8);
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            run(threads, true);
+            run(threads, false);
+        }
     }
 
     /**
      * Run benchmark.
      *
      * @param threads Amount of threads.
+     * @param optimisticRead Optimistic reads of inner pages flag.
      * @throws Exception If failed.
      */
-    private static void run(int threads) throws Exception {
+    private static void run(int threads, boolean optimisticRead) throws Exception {
         JmhIdeBenchmarkRunner.create()
             .forks(1)
             .threads(threads)
             .warmupIterations(10)
             .measurementIterations(10)
             .benchmarks(BPlusTreeBenchmark.class.getSimpleName())
-            .jvmArguments("-Xms4g", "-Xmx4g")
+            .jvmArguments("-Xms4g", "-Xmx4g", createProperty(IGNITE_BPLUS_TREE_OPTIMISTIC_READ, optimisticRead))
             .run();
     }
 
@@ -47,6 +47,9 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READ;
+import static org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner.createProperty;
+
 /**
  * Index find benchmark.
  */
@@ -176,9 +179,15 @@ public class IndexFindBenchmark {
      * @throws Exception Exception.
      */
     public static void main(String[] args) throws Exception {
-        JmhIdeBenchmarkRunner.create()
-            .benchmarks(IndexFindBenchmark.class.getSimpleName())
-            .run();
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            for (boolean optimisticRead : new boolean[] {true, false}) {
+                JmhIdeBenchmarkRunner.create()
+                    .threads(threads)
+                    .benchmarks(IndexFindBenchmark.class.getSimpleName())
+                    .jvmArguments(createProperty(IGNITE_BPLUS_TREE_OPTIMISTIC_READ, optimisticRead))
+                    .run();
+            }
+        }
     }
 
     /** */
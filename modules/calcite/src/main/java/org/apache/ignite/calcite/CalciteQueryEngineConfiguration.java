@@ -34,6 +34,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private static final long DFLT_QUERY_MEMORY_QUOTA = 0L;
 
+    /** */
+    private static final boolean DFLT_DISK_SPILLING_ENABLED = false;
+
     /** */
     private boolean isDflt;
 
@@ -43,6 +46,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private long qryMemoryQuota = DFLT_QUERY_MEMORY_QUOTA;
 
+    /** */
+    private boolean diskSpillingEnabled = DFLT_DISK_SPILLING_ENABLED;
+
     /** {@inheritDoc} */
     @Override public String engineName() {
         return ENGINE_NAME;
@@ -106,4 +112,29 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
 
         return this;
     }
+
+    /**
+     * Gets flag indicating whether disk spilling is enabled.
+     *
+     * @return Flag indicating whether disk spilling is enabled.
+     * @see #setDiskSpillingEnabled(boolean)
+     */
+    public boolean isDiskSpillingEnabled() {
+        return diskSpillingEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether disk spilling is enabled. If enabled, memory consuming execution nodes (sort,
+     * hash join and hash aggregate) offload intermediate rows to temporary files in the work directory instead of
+     * failing the query when the per-query or the global heap memory quota is exhausted. Has no effect if
+     * neither {@link #setQueryMemoryQuota(long)} nor {@link #setGlobalMemoryQuota(long)} is set.
+     *
+     * @param diskSpillingEnabled Flag indicating whether disk spilling is enabled.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setDiskSpillingEnabled(boolean diskSpillingEnabled) {
+        this.diskSpillingEnabled = diskSpillingEnabled;
+
+        return this;
+    }
 }
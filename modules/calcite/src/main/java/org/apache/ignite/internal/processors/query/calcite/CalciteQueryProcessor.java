@@ -104,6 +104,8 @@ import org.apache.ignite.internal.processors.query.calcite.prepare.PrepareServic
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlan;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCache;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCacheImpl;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryResultCache;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryResultCacheImpl;
 import org.apache.ignite.internal.processors.query.calcite.schema.SchemaHolder;
 import org.apache.ignite.internal.processors.query.calcite.schema.SchemaHolderImpl;
 import org.apache.ignite.internal.processors.query.calcite.sql.IgniteSqlAlterUser;
@@ -223,6 +225,9 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
     /** */
     private final QueryPlanCache qryPlanCache;
 
+    /** */
+    private final QueryResultCache qryResCache;
+
     /** */
     private final QueryParserMetricsHolder parserMetrics;
 
@@ -286,6 +291,7 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         failureProcessor = ctx.failure();
         schemaHolder = new SchemaHolderImpl(ctx, frameworkCfg);
         qryPlanCache = new QueryPlanCacheImpl(ctx);
+        qryResCache = new QueryResultCacheImpl(ctx);
         parserMetrics = new QueryParserMetricsHolder(ctx.metric());
         mailboxRegistry = new MailboxRegistryImpl(ctx);
         taskExecutor = getBoolean(IGNITE_CALCITE_USE_QUERY_BLOCKING_TASK_EXECUTOR)
@@ -329,6 +335,13 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
         return qryPlanCache;
     }
 
+    /**
+     * @return Query result cache.
+     */
+    public QueryResultCache queryResultCache() {
+        return qryResCache;
+    }
+
     /**
      * @return Task executor.
      */
@@ -405,6 +418,7 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
             taskExecutor,
             mappingSvc,
             qryPlanCache,
+            qryResCache,
             exchangeSvc,
             qryReg,
             prepareSvc
@@ -429,6 +443,7 @@ public class CalciteQueryProcessor extends GridProcessorAdapter implements Query
                 taskExecutor,
                 mappingSvc,
                 qryPlanCache,
+                qryResCache,
                 exchangeSvc,
                 distrCfg
             );
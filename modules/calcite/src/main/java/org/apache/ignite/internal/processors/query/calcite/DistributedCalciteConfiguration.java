@@ -28,6 +28,7 @@ import org.apache.ignite.internal.processors.configuration.distributed.Distribut
 import org.apache.ignite.internal.processors.configuration.distributed.SimpleDistributedProperty;
 import org.apache.ignite.internal.processors.query.DistributedSqlConfiguration;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCache;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryResultCache;
 import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.processors.query.calcite.util.LifecycleAware;
 import org.apache.ignite.internal.processors.query.calcite.util.Service;
@@ -42,21 +43,33 @@ public class DistributedCalciteConfiguration extends DistributedSqlConfiguration
     /** Plan cache size property name. */
     public static final String PLAN_CACHE_SIZE_PROPERTY_NAME = "sql.calcite.planCacheSize";
 
+    /** Result cache size property name. */
+    public static final String RESULT_CACHE_SIZE_PROPERTY_NAME = "sql.calcite.resultCacheSize";
+
     /** Default value of the disabled rules. */
     public static final String[] DFLT_DISABLED_RULES = new String[0];
 
     /** Default value of plan cache size. */
     public static final int DFLT_PLAN_CACHE_SIZE = 1024;
 
+    /** Default value of result cache size, result cache is disabled by default. */
+    public static final int DFLT_RESULT_CACHE_SIZE = 0;
+
     /** Globally disabled rules. */
     private volatile DistributedChangeableProperty<String[]> disabledRules;
 
     /** Plan cache size. */
     private volatile DistributedChangeableProperty<Integer> planCacheSize;
 
+    /** Result cache size. */
+    private volatile DistributedChangeableProperty<Integer> resultCacheSize;
+
     /** */
     private QueryPlanCache qryPlanCache;
 
+    /** */
+    private QueryResultCache qryResCache;
+
     /** */
     public DistributedCalciteConfiguration(GridKernalContext ctx, IgniteLogger log) {
         super(ctx, log);
@@ -69,6 +82,7 @@ public class DistributedCalciteConfiguration extends DistributedSqlConfiguration
         assert proc != null;
 
         qryPlanCache = proc.queryPlanCache();
+        qryResCache = proc.queryResultCache();
     }
 
     /** {@inheritDoc} */
@@ -91,6 +105,14 @@ public class DistributedCalciteConfiguration extends DistributedSqlConfiguration
         return getProperty(planCacheSize, DFLT_PLAN_CACHE_SIZE);
     }
 
+    /**
+     * @return Result cache size.
+     * @see #RESULT_CACHE_SIZE_PROPERTY_NAME
+     */
+    public int resultCacheSize() {
+        return getProperty(resultCacheSize, DFLT_RESULT_CACHE_SIZE);
+    }
+
     /** */
     private <T extends Serializable> T getProperty(DistributedChangeableProperty<T> prop, T dflt) {
         T res = prop == null ? dflt : prop.get();
@@ -140,6 +162,23 @@ public class DistributedCalciteConfiguration extends DistributedSqlConfiguration
         );
 
         planCacheSize.addListener(planCacheCleaner);
+
+        registerProperty(
+            dispatcher,
+            RESULT_CACHE_SIZE_PROPERTY_NAME,
+            prop -> resultCacheSize = prop,
+            () -> new SimpleDistributedProperty<>(
+                RESULT_CACHE_SIZE_PROPERTY_NAME,
+                Integer::parseInt,
+                "Calcite's query result cache size, zero disables the cache. NOTE: cleans the result cache on change."
+            ),
+            log
+        );
+
+        resultCacheSize.addListener((name, oldVal, newVal) -> {
+            if (qryResCache != null && !Objects.equals(oldVal, newVal))
+                qryResCache.clear();
+        });
     }
 
     /** {@inheritDoc} */
@@ -148,5 +187,6 @@ public class DistributedCalciteConfiguration extends DistributedSqlConfiguration
 
         setDefaultValue(disabledRules, DFLT_DISABLED_RULES, log);
         setDefaultValue(planCacheSize, DFLT_PLAN_CACHE_SIZE, log);
+        setDefaultValue(resultCacheSize, DFLT_RESULT_CACHE_SIZE, log);
     }
 }
@@ -59,6 +59,17 @@ public interface ExchangeService extends Service {
      */
     void closeInbox(UUID nodeId, UUID qryId, long fragmentId, long exchangeId) throws IgniteCheckedException;
 
+    /**
+     * Sends runtime join filter to the outbox of the given exchange.
+     * @param nodeId Target node ID.
+     * @param qryId Query ID.
+     * @param fragmentId Source fragment ID.
+     * @param exchangeId Exchange ID.
+     * @param filter Runtime filter.
+     */
+    void sendRuntimeFilter(UUID nodeId, UUID qryId, long fragmentId, long exchangeId, RuntimeFilter filter)
+        throws IgniteCheckedException;
+
     /**
      * Sends cancel request.
      * @param nodeId Target node ID.
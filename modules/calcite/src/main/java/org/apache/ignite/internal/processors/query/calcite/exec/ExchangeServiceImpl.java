@@ -23,6 +23,7 @@ import java.util.UUID;
 import com.google.common.collect.ImmutableMap;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.processors.query.calcite.CalciteQueryProcessor;
 import org.apache.ignite.internal.processors.query.calcite.Query;
@@ -37,12 +38,15 @@ import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchAck
 import org.apache.ignite.internal.processors.query.calcite.message.QueryBatchMessage;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryCloseMessage;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryInboxCloseMessage;
+import org.apache.ignite.internal.processors.query.calcite.message.QueryRuntimeFilterMessage;
 import org.apache.ignite.internal.processors.query.calcite.metadata.FragmentDescription;
 import org.apache.ignite.internal.processors.query.calcite.prepare.BaseQueryContext;
 import org.apache.ignite.internal.processors.query.calcite.util.AbstractService;
 import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.util.typedef.F;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_COMPRESSION;
+
 /**
  *
  */
@@ -68,6 +72,9 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
     /** */
     private QueryRegistry qryRegistry;
 
+    /** Compression of outgoing batches flag. */
+    private final boolean compressBatches = IgniteSystemProperties.getBoolean(IGNITE_CALCITE_EXEC_IO_BATCH_COMPRESSION);
+
     /**
      * @param ctx Kernal context.
      */
@@ -141,7 +148,8 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
     /** {@inheritDoc} */
     @Override public <Row> void sendBatch(UUID nodeId, UUID qryId, long fragmentId, long exchangeId, int batchId,
         boolean last, List<Row> rows) throws IgniteCheckedException {
-        messageService().send(nodeId, new QueryBatchMessage(qryId, fragmentId, exchangeId, batchId, last, Commons.cast(rows)));
+        messageService().send(nodeId,
+            new QueryBatchMessage(qryId, fragmentId, exchangeId, batchId, last, Commons.cast(rows), compressBatches));
 
         if (batchId == 0) {
             Query<?> qry = qryRegistry.query(qryId);
@@ -157,6 +165,13 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         messageService().send(nodeId, new QueryBatchAcknowledgeMessage(qryId, fragmentId, exchangeId, batchId));
     }
 
+    /** {@inheritDoc} */
+    @Override public void sendRuntimeFilter(UUID nodeId, UUID qryId, long fragmentId, long exchangeId,
+        RuntimeFilter filter) throws IgniteCheckedException {
+        messageService().send(nodeId,
+            new QueryRuntimeFilterMessage(qryId, fragmentId, exchangeId, filter.keys(), filter.bits()));
+    }
+
     /** {@inheritDoc} */
     @Override public void closeQuery(UUID nodeId, UUID qryId) throws IgniteCheckedException {
         messageService().send(nodeId, new QueryCloseMessage(qryId));
@@ -191,6 +206,7 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         messageService().register((n, m) -> onMessage(n, (QueryBatchAcknowledgeMessage)m), QueryBatchAcknowledgeMessage.class);
         messageService().register((n, m) -> onMessage(n, (QueryBatchMessage)m), QueryBatchMessage.class);
         messageService().register((n, m) -> onMessage(n, (QueryCloseMessage)m), QueryCloseMessage.class);
+        messageService().register((n, m) -> onMessage(n, (QueryRuntimeFilterMessage)m), QueryRuntimeFilterMessage.class);
     }
 
     /** {@inheritDoc} */
@@ -278,6 +294,29 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
         }
     }
 
+    /** */
+    protected void onMessage(UUID nodeId, QueryRuntimeFilterMessage msg) {
+        Outbox<?> outbox = mailboxRegistry().outbox(msg.queryId(), msg.exchangeId());
+
+        if (outbox != null) {
+            try {
+                outbox.onRuntimeFilter(nodeId, new RuntimeFilter(msg.keys(), msg.bits()));
+            }
+            catch (Throwable e) {
+                outbox.onError(e);
+
+                throw new IgniteException("Unexpected exception", e);
+            }
+        }
+        else if (log.isDebugEnabled()) {
+            log.debug("Stale runtime filter message received: [" +
+                "nodeId=" + nodeId + ", " +
+                "queryId=" + msg.queryId() + ", " +
+                "fragmentId=" + msg.fragmentId() + ", " +
+                "exchangeId=" + msg.exchangeId() + "]");
+        }
+    }
+
     /** */
     protected void onMessage(UUID nodeId, QueryBatchMessage msg) {
         Inbox<?> inbox = mailboxRegistry().inbox(msg.queryId(), msg.exchangeId());
@@ -358,6 +397,7 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
             null,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             ImmutableMap.of(),
             null);
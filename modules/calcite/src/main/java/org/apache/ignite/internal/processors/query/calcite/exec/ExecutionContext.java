@@ -48,6 +48,7 @@ import org.apache.ignite.internal.processors.cache.transactions.TransactionChang
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactoryImpl;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ReflectiveCallNotNullImplementor;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.ExecutionNodeMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.IoTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryTracker;
@@ -124,6 +125,9 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
     /** */
     private final IoTracker ioTracker;
 
+    /** Spill manager, {@code null} if disk spilling is disabled. */
+    private final @Nullable SpillManager spillMgr;
+
     /** */
     private final long timeout;
 
@@ -167,6 +171,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         RowHandler<Row> handler,
         MemoryTracker qryMemoryTracker,
         IoTracker ioTracker,
+        @Nullable SpillManager spillMgr,
         long timeout,
         Map<String, Object> params,
         @Nullable Collection<QueryTxEntry> qryTxEntries
@@ -183,6 +188,7 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         this.handler = handler;
         this.qryMemoryTracker = qryMemoryTracker;
         this.ioTracker = ioTracker;
+        this.spillMgr = spillMgr;
         this.params = params;
         this.timeout = timeout;
         this.qryTxEntries = qryTxEntries == null ? txEntriesHolder.get() : qryTxEntries;
@@ -302,6 +308,13 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         return baseDataContext.get(name);
     }
 
+    /**
+     * @return Query parameters.
+     */
+    public Map<String, Object> parameters() {
+        return params;
+    }
+
     /** */
     public Object getParameter(String name, Type storageType) {
         assert name.startsWith("?") : name;
@@ -472,6 +485,13 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         return ExecutionNodeMemoryTracker.create(qryMemoryTracker, rowOverhead);
     }
 
+    /**
+     * @return Spill manager or {@code null} if disk spilling is disabled.
+     */
+    public @Nullable SpillManager spillManager() {
+        return spillMgr;
+    }
+
     /** */
     public IoTracker ioTracker() {
         return ioTracker;
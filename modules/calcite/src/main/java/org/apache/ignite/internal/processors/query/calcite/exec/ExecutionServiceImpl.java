@@ -67,6 +67,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ddl.DdlCommandHa
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Inbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Node;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Outbox;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.task.AbstractQueryTaskExecutor;
 import org.apache.ignite.internal.processors.query.calcite.exec.task.QueryBlockingTaskExecutor;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.GlobalMemoryTracker;
@@ -98,6 +99,7 @@ import org.apache.ignite.internal.processors.query.calcite.prepare.MultiStepPlan
 import org.apache.ignite.internal.processors.query.calcite.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlan;
 import org.apache.ignite.internal.processors.query.calcite.prepare.QueryPlanCache;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryResultCache;
 import org.apache.ignite.internal.processors.query.calcite.prepare.ddl.CreateTableCommand;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexBound;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexCount;
@@ -150,6 +152,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
     /** */
     private QueryPlanCache qryPlanCache;
 
+    /** */
+    private QueryResultCache qryResCache;
+
     /** */
     private SchemaHolder schemaHolder;
 
@@ -204,6 +209,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
     /** */
     private InjectResourcesService injectSvc;
 
+    /** Spill manager, {@code null} if disk spilling is disabled. */
+    private SpillManager spillMgr;
+
     /** Limit for nested queries, initiated by UDF. */
     private final AtomicInteger udfQryLimit = new AtomicInteger();
 
@@ -248,6 +256,20 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         return qryPlanCache;
     }
 
+    /**
+     * @param qryResCache Query result cache.
+     */
+    public void queryResultCache(QueryResultCache qryResCache) {
+        this.qryResCache = qryResCache;
+    }
+
+    /**
+     * @return Query result cache.
+     */
+    public QueryResultCache queryResultCache() {
+        return qryResCache;
+    }
+
     /**
      * @param schemaHolder Schema holder.
      */
@@ -450,6 +472,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
 
         CalciteQueryProcessor proc = queryProcessor(ctx);
         queryPlanCache(proc.queryPlanCache());
+        queryResultCache(proc.queryResultCache());
         schemaHolder(proc.schemaHolder());
         taskExecutor(proc.taskExecutor());
         failureProcessor(proc.failureProcessor());
@@ -470,6 +493,11 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         memoryTracker = cfg.getGlobalMemoryQuota() > 0 ? new GlobalMemoryTracker(cfg.getGlobalMemoryQuota()) :
             NoOpMemoryTracker.INSTANCE;
 
+        if (cfg.isDiskSpillingEnabled()) {
+            spillMgr = new SpillManager(ctx.config().getWorkDirectory(), U.maskForFileName(ctx.localNodeId().toString()),
+                ctx.marshaller(), U.resolveClassLoader(ctx.config()), log);
+        }
+
         udfQryLimit.set(ctx.config().getQueryThreadPoolSize() - 1);
 
         init();
@@ -491,6 +519,9 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         eventManager().removeDiscoveryEventListener(discoLsnr, EventType.EVT_NODE_FAILED, EventType.EVT_NODE_LEFT);
 
         iteratorsHolder().tearDown();
+
+        if (spillMgr != null)
+            spillMgr.cleanup();
     }
 
     /** */
@@ -681,12 +712,13 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qryMemoryTracker,
                 createIoTracker(locNodeId, qry.localQueryId()),
+                spillMgr,
                 timeout,
                 qryParams,
                 userTx == null ? null : ExecutionContext.transactionChanges(userTx.writeEntries()));
 
             Node<Row> node = new LogicalRelImplementor<>(ectx, partitionService(), mailboxRegistry(),
-                exchangeService(), failureProcessor()).go(fragment.root());
+                exchangeService(), failureProcessor()).go(fragment.root(), queryResultCache(), fragment.serialized());
 
             qry.run(ectx, execPlan, plan.fieldsMetadata(), node);
 
@@ -900,7 +932,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
             exchangeService(),
             failureProcessor()
         )
-            .go(plan.root());
+            .go(plan.root(), queryResultCache(), plan.query());
 
         qry.addFragment(new RunningFragment<>(plan.root(), node, ectx));
 
@@ -958,6 +990,7 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
                 createIoTracker(nodeId, msg.originatingQueryId()),
+                spillMgr,
                 msg.timeout(),
                 Commons.parametersMap(msg.parameters()),
                 msg.queryTransactionEntries()
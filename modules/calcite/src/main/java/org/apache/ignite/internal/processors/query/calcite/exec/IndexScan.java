@@ -308,7 +308,7 @@ public class IndexScan<Row> extends AbstractCacheColumnsScan<IndexRow, Row> {
                 return io.getLookupRow(tree, pageAddr, idx);
 
             int inlineSize = ((InlineIO)io).inlineSize();
-            int rowOffset = io.offset(idx);
+            long keysAddr = ((InlineIO)io).keysAddress(pageAddr, idx);
             int keyOffset = 0;
 
             IndexKey[] keys = new IndexKey[keyTypes.length];
@@ -317,7 +317,7 @@ public class IndexScan<Row> extends AbstractCacheColumnsScan<IndexRow, Row> {
             for (int keyIdx = 0; keyIdx < keyTypes.length; keyIdx++) {
                 InlineIndexKeyType keyType = keyTypes[keyIdx];
 
-                if (!keyType.inlinedFullValue(pageAddr, rowOffset + keyOffset, inlineSize - keyOffset)) {
+                if (!keyType.inlinedFullValue(keysAddr, keyOffset, inlineSize - keyOffset)) {
                     // Since we are checking only fixed-length keys, this condition means that for all rows current
                     // key type is not fully inlined, so fallback to cache index row.
                     useCacheRow = true;
@@ -325,9 +325,9 @@ public class IndexScan<Row> extends AbstractCacheColumnsScan<IndexRow, Row> {
                     return io.getLookupRow(tree, pageAddr, idx);
                 }
 
-                keys[keyIdx] = keyType.get(pageAddr, rowOffset + keyOffset, inlineSize - keyOffset);
+                keys[keyIdx] = keyType.get(keysAddr, keyOffset, inlineSize - keyOffset);
 
-                keyOffset += keyType.inlineSize(pageAddr, rowOffset + keyOffset);
+                keyOffset += keyType.inlineSize(keysAddr, keyOffset);
             }
 
             return new IndexPlainRowImpl(keys, idxRowHnd);
@@ -356,7 +356,9 @@ public class IndexScan<Row> extends AbstractCacheColumnsScan<IndexRow, Row> {
                 int idx
             ) throws IgniteCheckedException {
                 if (!checkExpired && keyType != null && io instanceof InlineIO) {
-                    Boolean keyIsNull = keyType.isNull(pageAddr, io.offset(idx), ((InlineIO)io).inlineSize());
+                    long keysAddr = ((InlineIO)io).keysAddress(pageAddr, idx);
+
+                    Boolean keyIsNull = keyType.isNull(keysAddr, 0, ((InlineIO)io).inlineSize());
 
                     if (keyIsNull == Boolean.TRUE) {
                         idxRow = null;
@@ -34,13 +34,18 @@ import org.apache.calcite.rel.core.Intersect;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
+import org.apache.calcite.rel.core.Window;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.type.SqlTypeFamily;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.IntPair;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.query.QueryUtils;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
@@ -48,6 +53,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFa
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.RangeIterable;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.window.WindowPartition;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.AbstractSetOpNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.CollectNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.CorrelatedNestedLoopJoinNode;
@@ -65,6 +71,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.rel.NestedLoopJo
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Node;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Outbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ProjectNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.ResultCacheNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ScanNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ScanStorageNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.ScanTableRowNode;
@@ -73,8 +80,11 @@ import org.apache.ignite.internal.processors.query.calcite.exec.rel.SortNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.UncollectNode;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.UnionAllNode;
+import org.apache.ignite.internal.processors.query.calcite.exec.rel.WindowNode;
 import org.apache.ignite.internal.processors.query.calcite.metadata.AffinityService;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.prepare.QueryResultCache;
+import org.apache.ignite.internal.processors.query.calcite.prepare.ResultCacheKey;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteCollect;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteCorrelatedNestedLoopJoin;
@@ -104,6 +114,7 @@ import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTrimExchang
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteUncollect;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteUnionAll;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteValues;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteColocatedHashAggregate;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteColocatedSortAggregate;
 import org.apache.ignite.internal.processors.query.calcite.rel.agg.IgniteMapHashAggregate;
@@ -122,9 +133,11 @@ import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactor
 import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.processors.query.calcite.util.RexUtils;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.calcite.rel.RelDistribution.Type.HASH_DISTRIBUTED;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_RUNTIME_FILTER_MAX_KEYS;
 import static org.apache.ignite.internal.processors.query.calcite.util.TypeUtils.combinedRowType;
 
 /**
@@ -132,6 +145,10 @@ import static org.apache.ignite.internal.processors.query.calcite.util.TypeUtils
  */
 @SuppressWarnings("TypeMayBeWeakened")
 public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
+    /** */
+    private static final int RUNTIME_FILTER_MAX_KEYS =
+        IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_RUNTIME_FILTER_MAX_KEYS, 65_536);
+
     /** */
     public static final String CNLJ_NOT_SUPPORTED_JOIN_ASSERTION_MSG = "only INNER and LEFT join supported by IgniteCorrelatedNestedLoop";
 
@@ -150,6 +167,15 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
     /** */
     private final ExpressionFactory<Row> expressionFactory;
 
+    /** */
+    private QueryResultCache resCache;
+
+    /** Serialized fragment. */
+    private String fragment;
+
+    /** Relational node, which result is served by the result cache. */
+    private IgniteRel cachePnt;
+
     /**
      * @param ctx Root context.
      * @param affSrvc Affinity service.
@@ -295,14 +321,67 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
             nonEquiCondition = expressionFactory.biPredicate(rel.getCondition(), rowType);
         }
 
-        Node<Row> node = HashJoinNode.create(ctx, outType, leftType, rightType, joinType, joinInfo,
+        HashJoinNode<Row> node = HashJoinNode.create(ctx, outType, leftType, rightType, joinType, joinInfo,
             nonEquiCondition);
 
+        if (rel.getLeft() instanceof IgniteReceiver && runtimeFilterApplicable(joinType, joinInfo, leftType, rightType)) {
+            IgniteReceiver receiver = (IgniteReceiver)rel.getLeft();
+
+            node.runtimeFilter(RUNTIME_FILTER_MAX_KEYS, filter -> {
+                for (UUID nodeId : ctx.remotes(receiver.exchangeId())) {
+                    try {
+                        exchangeSvc.sendRuntimeFilter(nodeId, ctx.queryId(), receiver.sourceFragmentId(),
+                            receiver.exchangeId(), filter);
+                    }
+                    catch (IgniteCheckedException e) {
+                        // Filter is an optimization only, rows are still joined correctly without it.
+                        U.warn(ctx.logger(), "Failed to send runtime filter [nodeId=" + nodeId +
+                            ", queryId=" + ctx.queryId() + ", err=" + e.getMessage() + ']');
+                    }
+                }
+            });
+        }
+
         node.register(Arrays.asList(visit(rel.getLeft()), visit(rel.getRight())));
 
         return node;
     }
 
+    /**
+     * Checks whether the left rows of the hash join can be filtered by the right keys before they are sent through
+     * an exchange. Only joins that don't emit unmatched left rows can be filtered, and key values must have the same
+     * hash on the both sides.
+     */
+    private static boolean runtimeFilterApplicable(
+        JoinRelType joinType,
+        IgniteJoinInfo joinInfo,
+        RelDataType leftType,
+        RelDataType rightType
+    ) {
+        if (RUNTIME_FILTER_MAX_KEYS <= 0)
+            return false;
+
+        if (joinType != JoinRelType.INNER && joinType != JoinRelType.SEMI && joinType != JoinRelType.RIGHT)
+            return false;
+
+        for (IntPair pair : joinInfo.pairs()) {
+            RelDataType leftKeyType = leftType.getFieldList().get(pair.source).getType();
+            RelDataType rightKeyType = rightType.getFieldList().get(pair.target).getType();
+
+            if (leftKeyType.getSqlTypeName() != rightKeyType.getSqlTypeName())
+                return false;
+
+            SqlTypeFamily family = leftKeyType.getSqlTypeName().getFamily();
+
+            if (family != SqlTypeFamily.NUMERIC && family != SqlTypeFamily.CHARACTER &&
+                family != SqlTypeFamily.BOOLEAN && family != SqlTypeFamily.DATE && family != SqlTypeFamily.TIME &&
+                family != SqlTypeFamily.TIMESTAMP)
+                return false;
+        }
+
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteCorrelatedNestedLoopJoin rel) {
         RelDataType outType = rel.getRowType();
@@ -959,11 +1038,76 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         return node;
     }
 
+    /** {@inheritDoc} */
+    @Override public Node<Row> visit(IgniteWindow rel) {
+        Window.Group grp = rel.group();
+        RelDataType inputType = rel.getInput().getRowType();
+
+        // Window functions arguments refer to constants as to fields after the input row fields.
+        RelDataTypeFactory.Builder argsTypeBuilder = ctx.getTypeFactory().builder().addAll(inputType.getFieldList());
+        RelDataTypeFactory.Builder constTypeBuilder = ctx.getTypeFactory().builder();
+
+        for (int i = 0; i < rel.constants.size(); i++) {
+            argsTypeBuilder.add("$c" + i, rel.constants.get(i).getType());
+            constTypeBuilder.add("$c" + i, rel.constants.get(i).getType());
+        }
+
+        Row constants = rel.constants.isEmpty() ? null
+            : F.first(expressionFactory.values(rel.constants, constTypeBuilder.build()));
+
+        WindowPartition<Row> part = new WindowPartition<>(
+            ctx.rowHandler(),
+            expressionFactory.comparator(grp.orderKeys),
+            grp,
+            constants,
+            inputType.getFieldCount()
+        );
+
+        WindowNode<Row> node = new WindowNode<>(
+            ctx,
+            rel.getRowType(),
+            expressionFactory.comparator(TraitUtils.createCollation(grp.keys.asList())),
+            part,
+            expressionFactory.windowFunctionsFactory(grp.getAggregateCalls(rel), argsTypeBuilder.build()),
+            ctx.rowHandler().factory(ctx.getTypeFactory(), rel.getRowType())
+        );
+
+        node.register(visit(rel.getInput()));
+
+        return node;
+    }
+
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteRel rel) {
+        if (rel == cachePnt) {
+            cachePnt = null;
+
+            return visitCached(rel);
+        }
+
         return rel.accept(this);
     }
 
+    /** */
+    private Node<Row> visitCached(IgniteRel rel) {
+        ResultCacheKey key = resCache.key(ctx, fragment, rel);
+
+        if (key == null)
+            return rel.accept(this);
+
+        List<Row> rows = resCache.get(key);
+
+        if (rows != null)
+            return new ScanNode<>(ctx, rel.getRowType(), rows);
+
+        ResultCacheNode<Row> node = new ResultCacheNode<>(ctx, rel.getRowType(), resCache.maxRows(),
+            res -> resCache.put(key, res));
+
+        node.register(rel.accept(this));
+
+        return node;
+    }
+
     /** {@inheritDoc} */
     @Override public Node<Row> visit(IgniteExchange rel) {
         throw new AssertionError();
@@ -979,6 +1123,24 @@ public class LogicalRelImplementor<Row> implements IgniteRelVisitor<Node<Row>> {
         return (T)visit(rel);
     }
 
+    /**
+     * Implements the fragment serving result of the fragment tree (except sender) from the result cache, if possible.
+     *
+     * @param rel Fragment root.
+     * @param resCache Result cache, {@code null} if not used.
+     * @param fragment Serialized fragment.
+     */
+    public <T extends Node<Row>> T go(IgniteRel rel, @Nullable QueryResultCache resCache, String fragment) {
+        if (resCache != null) {
+            this.resCache = resCache;
+            this.fragment = fragment;
+
+            cachePnt = rel instanceof IgniteSender ? (IgniteRel)rel.getInput(0) : rel;
+        }
+
+        return go(rel);
+    }
+
     /** */
     private ScanStorageNode<Row> createStorageScan(
         String storageName,
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.util.Objects;
+
+/**
+ * Bloom filter of the join keys, built by the materialized side of a hash join and used to drop rows of the other
+ * side before they are sent through an exchange. Filter can pass rows without matching keys, but never drops rows
+ * with matching keys.
+ * <p>
+ * Key hash is calculated the same way as {@link org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey}
+ * hash, so filter can be built from the hash join keys directly.
+ */
+public class RuntimeFilter {
+    /** Bits per key, gives about 2% of false positives with {@link #HASH_CNT} hash functions. */
+    private static final int BITS_PER_KEY = 10;
+
+    /** */
+    private static final int HASH_CNT = 4;
+
+    /** Key columns of the filtered rows. */
+    private final int[] keys;
+
+    /** */
+    private final long[] bits;
+
+    /** */
+    private final int mask;
+
+    /**
+     * @param keys Key columns of the filtered rows.
+     * @param bits Filter bits, length must be a power of two.
+     */
+    public RuntimeFilter(int[] keys, long[] bits) {
+        assert Integer.bitCount(bits.length) == 1 : bits.length;
+
+        this.keys = keys;
+        this.bits = bits;
+
+        mask = bits.length * Long.SIZE - 1;
+    }
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param keys Key columns of the filtered rows.
+     * @param keysCnt Expected count of distinct keys.
+     */
+    public RuntimeFilter(int[] keys, int keysCnt) {
+        this(keys, new long[Math.max(1, Integer.highestOneBit(Math.max(1, keysCnt * BITS_PER_KEY / Long.SIZE)) << 1)]);
+    }
+
+    /**
+     * @return Key columns of the filtered rows.
+     */
+    public int[] keys() {
+        return keys;
+    }
+
+    /**
+     * @return Filter bits.
+     */
+    public long[] bits() {
+        return bits;
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param hash Key hash.
+     */
+    public void add(int hash) {
+        int h1 = mix(hash);
+        int h2 = (h1 >>> 16) | 1;
+
+        for (int i = 0; i < HASH_CNT; i++) {
+            int bit = (h1 + i * h2) & mask;
+
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * @param row Row.
+     * @param hnd Row handler.
+     * @return {@code False} if the row definitely has no matching keys.
+     */
+    public <Row> boolean mightContain(Row row, RowHandler<Row> hnd) {
+        int hash = 0;
+
+        for (int key : keys)
+            hash = hash * 31 + Objects.hashCode(hnd.get(key, row));
+
+        int h1 = mix(hash);
+        int h2 = (h1 >>> 16) | 1;
+
+        for (int i = 0; i < HASH_CNT; i++) {
+            int bit = (h1 + i * h2) & mask;
+
+            if ((bits[bit >>> 6] & (1L << bit)) == 0)
+                return false;
+        }
+
+        return true;
+    }
+
+    /** Spreads bits of the hash (murmur3 finalizer). */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+
+        return h;
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.window.WindowFunction;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.SearchBounds;
 
 /**
@@ -45,6 +46,15 @@ public interface ExpressionFactory<Row> {
         RelDataType rowType
     );
 
+    /**
+     * Creates window functions factory.
+     *
+     * @param calls Window function calls.
+     * @param rowType Input row type, extended with window constants types.
+     * @return Window functions factory.
+     */
+    Supplier<List<WindowFunction<Row>>> windowFunctionsFactory(List<AggregateCall> calls, RelDataType rowType);
+
     /**
      * Creates a comparator for given data type and collations. Mainly used for sorted exchange.
      *
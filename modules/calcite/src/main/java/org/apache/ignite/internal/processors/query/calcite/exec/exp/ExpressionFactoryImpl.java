@@ -72,6 +72,8 @@ import org.apache.ignite.internal.processors.query.calcite.exec.exp.RexToLixTran
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorsFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.window.WindowFunction;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.window.WindowFunctionsFactory;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.ExactBounds;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.MultiBounds;
 import org.apache.ignite.internal.processors.query.calcite.prepare.bounds.RangeBounds;
@@ -144,6 +146,14 @@ public class ExpressionFactoryImpl<Row> implements ExpressionFactory<Row> {
         return new AccumulatorsFactory<>(ctx, type, calls, rowType);
     }
 
+    /** {@inheritDoc} */
+    @Override public Supplier<List<WindowFunction<Row>>> windowFunctionsFactory(
+        List<AggregateCall> calls,
+        RelDataType rowType
+    ) {
+        return new WindowFunctionsFactory<>(ctx, calls, rowType);
+    }
+
     /** {@inheritDoc} */
     @Override public Comparator<Row> comparator(RelCollation collation) {
         if (collation == null || collation.getFieldCollations().isEmpty())
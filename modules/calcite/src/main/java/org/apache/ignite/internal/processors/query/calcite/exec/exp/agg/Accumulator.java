@@ -30,6 +30,14 @@ public interface Accumulator<Row> extends Serializable {
     /** */
     void add(Row row);
 
+    /**
+     * Adds batch of rows. Accumulators on the hot path override this method to process rows in a tight loop.
+     */
+    default void addAll(List<Row> rows) {
+        for (int i = 0; i < rows.size(); i++)
+            add(rows.get(i));
+    }
+
     /** */
     void apply(Accumulator<Row> other);
 
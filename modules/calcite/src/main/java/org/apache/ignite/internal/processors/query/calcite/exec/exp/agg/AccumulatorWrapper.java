@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
 
+import java.util.List;
+
 /**
  *
  */
@@ -24,6 +26,12 @@ public interface AccumulatorWrapper<Row> {
     /** */
     void add(Row row);
 
+    /** */
+    default void addAll(List<Row> rows) {
+        for (int i = 0; i < rows.size(); i++)
+            add(rows.get(i));
+    }
+
     /** */
     Object end();
 
@@ -630,6 +630,14 @@ public class Accumulators {
                 cnt++;
         }
 
+        /** {@inheritDoc} */
+        @Override public void addAll(List<Row> rows) {
+            if (arguments().isEmpty())
+                cnt += rows.size();
+            else
+                super.addAll(rows);
+        }
+
         /** {@inheritDoc} */
         @Override public void apply(Accumulator<Row> other) {
             LongCount<Row> other0 = (LongCount<Row>)other;
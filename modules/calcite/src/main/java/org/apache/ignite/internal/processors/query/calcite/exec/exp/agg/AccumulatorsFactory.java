@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -72,7 +73,7 @@ public class AccumulatorsFactory<Row> implements Supplier<List<AccumulatorWrappe
     }
 
     /** */
-    static Function<Object, Object> cast(RelDataType from, RelDataType to) {
+    public static Function<Object, Object> cast(RelDataType from, RelDataType to) {
         assert !from.isStruct();
         assert !to.isStruct();
 
@@ -300,6 +301,9 @@ public class AccumulatorsFactory<Row> implements Supplier<List<AccumulatorWrappe
         /** */
         private final RowHandler<Row> handler;
 
+        /** Accumulator has no arguments, input rows are passed to accumulator as is. */
+        private final boolean noArgs;
+
         /** */
         AccumulatorWrapperImpl(
             Accumulator<Row> accumulator,
@@ -312,6 +316,7 @@ public class AccumulatorsFactory<Row> implements Supplier<List<AccumulatorWrappe
             this.outAdapter = outAdapter;
 
             filterArg = call.hasFilter() ? call.filterArg : -1;
+            noArgs = F.isEmpty(call.getArgList());
 
             handler = ctx.rowHandler();
         }
@@ -331,6 +336,34 @@ public class AccumulatorsFactory<Row> implements Supplier<List<AccumulatorWrappe
             accumulator.add(accRow);
         }
 
+        /** {@inheritDoc} */
+        @Override public void addAll(List<Row> rows) {
+            assert type != AggregateType.REDUCE;
+
+            // Input adapter can reuse the same row for each call, so batch of adapted rows can't be collected.
+            if (!noArgs) {
+                for (int i = 0; i < rows.size(); i++)
+                    add(rows.get(i));
+
+                return;
+            }
+
+            if (filterArg >= 0) {
+                List<Row> filtered = new ArrayList<>(rows.size());
+
+                for (int i = 0; i < rows.size(); i++) {
+                    Row row = rows.get(i);
+
+                    if (Boolean.TRUE == handler.get(filterArg, row))
+                        filtered.add(row);
+                }
+
+                rows = filtered;
+            }
+
+            accumulator.addAll(rows);
+        }
+
         /** {@inheritDoc} */
         @Override public Object end() {
             assert type != AggregateType.MAP;
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.window;
+
+/**
+ * Window function, evaluated over rows of the window partition.
+ */
+public interface WindowFunction<Row> {
+    /**
+     * Computes function value for the row of the partition. Rows of the partition are processed sequentially,
+     * starting from the first one, so implementation can keep state between calls.
+     *
+     * @param part Window partition.
+     * @param idx Row index in the partition.
+     * @return Function value.
+     */
+    Object call(WindowPartition<Row> part, int idx);
+
+    /** Resets function state before processing of the next partition. */
+    void reset();
+}
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.window;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
+
+/**
+ * Window functions implementations.
+ */
+public class WindowFunctions {
+    /**
+     * @param call Window function call.
+     * @return {@code True} if function is a window function (not an aggregate function, computed over the window).
+     */
+    public static boolean isWindowFunction(AggregateCall call) {
+        switch (call.getAggregation().getKind()) {
+            case ROW_NUMBER:
+            case RANK:
+            case DENSE_RANK:
+            case PERCENT_RANK:
+            case CUME_DIST:
+            case NTILE:
+            case LAG:
+            case LEAD:
+            case FIRST_VALUE:
+            case LAST_VALUE:
+            case NTH_VALUE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Creates window function factory.
+     *
+     * @param call Window function call.
+     * @param dfltCast Cast of the LAG/LEAD default value to the function return type.
+     * @return Window function factory.
+     */
+    public static <Row> Supplier<WindowFunction<Row>> windowFunctionFactory(
+        AggregateCall call,
+        Function<Object, Object> dfltCast
+    ) {
+        List<Integer> args = call.getArgList();
+
+        switch (call.getAggregation().getKind()) {
+            case ROW_NUMBER:
+                return RowNumber::new;
+            case RANK:
+                return Rank::new;
+            case DENSE_RANK:
+                return DenseRank::new;
+            case PERCENT_RANK:
+                return PercentRank::new;
+            case CUME_DIST:
+                return CumeDist::new;
+            case NTILE:
+                return () -> new Ntile<>(args.get(0));
+            case LAG:
+            case LEAD:
+                return () -> new LeadLag<>(
+                    call.getAggregation().getKind() == SqlKind.LEAD,
+                    args.get(0),
+                    args.size() > 1 ? args.get(1) : -1,
+                    args.size() > 2 ? args.get(2) : -1,
+                    dfltCast
+                );
+            case FIRST_VALUE:
+                return () -> new NthValue<>(args.get(0), -1, false);
+            case LAST_VALUE:
+                return () -> new NthValue<>(args.get(0), -1, true);
+            case NTH_VALUE:
+                return () -> new NthValue<>(args.get(0), args.get(1), false);
+            default:
+                throw new UnsupportedOperationException("Window function is not supported: " + call.getAggregation());
+        }
+    }
+
+    /**
+     * Creates aggregate function, computed over the window frame.
+     *
+     * @param accFactory Accumulator factory.
+     * @return Window function factory.
+     */
+    public static <Row> Supplier<WindowFunction<Row>> aggregateFunctionFactory(Supplier<AccumulatorWrapper<Row>> accFactory) {
+        return () -> new Aggregate<>(accFactory);
+    }
+
+    /** */
+    private static long longValue(Object val, String name) {
+        if (!(val instanceof Number))
+            throw new IllegalArgumentException("Argument of " + name + " should be a number: " + val);
+
+        return ((Number)val).longValue();
+    }
+
+    /** */
+    private static class RowNumber<Row> implements WindowFunction<Row> {
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            return (long)idx + 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** */
+    private static class Rank<Row> implements WindowFunction<Row> {
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            return (long)part.peerStart(idx) + 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** */
+    private static class DenseRank<Row> implements WindowFunction<Row> {
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            return (long)part.peerGroup(idx) + 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** */
+    private static class PercentRank<Row> implements WindowFunction<Row> {
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            return part.size() == 1 ? 0d : (double)part.peerStart(idx) / (part.size() - 1);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** */
+    private static class CumeDist<Row> implements WindowFunction<Row> {
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            return (double)(part.peerEnd(idx) + 1) / part.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** */
+    private static class Ntile<Row> implements WindowFunction<Row> {
+        /** */
+        private final int bucketsArg;
+
+        /** */
+        private Ntile(int bucketsArg) {
+            this.bucketsArg = bucketsArg;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            long buckets = longValue(part.field(idx, bucketsArg), "NTILE");
+
+            if (buckets <= 0)
+                throw new IllegalArgumentException("Argument of NTILE should be greater than zero: " + buckets);
+
+            long size = part.size() / buckets;
+            long rem = part.size() % buckets;
+
+            // The first 'rem' buckets contain one row more than the others.
+            long bigBucketsRows = rem * (size + 1);
+
+            return idx < bigBucketsRows ? idx / (size + 1) + 1 : (idx - bigBucketsRows) / size + rem + 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** */
+    private static class LeadLag<Row> implements WindowFunction<Row> {
+        /** */
+        private final boolean lead;
+
+        /** */
+        private final int valArg;
+
+        /** */
+        private final int offsetArg;
+
+        /** */
+        private final int dfltArg;
+
+        /** */
+        private final Function<Object, Object> dfltCast;
+
+        /** */
+        private LeadLag(boolean lead, int valArg, int offsetArg, int dfltArg, Function<Object, Object> dfltCast) {
+            this.lead = lead;
+            this.valArg = valArg;
+            this.offsetArg = offsetArg;
+            this.dfltArg = dfltArg;
+            this.dfltCast = dfltCast;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            long offset = offsetArg < 0 ? 1 : longValue(part.field(idx, offsetArg), lead ? "LEAD" : "LAG");
+
+            long target = lead ? idx + offset : idx - offset;
+
+            if (target >= 0 && target < part.size())
+                return part.field((int)target, valArg);
+
+            return dfltArg < 0 ? null : dfltCast.apply(part.field(idx, dfltArg));
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** FIRST_VALUE, LAST_VALUE and NTH_VALUE functions. */
+    private static class NthValue<Row> implements WindowFunction<Row> {
+        /** */
+        private final int valArg;
+
+        /** Argument with N, or {@code -1} for FIRST_VALUE and LAST_VALUE. */
+        private final int nArg;
+
+        /** */
+        private final boolean last;
+
+        /** */
+        private NthValue(int valArg, int nArg, boolean last) {
+            this.valArg = valArg;
+            this.nArg = nArg;
+            this.last = last;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            int start = part.frameStart(idx);
+            int end = part.frameEnd(idx);
+
+            long target = last ? end : nArg < 0 ? start : start + longValue(part.field(idx, nArg), "NTH_VALUE") - 1;
+
+            if (start > end || target < start || target > end)
+                return null;
+
+            return part.field((int)target, valArg);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            // No-op.
+        }
+    }
+
+    /** Aggregate function, computed over the window frame. */
+    private static class Aggregate<Row> implements WindowFunction<Row> {
+        /** */
+        private final Supplier<AccumulatorWrapper<Row>> accFactory;
+
+        /** Accumulator for frames, starting from the first row of the partition. */
+        private AccumulatorWrapper<Row> acc;
+
+        /** Index of the next row to add to the accumulator. */
+        private int next;
+
+        /** */
+        private Aggregate(Supplier<AccumulatorWrapper<Row>> accFactory) {
+            this.accFactory = accFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object call(WindowPartition<Row> part, int idx) {
+            int end = part.frameEnd(idx);
+
+            if (part.unboundedPreceding()) {
+                // Frame end never moves backward, so rows can be added to the accumulator incrementally.
+                if (acc == null)
+                    acc = accFactory.get();
+
+                for (; next <= end; next++)
+                    acc.add(part.argumentsRow(next));
+
+                return acc.end();
+            }
+
+            AccumulatorWrapper<Row> frameAcc = accFactory.get();
+
+            for (int i = part.frameStart(idx); i <= end; i++)
+                frameAcc.add(part.argumentsRow(i));
+
+            return frameAcc.end();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void reset() {
+            acc = null;
+            next = 0;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.window;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorsFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+import org.apache.ignite.internal.util.typedef.F;
+
+/** */
+public class WindowFunctionsFactory<Row> implements Supplier<List<WindowFunction<Row>>> {
+    /** */
+    private final List<Supplier<WindowFunction<Row>>> prototypes;
+
+    /**
+     * @param ctx Execution context.
+     * @param calls Window function calls.
+     * @param rowType Input row type, extended with window constants types.
+     */
+    public WindowFunctionsFactory(ExecutionContext<Row> ctx, List<AggregateCall> calls, RelDataType rowType) {
+        prototypes = Commons.transform(calls, call -> prototype(ctx, call, rowType));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<WindowFunction<Row>> get() {
+        return Commons.transform(prototypes, Supplier::get);
+    }
+
+    /** */
+    private static <Row> Supplier<WindowFunction<Row>> prototype(
+        ExecutionContext<Row> ctx,
+        AggregateCall call,
+        RelDataType rowType
+    ) {
+        if (WindowFunctions.isWindowFunction(call)) {
+            List<Integer> args = call.getArgList();
+
+            // Default value of LAG/LEAD functions can have type, different from the function return type.
+            Function<Object, Object> dfltCast = args.size() > 2
+                ? AccumulatorsFactory.cast(SqlTypeUtil.projectTypes(rowType, args).get(2), call.getType())
+                : Function.identity();
+
+            return WindowFunctions.windowFunctionFactory(call, dfltCast);
+        }
+
+        Supplier<List<AccumulatorWrapper<Row>>> accFactory =
+            new AccumulatorsFactory<>(ctx, AggregateType.SINGLE, F.asList(call), rowType);
+
+        return WindowFunctions.aggregateFunctionFactory(() -> accFactory.get().get(0));
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.exp.window;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.rex.RexWindowExclusion;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Rows of the window partition with information about peers (rows, equal by order keys) and frame bounds.
+ */
+public class WindowPartition<Row> {
+    /** Unbounded preceding or following frame bound offset. */
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    /** */
+    private final RowHandler<Row> hnd;
+
+    /** Comparator by window order keys, {@code null} if all rows of the partition are peers. */
+    private final @Nullable Comparator<Row> peerCmp;
+
+    /** Window constants as a row, {@code null} if there are no constants. */
+    private final @Nullable Row constants;
+
+    /** Count of fields of the input row. */
+    private final int fieldsCnt;
+
+    /** {@code True} for ROWS frame, {@code false} for RANGE frame. */
+    private final boolean isRows;
+
+    /** Frame start offset relative to the current row (negative for preceding bound). */
+    private final long lower;
+
+    /** Frame end offset relative to the current row (negative for preceding bound). */
+    private final long upper;
+
+    /** */
+    private final List<Row> rows = new ArrayList<>();
+
+    /** Index of the first peer of the row. */
+    private int[] peerStart;
+
+    /** Index of the last peer of the row. */
+    private int[] peerEnd;
+
+    /** Index of the peers group of the row. */
+    private int[] peerGrp;
+
+    /**
+     * @param hnd Row handler.
+     * @param peerCmp Comparator by window order keys.
+     * @param grp Window group.
+     * @param constants Window constants as a row.
+     * @param fieldsCnt Count of fields of the input row.
+     */
+    public WindowPartition(
+        RowHandler<Row> hnd,
+        @Nullable Comparator<Row> peerCmp,
+        Window.Group grp,
+        @Nullable Row constants,
+        int fieldsCnt
+    ) {
+        if (grp.exclude != RexWindowExclusion.EXCLUDE_NO_OTHER)
+            throw new UnsupportedOperationException("Window frame exclusion is not supported: " + grp.exclude);
+
+        this.hnd = hnd;
+        this.peerCmp = peerCmp;
+        this.constants = constants;
+        this.fieldsCnt = fieldsCnt;
+
+        isRows = grp.isRows;
+        lower = offset(grp.lowerBound, isRows);
+        upper = offset(grp.upperBound, isRows);
+    }
+
+    /** */
+    public void add(Row row) {
+        rows.add(row);
+    }
+
+    /** */
+    public Row row(int idx) {
+        return rows.get(idx);
+    }
+
+    /** */
+    public int size() {
+        return rows.size();
+    }
+
+    /** */
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    /** Removes all rows of the partition. */
+    public void clear() {
+        rows.clear();
+
+        peerStart = peerEnd = peerGrp = null;
+    }
+
+    /**
+     * @param idx Row index.
+     * @param field Field index, fields after the input row fields refer to window constants.
+     * @return Field value.
+     */
+    public Object field(int idx, int field) {
+        return field < fieldsCnt ? hnd.get(field, rows.get(idx)) : hnd.get(field - fieldsCnt, constants);
+    }
+
+    /**
+     * @param idx Row index.
+     * @return Row extended with window constants (to be used by the aggregate functions).
+     */
+    public Row argumentsRow(int idx) {
+        Row row = rows.get(idx);
+
+        return constants == null ? row : hnd.concat(row, constants);
+    }
+
+    /** @return Index of the first peer of the row. */
+    public int peerStart(int idx) {
+        ensurePeers();
+
+        return peerStart[idx];
+    }
+
+    /** @return Index of the last peer of the row. */
+    public int peerEnd(int idx) {
+        ensurePeers();
+
+        return peerEnd[idx];
+    }
+
+    /** @return Index (zero-based) of the peers group of the row. */
+    public int peerGroup(int idx) {
+        ensurePeers();
+
+        return peerGrp[idx];
+    }
+
+    /** @return {@code True} if frame starts from the first row of the partition. */
+    public boolean unboundedPreceding() {
+        return lower == -UNBOUNDED;
+    }
+
+    /** @return Index of the first row of the frame for the given row. */
+    public int frameStart(int idx) {
+        if (lower == -UNBOUNDED)
+            return 0;
+
+        if (lower == UNBOUNDED)
+            return size();
+
+        if (isRows)
+            return (int)Math.max(0, Math.min(size(), idx + lower));
+
+        assert lower == 0 : lower;
+
+        return peerStart(idx);
+    }
+
+    /** @return Index of the last row of the frame for the given row. */
+    public int frameEnd(int idx) {
+        if (upper == UNBOUNDED)
+            return size() - 1;
+
+        if (upper == -UNBOUNDED)
+            return -1;
+
+        if (isRows)
+            return (int)Math.min(size() - 1, Math.max(-1, idx + upper));
+
+        assert upper == 0 : upper;
+
+        return peerEnd(idx);
+    }
+
+    /** */
+    private void ensurePeers() {
+        if (peerStart != null)
+            return;
+
+        int size = size();
+
+        peerStart = new int[size];
+        peerEnd = new int[size];
+        peerGrp = new int[size];
+
+        int start = 0;
+        int grp = 0;
+
+        for (int i = 1; i <= size; i++) {
+            if (i == size || (peerCmp != null && peerCmp.compare(rows.get(i - 1), rows.get(i)) != 0)) {
+                for (int j = start; j < i; j++) {
+                    peerStart[j] = start;
+                    peerEnd[j] = i - 1;
+                    peerGrp[j] = grp;
+                }
+
+                start = i;
+                grp++;
+            }
+        }
+    }
+
+    /** */
+    private static long offset(RexWindowBound bound, boolean isRows) {
+        if (bound.isCurrentRow())
+            return 0;
+
+        if (bound.isUnbounded())
+            return bound.isPreceding() ? -UNBOUNDED : UNBOUNDED;
+
+        if (!isRows)
+            throw new UnsupportedOperationException("RANGE window frame with offset is not supported: " + bound);
+
+        if (!(bound.getOffset() instanceof RexLiteral))
+            throw new UnsupportedOperationException("Window frame offset should be a literal: " + bound);
+
+        Long offset = ((RexLiteral)bound.getOffset()).getValueAs(Long.class);
+
+        if (offset == null || offset < 0)
+            throw new IllegalArgumentException("Window frame offset should be a non-negative number: " + bound);
+
+        return bound.isPreceding() ? -offset : offset;
+    }
+}
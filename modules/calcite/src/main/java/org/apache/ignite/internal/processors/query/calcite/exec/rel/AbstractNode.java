@@ -28,7 +28,9 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_BATCH_MODE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IN_BUFFER_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_BYTES;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_CNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_MODIFY_BATCH_SIZE;
@@ -49,6 +51,13 @@ public abstract class AbstractNode<Row> implements Node<Row> {
     /** */
     protected static final int IO_BATCH_CNT = IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_IO_BATCH_CNT, 4);
 
+    /** Estimated size of outgoing data message, {@code 0} to limit messages by count of rows only. */
+    protected static final int IO_BATCH_BYTES =
+        IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_IO_BATCH_BYTES, 256 * 1024);
+
+    /** */
+    protected static final boolean BATCH_MODE = IgniteSystemProperties.getBoolean(IGNITE_CALCITE_EXEC_BATCH_MODE, false);
+
     /**
      * {@link Inbox} node may not have proper context at creation time in case it
      * creates on first message received from a remote source. This case the context
@@ -185,6 +194,14 @@ public abstract class AbstractNode<Row> implements Node<Row> {
             throw new IgniteInterruptedCheckedException("Thread was interrupted.");
     }
 
+    /**
+     * @return {@code True} if node should push rows to the downstream by batches.
+     * @see Downstream#pushBatch(List)
+     */
+    protected boolean batchMode() {
+        return BATCH_MODE;
+    }
+
     /** */
     protected abstract Downstream<Row> requestDownstream(int idx);
 
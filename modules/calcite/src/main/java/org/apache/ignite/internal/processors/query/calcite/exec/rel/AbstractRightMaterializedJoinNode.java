@@ -174,7 +174,7 @@ public abstract class AbstractRightMaterializedJoinNode<Row> extends MemoryTrack
     }
 
     /** */
-    private void join0() throws Exception {
+    protected void join0() throws Exception {
         checkState();
 
         processed = 0;
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.List;
+
 /**
  * Represents an abstract data consumer.
  *
@@ -30,6 +32,20 @@ public interface Downstream<Row> {
      */
     void push(Row row) throws Exception;
 
+    /**
+     * Pushes a batch of rows to consumer. Batch is accounted as {@code batch.size()} pushed rows, so it can't be
+     * larger than requested rows count. Consumer must not modify the batch or keep a reference to it.
+     * <p>
+     * Default implementation pushes rows one by one, nodes on the hot path override this method to process the
+     * whole batch in a tight loop.
+     *
+     * @param batch Batch of data rows.
+     */
+    default void pushBatch(List<Row> batch) throws Exception {
+        for (int i = 0; i < batch.size(); i++)
+            push(batch.get(i));
+    }
+
     /**
      * Signals that data is over.
      */
@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.apache.calcite.rel.type.RelDataType;
@@ -82,6 +84,25 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
         filter();
     }
 
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> batch) throws Exception {
+        assert downstream() != null;
+        assert waiting >= batch.size();
+
+        checkState();
+
+        waiting -= batch.size();
+
+        for (int i = 0; i < batch.size(); i++) {
+            Row row = batch.get(i);
+
+            if (pred.test(row))
+                inBuf.add(row);
+        }
+
+        filter();
+    }
+
     /** {@inheritDoc} */
     @Override public void end() throws Exception {
         assert downstream() != null;
@@ -123,8 +144,21 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
             while (requested > 0 && !inBuf.isEmpty()) {
                 checkState();
 
-                requested--;
-                downstream().push(inBuf.remove());
+                if (batchMode()) {
+                    int cnt = Math.min(requested, inBuf.size());
+
+                    List<Row> batch = new ArrayList<>(cnt);
+
+                    for (int i = 0; i < cnt; i++)
+                        batch.add(inBuf.remove());
+
+                    requested -= cnt;
+                    downstream().pushBatch(batch);
+                }
+                else {
+                    requested--;
+                    downstream().push(inBuf.remove());
+                }
             }
         }
         finally {
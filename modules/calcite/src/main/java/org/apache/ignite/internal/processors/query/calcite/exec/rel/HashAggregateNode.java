@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MappingRowHandler;
@@ -37,13 +39,22 @@ import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.Accumula
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillPartitions;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.negate;
 
 /**
- *
+ * Hash aggregate node.
+ * <p>
+ * If disk spilling is enabled and memory quota is exhausted, partial aggregation states of all the groups are
+ * offloaded to disk partitions by hash of the group key. When input is exhausted, partitions are loaded one by one,
+ * partial states of each group are merged and results are emitted (partitioned aggregation).
  */
 public class HashAggregateNode<Row> extends AggregateNode<Row> {
     /** */
@@ -61,6 +72,12 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     /** */
     private boolean inLoop;
 
+    /** Spill manager, {@code null} if disk spilling is disabled. */
+    private final @Nullable SpillManager spillMgr;
+
+    /** Whether groups were offloaded to disk. */
+    private boolean spilled;
+
     /**
      * @param ctx Execution context.
      */
@@ -89,6 +106,8 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         }
 
         grpSet = b.build();
+
+        spillMgr = ctx.spillManager();
     }
 
     /** */
@@ -124,6 +143,45 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting--;
 
+        addRow(row);
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> batch) throws Exception {
+        assert downstream() != null;
+        assert waiting >= batch.size();
+
+        checkState();
+
+        waiting -= batch.size();
+
+        if (!batch.isEmpty()) {
+            Grouping grouping = groupings.size() == 1 ? groupings.get(0) : null;
+
+            // Aggregation without grouping columns: whole batch goes to the same group, pass it to accumulators as is.
+            if (!hasAggAccum && grouping != null && grouping.batchSupported()) {
+                int size = grouping.size();
+
+                grouping.addBatch(batch);
+
+                if (grouping.size() > size)
+                    trackRow(batch.get(0));
+            }
+            else {
+                for (int i = 0; i < batch.size(); i++)
+                    addRow(batch.get(i));
+            }
+        }
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+    }
+
+    /** */
+    private void addRow(Row row) throws IgniteCheckedException {
         boolean groupingsChanged = false;
 
         for (Grouping grouping : groupings) {
@@ -150,10 +208,15 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         // whole row we have close to real memory consumption by row referenced objects (except service structures).
         // Also we can guess size of service structures required by grouping and use it as constant row overhead.
         if (hasAggAccum || groupingsChanged)
-            nodeMemoryTracker.onRowAdded(row);
+            trackRow(row);
+    }
 
-        if (waiting == 0)
-            source().request(waiting = IN_BUFFER_SIZE);
+    /** */
+    private void trackRow(Row row) throws IgniteCheckedException {
+        if (spillMgr == null)
+            nodeMemoryTracker.onRowAdded(row);
+        else if (!nodeMemoryTracker.tryRowAdded(row))
+            spill();
     }
 
     /** {@inheritDoc} */
@@ -165,6 +228,13 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting = -1;
 
+        if (spilled) {
+            for (Grouping grouping : groupings)
+                grouping.finishSpill();
+
+            nodeMemoryTracker.reset();
+        }
+
         flush();
     }
 
@@ -172,10 +242,28 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     @Override protected void rewindInternal() {
         requested = 0;
         waiting = 0;
+        spilled = false;
         groupings.forEach(Grouping::reset);
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        groupings.forEach(Grouping::closeSpill);
+
+        super.closeInternal();
+    }
+
+    /** Offloads partial aggregation states of all the groups to disk. */
+    private void spill() throws IgniteCheckedException {
+        for (Grouping grouping : groupings)
+            grouping.spill();
+
+        spilled = true;
+
+        nodeMemoryTracker.reset();
+    }
+
     /** */
     private void flush() throws Exception {
         if (isClosed())
@@ -252,6 +340,12 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         /** */
         private final Function<GroupKey<Row>, List<AccumulatorWrapper<Row>>> createGrp;
 
+        /** Partitions with spilled partial aggregation states, {@code null} if grouping wasn't spilled. */
+        private @Nullable SpillPartitions<Object[]> spill;
+
+        /** Spilled partitions pending for processing. */
+        private final Deque<SpilledPartition> pendingParts = new ArrayDeque<>();
+
         /** */
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
@@ -277,9 +371,115 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         private void reset() {
             groups.clear();
 
+            closeSpill();
+
             init();
         }
 
+        /** Offloads partial aggregation states of the in-memory groups to disk. */
+        private void spill() throws IgniteCheckedException {
+            if (spill == null)
+                spill = new SpillPartitions<>(spillMgr, 0);
+
+            spillGroups(spill);
+        }
+
+        /** Offloads remaining in-memory groups and prepares spilled partitions for processing. */
+        private void finishSpill() throws IgniteCheckedException {
+            assert spill != null;
+
+            spillGroups(spill);
+
+            for (int i = 0; i < SpillPartitions.PARTITIONS_CNT; i++) {
+                SpillFile<Object[]> file = spill.detach(i);
+
+                if (file != null)
+                    pendingParts.add(new SpilledPartition(file, spill.level()));
+            }
+
+            spill = null;
+        }
+
+        /** */
+        private void spillGroups(SpillPartitions<Object[]> parts) throws IgniteCheckedException {
+            for (Map.Entry<GroupKey<Row>, List<AccumulatorWrapper<Row>>> entry : groups.entrySet())
+                parts.write(entry.getKey().hashCode(), new Object[] {entry.getKey(), accumulators(entry.getValue())});
+
+            groups.clear();
+        }
+
+        /** Loads spilled partitions until some groups appear in memory. */
+        private void loadSpilled() throws Exception {
+            while (groups.isEmpty() && !pendingParts.isEmpty()) {
+                nodeMemoryTracker.reset();
+
+                SpillPartitions<Object[]> subParts = null;
+
+                try (SpilledPartition part = pendingParts.poll()) {
+                    Object[] state;
+
+                    while ((state = part.file.read()) != null) {
+                        checkState();
+
+                        if (subParts != null) {
+                            subParts.write(state[0].hashCode(), state);
+
+                            continue;
+                        }
+
+                        GroupKey<Row> grpKey = (GroupKey<Row>)state[0];
+                        List<AccumulatorWrapper<Row>> wrappers = groups.get(grpKey);
+
+                        if (wrappers == null) {
+                            if (part.level == SpillPartitions.MAX_LEVEL)
+                                nodeMemoryTracker.onRowAdded(grpKey.row());
+                            else if (!nodeMemoryTracker.tryRowAdded(grpKey.row())) {
+                                // Partition doesn't fit into memory, split it into the next level partitions.
+                                subParts = new SpillPartitions<>(spillMgr, part.level + 1);
+
+                                spillGroups(subParts);
+
+                                subParts.write(grpKey.hashCode(), state);
+
+                                nodeMemoryTracker.reset();
+
+                                continue;
+                            }
+
+                            groups.put(grpKey, wrappers = create());
+                        }
+
+                        Accumulator<Row>[] accums = (Accumulator<Row>[])state[1];
+
+                        for (int i = 0; i < wrappers.size(); i++)
+                            wrappers.get(i).accumulator().apply(accums[i]);
+                    }
+
+                    if (subParts != null) {
+                        for (int i = SpillPartitions.PARTITIONS_CNT - 1; i >= 0; i--) {
+                            SpillFile<Object[]> file = subParts.detach(i);
+
+                            if (file != null)
+                                pendingParts.addFirst(new SpilledPartition(file, subParts.level()));
+                        }
+                    }
+                }
+                finally {
+                    U.closeQuiet(subParts);
+                }
+            }
+        }
+
+        /** */
+        private void closeSpill() {
+            U.closeQuiet(spill);
+
+            spill = null;
+
+            pendingParts.forEach(U::closeQuiet);
+            pendingParts.clear();
+        }
+
         /** */
         private void add(Row row) {
             if (type == AggregateType.REDUCE)
@@ -293,7 +493,10 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
          *
          * @return Actually sent rows number.
          */
-        private List<Row> getRows(int cnt) {
+        private List<Row> getRows(int cnt) throws Exception {
+            if (groups.isEmpty())
+                loadSpilled();
+
             if (F.isEmpty(groups))
                 return Collections.emptyList();
             else if (type == AggregateType.MAP)
@@ -307,6 +510,23 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
             return GroupKey.of(row, keyGrpRowHnd);
         }
 
+        /**
+         * @return {@code True} if all the rows belong to the same group, so batch of rows can be added at once.
+         */
+        private boolean batchSupported() {
+            return grpFields.isEmpty() && type != AggregateType.REDUCE;
+        }
+
+        /** */
+        private void addBatch(List<Row> rows) {
+            assert batchSupported();
+
+            List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(key(rows.get(0)), createGrp);
+
+            for (AccumulatorWrapper<Row> wrapper : wrappers)
+                wrapper.addAll(rows);
+        }
+
         /** */
         private void addOnMapper(Row row) {
             List<AccumulatorWrapper<Row>> wrappers = groups.computeIfAbsent(key(row), createGrp);
@@ -346,15 +566,8 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
                 Map.Entry<GroupKey<Row>, List<AccumulatorWrapper<Row>>> entry = it.next();
 
                 GroupKey<Row> grpKey = entry.getKey();
-                if (hasAccumulators()) {
-                    List<AccumulatorWrapper<Row>> wrappers = entry.getValue();
-                    Accumulator<Row>[] accums = new Accumulator[wrappers.size()];
-
-                    for (int j = 0; j < wrappers.size(); j++)
-                        accums[j] = wrappers.get(j).accumulator();
-
-                    res.add(rowFactory.create(grpId, grpKey, accums));
-                }
+                if (hasAccumulators())
+                    res.add(rowFactory.create(grpId, grpKey, accumulators(entry.getValue())));
                 else
                     res.add(rowFactory.create(grpId, grpKey));
 
@@ -402,9 +615,19 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
             return accFactory.get();
         }
 
+        /** */
+        private Accumulator<Row>[] accumulators(List<AccumulatorWrapper<Row>> wrappers) {
+            Accumulator<Row>[] accums = new Accumulator[wrappers.size()];
+
+            for (int j = 0; j < wrappers.size(); j++)
+                accums[j] = wrappers.get(j).accumulator();
+
+            return accums;
+        }
+
         /** */
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && pendingParts.isEmpty();
         }
 
         /** */
@@ -412,4 +635,24 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
             return groups.size();
         }
     }
+
+    /** Spilled partition of partial aggregation states. */
+    private static class SpilledPartition implements AutoCloseable {
+        /** */
+        private final SpillFile<Object[]> file;
+
+        /** Partitioning level. */
+        private final int level;
+
+        /** */
+        private SpilledPartition(SpillFile<Object[]> file, int level) {
+            this.file = file;
+            this.level = level;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            file.close();
+        }
+    }
 }
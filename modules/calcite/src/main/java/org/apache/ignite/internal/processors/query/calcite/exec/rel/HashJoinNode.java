@@ -17,27 +17,48 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MappingRowHandler;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillPartitions;
 import org.apache.ignite.internal.processors.query.calcite.rel.IgniteJoinInfo;
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
-/** Hash join implementor. */
+/**
+ * Hash join implementor.
+ * <p>
+ * If disk spilling is enabled and memory quota is exhausted while the right (build) side is materialized, rows of
+ * the both sides are offloaded to disk partitions by hash of the join key, and then each pair of partitions is joined
+ * in memory (grace hash join).
+ */
 public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNode<Row> {
+    /** Maximum count of distinct right keys to build runtime filter. */
+    protected int runtimeFilterMaxKeys;
+
+    /** Consumer of the runtime filter, {@code null} if filter is not required or already built. */
+    protected @Nullable Consumer<RuntimeFilter> runtimeFilterConsumer;
+
     /**
      * Creates hash join node.
      *
@@ -105,11 +126,26 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
         }
     }
 
+    /**
+     * Requests a runtime filter of the left rows. Filter is built from the right rows keys when the right side is
+     * finished, if there are not too many distinct keys and rows were not offloaded to disk.
+     *
+     * @param maxKeys Maximum count of distinct right keys.
+     * @param consumer Filter consumer.
+     */
+    public void runtimeFilter(int maxKeys, Consumer<RuntimeFilter> consumer) {
+        runtimeFilterMaxKeys = maxKeys;
+        runtimeFilterConsumer = consumer;
+    }
+
     /** */
     private abstract static class AbstractStoringHashJoin<Row, RowList extends List<Row>> extends HashJoinNode<Row> {
         /** */
         private static final int INITIAL_CAPACITY = 128;
 
+        /** */
+        private final int[] leftKeys;
+
         /** */
         private final RowHandler<Row> leftRowHnd;
 
@@ -134,6 +170,12 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
         /** Right rows storage. */
         protected Map<GroupKey<Row>, RowList> hashStore = new HashMap<>(INITIAL_CAPACITY);
 
+        /** Spill manager, {@code null} if disk spilling is disabled. */
+        private final @Nullable SpillManager spillMgr;
+
+        /** Disk spilling state, {@code null} if rows were not offloaded to disk. */
+        private @Nullable JoinSpill spill;
+
         /**
          * Constructor.
          *
@@ -157,10 +199,13 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
             allowNulls = info.allowNulls();
             this.keepRowsWithNull = keepRowsWithNull;
 
-            leftRowHnd = new MappingRowHandler<>(ctx.rowHandler(), info.leftKeys.toIntArray());
+            leftKeys = info.leftKeys.toIntArray();
+            leftRowHnd = new MappingRowHandler<>(ctx.rowHandler(), leftKeys);
             rightRowHnd = new MappingRowHandler<>(ctx.rowHandler(), info.rightKeys.toIntArray());
 
             this.nonEqCond = nonEqCond;
+
+            spillMgr = ctx.spillManager();
         }
 
         /** {@inheritDoc} */
@@ -171,6 +216,75 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
             rightIdx = 0;
 
             hashStore.clear();
+
+            U.closeQuiet(spill);
+
+            spill = null;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void closeInternal() {
+            U.closeQuiet(spill);
+
+            spill = null;
+
+            super.closeInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void join() throws Exception {
+            if (runtimeFilterConsumer != null && waitingRight == NOT_WAITING)
+                buildRuntimeFilter();
+
+            if (spill != null && !spill.leftPartitioned) {
+                // Left rows should be partitioned before the join, this is possible only when right side is finished.
+                if (waitingRight != NOT_WAITING || !spill.partitionLeft()) {
+                    tryToRequestInputs();
+
+                    return;
+                }
+            }
+
+            joinRows();
+        }
+
+        /** */
+        private void buildRuntimeFilter() {
+            Consumer<RuntimeFilter> consumer = runtimeFilterConsumer;
+
+            runtimeFilterConsumer = null;
+
+            if (spill != null || hashStore.size() > runtimeFilterMaxKeys)
+                return;
+
+            RuntimeFilter filter = new RuntimeFilter(leftKeys, hashStore.size());
+
+            for (GroupKey<Row> key : hashStore.keySet())
+                filter.add(key.hashCode());
+
+            consumer.accept(filter);
+        }
+
+        /** Joins rows from the left buffer with materialized right rows. */
+        protected abstract void joinRows() throws Exception;
+
+        /** Resets state of the join before processing of the next spilled partition. */
+        protected void resetPartition() {
+            rightRows = null;
+            rightIdx = 0;
+        }
+
+        /** */
+        private @Nullable GroupKey<Row> rightKey(Row row) {
+            return keepRowsWithNull ? GroupKey.of(row, rightRowHnd) : GroupKey.of(row, rightRowHnd, allowNulls);
+        }
+
+        /** */
+        private int leftHash(Row row) {
+            GroupKey<Row> key = GroupKey.of(row, leftRowHnd, allowNulls);
+
+            // Left rows with NULL keys can't be matched, so they can be placed to any partition.
+            return key == null ? 0 : key.hashCode();
         }
 
         /** */
@@ -190,12 +304,17 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
 
             waitingRight--;
 
-            GroupKey<Row> key = keepRowsWithNull ? GroupKey.of(row, rightRowHnd) : GroupKey.of(row, rightRowHnd, allowNulls);
+            GroupKey<Row> key = rightKey(row);
 
             if (key != null) {
-                nodeMemoryTracker.onRowAdded(row);
+                if (spill == null && trackRightRow(row))
+                    hashStore.computeIfAbsent(key, k -> createRowList()).add(row);
+                else {
+                    if (spill == null)
+                        spill = new JoinSpill();
 
-                hashStore.computeIfAbsent(key, k -> createRowList()).add(row);
+                    spill.rightParts.write(key.hashCode(), row);
+                }
             }
 
             if (waitingRight == 0) {
@@ -205,6 +324,19 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
             }
         }
 
+        /**
+         * @return {@code False} if right row doesn't fit into memory and should be offloaded to disk.
+         */
+        private boolean trackRightRow(Row row) {
+            if (spillMgr == null) {
+                nodeMemoryTracker.onRowAdded(row);
+
+                return true;
+            }
+
+            return nodeMemoryTracker.tryRowAdded(row);
+        }
+
         /** */
         protected abstract RowList createRowList();
 
@@ -220,7 +352,8 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
 
         /** */
         protected boolean leftFinished() {
-            return waitingLeft == NOT_WAITING && left == null && leftInBuf.isEmpty();
+            return waitingLeft == NOT_WAITING && left == null && leftInBuf.isEmpty() &&
+                (spill == null || spill.leftExhausted());
         }
 
         /** */
@@ -243,8 +376,27 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
             return false;
         }
 
+        /** {@inheritDoc} */
+        @Override protected void tryToRequestInputs() throws Exception {
+            if (spill != null && spill.leftPartitioned) {
+                // Left rows of the current partition are read from disk.
+                if (requested > 0 && leftInBuf.size() <= HALF_BUF_SIZE && spill.readLeft())
+                    context().execute(this::join0, this::onError);
+
+                return;
+            }
+
+            super.tryToRequestInputs();
+        }
+
         /** */
         protected boolean checkJoinFinished() throws Exception {
+            if (spill != null && requested > 0 && leftFinished() && rightFinished() && spill.nextPartition()) {
+                context().execute(this::join0, this::onError);
+
+                return true;
+            }
+
             if (requested > 0 && leftFinished() && rightFinished()) {
                 requested = 0;
 
@@ -257,6 +409,250 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
 
             return false;
         }
+
+        /** Disk spilling state of the join. */
+        private class JoinSpill implements AutoCloseable {
+            /** Right rows partitions. */
+            private final SpillPartitions<Row> rightParts;
+
+            /** Left rows partitions. */
+            private final SpillPartitions<Row> leftParts;
+
+            /** Partitions pending for processing. */
+            private final Deque<JoinPartition<Row>> pendingParts = new ArrayDeque<>();
+
+            /** Currently processed partition. */
+            private @Nullable JoinPartition<Row> curPart;
+
+            /** Whether left rows are partitioned. */
+            private boolean leftPartitioned;
+
+            /** Offloads materialized right rows to disk. */
+            private JoinSpill() throws IgniteCheckedException {
+                rightParts = new SpillPartitions<>(spillMgr, 0);
+                leftParts = new SpillPartitions<>(spillMgr, 0);
+
+                try {
+                    for (Map.Entry<GroupKey<Row>, RowList> entry : hashStore.entrySet()) {
+                        int hash = entry.getKey().hashCode();
+
+                        for (Row row : entry.getValue())
+                            rightParts.write(hash, row);
+                    }
+                }
+                catch (IgniteCheckedException e) {
+                    close();
+
+                    throw e;
+                }
+
+                hashStore.clear();
+
+                nodeMemoryTracker.reset();
+            }
+
+            /**
+             * Offloads buffered left rows to disk.
+             *
+             * @return {@code True} if all the left rows are partitioned and the first partition is ready to join.
+             */
+            private boolean partitionLeft() throws Exception {
+                while (!leftInBuf.isEmpty()) {
+                    Row row = leftInBuf.remove();
+
+                    leftParts.write(leftHash(row), row);
+                }
+
+                if (waitingLeft != NOT_WAITING)
+                    return false;
+
+                for (int i = 0; i < SpillPartitions.PARTITIONS_CNT; i++)
+                    addPartition(rightParts.detach(i), leftParts.detach(i), 0, false);
+
+                leftPartitioned = true;
+
+                nextPartition();
+
+                return true;
+            }
+
+            /** */
+            private void addPartition(
+                @Nullable SpillFile<Row> right,
+                @Nullable SpillFile<Row> left,
+                int level,
+                boolean first
+            ) {
+                JoinPartition<Row> part = new JoinPartition<>(right, left, level);
+
+                // There is nothing to emit if there are no left rows and unmatched right rows are not required.
+                if (right == null && left == null || left == null && !keepRowsWithNull)
+                    part.close();
+                else if (first)
+                    pendingParts.addFirst(part);
+                else
+                    pendingParts.addLast(part);
+            }
+
+            /**
+             * Loads right rows of the next partition to memory.
+             *
+             * @return {@code False} if there are no more partitions.
+             */
+            private boolean nextPartition() throws Exception {
+                U.closeQuiet(curPart);
+
+                curPart = null;
+
+                hashStore.clear();
+
+                nodeMemoryTracker.reset();
+
+                resetPartition();
+
+                while (!pendingParts.isEmpty()) {
+                    JoinPartition<Row> part = pendingParts.poll();
+
+                    if (loadRight(part)) {
+                        curPart = part;
+
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            /**
+             * @return {@code False} if partition doesn't fit into memory and was split into the next level partitions.
+             */
+            private boolean loadRight(JoinPartition<Row> part) throws Exception {
+                if (part.right == null)
+                    return true;
+
+                Row row;
+
+                while ((row = part.right.read()) != null) {
+                    checkState();
+
+                    if (part.level == SpillPartitions.MAX_LEVEL)
+                        nodeMemoryTracker.onRowAdded(row);
+                    else if (!nodeMemoryTracker.tryRowAdded(row)) {
+                        splitPartition(part, row);
+
+                        return false;
+                    }
+
+                    hashStore.computeIfAbsent(rightKey(row), k -> createRowList()).add(row);
+                }
+
+                return true;
+            }
+
+            /** Splits partition, which doesn't fit into memory, into the next level partitions. */
+            private void splitPartition(JoinPartition<Row> part, Row lastRow) throws Exception {
+                try (
+                    JoinPartition<Row> part0 = part;
+                    SpillPartitions<Row> rightSubParts = new SpillPartitions<>(spillMgr, part.level + 1);
+                    SpillPartitions<Row> leftSubParts = new SpillPartitions<>(spillMgr, part.level + 1)
+                ) {
+                    for (Map.Entry<GroupKey<Row>, RowList> entry : hashStore.entrySet()) {
+                        int hash = entry.getKey().hashCode();
+
+                        for (Row row : entry.getValue())
+                            rightSubParts.write(hash, row);
+                    }
+
+                    hashStore.clear();
+
+                    nodeMemoryTracker.reset();
+
+                    Row row = lastRow;
+
+                    do {
+                        checkState();
+
+                        rightSubParts.write(rightKey(row).hashCode(), row);
+                    }
+                    while ((row = part0.right.read()) != null);
+
+                    if (part0.left != null) {
+                        while ((row = part0.left.read()) != null) {
+                            checkState();
+
+                            leftSubParts.write(leftHash(row), row);
+                        }
+                    }
+
+                    for (int i = SpillPartitions.PARTITIONS_CNT - 1; i >= 0; i--)
+                        addPartition(rightSubParts.detach(i), leftSubParts.detach(i), part.level + 1, true);
+                }
+            }
+
+            /**
+             * Reads left rows of the current partition to the left buffer.
+             *
+             * @return {@code True} if any row was read.
+             */
+            private boolean readLeft() throws IgniteCheckedException {
+                if (curPart == null || curPart.left == null)
+                    return false;
+
+                boolean res = false;
+
+                Row row;
+
+                while (leftInBuf.size() < IN_BUFFER_SIZE && (row = curPart.left.read()) != null) {
+                    leftInBuf.add(row);
+
+                    res = true;
+                }
+
+                return res;
+            }
+
+            /**
+             * @return {@code True} if left rows of the current partition are exhausted.
+             */
+            private boolean leftExhausted() {
+                return curPart == null || curPart.left == null || curPart.left.exhausted();
+            }
+
+            /** {@inheritDoc} */
+            @Override public void close() {
+                U.closeQuiet(rightParts);
+                U.closeQuiet(leftParts);
+                U.closeQuiet(curPart);
+
+                pendingParts.forEach(U::closeQuiet);
+                pendingParts.clear();
+            }
+        }
+    }
+
+    /** Pair of spilled partitions of the right and left rows. */
+    private static class JoinPartition<RowT> implements AutoCloseable {
+        /** Right rows. */
+        private final @Nullable SpillFile<RowT> right;
+
+        /** Left rows. */
+        private final @Nullable SpillFile<RowT> left;
+
+        /** Partitioning level. */
+        private final int level;
+
+        /** */
+        private JoinPartition(@Nullable SpillFile<RowT> right, @Nullable SpillFile<RowT> left, int level) {
+            this.right = right;
+            this.left = left;
+            this.level = level;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            U.closeQuiet(right);
+            U.closeQuiet(left);
+        }
     }
 
     /** */
@@ -316,7 +712,16 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
         }
 
         /** {@inheritDoc} */
-        @Override protected void join() throws Exception {
+        @Override protected void resetPartition() {
+            super.resetPartition();
+
+            drainMaterialization = false;
+
+            materializedIt = null;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void joinRows() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
 
@@ -736,7 +1141,7 @@ public abstract class HashJoinNode<Row> extends AbstractRightMaterializedJoinNod
         }
 
         /** {@inheritDoc} */
-        @Override protected void join() throws Exception {
+        @Override protected void joinRows() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
 
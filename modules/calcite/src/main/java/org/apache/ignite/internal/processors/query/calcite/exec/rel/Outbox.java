@@ -25,11 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.apache.calcite.avatica.util.ByteString;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExchangeService;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.MailboxRegistry;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilter;
 import org.apache.ignite.internal.processors.query.calcite.trait.Destination;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
@@ -39,6 +42,19 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  * A part of exchange.
  */
 public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, SingleNode<Row>, Downstream<Row> {
+    /** Maximum count of rows in a batch of narrow rows. */
+    /** Estimated size of a row header. */
+    private static final int ROW_OVERHEAD = 8;
+
+    /** Estimated size of a fixed length value. */
+    private static final int VALUE_SIZE = 16;
+
+    /** */
+    private static final int MAX_IO_BATCH_SIZE = IO_BATCH_SIZE * 8;
+
+    /** Maximum count of not acknowledged batches of narrow rows. */
+    private static final int MAX_IO_BATCH_CNT = IO_BATCH_CNT * 4;
+
     /** */
     private final ExchangeService exchange;
 
@@ -110,6 +126,18 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         nodeBuffers.get(nodeId).acknowledge(batchId);
     }
 
+    /**
+     * Callback method. Rows sent to the given node will be checked by the filter.
+     *
+     * @param nodeId Target ID.
+     * @param filter Runtime join filter.
+     */
+    public void onRuntimeFilter(UUID nodeId, RuntimeFilter filter) throws Exception {
+        checkState();
+
+        getOrCreateBuffer(nodeId).filter = filter;
+    }
+
     /** */
     public void init() {
         try {
@@ -238,6 +266,12 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
             if (nodes.size() == 1) {
                 Buffer buf = getOrCreateBuffer(nodes.get(0));
 
+                if (!buf.accepts(inBuf.peek())) {
+                    inBuf.remove();
+
+                    continue;
+                }
+
                 if (!buf.ready())
                     return;
 
@@ -249,6 +283,9 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
                 for (UUID nodeId : nodes) {
                     Buffer buf = getOrCreateBuffer(nodeId);
 
+                    if (!buf.accepts(inBuf.peek()))
+                        continue;
+
                     if (!buf.ready())
                         return;
 
@@ -284,7 +321,38 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
             context().execute(this::close, this::onError);
     }
 
-    /** */
+    /**
+     * Estimates serialized size of the row. Only variable length values are sized precisely, other values (including
+     * intermediate aggregation states) are counted with a constant size.
+     */
+    private long rowSize(Row row) {
+        RowHandler<Row> hnd = context().rowHandler();
+
+        long size = ROW_OVERHEAD;
+
+        for (int i = 0, cnt = hnd.columnCount(row); i < cnt; i++) {
+            Object val = hnd.get(i, row);
+
+            if (val == null)
+                size++;
+            else if (val instanceof String)
+                size += ((String)val).length();
+            else if (val instanceof byte[])
+                size += ((byte[])val).length;
+            else if (val instanceof ByteString)
+                size += ((ByteString)val).length();
+            else
+                size += VALUE_SIZE;
+        }
+
+        return size;
+    }
+
+    /**
+     * Batches of the target node. Count of rows in a batch adapts to the rows size: batches of wide rows are cut by
+     * the size limit, and batches of narrow rows grow to reduce per message overhead. Count of not acknowledged
+     * batches is limited by their total size.
+     */
     private final class Buffer {
         /** */
         private final UUID nodeId;
@@ -298,6 +366,21 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         /** */
         private List<Row> curr;
 
+        /** Estimated size of the current batch. */
+        private long currBytes;
+
+        /** Maximum count of rows in a batch. */
+        private int batchSize = IO_BATCH_SIZE;
+
+        /** Estimated sizes of the sent batches, indexed by batch ID. */
+        private final long[] sentBytes = new long[MAX_IO_BATCH_CNT + 1];
+
+        /** Estimated size of not acknowledged batches. */
+        private long inFlightBytes;
+
+        /** Runtime join filter of the target node. */
+        private RuntimeFilter filter;
+
         /** */
         private Buffer(UUID nodeId) {
             this.nodeId = nodeId;
@@ -314,7 +397,28 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
             if (hwm == Integer.MAX_VALUE)
                 return false;
 
-            return curr.size() < IO_BATCH_SIZE || hwm - lwm < IO_BATCH_CNT;
+            return !batchFull() || canSend();
+        }
+
+        /** */
+        private boolean batchFull() {
+            return curr.size() >= batchSize || (IO_BATCH_BYTES > 0 && currBytes >= IO_BATCH_BYTES);
+        }
+
+        /** */
+        private boolean canSend() {
+            if (IO_BATCH_BYTES <= 0)
+                return hwm - lwm < IO_BATCH_CNT;
+
+            return hwm - lwm < MAX_IO_BATCH_CNT && inFlightBytes < (long)IO_BATCH_CNT * IO_BATCH_BYTES;
+        }
+
+        /**
+         * @param row Row.
+         * @return {@code False} if the row is not required by the target node.
+         */
+        private boolean accepts(Row row) {
+            return filter == null || filter.mightContain(row, context().rowHandler());
         }
 
         /**
@@ -325,13 +429,16 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
         public void add(Row row) throws IgniteCheckedException {
             assert ready();
 
-            if (curr.size() == IO_BATCH_SIZE) {
-                sendBatch(nodeId, ++hwm, false, curr);
+            if (batchFull()) {
+                send(++hwm, false);
 
-                curr = new ArrayList<>(IO_BATCH_SIZE);
+                curr = new ArrayList<>(batchSize);
             }
 
             curr.add(row);
+
+            if (IO_BATCH_BYTES > 0)
+                currBytes += rowSize(row);
         }
 
         /**
@@ -344,10 +451,27 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
             int batchId = hwm + 1;
             hwm = Integer.MAX_VALUE;
 
-            List<Row> tmp = curr;
+            send(batchId, true);
+
             curr = null;
+        }
 
-            sendBatch(nodeId, batchId, true, tmp);
+        /** */
+        private void send(int batchId, boolean last) throws IgniteCheckedException {
+            if (IO_BATCH_BYTES > 0) {
+                sentBytes[batchId % sentBytes.length] = currBytes;
+                inFlightBytes += currBytes;
+
+                // Grow batches of narrow rows, shrink batches cut by size.
+                if (currBytes < IO_BATCH_BYTES / 2)
+                    batchSize = Math.min(batchSize * 2, MAX_IO_BATCH_SIZE);
+                else if (currBytes >= IO_BATCH_BYTES)
+                    batchSize = Math.max(curr.size(), 1);
+            }
+
+            currBytes = 0;
+
+            sendBatch(nodeId, batchId, last, curr);
         }
 
         /**
@@ -361,6 +485,11 @@ public class Outbox<Row> extends AbstractNode<Row> implements Mailbox<Row>, Sing
 
             boolean readyBefore = ready();
 
+            if (IO_BATCH_BYTES > 0) {
+                for (int i = lwm + 1; i <= id; i++)
+                    inFlightBytes -= sentBytes[i % sentBytes.length];
+            }
+
             lwm = id;
 
             if (!readyBefore && ready())
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
@@ -63,6 +65,20 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
         downstream().push(prj.apply(row));
     }
 
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> batch) throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        List<Row> out = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++)
+            out.add(prj.apply(batch.get(i)));
+
+        downstream().pushBatch(out);
+    }
+
     /** {@inheritDoc} */
     @Override public void end() throws Exception {
         assert downstream() != null;
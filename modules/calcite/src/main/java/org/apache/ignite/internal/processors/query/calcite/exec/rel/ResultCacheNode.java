@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pass-through node collecting rows of the input. Collected rows are passed to the consumer when the input is
+ * drained, unless there are more rows than the limit.
+ */
+public class ResultCacheNode<Row> extends AbstractNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** */
+    private final int maxRows;
+
+    /** */
+    private final Consumer<List<Row>> rowsConsumer;
+
+    /** Collected rows, {@code null} if rows can't be passed to the consumer. */
+    private @Nullable List<Row> rows = new ArrayList<>();
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Row type.
+     * @param maxRows Maximum count of rows to collect.
+     * @param rowsConsumer Consumer of collected rows.
+     */
+    public ResultCacheNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        int maxRows,
+        Consumer<List<Row>> rowsConsumer
+    ) {
+        super(ctx, rowType);
+
+        this.maxRows = maxRows;
+        this.rowsConsumer = rowsConsumer;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        rows = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0;
+
+        checkState();
+
+        source().request(rowsCnt);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void push(Row row) throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        collect(row);
+
+        downstream().push(row);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> batch) throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        for (int i = 0; i < batch.size(); i++)
+            collect(batch.get(i));
+
+        downstream().pushBatch(batch);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void end() throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        if (rows != null) {
+            rowsConsumer.accept(rows);
+
+            rows = null;
+        }
+
+        downstream().end();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx != 0)
+            throw new IndexOutOfBoundsException();
+
+        return this;
+    }
+
+    /** */
+    private void collect(Row row) {
+        if (rows == null)
+            return;
+
+        if (rows.size() < maxRows)
+            rows.add(row);
+        else
+            rows = null;
+    }
+}
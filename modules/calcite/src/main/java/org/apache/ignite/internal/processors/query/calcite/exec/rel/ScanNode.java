@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
@@ -174,6 +175,8 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         if (it == null)
             it = sourceIterator();
 
+        List<Row> batch = batchMode() ? new ArrayList<>(Math.min(requested, IN_BUFFER_SIZE)) : null;
+
         int processed = 0;
         while (requested > 0 && it.hasNext()) {
             checkState();
@@ -183,10 +186,21 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
             if (r != null) {
                 requested--;
 
-                downstream().push(r);
+                if (batch == null)
+                    downstream().push(r);
+                else {
+                    batch.add(r);
+
+                    // Downstream can request next rows only when all requested rows are pushed.
+                    if (requested == 0)
+                        batch = pushBatch(batch);
+                }
             }
 
             if (++processed == IN_BUFFER_SIZE && requested > 0) {
+                if (batch != null)
+                    pushBatch(batch);
+
                 // Allow others to do their job.
                 context().execute(this::push, this::onError);
 
@@ -194,6 +208,9 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
             }
         }
 
+        if (batch != null)
+            pushBatch(batch);
+
         if (requested > 0 && !it.hasNext()) {
             Commons.closeQuiet(it);
             it = null;
@@ -206,6 +223,20 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         return processed;
     }
 
+    /**
+     * Pushes collected rows to the downstream.
+     *
+     * @return New batch to collect rows.
+     */
+    private List<Row> pushBatch(List<Row> batch) throws Exception {
+        if (batch.isEmpty())
+            return batch;
+
+        downstream().pushBatch(batch);
+
+        return new ArrayList<>(Math.min(requested, IN_BUFFER_SIZE));
+    }
+
     /** */
     @Nullable public Predicate<Row> filter() {
         return filter;
@@ -22,15 +22,25 @@ import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.util.GridBoundedPriorityQueue;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ * <p>
+ * If disk spilling is enabled and memory quota is exhausted, sorted runs of rows are offloaded to disk and merged
+ * on output (external merge sort). Sort with a limit is not spilled, since it keeps only limited count of rows.
  */
 public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** Maximum count of spilled runs merged at once. */
+    private static final int MERGE_FAN_IN = 64;
+
     /** How many rows are requested by downstream. */
     private int requested;
 
@@ -49,6 +59,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
     /** Reverse-ordered rows in case of limited sort. */
     private List<Row> reversed;
 
+    /** Rows comparator. */
+    private final Comparator<Row> comp;
+
+    /** Spill manager, {@code null} if disk spilling is disabled. */
+    private final @Nullable SpillManager spillMgr;
+
+    /** Sorted runs offloaded to disk. */
+    private final List<SpillFile<Row>> spilledRuns = new ArrayList<>();
+
+    /** Merger of spilled runs and in-memory rows, initialized on output if there are spilled runs. */
+    private @Nullable RunsMerger merger;
+
     /**
      * @param ctx Execution context.
      * @param comp Rows comparator.
@@ -74,6 +96,10 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
             rows = new GridBoundedPriorityQueue<>(limit, comp == null ? (Comparator<Row>)Comparator.reverseOrder()
                 : comp.reversed());
         }
+
+        this.comp = comp == null ? (Comparator<Row>)Comparator.naturalOrder() : comp;
+
+        spillMgr = limit < 0 ? ctx.spillManager() : null;
     }
 
     /**
@@ -92,9 +118,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         if (reversed != null)
             reversed.clear();
 
+        closeSpilledRuns();
+
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeSpilledRuns();
+
+        super.closeInternal();
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         if (idx != 0)
@@ -129,14 +164,25 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         waiting--;
 
-        int size = rows.size();
-        Row top = rows.peek();
+        if (spillMgr != null) {
+            if (!nodeMemoryTracker.tryRowAdded(row)) {
+                spillRun();
 
-        if (rows.add(row)) {
-            nodeMemoryTracker.onRowAdded(row);
+                nodeMemoryTracker.onRowAdded(row);
+            }
 
-            if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
-                nodeMemoryTracker.onRowRemoved(top);
+            rows.add(row);
+        }
+        else {
+            int size = rows.size();
+            Row top = rows.peek();
+
+            if (rows.add(row)) {
+                nodeMemoryTracker.onRowAdded(row);
+
+                if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
+                    nodeMemoryTracker.onRowRemoved(top);
+            }
         }
 
         if (waiting == 0)
@@ -185,14 +231,15 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 processed = 0;
             }
 
-            while (requested > 0 && (reversed == null ? !rows.isEmpty() : !reversed.isEmpty())) {
+            if (merger == null && !spilledRuns.isEmpty())
+                merger = new RunsMerger();
+
+            while (requested > 0 && hasNextRow()) {
                 checkState();
 
                 requested--;
 
-                Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
-
-                nodeMemoryTracker.onRowRemoved(row);
+                Row row = nextRow();
 
                 downstream().push(row);
 
@@ -204,7 +251,7 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasNextRow()) {
                 if (requested > 0)
                     downstream().end();
 
@@ -215,4 +262,138 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
             inLoop = false;
         }
     }
+
+    /** */
+    private boolean hasNextRow() {
+        if (merger != null)
+            return merger.hasNext();
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    /** */
+    private Row nextRow() throws IgniteCheckedException {
+        if (merger != null)
+            return merger.next();
+
+        Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+
+        nodeMemoryTracker.onRowRemoved(row);
+
+        return row;
+    }
+
+    /** Offloads in-memory rows to disk as a new sorted run. */
+    private void spillRun() throws IgniteCheckedException {
+        if (rows.isEmpty())
+            return;
+
+        SpillFile<Row> run = spillMgr.createFile();
+
+        spilledRuns.add(run);
+
+        while (!rows.isEmpty())
+            run.write(rows.poll());
+
+        nodeMemoryTracker.reset();
+
+        if (spilledRuns.size() >= MERGE_FAN_IN) {
+            // Too many runs to be merged at once, merge already spilled runs into the one.
+            SpillFile<Row> mergedRun = spillMgr.createFile();
+
+            try {
+                RunsMerger merger = new RunsMerger();
+
+                while (merger.hasNext())
+                    mergedRun.write(merger.next());
+            }
+            catch (Throwable e) {
+                mergedRun.close();
+
+                throw e;
+            }
+
+            closeSpilledRuns();
+
+            spilledRuns.add(mergedRun);
+        }
+    }
+
+    /** */
+    private void closeSpilledRuns() {
+        merger = null;
+
+        spilledRuns.forEach(U::closeQuiet);
+        spilledRuns.clear();
+    }
+
+    /** K-way merger of spilled runs and in-memory rows. */
+    private class RunsMerger {
+        /** Cursors ordered by the current row. */
+        private final PriorityQueue<RunCursor> cursors = new PriorityQueue<>((c1, c2) -> comp.compare(c1.row, c2.row));
+
+        /** */
+        private RunsMerger() throws IgniteCheckedException {
+            for (SpillFile<Row> run : spilledRuns)
+                addCursor(new RunCursor(run));
+
+            addCursor(new RunCursor(null));
+        }
+
+        /** */
+        private void addCursor(RunCursor cursor) throws IgniteCheckedException {
+            if (cursor.advance())
+                cursors.add(cursor);
+        }
+
+        /** */
+        private boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+
+        /** */
+        private Row next() throws IgniteCheckedException {
+            RunCursor cursor = cursors.poll();
+
+            assert cursor != null;
+
+            Row row = cursor.row;
+
+            addCursor(cursor);
+
+            return row;
+        }
+    }
+
+    /** Cursor over the spilled run or in-memory rows. */
+    private class RunCursor {
+        /** Spilled run or {@code null} for in-memory rows. */
+        private final @Nullable SpillFile<Row> run;
+
+        /** Current row. */
+        private Row row;
+
+        /** */
+        private RunCursor(@Nullable SpillFile<Row> run) {
+            this.run = run;
+        }
+
+        /**
+         * Moves cursor to the next row.
+         *
+         * @return {@code False} if there are no more rows.
+         */
+        private boolean advance() throws IgniteCheckedException {
+            if (run != null)
+                row = run.read();
+            else {
+                row = rows.poll();
+
+                if (row != null)
+                    nodeMemoryTracker.onRowRemoved(row);
+            }
+
+            return row != null;
+        }
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.window.WindowFunction;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.window.WindowPartition;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Computes window functions over the input, sorted by partition keys and window order keys.
+ * Rows of only one window partition are kept in memory at a time.
+ */
+public class WindowNode<Row> extends MemoryTrackingNode<Row> implements SingleNode<Row>, Downstream<Row> {
+    /** Comparator by partition keys, {@code null} if all the rows belong to the same partition. */
+    private final @Nullable Comparator<Row> partCmp;
+
+    /** */
+    private final WindowPartition<Row> part;
+
+    /** */
+    private final List<WindowFunction<Row>> funcs;
+
+    /** */
+    private final RowFactory<Row> rowFactory;
+
+    /** */
+    private final Deque<Row> outBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** */
+    private int requested;
+
+    /** */
+    private int waiting;
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Output row type.
+     * @param partCmp Comparator by partition keys.
+     * @param part Window partition.
+     * @param funcsFactory Window functions factory.
+     * @param rowFactory Output row factory.
+     */
+    public WindowNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        @Nullable Comparator<Row> partCmp,
+        WindowPartition<Row> part,
+        Supplier<List<WindowFunction<Row>>> funcsFactory,
+        RowFactory<Row> rowFactory
+    ) {
+        super(ctx, rowType);
+
+        this.partCmp = partCmp;
+        this.part = part;
+        this.rowFactory = rowFactory;
+
+        funcs = funcsFactory.get();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        doPush();
+
+        if (!outBuf.isEmpty())
+            return;
+
+        if (waiting == 0) {
+            waiting = IN_BUFFER_SIZE;
+
+            source().request(IN_BUFFER_SIZE);
+        }
+        else if (waiting < 0)
+            downstream().end();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void push(Row row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting--;
+
+        if (!part.isEmpty() && partCmp != null && partCmp.compare(part.row(part.size() - 1), row) != 0) {
+            flushPartition();
+
+            doPush();
+        }
+
+        part.add(row);
+
+        nodeMemoryTracker.onRowAdded(row);
+
+        if (waiting == 0 && requested > 0 && outBuf.isEmpty()) {
+            waiting = IN_BUFFER_SIZE;
+
+            context().execute(() -> source().request(IN_BUFFER_SIZE), this::onError);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        checkState();
+
+        waiting = -1;
+
+        if (!part.isEmpty())
+            flushPartition();
+
+        doPush();
+
+        if (requested > 0 && outBuf.isEmpty())
+            downstream().end();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        requested = 0;
+        waiting = 0;
+        part.clear();
+        outBuf.clear();
+        nodeMemoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx != 0)
+            throw new IndexOutOfBoundsException();
+
+        return this;
+    }
+
+    /** Computes window functions for the rows of the current partition and moves rows to the output buffer. */
+    private void flushPartition() {
+        RowHandler<Row> hnd = context().rowHandler();
+
+        for (WindowFunction<Row> func : funcs)
+            func.reset();
+
+        for (int i = 0; i < part.size(); i++) {
+            Row row = part.row(i);
+
+            int inFieldsCnt = hnd.columnCount(row);
+
+            Object[] fields = new Object[inFieldsCnt + funcs.size()];
+
+            for (int j = 0; j < inFieldsCnt; j++)
+                fields[j] = hnd.get(j, row);
+
+            for (int j = 0; j < funcs.size(); j++)
+                fields[inFieldsCnt + j] = funcs.get(j).call(part, i);
+
+            outBuf.add(rowFactory.create(fields));
+        }
+
+        part.clear();
+
+        nodeMemoryTracker.reset();
+    }
+
+    /** */
+    private void doPush() throws Exception {
+        while (requested > 0 && !outBuf.isEmpty()) {
+            requested--;
+
+            downstream().push(outBuf.poll());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Temporary file with sequence of objects (rows or another execution node structures) offloaded to disk.
+ * The file is written once and then can be read sequentially once. Not thread safe.
+ */
+public class SpillFile<T> implements AutoCloseable {
+    /** I/O buffer size. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /** */
+    private final File file;
+
+    /** */
+    private final Marshaller marsh;
+
+    /** */
+    private final ClassLoader clsLdr;
+
+    /** */
+    private final IgniteLogger log;
+
+    /** */
+    private DataOutputStream out;
+
+    /** */
+    private DataInputStream in;
+
+    /** Count of written objects. */
+    private long size;
+
+    /** Count of read objects. */
+    private long read;
+
+    /** Count of written bytes. */
+    private long bytes;
+
+    /**
+     * @param file File.
+     * @param marsh Marshaller.
+     * @param clsLdr Class loader.
+     * @param log Logger.
+     */
+    SpillFile(File file, Marshaller marsh, ClassLoader clsLdr, IgniteLogger log) {
+        this.file = file;
+        this.marsh = marsh;
+        this.clsLdr = clsLdr;
+        this.log = log;
+    }
+
+    /**
+     * Appends object to the file.
+     *
+     * @param obj Object.
+     */
+    public void write(T obj) throws IgniteCheckedException {
+        assert in == null : "Spill file is already in read mode";
+
+        byte[] data = U.marshal(marsh, obj);
+
+        try {
+            if (out == null)
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUF_SIZE));
+
+            out.writeInt(data.length);
+            out.write(data);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to write to spill file: " + file.getAbsolutePath(), e);
+        }
+
+        size++;
+        bytes += data.length + Integer.BYTES;
+    }
+
+    /**
+     * Reads next object from the file. The first call switches file to the read mode.
+     *
+     * @return Next object or {@code null} if there are no more objects in the file.
+     */
+    public @Nullable T read() throws IgniteCheckedException {
+        if (read == size)
+            return null;
+
+        try {
+            if (in == null) {
+                if (out != null) {
+                    out.close();
+
+                    out = null;
+                }
+
+                in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUF_SIZE));
+            }
+
+            byte[] data = new byte[in.readInt()];
+
+            in.readFully(data);
+
+            read++;
+
+            return U.unmarshal(marsh, data, clsLdr);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to read from spill file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * @return Count of objects in the file.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return Count of bytes written to the file.
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return {@code True} if all the objects are read.
+     */
+    public boolean exhausted() {
+        return read == size;
+    }
+
+    /** Closes the file and removes it from disk. */
+    @Override public void close() {
+        U.closeQuiet(out);
+        U.closeQuiet(in);
+
+        out = null;
+        in = null;
+
+        if (file.exists() && !file.delete())
+            U.warn(log, "Failed to delete spill file: " + file.getAbsolutePath());
+    }
+}
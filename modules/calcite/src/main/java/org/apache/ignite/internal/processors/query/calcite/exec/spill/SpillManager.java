@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+
+/**
+ * Manages temporary files, used by execution nodes to offload rows to disk when memory quota is exhausted.
+ */
+public class SpillManager {
+    /** Name of the directory (relative to the work directory) for spill files. */
+    public static final String SPILL_DIR = "calcite_spill";
+
+    /** Work directory. */
+    private final String workDir;
+
+    /** Name of the node subdirectory. */
+    private final String nodeDirName;
+
+    /** Marshaller. */
+    private final Marshaller marsh;
+
+    /** Class loader. */
+    private final ClassLoader clsLdr;
+
+    /** */
+    private final IgniteLogger log;
+
+    /** Spill files counter. */
+    private final AtomicLong fileCntr = new AtomicLong();
+
+    /** Spill directory, lazily initialized on the first spill. */
+    private volatile File dir;
+
+    /**
+     * @param workDir Work directory.
+     * @param nodeDirName Name of the node subdirectory.
+     * @param marsh Marshaller.
+     * @param clsLdr Class loader.
+     * @param log Logger.
+     */
+    public SpillManager(String workDir, String nodeDirName, Marshaller marsh, ClassLoader clsLdr, IgniteLogger log) {
+        this.workDir = workDir;
+        this.nodeDirName = nodeDirName;
+        this.marsh = marsh;
+        this.clsLdr = clsLdr;
+        this.log = log;
+    }
+
+    /**
+     * Creates new spill file.
+     *
+     * @return Spill file.
+     */
+    public <T> SpillFile<T> createFile() throws IgniteCheckedException {
+        File file = new File(directory(), "spill-" + fileCntr.incrementAndGet() + ".bin");
+
+        if (log.isDebugEnabled())
+            log.debug("Creating spill file: " + file.getAbsolutePath());
+
+        return new SpillFile<>(file, marsh, clsLdr, log);
+    }
+
+    /** Removes spill directory with all leftover files. */
+    public void cleanup() {
+        File dir0 = dir;
+
+        if (dir0 != null)
+            U.delete(dir0);
+    }
+
+    /** */
+    private File directory() throws IgniteCheckedException {
+        File dir0 = dir;
+
+        if (dir0 == null) {
+            synchronized (this) {
+                dir0 = dir;
+
+                if (dir0 == null) {
+                    // Remove files left from the previous node runs.
+                    dir = dir0 = U.resolveWorkDirectory(workDir, SPILL_DIR + File.separator + nodeDirName, true);
+                }
+            }
+        }
+
+        return dir0;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Set of spill files, objects are distributed between files by hash. Used by hash-based execution nodes
+ * (hash join, hash aggregate) to split the data into parts small enough to be processed in memory.
+ * If some partition is still too large, it can be split again with the next partitioning level, each level uses
+ * different bits of the hash.
+ */
+public class SpillPartitions<T> implements AutoCloseable {
+    /** Partitions count bits. */
+    private static final int PARTITIONS_BITS = 4;
+
+    /** Partitions count. */
+    public static final int PARTITIONS_CNT = 1 << PARTITIONS_BITS;
+
+    /** Maximal partitioning level. Partitions of this level are not split anymore. */
+    public static final int MAX_LEVEL = 3;
+
+    /** */
+    private final SpillManager spillMgr;
+
+    /** */
+    private final int level;
+
+    /** */
+    private final SpillFile<T>[] files = new SpillFile[PARTITIONS_CNT];
+
+    /**
+     * @param spillMgr Spill manager.
+     * @param level Partitioning level.
+     */
+    public SpillPartitions(SpillManager spillMgr, int level) {
+        assert level <= MAX_LEVEL : level;
+
+        this.spillMgr = spillMgr;
+        this.level = level;
+    }
+
+    /**
+     * @return Partitioning level.
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Writes object to the partition defined by hash.
+     *
+     * @param hash Hash.
+     * @param obj Object.
+     */
+    public void write(int hash, T obj) throws IgniteCheckedException {
+        int part = partition(hash, level);
+
+        SpillFile<T> file = files[part];
+
+        if (file == null)
+            files[part] = file = spillMgr.createFile();
+
+        file.write(obj);
+    }
+
+    /**
+     * Detaches partition file. Detached file should be closed by the caller.
+     *
+     * @param part Partition.
+     * @return Partition file or {@code null} if there are no objects in the partition.
+     */
+    public @Nullable SpillFile<T> detach(int part) {
+        SpillFile<T> file = files[part];
+
+        files[part] = null;
+
+        return file;
+    }
+
+    /**
+     * @param hash Hash.
+     * @param level Partitioning level.
+     * @return Partition for the given hash.
+     */
+    public static int partition(int hash, int level) {
+        // Fibonacci hashing, rotation makes different levels depend on different bits of the hash.
+        return (Integer.rotateLeft(hash, level * 8) * 0x9E3779B9) >>> (Integer.SIZE - PARTITIONS_BITS);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        for (int i = 0; i < files.length; i++) {
+            U.closeQuiet(files[i]);
+
+            files[i] = null;
+        }
+    }
+}
@@ -69,6 +69,26 @@ public class ExecutionNodeMemoryTracker<Row> implements RowTracker<Row> {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean tryRowAdded(Row obj) {
+        long size = sizeCalculator.sizeOf(obj);
+
+        size += rowOverhead;
+
+        if (allocated + size > prevReported) {
+            long newReported = (allocated + size + (BATCH_SIZE - 1)) & -BATCH_SIZE; // Align to batch size.
+
+            if (!qryMemoryTracker.tryMemoryAllocated(newReported - prevReported))
+                return false;
+
+            prevReported = newReported;
+        }
+
+        allocated += size;
+
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public void onRowRemoved(Row obj) {
         long size = sizeCalculator.sizeOf(obj);
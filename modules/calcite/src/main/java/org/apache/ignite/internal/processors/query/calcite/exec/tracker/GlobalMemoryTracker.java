@@ -48,6 +48,21 @@ public class GlobalMemoryTracker implements MemoryTracker {
         allocated.addAndGet(-size);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean tryMemoryAllocated(long size) {
+        long wasAllocated;
+
+        do {
+            wasAllocated = allocated.get();
+
+            if (wasAllocated + size > quota)
+                return false;
+        }
+        while (!allocated.compareAndSet(wasAllocated, wasAllocated + size));
+
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public void reset() {
         allocated.set(0);
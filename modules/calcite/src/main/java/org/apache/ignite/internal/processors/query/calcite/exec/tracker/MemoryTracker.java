@@ -27,6 +27,14 @@ public interface MemoryTracker {
     /** */
     public void onMemoryReleased(long size);
 
+    /**
+     * Allocates memory only if it doesn't exceed the quota.
+     *
+     * @param size Size to allocate.
+     * @return {@code True} if memory was allocated, {@code false} if allocation would exceed the quota.
+     */
+    public boolean tryMemoryAllocated(long size);
+
     /** */
     public void reset();
 
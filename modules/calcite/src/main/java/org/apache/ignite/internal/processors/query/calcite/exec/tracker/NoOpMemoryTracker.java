@@ -39,6 +39,11 @@ public class NoOpMemoryTracker implements MemoryTracker {
         // No-op.
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean tryMemoryAllocated(long size) {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public void reset() {
         // No-op.
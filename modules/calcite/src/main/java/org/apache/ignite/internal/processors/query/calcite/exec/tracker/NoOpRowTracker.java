@@ -34,6 +34,11 @@ public class NoOpRowTracker<Row> implements RowTracker<Row> {
         // No-op.
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean tryRowAdded(Row obj) {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override public void onRowRemoved(Row obj) {
         // No-op.
@@ -65,6 +65,27 @@ public class QueryMemoryTracker implements MemoryTracker {
             parent.onMemoryReleased(released);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean tryMemoryAllocated(long size) {
+        long wasAllocated;
+
+        do {
+            wasAllocated = allocated.get();
+
+            if (quota > 0 && wasAllocated + size > quota)
+                return false;
+        }
+        while (!allocated.compareAndSet(wasAllocated, wasAllocated + size));
+
+        if (!parent.tryMemoryAllocated(size)) {
+            release(size);
+
+            return false;
+        }
+
+        return true;
+    }
+
     /** Allocate size for current query. */
     private void allocate(long size) {
         if (allocated.addAndGet(size) > quota && quota > 0)
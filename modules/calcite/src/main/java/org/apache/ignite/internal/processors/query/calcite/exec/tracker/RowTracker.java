@@ -26,6 +26,13 @@ public interface RowTracker<Row> {
      */
     public void onRowAdded(Row row);
 
+    /**
+     * Add tracked row if it doesn't exceed the memory quota.
+     *
+     * @return {@code True} if row was added, {@code false} if memory quota doesn't allow to add the row.
+     */
+    public boolean tryRowAdded(Row row);
+
     /**
      * Remove tracked row.
      */
@@ -656,7 +656,7 @@ class RelJson {
     }
 
     /** */
-    private RexWindowBound toRexWindowBound(RelInput input, Map<String, Object> map) {
+    RexWindowBound toRexWindowBound(RelInput input, Map<String, Object> map) {
         if (map == null)
             return null;
 
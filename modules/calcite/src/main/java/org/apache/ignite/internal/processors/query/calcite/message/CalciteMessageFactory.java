@@ -32,14 +32,14 @@ public class CalciteMessageFactory extends AbstractMarshallableMessageFactoryPro
     public static final short MIN_MESSAGE_TYPE = 300;
 
     /** */
-    public static final short MAX_MESSAGE_TYPE = 311;
+    public static final short MAX_MESSAGE_TYPE = 312;
 
     /** {@inheritDoc} */
     @Override public void registerAll(MessageFactory factory) {
         register(factory, QueryStartRequest.class, (short)300, schemaAwareMarsh, resolvedClsLdr);
         register(factory, QueryStartResponse.class, (short)301, dfltMarsh, dftlClsLdr);
         register(factory, CalciteErrorMessage.class, (short)302, dfltMarsh, resolvedClsLdr);
-        register(factory, QueryBatchMessage.class, (short)303, dfltMarsh, dftlClsLdr);
+        register(factory, QueryBatchMessage.class, (short)303, schemaAwareMarsh, resolvedClsLdr);
         register(factory, QueryBatchAcknowledgeMessage.class, (short)304, dfltMarsh, dftlClsLdr);
         register(factory, QueryInboxCloseMessage.class, (short)305, dfltMarsh, dftlClsLdr);
         register(factory, QueryCloseMessage.class, (short)306, dfltMarsh, dftlClsLdr);
@@ -48,6 +48,7 @@ public class CalciteMessageFactory extends AbstractMarshallableMessageFactoryPro
         register(factory, ColocationGroup.class, (short)309, dfltMarsh, dftlClsLdr);
         register(factory, FragmentDescription.class, (short)310, dfltMarsh, dftlClsLdr);
         register(factory, QueryTxEntry.class, (short)311, dfltMarsh, dftlClsLdr);
+        register(factory, QueryRuntimeFilterMessage.class, (short)312, dfltMarsh, dftlClsLdr);
     }
 
     /** */
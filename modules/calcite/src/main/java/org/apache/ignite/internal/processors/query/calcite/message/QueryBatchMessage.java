@@ -20,10 +20,22 @@ package org.apache.ignite.internal.processors.query.calcite.message;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.MarshallableMessage;
 import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.marshaller.Marshaller;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch of rows. If compression is enabled, rows are marshalled as a whole and compressed when the batch is large
+ * enough, otherwise each row is marshalled separately.
+ */
+public class QueryBatchMessage implements MarshallableMessage, ExecutionContextAware {
+    /** Minimal size of marshalled rows to compress. */
+    private static final int COMPRESSION_THRESHOLD = 1024;
 
-/** */
-public class QueryBatchMessage implements ExecutionContextAware {
     /** */
     @Order(0)
     UUID qryId;
@@ -48,6 +60,17 @@ public class QueryBatchMessage implements ExecutionContextAware {
     @Order(5)
     List<GenericValueMessage> mRows;
 
+    /** Rows marshalled as a whole, {@code null} if compression is disabled. */
+    @Order(6)
+    byte[] rowsBytes;
+
+    /** */
+    @Order(7)
+    boolean compressed;
+
+    /** Rows, {@code null} if rows are marshalled separately. */
+    private @Nullable List<Object> rows;
+
     /** */
     public QueryBatchMessage() {
         // No-op.
@@ -55,13 +78,29 @@ public class QueryBatchMessage implements ExecutionContextAware {
 
     /** */
     public QueryBatchMessage(UUID qryId, long fragmentId, long exchangeId, int batchId, boolean last, List<Object> rows) {
+        this(qryId, fragmentId, exchangeId, batchId, last, rows, false);
+    }
+
+    /** */
+    public QueryBatchMessage(
+        UUID qryId,
+        long fragmentId,
+        long exchangeId,
+        int batchId,
+        boolean last,
+        List<Object> rows,
+        boolean compress
+    ) {
         this.qryId = qryId;
         this.fragmentId = fragmentId;
         this.exchangeId = exchangeId;
         this.batchId = batchId;
         this.last = last;
 
-        mRows = rows.stream().map(o -> o == null ? null : new GenericValueMessage(o)).collect(Collectors.toList());
+        if (compress)
+            this.rows = rows;
+        else
+            mRows = rows.stream().map(o -> o == null ? null : new GenericValueMessage(o)).collect(Collectors.toList());
     }
 
     /** {@inheritDoc} */
@@ -99,6 +138,36 @@ public class QueryBatchMessage implements ExecutionContextAware {
      * @return Rows.
      */
     public List<Object> rows() {
+        if (rows != null)
+            return rows;
+
         return mRows.stream().map(GenericValueMessage::value).collect(Collectors.toList());
     }
+
+    /** {@inheritDoc} */
+    @Override public void prepareMarshal(Marshaller marsh) throws IgniteCheckedException {
+        if (rows == null || rowsBytes != null)
+            return;
+
+        byte[] bytes = U.marshal(marsh, rows);
+
+        if (bytes.length >= COMPRESSION_THRESHOLD) {
+            byte[] zipped = U.zip(bytes, Deflater.BEST_SPEED);
+
+            if (zipped.length < bytes.length) {
+                bytes = zipped;
+                compressed = true;
+            }
+        }
+
+        rowsBytes = bytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void finishUnmarshal(Marshaller marsh, ClassLoader clsLdr) throws IgniteCheckedException {
+        if (rowsBytes != null && rows == null)
+            rows = compressed ? U.unmarshalZip(marsh, rowsBytes, clsLdr) : U.unmarshal(marsh, rowsBytes, clsLdr);
+
+        rowsBytes = null;
+    }
 }
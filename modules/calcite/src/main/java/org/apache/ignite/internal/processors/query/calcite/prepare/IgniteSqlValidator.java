@@ -437,10 +437,6 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
 
     /** */
     private void validateAggregateFunction(SqlCall call, SqlAggFunction aggFunction) {
-        if (!SqlKind.AGGREGATE.contains(aggFunction.kind))
-            throw newValidationError(call,
-                IgniteResource.INSTANCE.unsupportedAggregationFunction(aggFunction.getName()));
-
         switch (aggFunction.kind) {
             case COUNT:
                 if (call.operandCount() > 1)
@@ -461,6 +457,19 @@ public class IgniteSqlValidator extends SqlValidatorImpl {
             case BIT_OR:
             case BIT_XOR:
                 return;
+            case ROW_NUMBER:
+            case RANK:
+            case DENSE_RANK:
+            case PERCENT_RANK:
+            case CUME_DIST:
+            case NTILE:
+            case LAG:
+            case LEAD:
+            case FIRST_VALUE:
+            case LAST_VALUE:
+            case NTH_VALUE:
+                // Window functions, usage only with the OVER clause is checked by the functions itself.
+                return;
             default:
                 throw newValidationError(call,
                     IgniteResource.INSTANCE.unsupportedAggregationFunction(aggFunction.getName()));
@@ -70,6 +70,7 @@ import org.apache.ignite.internal.processors.query.calcite.rule.TableModifySingl
 import org.apache.ignite.internal.processors.query.calcite.rule.UncollectConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.UnionConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.ValuesConverterRule;
+import org.apache.ignite.internal.processors.query.calcite.rule.WindowConverterRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.ExposeIndexRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.FilterScanMergeRule;
 import org.apache.ignite.internal.processors.query.calcite.rule.logical.IgniteMultiJoinOptimizeRule;
@@ -147,7 +148,12 @@ public enum PlannerPhase {
 
         /** {@inheritDoc} */
         @Override public Program getProgram(PlanningContext ctx) {
-            return hep(getRules(ctx));
+            // Window functions are extracted from projects before projects merge and push down.
+            HepProgram sub = new HepProgramBuilder()
+                .addRuleInstance(CoreRules.PROJECT_TO_LOGICAL_PROJECT_AND_WINDOW)
+                .build();
+
+            return hep(getRules(ctx), sub);
         }
     },
 
@@ -286,6 +292,7 @@ public enum PlannerPhase {
                     IndexMinMaxRule.INSTANCE,
                     CollectConverterRule.INSTANCE,
                     UncollectConverterRule.INSTANCE,
+                    WindowConverterRule.INSTANCE,
                     HashAggregateConverterRule.COLOCATED,
                     HashAggregateConverterRule.MAP_REDUCE,
                     SortAggregateConverterRule.COLOCATED,
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.prepare;
+
+import java.util.List;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.util.Service;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Node local cache of query fragments results. Cached result is bound to the update counters of the scanned
+ * partitions, so any data change in these partitions makes the result unreachable.
+ */
+public interface QueryResultCache extends Service {
+    /**
+     * @param ctx Execution context.
+     * @param fragment Serialized fragment.
+     * @param rel Relational tree producing the fragment result.
+     * @return Cache key or {@code null} if the cache is disabled or result of the tree can't be cached.
+     */
+    @Nullable ResultCacheKey key(ExecutionContext<?> ctx, String fragment, IgniteRel rel);
+
+    /**
+     * @param key Cache key.
+     * @return Cached rows or {@code null} if there is no result for the given key.
+     */
+    @Nullable <Row> List<Row> get(ResultCacheKey key);
+
+    /**
+     * Puts rows to the cache. Rows are skipped if partitions were changed since the key was created.
+     *
+     * @param key Cache key.
+     * @param rows Rows.
+     */
+    <Row> void put(ResultCacheKey key, List<Row> rows);
+
+    /**
+     * @return Maximum count of rows to cache per fragment result.
+     */
+    int maxRows();
+
+    /**
+     * Clear cache.
+     */
+    void clear();
+}
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.prepare;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.util.Util;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.cache.context.SessionContextImpl;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
+import org.apache.ignite.internal.processors.query.QueryField;
+import org.apache.ignite.internal.processors.query.calcite.DistributedCalciteConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexBound;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexCount;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteReceiver;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableFunctionScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableModify;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteTableScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.SourceAwareIgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteCacheTable;
+import org.apache.ignite.internal.processors.query.calcite.util.AbstractService;
+import org.apache.ignite.internal.processors.query.schema.AbstractSchemaChangeListener;
+import org.apache.ignite.internal.processors.query.schema.management.IndexDescriptor;
+import org.apache.ignite.internal.util.GridBoundedConcurrentLinkedHashMap;
+import org.apache.ignite.internal.util.GridIntList;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/**
+ * Query result cache. Disabled if {@link DistributedCalciteConfiguration#resultCacheSize()} is zero.
+ */
+public class QueryResultCacheImpl extends AbstractService implements QueryResultCache {
+    /** Result cache metric registry name. */
+    public static final String RESULT_CACHE_METRIC_GROUP_NAME = "sql.calcite.resultCache";
+
+    /** Maximum count of rows to cache per fragment result. */
+    public static final int MAX_ROWS = 10_000;
+
+    /** Checks that expressions are deterministic. */
+    private static final RexShuttle DETERMINISTIC_CHECKER = new RexShuttle() {
+        @Override public RexNode visitCall(RexCall call) {
+            if (!call.getOperator().isDeterministic() || call.getOperator().isDynamicFunction())
+                throw Util.FoundOne.NULL;
+
+            return super.visitCall(call);
+        }
+    };
+
+    /** */
+    private DistributedCalciteConfiguration distrCfg;
+
+    /** Cached results, {@code null} if the cache is disabled. */
+    private volatile Map<ResultCacheKey, List<?>> cache;
+
+    /** */
+    private final LongAdderMetric hits;
+
+    /** */
+    private final LongAdderMetric misses;
+
+    /**
+     * @param ctx Kernal context.
+     */
+    public QueryResultCacheImpl(GridKernalContext ctx) {
+        super(ctx);
+
+        ctx.internalSubscriptionProcessor().registerSchemaChangeListener(new SchemaListener());
+
+        MetricRegistryImpl registry = ctx.metric().registry(RESULT_CACHE_METRIC_GROUP_NAME);
+
+        hits = registry.longAdderMetric("hits", "Count of hits for query results cache");
+        misses = registry.longAdderMetric("misses", "Count of misses for query results cache");
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onStart(GridKernalContext ctx) {
+        distrCfg = queryProcessor(ctx).distributedConfiguration();
+
+        clear(); // Create cache with configured size.
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable ResultCacheKey key(ExecutionContext<?> ctx, String fragment, IgniteRel rel) {
+        if (cache == null || ctx.getQryTxEntries() != null || ctx.unwrap(SessionContextImpl.class) != null)
+            return null;
+
+        for (Object param : ctx.parameters().values()) {
+            if (param != null && param.getClass().isArray())
+                return null;
+        }
+
+        ScansCollector collector = new ScansCollector();
+
+        collector.visit(rel);
+
+        if (!collector.cacheable)
+            return null;
+
+        GridIntList parts = new GridIntList();
+        List<GridDhtLocalPartition> locParts = new ArrayList<>();
+
+        for (SourceAwareIgniteRel scan : collector.scans) {
+            IgniteCacheTable tbl = scan.getTable().unwrap(IgniteCacheTable.class);
+
+            if (tbl == null)
+                return null;
+
+            GridCacheContext<?, ?> cctx = tbl.descriptor().cacheContext();
+            ColocationGroup grp = ctx.group(scan.sourceId());
+
+            for (int p : partitions(cctx, grp.partitions(ctx.localNodeId()), ctx.topologyVersion())) {
+                GridDhtLocalPartition part = cctx.topology().localPartition(p);
+
+                if (part == null || part.state() != OWNING)
+                    return null;
+
+                parts.add(cctx.cacheId());
+                parts.add(p);
+                locParts.add(part);
+            }
+        }
+
+        return new ResultCacheKey(fragment, new HashMap<>(ctx.parameters()), ctx.topologyVersion(), parts.arrayCopy(),
+            locParts);
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable <Row> List<Row> get(ResultCacheKey key) {
+        Map<ResultCacheKey, List<?>> cache = this.cache;
+
+        List<?> rows = cache == null ? null : cache.get(key);
+
+        if (rows != null)
+            hits.increment();
+        else
+            misses.increment();
+
+        return (List<Row>)rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override public <Row> void put(ResultCacheKey key, List<Row> rows) {
+        Map<ResultCacheKey, List<?>> cache = this.cache;
+
+        if (cache != null && rows.size() <= MAX_ROWS && key.valid())
+            cache.put(key, rows);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int maxRows() {
+        return MAX_ROWS;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear() {
+        int size = distrCfg == null ? DistributedCalciteConfiguration.DFLT_RESULT_CACHE_SIZE : distrCfg.resultCacheSize();
+
+        cache = size > 0 ? new GridBoundedConcurrentLinkedHashMap<>(size) : null;
+    }
+
+    /**
+     * Partitions to scan on the local node, the same as scanned by the cache scans.
+     */
+    private static int[] partitions(GridCacheContext<?, ?> cctx, @Nullable int[] explicitParts, AffinityTopologyVersion topVer) {
+        if (cctx.isReplicated()) {
+            int[] res = new int[cctx.affinity().partitions()];
+
+            for (int i = 0; i < res.length; i++)
+                res[i] = i;
+
+            return res;
+        }
+
+        if (explicitParts != null)
+            return explicitParts;
+
+        Collection<Integer> primaryParts = cctx.affinity().primaryPartitions(cctx.localNodeId(), topVer);
+
+        return primaryParts.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /** Collects scans of the tree and checks whether the tree result can be cached. */
+    private static class ScansCollector extends IgniteRelShuttle {
+        /** */
+        private final List<SourceAwareIgniteRel> scans = new ArrayList<>();
+
+        /** */
+        private boolean cacheable = true;
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteReceiver rel) {
+            cacheable = false;
+
+            return rel;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteTableModify rel) {
+            cacheable = false;
+
+            return rel;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteTableFunctionScan rel) {
+            cacheable = false;
+
+            return rel;
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteTableScan rel) {
+            scans.add(rel);
+
+            return processNode(rel);
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteIndexScan rel) {
+            scans.add(rel);
+
+            return processNode(rel);
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteIndexCount rel) {
+            scans.add(rel);
+
+            return processNode(rel);
+        }
+
+        /** {@inheritDoc} */
+        @Override public IgniteRel visit(IgniteIndexBound rel) {
+            scans.add(rel);
+
+            return processNode(rel);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected IgniteRel processNode(IgniteRel rel) {
+            if (!cacheable)
+                return rel;
+
+            try {
+                if (rel instanceof ProjectableFilterableTableScan) {
+                    ProjectableFilterableTableScan scan = (ProjectableFilterableTableScan)rel;
+
+                    DETERMINISTIC_CHECKER.apply(scan.condition());
+                    DETERMINISTIC_CHECKER.apply(scan.projects());
+                }
+                else
+                    rel.accept(DETERMINISTIC_CHECKER);
+            }
+            catch (Util.FoundOne e) {
+                cacheable = false;
+
+                return rel;
+            }
+
+            return super.processNode(rel);
+        }
+    }
+
+    /** Schema change listener. */
+    private class SchemaListener extends AbstractSchemaChangeListener {
+        /** {@inheritDoc} */
+        @Override public void onSchemaDropped(String schemaName) {
+            clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onSqlTypeDropped(
+            String schemaName,
+            GridQueryTypeDescriptor typeDescriptor,
+            boolean destroy
+        ) {
+            clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onIndexCreated(
+            String schemaName,
+            String tblName,
+            String idxName,
+            IndexDescriptor idxDesc
+        ) {
+            clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onIndexDropped(String schemaName, String tblName, String idxName) {
+            clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onColumnsAdded(
+            String schemaName,
+            GridQueryTypeDescriptor typeDesc,
+            GridCacheContextInfo<?, ?> cacheInfo,
+            List<QueryField> cols
+        ) {
+            clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onColumnsDropped(
+            String schemaName,
+            GridQueryTypeDescriptor typeDesc,
+            GridCacheContextInfo<?, ?> cacheInfo,
+            List<String> cols
+        ) {
+            clear();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.prepare;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/**
+ * Key of the query fragment result. Besides the fragment and parameters, contains update counters of all the local
+ * partitions scanned by the fragment.
+ */
+public class ResultCacheKey {
+    /** */
+    private final String fragment;
+
+    /** */
+    private final Map<String, Object> params;
+
+    /** */
+    private final AffinityTopologyVersion topVer;
+
+    /** Pairs of cache ID and partition number. */
+    private final int[] parts;
+
+    /** Update counters of the partitions. */
+    private final long[] cntrs;
+
+    /** Local partitions to validate counters on put. */
+    private final List<GridDhtLocalPartition> locParts;
+
+    /**
+     * @param fragment Serialized fragment.
+     * @param params Dynamic parameters.
+     * @param topVer Topology version.
+     * @param parts Pairs of cache ID and partition number.
+     * @param locParts Local partitions.
+     */
+    public ResultCacheKey(
+        String fragment,
+        Map<String, Object> params,
+        AffinityTopologyVersion topVer,
+        int[] parts,
+        List<GridDhtLocalPartition> locParts
+    ) {
+        assert parts.length == locParts.size() * 2;
+
+        this.fragment = fragment;
+        this.params = params;
+        this.topVer = topVer;
+        this.parts = parts;
+        this.locParts = locParts;
+
+        cntrs = counters(locParts);
+    }
+
+    /**
+     * @return {@code True} if there were no updates of the partitions since the key was created.
+     */
+    public boolean valid() {
+        for (GridDhtLocalPartition part : locParts) {
+            if (part.state() != OWNING)
+                return false;
+        }
+
+        return Arrays.equals(cntrs, counters(locParts));
+    }
+
+    /** */
+    private static long[] counters(List<GridDhtLocalPartition> locParts) {
+        long[] res = new long[locParts.size()];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = locParts.get(i).updateCounter();
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        ResultCacheKey key = (ResultCacheKey)o;
+
+        return fragment.equals(key.fragment)
+            && topVer.equals(key.topVer)
+            && params.equals(key.params)
+            && Arrays.equals(parts, key.parts)
+            && Arrays.equals(cntrs, key.cntrs);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        int result = fragment.hashCode();
+        result = 31 * result + topVer.hashCode();
+        result = 31 * result + params.hashCode();
+        result = 31 * result + Arrays.hashCode(parts);
+        result = 31 * result + Arrays.hashCode(cntrs);
+        return result;
+    }
+}
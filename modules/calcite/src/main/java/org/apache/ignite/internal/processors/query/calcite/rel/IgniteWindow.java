@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rel;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowExclusion;
+import org.apache.calcite.sql.SqlExplainLevel;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.processors.query.calcite.externalize.RelInputEx;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.processors.query.calcite.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistribution;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
+import org.apache.ignite.internal.processors.query.calcite.trait.TraitsAwareIgniteRel;
+import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+
+import static org.apache.ignite.internal.processors.query.calcite.util.Commons.maxPrefix;
+
+/**
+ * Window relational operator with a single window group. Input rows are expected to be sorted by partition
+ * keys (in any order and direction) followed by the order keys of the window group, so the window can be
+ * computed in a streaming manner, partition by partition.
+ * Several window groups of the logical window are represented as a chain of {@code IgniteWindow} nodes.
+ */
+public class IgniteWindow extends Window implements TraitsAwareIgniteRel {
+    /**
+     * Creates a window relational operator.
+     *
+     * @param cluster Cluster.
+     * @param traitSet Trait set.
+     * @param input Input relational expression.
+     * @param constants Constants, referenced by window functions and bounds as input fields after the input row fields.
+     * @param rowType Output row type (input fields followed by window function results).
+     * @param grp Window group.
+     */
+    public IgniteWindow(
+        RelOptCluster cluster,
+        RelTraitSet traitSet,
+        RelNode input,
+        List<RexLiteral> constants,
+        RelDataType rowType,
+        Group grp
+    ) {
+        super(cluster, traitSet, input, constants, rowType, ImmutableList.of(grp));
+    }
+
+    /** */
+    public IgniteWindow(RelInput input) {
+        this(
+            input.getCluster(),
+            input.getTraitSet().replace(IgniteConvention.INSTANCE),
+            input.getInput(),
+            Commons.transform(input.getExpressionList("constants"), c -> (RexLiteral)c),
+            input.getRowType("rowType"),
+            group((RelInputEx)input)
+        );
+    }
+
+    /** @return Window group. */
+    public Group group() {
+        return groups.get(0);
+    }
+
+    /**
+     * @return Collation of the input required by the window group: partition keys followed by the order keys.
+     */
+    public RelCollation collation() {
+        Group grp = group();
+
+        List<RelFieldCollation> fields = new ArrayList<>(grp.keys.cardinality() + grp.orderKeys.getFieldCollations().size());
+
+        for (int key : grp.keys)
+            fields.add(TraitUtils.createFieldCollation(key));
+
+        for (RelFieldCollation fieldCollation : grp.orderKeys.getFieldCollations()) {
+            if (!grp.keys.get(fieldCollation.getFieldIndex()))
+                fields.add(fieldCollation);
+        }
+
+        return RelCollations.of(fields);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Window copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new IgniteWindow(getCluster(), traitSet, sole(inputs), constants, rowType, group());
+    }
+
+    /** {@inheritDoc} */
+    @Override public Window copy(List<RexLiteral> constants) {
+        return new IgniteWindow(getCluster(), getTraitSet(), getInput(), constants, rowType, group());
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteWindow(cluster, getTraitSet(), sole(inputs), constants, rowType, group());
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelWriter explainTerms(RelWriter pw) {
+        RelWriter writer = super.explainTerms(pw);
+
+        if (pw.getDetailLevel() != SqlExplainLevel.ALL_ATTRIBUTES)
+            return writer;
+
+        Group grp = group();
+
+        return writer
+            .item("rowType", rowType)
+            .item("constants", constants)
+            .item("partition", grp.keys)
+            .item("order", grp.orderKeys)
+            .item("rows", grp.isRows)
+            .item("lower", grp.lowerBound)
+            .item("upper", grp.upperBound)
+            .item("exclude", grp.exclude)
+            .item("aggs", grp.getAggregateCalls(this));
+    }
+
+    /** {@inheritDoc} */
+    @Override public Pair<RelTraitSet, List<RelTraitSet>> passThroughCollation(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        // Required collation on partition keys can be satisfied by changing partition keys order and directions.
+        RelCollation required = TraitUtils.collation(nodeTraits);
+        ImmutableBitSet keys = group().keys;
+        RelCollation collation = collation();
+
+        if (!required.getFieldCollations().isEmpty() && keys.contains(ImmutableBitSet.of(required.getKeys()))) {
+            List<RelFieldCollation> fields = new ArrayList<>(required.getFieldCollations());
+
+            List<RelFieldCollation> collationFields = collation.getFieldCollations();
+
+            for (RelFieldCollation field : collationFields.subList(0, keys.cardinality())) {
+                if (!required.getKeys().contains(field.getFieldIndex()))
+                    fields.add(field);
+            }
+
+            fields.addAll(collationFields.subList(keys.cardinality(), collationFields.size()));
+
+            collation = RelCollations.of(fields);
+        }
+
+        return Pair.of(nodeTraits.replace(collation), ImmutableList.of(inTraits.get(0).replace(collation)));
+    }
+
+    /** {@inheritDoc} */
+    @Override public Pair<RelTraitSet, List<RelTraitSet>> passThroughDistribution(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        IgniteDistribution distr = TraitUtils.distribution(nodeTraits);
+
+        if (distr == IgniteDistributions.single() || distr.function().correlated() || colocated(distr))
+            return Pair.of(nodeTraits, ImmutableList.of(inTraits.get(0).replace(distr)));
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveRewindability(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(TraitUtils.rewindability(inTraits.get(0))), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveDistribution(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        IgniteDistribution distr = TraitUtils.distribution(inTraits.get(0));
+
+        // Window functions append fields to the input row, so input distribution keys are kept as is.
+        if (distr.satisfies(IgniteDistributions.single()) || colocated(distr))
+            return ImmutableList.of(Pair.of(nodeTraits.replace(distr), inTraits));
+
+        return ImmutableList.of();
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCollation(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        RelCollation inCollation = TraitUtils.collation(inTraits.get(0));
+        ImmutableBitSet keys = group().keys;
+
+        if (maxPrefix(inCollation.getKeys(), keys.asSet()).size() < keys.cardinality())
+            return ImmutableList.of();
+
+        List<RelFieldCollation> inFields = inCollation.getFieldCollations();
+
+        RelCollation orderCollation = RelCollations.of(inFields.subList(keys.cardinality(), inFields.size()));
+
+        if (!orderCollation.satisfies(RelCollations.of(orderFields())))
+            return ImmutableList.of();
+
+        return ImmutableList.of(Pair.of(nodeTraits.replace(inCollation), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCorrelation(
+        RelTraitSet nodeTraits,
+        List<RelTraitSet> inTraits
+    ) {
+        return ImmutableList.of(Pair.of(nodeTraits.replace(TraitUtils.correlation(inTraits.get(0))), inTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        IgniteCostFactory costFactory = (IgniteCostFactory)planner.getCostFactory();
+
+        double rows = mq.getRowCount(getInput());
+
+        double cpuCost = rows * (IgniteCost.ROW_PASS_THROUGH_COST + IgniteCost.ROW_COMPARISON_COST)
+            + rows * group().aggCalls.size() * IgniteCost.ROW_PASS_THROUGH_COST;
+
+        // Only rows of the current window partition are kept in memory.
+        Double partitions = group().keys.isEmpty() ? null : mq.getDistinctRowCount(getInput(), group().keys, null);
+
+        double partRows = partitions == null || partitions < 1 ? rows : rows / partitions;
+
+        double memory = partRows * getRowType().getFieldCount() * IgniteCost.AVERAGE_FIELD_SIZE;
+
+        return costFactory.makeCost(rows, cpuCost, 0, memory, 0);
+    }
+
+    /**
+     * @return {@code True} if rows of each window partition reside on the same node for the given distribution.
+     */
+    private boolean colocated(IgniteDistribution distr) {
+        if (distr.getType() != RelDistribution.Type.HASH_DISTRIBUTED || distr.getKeys().isEmpty())
+            return false;
+
+        for (Integer key : distr.getKeys()) {
+            if (!group().keys.get(key))
+                return false;
+        }
+
+        return true;
+    }
+
+    /** @return Order keys, which are not partition keys. */
+    private List<RelFieldCollation> orderFields() {
+        List<RelFieldCollation> fields = new ArrayList<>();
+
+        for (RelFieldCollation fieldCollation : group().orderKeys.getFieldCollations()) {
+            if (!group().keys.get(fieldCollation.getFieldIndex()))
+                fields.add(fieldCollation);
+        }
+
+        return fields;
+    }
+
+    /** */
+    private static Group group(RelInputEx input) {
+        RelDataType inRowType = input.getInput().getRowType();
+        List<RexNode> constants = input.getExpressionList("constants");
+        List<AggregateCall> aggCalls = input.getAggregateCalls("aggs");
+        RexBuilder rexBuilder = input.getCluster().getRexBuilder();
+
+        List<RexWinAggCall> winAggCalls = new ArrayList<>(aggCalls.size());
+
+        for (int i = 0; i < aggCalls.size(); i++) {
+            AggregateCall aggCall = aggCalls.get(i);
+
+            List<RexNode> operands = Commons.transform(aggCall.getArgList(), arg -> arg < inRowType.getFieldCount()
+                ? rexBuilder.makeInputRef(input.getInput(), arg)
+                : rexBuilder.makeInputRef(constants.get(arg - inRowType.getFieldCount()).getType(), arg));
+
+            winAggCalls.add(new RexWinAggCall(aggCall.getAggregation(), aggCall.getType(), operands, i,
+                aggCall.isDistinct(), aggCall.ignoreNulls()));
+        }
+
+        return new Group(
+            input.getBitSet("partition"),
+            input.getBoolean("rows", false),
+            input.getWindowBound("lower"),
+            input.getWindowBound("upper"),
+            input.getEnum("exclude", RexWindowExclusion.class),
+            input.getCollation("order"),
+            winAggCalls
+        );
+    }
+}
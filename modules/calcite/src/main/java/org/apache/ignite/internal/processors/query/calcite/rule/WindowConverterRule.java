@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.logical.LogicalWindow;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.rex.RexWindowBounds;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteConvention;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+
+/**
+ * Converts logical window to a chain of {@link IgniteWindow} nodes, one node per window group.
+ */
+public class WindowConverterRule extends AbstractIgniteConverterRule<LogicalWindow> {
+    /** */
+    public static final RelOptRule INSTANCE = new WindowConverterRule();
+
+    /** */
+    private WindowConverterRule() {
+        super(LogicalWindow.class, "WindowConverterRule");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalWindow window) {
+        RelOptCluster cluster = window.getCluster();
+        RelDataTypeFactory typeFactory = cluster.getTypeFactory();
+
+        List<RelDataTypeField> outFields = window.getRowType().getFieldList();
+        int inFieldsCnt = window.getInput().getRowType().getFieldCount();
+
+        RelNode input = window.getInput();
+        IgniteWindow res = null;
+
+        for (Window.Group grp : window.groups) {
+            for (Window.RexWinAggCall aggCall : grp.aggCalls) {
+                if (aggCall.ignoreNulls)
+                    return null;
+            }
+
+            // Each next window in the chain gets results of the previous ones as additional input fields,
+            // so references to constants should be shifted. Offsets of bounds are replaced with constant values.
+            RexShuttle shuttle = new ConstantsShuttle(inFieldsCnt, input.getRowType().getFieldCount() - inFieldsCnt);
+
+            // Ordinals of calls should refer to output fields of the window with a single group.
+            List<Window.RexWinAggCall> aggCalls = new ArrayList<>(grp.aggCalls.size());
+
+            for (Window.RexWinAggCall c : grp.aggCalls) {
+                aggCalls.add(new Window.RexWinAggCall((SqlAggFunction)c.getOperator(), c.getType(),
+                    shuttle.apply(c.getOperands()), aggCalls.size(), c.distinct, c.ignoreNulls));
+            }
+
+            Window.Group grp0 = new Window.Group(
+                grp.keys,
+                grp.isRows,
+                inlineOffset(window, grp.lowerBound, inFieldsCnt),
+                inlineOffset(window, grp.upperBound, inFieldsCnt),
+                grp.exclude,
+                grp.orderKeys,
+                aggCalls
+            );
+
+            RelDataTypeFactory.Builder rowTypeBuilder = typeFactory.builder();
+
+            rowTypeBuilder.addAll(input.getRowType().getFieldList());
+            rowTypeBuilder.addAll(outFields.subList(input.getRowType().getFieldCount(),
+                input.getRowType().getFieldCount() + grp.aggCalls.size()));
+
+            RelDataType rowType = rowTypeBuilder.build();
+
+            RelTraitSet traits = cluster.traitSetOf(IgniteConvention.INSTANCE)
+                .replace(IgniteDistributions.single());
+
+            traits = traits.replace(new IgniteWindow(cluster, traits, input, window.constants, rowType, grp0).collation());
+
+            res = new IgniteWindow(cluster, traits, convert(input, traits), window.constants, rowType, grp0);
+
+            input = res;
+        }
+
+        return res;
+    }
+
+    /** */
+    private static RexWindowBound inlineOffset(Window window, RexWindowBound bound, int inFieldsCnt) {
+        if (bound.isUnbounded() || bound.isCurrentRow() || !(bound.getOffset() instanceof RexInputRef))
+            return bound;
+
+        int idx = ((RexInputRef)bound.getOffset()).getIndex();
+
+        if (idx < inFieldsCnt)
+            return bound;
+
+        RexNode offset = window.constants.get(idx - inFieldsCnt);
+
+        return bound.isPreceding() ? RexWindowBounds.preceding(offset) : RexWindowBounds.following(offset);
+    }
+
+    /** Shifts references to window constants. */
+    private static class ConstantsShuttle extends RexShuttle {
+        /** */
+        private final int inFieldsCnt;
+
+        /** */
+        private final int shift;
+
+        /** */
+        private ConstantsShuttle(int inFieldsCnt, int shift) {
+            this.inFieldsCnt = inFieldsCnt;
+            this.shift = shift;
+        }
+
+        /** {@inheritDoc} */
+        @Override public RexNode visitInputRef(RexInputRef ref) {
+            return ref.getIndex() < inFieldsCnt ? ref : new RexInputRef(ref.getIndex() + shift, ref.getType());
+        }
+    }
+}
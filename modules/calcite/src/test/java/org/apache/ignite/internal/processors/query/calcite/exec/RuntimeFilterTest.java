@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** */
+public class RuntimeFilterTest {
+    /** */
+    private static final int KEYS_CNT = 10_000;
+
+    /** */
+    @Test
+    public void testNoFalseNegatives() {
+        RuntimeFilter filter = new RuntimeFilter(new int[] {2, 0}, KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            filter.add(key(i, "val" + i).hashCode());
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertTrue(filter.mightContain(row(i, "val" + i), ArrayRowHandler.INSTANCE));
+    }
+
+    /** */
+    @Test
+    public void testFalsePositives() {
+        RuntimeFilter filter = new RuntimeFilter(new int[] {2, 0}, KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            filter.add(key(i, "val" + i).hashCode());
+
+        int falsePositives = 0;
+
+        for (int i = KEYS_CNT; i < KEYS_CNT * 11; i++) {
+            if (filter.mightContain(row(i, "val" + i), ArrayRowHandler.INSTANCE))
+                falsePositives++;
+        }
+
+        assertTrue("Too many false positives: " + falsePositives, falsePositives < KEYS_CNT * 10 / 20);
+    }
+
+    /** */
+    @Test
+    public void testEmptyFilter() {
+        RuntimeFilter filter = new RuntimeFilter(new int[] {0}, 0);
+
+        assertFalse(filter.mightContain(row(1, "val1"), ArrayRowHandler.INSTANCE));
+    }
+
+    /** */
+    @Test
+    public void testSerializedFilter() {
+        RuntimeFilter filter = new RuntimeFilter(new int[] {2, 0}, KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            filter.add(key(i, "val" + i).hashCode());
+
+        RuntimeFilter copy = new RuntimeFilter(filter.keys(), filter.bits().clone());
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertTrue(copy.mightContain(row(i, "val" + i), ArrayRowHandler.INSTANCE));
+    }
+
+    /** Build side key with the same columns as the probe row key columns. */
+    private static GroupKey<Object[]> key(int id, String val) {
+        return GroupKey.of(new Object[] {id, val}, ArrayRowHandler.INSTANCE);
+    }
+
+    /** Probe side row with key columns at 2 and 0 positions. */
+    private static Object[] row(int id, String val) {
+        return new Object[] {val, "other" + id, id};
+    }
+}
@@ -362,6 +362,7 @@ public class AbstractExecutionTest extends GridCommonAbstractTest {
             ArrayRowHandler.INSTANCE,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
             0,
             ImmutableMap.of(),
             null
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -499,6 +500,84 @@ public class HashAggregateSingleGroupExecutionTest extends AbstractExecutionTest
         assertFalse(root.hasNext());
     }
 
+    /** */
+    @Test
+    public void batchMode() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class, int.class);
+
+        int rowsCnt = IN_BUFFER_SIZE * 10 + 1;
+
+        List<Object[]> rows = new ArrayList<>(rowsCnt);
+
+        for (int i = 0; i < rowsCnt; i++)
+            rows.add(row(i % 10, i));
+
+        ScanNode<Object[]> scan = new ScanNode<Object[]>(ctx, rowType, rows) {
+            @Override protected boolean batchMode() {
+                return true;
+            }
+        };
+
+        FilterNode<Object[]> filter = new FilterNode<Object[]>(ctx, rowType, r -> (Integer)r[1] % 3 == 0) {
+            @Override protected boolean batchMode() {
+                return true;
+            }
+        };
+
+        filter.register(scan);
+
+        ProjectNode<Object[]> project = new ProjectNode<>(ctx, rowType, r -> row(r[0], (Integer)r[1] / 3));
+
+        project.register(filter);
+
+        AggregateCall cnt = AggregateCall.create(
+            SqlStdOperatorTable.COUNT,
+            false,
+            false,
+            false,
+            ImmutableIntList.of(),
+            -1,
+            RelCollations.EMPTY,
+            tf.createJavaType(int.class),
+            null);
+
+        AggregateCall sum = AggregateCall.create(
+            SqlStdOperatorTable.SUM,
+            false,
+            false,
+            false,
+            ImmutableIntList.of(1),
+            -1,
+            RelCollations.EMPTY,
+            tf.createJavaType(int.class),
+            null);
+
+        RelDataType aggType = TypeUtils.createRowType(tf, int.class, int.class);
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+            ctx,
+            aggType,
+            SINGLE,
+            ImmutableList.of(ImmutableBitSet.of()),
+            ctx.expressionFactory().accumulatorsFactory(SINGLE, F.asList(cnt, sum), rowType),
+            rowFactory()
+        );
+
+        agg.register(project);
+
+        RootNode<Object[]> root = new RootNode<>(ctx, aggType);
+        root.register(agg);
+
+        int expCnt = (rowsCnt + 2) / 3;
+
+        assertTrue(root.hasNext());
+        Object[] res = root.next();
+        assertEquals(expCnt, res[0]);
+        assertEquals(expCnt * (expCnt - 1) / 2, res[1]);
+        assertFalse(root.hasNext());
+    }
+
     /** */
     protected Supplier<List<AccumulatorWrapper<Object[]>>> accFactory(
         ExecutionContext<Object[]> ctx,
@@ -224,6 +224,47 @@ public class MemoryTrackerTest extends GridCommonAbstractTest {
         assertEquals(899_000L + ExecutionNodeMemoryTracker.BATCH_SIZE * 2, globalTracker.allocated());
     }
 
+    /** */
+    @Test
+    public void testTryAllocate() {
+        MemoryTracker globalTracker = new GlobalMemoryTracker(1_000_000L);
+        MemoryTracker qryTracker1 = new QueryMemoryTracker(globalTracker, 900_000L);
+        MemoryTracker qryTracker2 = new QueryMemoryTracker(globalTracker, 900_000L);
+
+        assertTrue(qryTracker1.tryMemoryAllocated(800_000L));
+        assertFalse(qryTracker1.tryMemoryAllocated(200_000L));
+
+        assertEquals(800_000L, qryTracker1.allocated());
+
+        // Global quota exceeded, query tracker should not keep failed allocation.
+        assertFalse(qryTracker2.tryMemoryAllocated(300_000L));
+
+        assertEquals(0L, qryTracker2.allocated());
+        assertEquals(800_000L, globalTracker.allocated());
+
+        qryTracker1.reset();
+
+        RowTracker<Object[]> rowTracker = new ExecutionNodeMemoryTracker<>(qryTracker2, 1_000L);
+
+        Object[] row = new Object[1];
+
+        assertTrue(qryTracker2.tryMemoryAllocated(899_000L));
+        assertFalse(rowTracker.tryRowAdded(row));
+
+        assertEquals(899_000L, qryTracker2.allocated());
+
+        qryTracker2.onMemoryReleased(899_000L);
+
+        assertTrue(rowTracker.tryRowAdded(row));
+
+        assertEquals(ExecutionNodeMemoryTracker.BATCH_SIZE, qryTracker2.allocated());
+
+        rowTracker.reset();
+
+        assertEquals(0L, qryTracker2.allocated());
+        assertEquals(0L, globalTracker.allocated());
+    }
+
     /** */
     @Test
     public void testObjectSizeCalculator() {
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cache.query.FieldsQueryCursor;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+/**
+ * Checks that queries, exceeding memory quota, are executed with disk spilling enabled.
+ */
+public class DiskSpillingIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final long GLOBAL_MEM_QUOTA = 10_000_000L;
+
+    /** */
+    private static final long QRY_MEMORY_QUOTA = 1_000_000L;
+
+    /** */
+    private static final int ROWS_CNT = 2000;
+
+    /** {@inheritDoc} */
+    @Override protected int nodeCount() {
+        return 2;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setSqlConfiguration(
+            new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()
+                .setGlobalMemoryQuota(GLOBAL_MEM_QUOTA).setQueryMemoryQuota(QRY_MEMORY_QUOTA)
+                .setDiskSpillingEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE tbl (id INT, b VARBINARY) WITH TEMPLATE=REPLICATED");
+        sql("CREATE TABLE tbl2 (id INT, b VARBINARY) WITH TEMPLATE=PARTITIONED");
+
+        for (int i = 0; i < ROWS_CNT; i++) {
+            sql("INSERT INTO tbl VALUES (?, ?)", i, new byte[1000]);
+            sql("INSERT INTO tbl2 VALUES (?, ?)", i + ROWS_CNT / 2, new byte[1000]);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        assertTrue("Spill files are not removed", GridTestUtils.waitForCondition(this::spillFilesRemoved, 5_000L));
+    }
+
+    /** */
+    @Test
+    public void testSortNode() {
+        checkPlan("SELECT id, b FROM tbl ORDER BY id DESC", "IgniteSort");
+
+        List<Integer> ids = ids("SELECT id, b FROM tbl ORDER BY id DESC");
+
+        assertEquals(ROWS_CNT, ids.size());
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            assertEquals(ROWS_CNT - i - 1, (int)ids.get(i));
+
+        // Map-reduce.
+        checkPlan("SELECT id, b FROM tbl2 ORDER BY id", "IgniteSort");
+
+        ids = ids("SELECT id, b FROM tbl2 ORDER BY id");
+
+        assertEquals(ROWS_CNT, ids.size());
+
+        for (int i = 0; i < ROWS_CNT; i++)
+            assertEquals(i + ROWS_CNT / 2, (int)ids.get(i));
+    }
+
+    /** */
+    @Test
+    public void testHashJoinNode() {
+        String sql = "SELECT /*+ HASH_JOIN */ tbl.id, tbl.b, tbl2.id, tbl2.b FROM tbl %s JOIN tbl2 ON tbl.id = tbl2.id";
+
+        checkPlan(String.format(sql, "INNER"), "IgniteHashJoin");
+
+        assertEquals(ROWS_CNT / 2, ids(String.format(sql, "INNER")).size());
+        assertEquals(ROWS_CNT, ids(String.format(sql, "LEFT")).size());
+        assertEquals(ROWS_CNT, ids(String.format(sql, "RIGHT")).size());
+        assertEquals(ROWS_CNT * 3 / 2, ids(String.format(sql, "FULL")).size());
+
+        // Join with non-equi condition.
+        sql = "SELECT /*+ HASH_JOIN */ tbl.id, tbl.b, tbl2.id, tbl2.b FROM tbl FULL JOIN tbl2 " +
+            "ON tbl.id = tbl2.id AND tbl.id % 2 = 0";
+
+        checkPlan(sql, "IgniteHashJoin");
+
+        assertEquals(ROWS_CNT * 7 / 4, ids(sql).size());
+
+        // Check joined values.
+        List<Integer> ids = ids("SELECT /*+ HASH_JOIN */ tbl.id, tbl.b, tbl2.id, tbl2.b FROM tbl JOIN tbl2 " +
+            "ON tbl.id = tbl2.id WHERE tbl.id = tbl2.id ORDER BY tbl.id");
+
+        assertEquals(ROWS_CNT / 2, ids.size());
+
+        for (int i = 0; i < ROWS_CNT / 2; i++)
+            assertEquals(i + ROWS_CNT / 2, (int)ids.get(i));
+    }
+
+    /** */
+    @Test
+    public void testHashAggregateNode() {
+        // Colocated.
+        checkPlan("SELECT id, ANY_VALUE(b) FROM tbl GROUP BY id", "IgniteColocatedHashAggregate");
+
+        assertEquals(ROWS_CNT, ids("SELECT id, ANY_VALUE(b) FROM tbl GROUP BY id").size());
+
+        List<List<?>> res = sql("SELECT cnt, COUNT(*) FROM " +
+            "(SELECT id / 2, COUNT(*) AS cnt, ANY_VALUE(b) FROM tbl GROUP BY id / 2) GROUP BY cnt");
+
+        assertEquals(1, res.size());
+        assertEquals(2L, res.get(0).get(0));
+        assertEquals((long)ROWS_CNT / 2, res.get(0).get(1));
+
+        // Map-reduce.
+        checkPlan("SELECT id, ANY_VALUE(b) FROM tbl2 GROUP BY id", "IgniteReduceHashAggregate");
+
+        assertEquals(ROWS_CNT, ids("SELECT id, ANY_VALUE(b) FROM tbl2 GROUP BY id").size());
+
+        res = sql("SELECT cnt, COUNT(*) FROM " +
+            "(SELECT id / 2, COUNT(*) AS cnt, ANY_VALUE(b) FROM tbl2 GROUP BY id / 2) GROUP BY cnt");
+
+        assertEquals(1, res.size());
+        assertEquals(2L, res.get(0).get(0));
+        assertEquals((long)ROWS_CNT / 2, res.get(0).get(1));
+    }
+
+    /** */
+    private void checkPlan(String sql, String subPlan) {
+        String plan = (String)sql("EXPLAIN PLAN FOR " + sql).get(0).get(0);
+
+        assertTrue("Unexpected plan: " + plan, plan.contains(subPlan));
+    }
+
+    /**
+     * Fetches rows one by one (to avoid result set materialization, which is limited by memory quota).
+     *
+     * @return Values of the first column.
+     */
+    private List<Integer> ids(String sql) {
+        List<Integer> res = new ArrayList<>();
+
+        try (FieldsQueryCursor<List<?>> cur = queryProcessor(client).query(queryContext(), "PUBLIC", sql).get(0)) {
+            for (List<?> row : cur)
+                res.add((Integer)row.get(0));
+        }
+
+        return res;
+    }
+
+    /** */
+    private boolean spillFilesRemoved() {
+        try {
+            File[] nodeDirs = U.resolveWorkDirectory(U.defaultWorkDirectory(), SpillManager.SPILL_DIR, false).listFiles();
+
+            if (nodeDirs == null)
+                return true;
+
+            for (File nodeDir : nodeDirs) {
+                File[] files = nodeDir.listFiles();
+
+                if (files != null && files.length > 0)
+                    return false;
+            }
+
+            return true;
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+}
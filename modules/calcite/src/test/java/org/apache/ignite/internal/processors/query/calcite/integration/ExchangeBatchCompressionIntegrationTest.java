@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_IO_BATCH_COMPRESSION;
+
+/**
+ * Exchange of compressed batches.
+ */
+@WithSystemProperty(key = IGNITE_CALCITE_EXEC_IO_BATCH_COMPRESSION, value = "true")
+public class ExchangeBatchCompressionIntegrationTest extends ExchangeBatchIntegrationTest {
+    /** */
+    @Test
+    public void testCompressedTraffic() {
+        sql("INSERT INTO t SELECT x, REPEAT('a', ?) FROM TABLE(SYSTEM_RANGE(1, 500))", WIDE_ROW_SIZE);
+
+        long sent = sentBytes();
+
+        assertEquals(500, sql("SELECT val FROM t").size());
+
+        // Rows take about 5Mb uncompressed.
+        long traffic = sentBytes() - sent;
+
+        assertTrue("Unexpected traffic: " + traffic, traffic < 500_000);
+    }
+
+    /** */
+    private long sentBytes() {
+        long res = 0;
+
+        for (int i = 0; i < nodeCount(); i++)
+            res += ((TcpCommunicationSpi)grid(i).configuration().getCommunicationSpi()).getSentBytesCount();
+
+        return res;
+    }
+}
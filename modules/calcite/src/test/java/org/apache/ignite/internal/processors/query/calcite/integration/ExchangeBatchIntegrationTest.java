@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Exchange of batches with rows of different width.
+ */
+public class ExchangeBatchIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    protected static final int WIDE_ROW_SIZE = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE t(id INT PRIMARY KEY, val VARCHAR)");
+    }
+
+    /** Batches of wide rows are cut by size. */
+    @Test
+    public void testWideRows() {
+        sql("INSERT INTO t SELECT x, REPEAT('a', ?) || x FROM TABLE(SYSTEM_RANGE(1, 500))", WIDE_ROW_SIZE);
+
+        List<List<?>> res = sql("SELECT id, val FROM t ORDER BY id");
+
+        assertEquals(500, res.size());
+
+        for (int i = 0; i < res.size(); i++) {
+            assertEquals(i + 1, res.get(i).get(0));
+            assertEquals(WIDE_ROW_SIZE + String.valueOf(i + 1).length(), ((String)res.get(i).get(1)).length());
+        }
+
+        assertQuery("SELECT COUNT(*), SUM(LENGTH(val)) FROM (SELECT DISTINCT val FROM t)")
+            .returns(500L, 500L * WIDE_ROW_SIZE + 1392)
+            .check();
+    }
+
+    /** Batches of narrow rows grow. */
+    @Test
+    public void testNarrowRows() {
+        sql("INSERT INTO t SELECT x, NULL FROM TABLE(SYSTEM_RANGE(1, 100000))");
+
+        assertQuery("SELECT COUNT(*), SUM(id) FROM t").returns(100_000L, 5_000_050_000L).check();
+
+        assertEquals(100_000, sql("SELECT id FROM t").size());
+
+        assertQuery("SELECT COUNT(*) FROM (SELECT id % 1000 FROM t GROUP BY id % 1000)").returns(1000L).check();
+    }
+}
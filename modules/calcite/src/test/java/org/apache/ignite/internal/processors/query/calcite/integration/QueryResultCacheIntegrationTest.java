@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.calcite.DistributedCalciteConfiguration.RESULT_CACHE_SIZE_PROPERTY_NAME;
+import static org.apache.ignite.internal.processors.query.calcite.prepare.QueryResultCacheImpl.RESULT_CACHE_METRIC_GROUP_NAME;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Query result cache test.
+ */
+public class QueryResultCacheIntegrationTest extends AbstractBasicIntegrationTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        client.context().distributedConfiguration().property(RESULT_CACHE_SIZE_PROPERTY_NAME).propagate(100);
+
+        assertTrue(waitForCondition(() -> {
+            for (Ignite ign : G.allGrids()) {
+                if (queryProcessor(ign).distributedConfiguration().resultCacheSize() != 100)
+                    return false;
+            }
+
+            return true;
+        }, 5_000L));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE t(id INT PRIMARY KEY, val INT)");
+
+        for (int i = 0; i < 100; i++)
+            sql("INSERT INTO t VALUES (?, ?)", i, i);
+    }
+
+    /** */
+    @Test
+    public void testCacheHitAndInvalidation() {
+        long hits = metric("hits");
+        long misses = metric("misses");
+
+        assertQuery("SELECT SUM(val) FROM t").returns(4950L).check();
+
+        assertEquals(hits, metric("hits"));
+        assertEquals(misses + nodeCount(), metric("misses"));
+
+        assertQuery("SELECT SUM(val) FROM t").returns(4950L).check();
+
+        assertEquals(hits + nodeCount(), metric("hits"));
+        assertEquals(misses + nodeCount(), metric("misses"));
+
+        sql("UPDATE t SET val = 1000 WHERE id = 0");
+
+        hits = metric("hits");
+        misses = metric("misses");
+
+        // Only the partition owner has to rescan its partitions.
+        assertQuery("SELECT SUM(val) FROM t").returns(5950L).check();
+
+        assertEquals(hits + nodeCount() - 1, metric("hits"));
+        assertEquals(misses + 1, metric("misses"));
+    }
+
+    /** */
+    @Test
+    public void testParameters() {
+        assertQuery("SELECT val FROM t WHERE id = ?").withParams(1).returns(1).check();
+        assertQuery("SELECT val FROM t WHERE id = ?").withParams(2).returns(2).check();
+
+        long hits = metric("hits");
+
+        assertQuery("SELECT val FROM t WHERE id = ?").withParams(1).returns(1).check();
+        assertQuery("SELECT val FROM t WHERE id = ?").withParams(2).returns(2).check();
+
+        assertEquals(hits + 2, metric("hits"));
+    }
+
+    /** */
+    @Test
+    public void testNonDeterministicQueryNotCached() {
+        long hits = metric("hits");
+        long misses = metric("misses");
+
+        sql("SELECT id, RAND() FROM t");
+        sql("SELECT id, CURRENT_TIMESTAMP FROM t");
+        sql("SELECT id, RAND() FROM t");
+
+        assertEquals(hits, metric("hits"));
+        assertEquals(misses, metric("misses"));
+    }
+
+    /** */
+    @Test
+    public void testSizeLimit() {
+        sql("INSERT INTO t SELECT x + 100, x FROM TABLE(SYSTEM_RANGE(1, 60000))");
+
+        long hits = metric("hits");
+
+        // Each node produces more rows than can be cached.
+        assertEquals(60100, sql("SELECT val FROM t").size());
+        assertEquals(60100, sql("SELECT val FROM t").size());
+
+        assertEquals(hits, metric("hits"));
+    }
+
+    /** */
+    private long metric(String name) {
+        long res = 0;
+
+        for (Ignite ign : G.allGrids()) {
+            MetricRegistryImpl mreg = ((IgniteEx)ign).context().metric().registry(RESULT_CACHE_METRIC_GROUP_NAME);
+
+            res += mreg.<LongMetric>findMetric(name).value();
+        }
+
+        return res;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.apache.ignite.internal.processors.query.calcite.message.QueryRuntimeFilterMessage;
+import org.apache.ignite.internal.util.typedef.G;
+import org.junit.Test;
+
+/**
+ * Runtime join filters test.
+ */
+public class RuntimeFilterIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int FACT_ROWS = 10_000;
+
+    /** */
+    private static final int DIM_ROWS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setCommunicationSpi(new TestRecordingCommunicationSpi());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE fact(id INT PRIMARY KEY, dim_id INT, val INT)");
+        sql("CREATE TABLE dim(id INT PRIMARY KEY, name VARCHAR)");
+
+        sql("INSERT INTO fact SELECT x, x % ?, x FROM TABLE(SYSTEM_RANGE(1, ?))", DIM_ROWS * 2, FACT_ROWS);
+        sql("INSERT INTO dim SELECT x, 'name' || x FROM TABLE(SYSTEM_RANGE(0, ?))", DIM_ROWS - 1);
+
+        for (Ignite ign : G.allGrids())
+            TestRecordingCommunicationSpi.spi(ign).record(QueryRuntimeFilterMessage.class);
+    }
+
+    /** */
+    @Test
+    public void testInnerJoin() {
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(*), SUM(f.val) FROM fact f JOIN dim d ON f.dim_id = d.id " +
+            "WHERE d.name IN ('name1', 'name2')")
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .returns(100L, 490_150L)
+            .check();
+
+        assertTrue(filtersSent() > 0);
+    }
+
+    /** */
+    @Test
+    public void testSemiJoin() {
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(*) FROM fact f " +
+            "WHERE f.dim_id IN (SELECT d.id FROM dim d WHERE d.name IN ('name1', 'name2'))")
+            .returns(100L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testRightJoin() {
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(f.id), COUNT(*) FROM fact f RIGHT JOIN dim d ON f.dim_id = d.id")
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .returns(5_000L, 5_000L)
+            .check();
+    }
+
+    /** Left join emits all the left rows, so they can't be filtered. */
+    @Test
+    public void testLeftJoin() {
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(d.id), COUNT(*) FROM fact f LEFT JOIN dim d ON f.dim_id = d.id " +
+            "WHERE d.name IS NULL OR d.name = 'name1'")
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .returns(50L, 5_050L)
+            .check();
+
+        assertEquals(0, filtersSent());
+    }
+
+    /** Build side without matching rows filters out all the probe rows. */
+    @Test
+    public void testEmptyBuildSide() {
+        assertQuery("SELECT /*+ HASH_JOIN */ COUNT(*) FROM fact f JOIN dim d ON f.dim_id = d.id " +
+            "WHERE d.name = 'unknown'")
+            .returns(0L)
+            .check();
+    }
+
+    /** */
+    private int filtersSent() {
+        int res = 0;
+
+        for (Ignite ign : G.allGrids()) {
+            List<Object> msgs = TestRecordingCommunicationSpi.spi(ign).recordedMessages(true);
+
+            res += msgs.size();
+        }
+
+        return res;
+    }
+}
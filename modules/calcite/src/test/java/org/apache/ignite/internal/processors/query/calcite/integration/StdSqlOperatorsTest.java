@@ -111,6 +111,23 @@ public class StdSqlOperatorsTest extends AbstractBasicIntegrationTest {
         assertExpression("SOME(val = 1)").returns(true).check();
     }
 
+    /** */
+    @Test
+    public void testWindowFunctions() {
+        assertExpression("ROW_NUMBER() OVER (ORDER BY val)").returns(1L).check();
+        assertExpression("RANK() OVER (ORDER BY val)").returns(1L).check();
+        assertExpression("DENSE_RANK() OVER (ORDER BY val)").returns(1L).check();
+        assertExpression("PERCENT_RANK() OVER (ORDER BY val)").returns(0d).check();
+        assertExpression("CUME_DIST() OVER (ORDER BY val)").returns(1d).check();
+        assertExpression("NTILE(2) OVER (ORDER BY val)").returns(1L).check();
+        assertExpression("LAG(val, 1, 0) OVER (ORDER BY val)").returns(0).check();
+        assertExpression("LEAD(val, 1, 0) OVER (ORDER BY val)").returns(0).check();
+        assertExpression("FIRST_VALUE(val) OVER (ORDER BY val)").returns(1).check();
+        assertExpression("LAST_VALUE(val) OVER (ORDER BY val)").returns(1).check();
+        assertExpression("NTH_VALUE(val, 1) OVER (ORDER BY val)").returns(1).check();
+        assertExpression("SUM(val) OVER (PARTITION BY val)").returns(1L).check();
+    }
+
     /** */
     @Test
     public void testIs() {
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.query.calcite.QueryChecker.containsIndexScan;
+import static org.apache.ignite.internal.processors.query.calcite.QueryChecker.containsSubPlan;
+import static org.hamcrest.CoreMatchers.not;
+
+/**
+ * Integration test for window functions.
+ */
+public class WindowFunctionIntegrationTest extends AbstractBasicIntegrationTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE t(id INT PRIMARY KEY, grp INT, val INT)");
+        sql("CREATE INDEX t_grp_val ON t(grp, val)");
+
+        sql("INSERT INTO t VALUES (1, 1, 10), (2, 1, 20), (3, 1, 20), (4, 1, 40), (5, 2, 50), (6, 2, 60), " +
+            "(7, 3, NULL)");
+    }
+
+    /** */
+    @Test
+    public void testRankingFunctions() {
+        assertQuery("SELECT id, ROW_NUMBER() OVER (PARTITION BY grp ORDER BY val, id), " +
+            "RANK() OVER (PARTITION BY grp ORDER BY val), DENSE_RANK() OVER (PARTITION BY grp ORDER BY val) " +
+            "FROM t")
+            .returns(1, 1L, 1L, 1L)
+            .returns(2, 2L, 2L, 2L)
+            .returns(3, 3L, 2L, 2L)
+            .returns(4, 4L, 4L, 3L)
+            .returns(5, 1L, 1L, 1L)
+            .returns(6, 2L, 2L, 2L)
+            .returns(7, 1L, 1L, 1L)
+            .check();
+
+        assertQuery("SELECT id, NTILE(3) OVER (ORDER BY id) FROM t")
+            .returns(1, 1L).returns(2, 1L).returns(3, 1L).returns(4, 2L).returns(5, 2L).returns(6, 3L).returns(7, 3L)
+            .check();
+
+        assertQuery("SELECT id, PERCENT_RANK() OVER (ORDER BY val), CUME_DIST() OVER (ORDER BY val) " +
+            "FROM t WHERE grp = 1")
+            .returns(1, 0d, 0.25d)
+            .returns(2, 1d / 3, 0.75d)
+            .returns(3, 1d / 3, 0.75d)
+            .returns(4, 1d, 1d)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testOffsetFunctions() {
+        assertQuery("SELECT id, LAG(val) OVER (PARTITION BY grp ORDER BY id), " +
+            "LEAD(val, 2, -1) OVER (PARTITION BY grp ORDER BY id) FROM t")
+            .returns(1, null, 20)
+            .returns(2, 10, 40)
+            .returns(3, 20, -1)
+            .returns(4, 20, -1)
+            .returns(5, null, -1)
+            .returns(6, 50, -1)
+            .returns(7, null, -1)
+            .check();
+
+        assertQuery("SELECT id, FIRST_VALUE(val) OVER w, LAST_VALUE(val) OVER w, NTH_VALUE(val, 2) OVER w " +
+            "FROM t WHERE grp = 1 WINDOW w AS (ORDER BY id ROWS BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING)")
+            .returns(1, 10, 40, 20)
+            .returns(2, 10, 40, 20)
+            .returns(3, 10, 40, 20)
+            .returns(4, 10, 40, 20)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testAggregateFunctions() {
+        // Default frame: RANGE BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW, peers are included.
+        assertQuery("SELECT id, SUM(val) OVER (PARTITION BY grp ORDER BY val), " +
+            "COUNT(*) OVER (PARTITION BY grp ORDER BY val) FROM t")
+            .returns(1, 10L, 1L)
+            .returns(2, 50L, 3L)
+            .returns(3, 50L, 3L)
+            .returns(4, 90L, 4L)
+            .returns(5, 50L, 1L)
+            .returns(6, 110L, 2L)
+            .returns(7, null, 1L)
+            .check();
+
+        assertQuery("SELECT id, SUM(val) OVER (ORDER BY id ROWS BETWEEN 1 PRECEDING AND 1 FOLLOWING), " +
+            "AVG(val) OVER (ORDER BY id ROWS 1 PRECEDING) FROM t WHERE grp = 1")
+            .returns(1, 30L, 10)
+            .returns(2, 50L, 15)
+            .returns(3, 80L, 20)
+            .returns(4, 60L, 30)
+            .check();
+
+        // Without ORDER BY the whole partition is a frame.
+        assertQuery("SELECT id, MAX(val) OVER (PARTITION BY grp), MIN(val) OVER () FROM t")
+            .returns(1, 40, 10)
+            .returns(2, 40, 10)
+            .returns(3, 40, 10)
+            .returns(4, 40, 10)
+            .returns(5, 60, 10)
+            .returns(6, 60, 10)
+            .returns(7, null, 10)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testWindowOverSubquery() {
+        assertQuery("SELECT grp, s, ROW_NUMBER() OVER (ORDER BY s DESC) " +
+            "FROM (SELECT grp, SUM(val) s FROM t GROUP BY grp) WHERE s IS NOT NULL")
+            .returns(2, 110L, 1L)
+            .returns(1, 90L, 2L)
+            .check();
+
+        assertQuery("SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY grp ORDER BY val DESC, id) rn FROM t) " +
+            "WHERE rn = 1")
+            .returns(4)
+            .returns(6)
+            .returns(7)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testWindowOverIndexCollation() {
+        assertQuery("SELECT id, SUM(val) OVER (PARTITION BY grp ORDER BY val) FROM t WHERE grp = 2")
+            .matches(containsIndexScan("PUBLIC", "T", "T_GRP_VAL"))
+            .matches(not(containsSubPlan("IgniteSort")))
+            .returns(5, 50L)
+            .returns(6, 110L)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testUnsupportedFrame() {
+        assertThrows("SELECT SUM(val) OVER (ORDER BY val RANGE 1 PRECEDING) FROM t", UnsupportedOperationException.class,
+            "RANGE window frame with offset is not supported");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.planner;
+
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteExchange;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteIndexScan;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteSort;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteWindow;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteSchema;
+import org.apache.ignite.internal.processors.query.calcite.trait.IgniteDistributions;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test window operator.
+ */
+public class WindowPlannerTest extends AbstractPlannerTest {
+    /** Public schema. */
+    private IgniteSchema publicSchema;
+
+    /** {@inheritDoc} */
+    @Before
+    @Override public void setup() {
+        super.setup();
+
+        publicSchema = createSchema(
+            createTable("HASH_TBL", IgniteDistributions.hash(ImmutableIntList.of(0)),
+                "ID", SqlTypeName.INTEGER, "GRP", SqlTypeName.INTEGER, "VAL", SqlTypeName.INTEGER)
+                .addIndex("IDX_ID_VAL", 0, 2)
+                .addIndex("IDX_GRP_VAL", 1, 2),
+            createTable("SINGLE_TBL", IgniteDistributions.single(),
+                "ID", SqlTypeName.INTEGER, "GRP", SqlTypeName.INTEGER, "VAL", SqlTypeName.INTEGER)
+                .addIndex("IDX_GRP_VAL", 1, 2)
+        );
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWindowOverSortedInput() throws Exception {
+        String sql = "SELECT id, ROW_NUMBER() OVER (PARTITION BY grp ORDER BY val) FROM single_tbl";
+
+        assertPlan(sql, publicSchema, nodeOrAnyChild(isInstanceOf(IgniteSort.class)).negate()
+            .and(nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                .and(input(isInstanceOf(IgniteIndexScan.class)))
+            ))
+        );
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWindowOverUnsortedInput() throws Exception {
+        String sql = "SELECT id, SUM(val) OVER (PARTITION BY id ORDER BY grp) FROM single_tbl";
+
+        assertPlan(sql, publicSchema, nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+            .and(input(isInstanceOf(IgniteSort.class)))
+        ));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWindowColocatedWithPartitionKeys() throws Exception {
+        String sql = "SELECT id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY id ORDER BY val) rn FROM hash_tbl) " +
+            "WHERE rn = 1";
+
+        assertPlan(sql, publicSchema, nodeOrAnyChild(isInstanceOf(IgniteExchange.class)
+            .and(nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                .and(input(isIndexScan("HASH_TBL", "IDX_ID_VAL")))
+            ))
+        ));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWindowNotColocatedWithPartitionKeys() throws Exception {
+        String sql = "SELECT id, RANK() OVER (PARTITION BY grp ORDER BY val) FROM hash_tbl";
+
+        assertPlan(sql, publicSchema, nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+            .and(nodeOrAnyChild(isInstanceOf(IgniteExchange.class)))
+        ));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSeveralWindows() throws Exception {
+        String sql = "SELECT id, " +
+            "SUM(val) OVER (PARTITION BY grp ORDER BY val ROWS BETWEEN 1 PRECEDING AND 1 FOLLOWING), " +
+            "LEAD(val, 2, 0) OVER (ORDER BY id) " +
+            "FROM single_tbl";
+
+        assertPlan(sql, publicSchema, nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+            .and(nodeOrAnyChild(input(isInstanceOf(IgniteWindow.class))))
+        ));
+    }
+}
@@ -50,6 +50,7 @@ import org.apache.ignite.internal.processors.query.calcite.planner.TableSpoolPla
 import org.apache.ignite.internal.processors.query.calcite.planner.UncollectPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.UnionPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.UserDefinedViewsPlannerTest;
+import org.apache.ignite.internal.processors.query.calcite.planner.WindowPlannerTest;
 import org.apache.ignite.internal.processors.query.calcite.planner.hints.HintsTestSuite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -91,6 +92,7 @@ import org.junit.runners.Suite;
     RexSimplificationPlannerTest.class,
     SerializationPlannerTest.class,
     UncollectPlannerTest.class,
+    WindowPlannerTest.class,
     AbstractPlannerUtilityTest.class,
 
     HintsTestSuite.class,
@@ -20,6 +20,7 @@ package org.apache.ignite.testsuites;
 import org.apache.ignite.internal.processors.query.calcite.QueryCheckerTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.ClosableIteratorsHolderTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.KeyFilteringCursorTest;
+import org.apache.ignite.internal.processors.query.calcite.exec.RuntimeFilterTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.IgniteSqlFunctionsTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.task.QueryBlockingTaskExecutorTest;
 import org.apache.ignite.internal.processors.query.calcite.exec.task.QueryTasksQueueTest;
@@ -37,6 +38,7 @@ import org.junit.runners.Suite;
     QueryCheckerTest.class,
     IgniteSqlFunctionsTest.class,
     KeyFilteringCursorTest.class,
+    RuntimeFilterTest.class,
     QueryBlockingTaskExecutorTest.class,
     QueryTasksQueueTest.class,
 })
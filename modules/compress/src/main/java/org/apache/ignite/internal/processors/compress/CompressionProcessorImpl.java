@@ -255,6 +255,62 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         assert page.limit() == compactSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public int maxCompressedLength(DiskPageCompression compression, int len) throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                return (int)Zstd.compressBound(len);
+
+            case LZ4:
+                return Lz4.fastCompressor.maxCompressedLength(len);
+        }
+
+        throw new IgniteCheckedException("Unsupported compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void compress(
+        DiskPageCompression compression,
+        int compressLevel,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                Zstd.compress(dst, src, compressLevel);
+
+                return;
+
+            case LZ4:
+                Lz4.getCompressor(compressLevel).compress(src, dst);
+
+                return;
+        }
+
+        throw new IgniteCheckedException("Unsupported compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void decompress(
+        DiskPageCompression compression,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        switch (compression) {
+            case ZSTD:
+                Zstd.decompress(dst, src);
+
+                return;
+
+            case LZ4:
+                Lz4.decompress(src, dst);
+
+                return;
+        }
+
+        throw new IgniteCheckedException("Unsupported compression: " + compression);
+    }
+
     /** */
     private static int maxCompressedBufferSize(int baseSz) {
         int lz4Sz = Lz4.fastCompressor.maxCompressedLength(baseSz);
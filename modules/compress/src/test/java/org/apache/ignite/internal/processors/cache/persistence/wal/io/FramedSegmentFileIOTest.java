@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.apache.ignite.internal.processors.compress.CompressionProcessorImpl;
+import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Tests {@link FramedSegmentWriter} and {@link FramedSegmentFileIO}.
+ */
+public class FramedSegmentFileIOTest extends GridCommonAbstractTest {
+    /** */
+    private static final int RECORDS = 20_000;
+
+    /** */
+    private final RandomAccessFileIOFactory ioFactory = new RandomAccessFileIOFactory();
+
+    /** */
+    private File file;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        file = File.createTempFile("framed", ".wal.zip");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        file.delete();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testZstd() throws Exception {
+        checkReadAndSeek(DiskPageCompression.ZSTD);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testLz4() throws Exception {
+        checkReadAndSeek(DiskPageCompression.LZ4);
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @throws Exception If failed.
+     */
+    private void checkReadAndSeek(DiskPageCompression compression) throws Exception {
+        CompressionProcessor proc = new CompressionProcessorImpl(new GridTestKernalContext(log));
+
+        long seed = System.currentTimeMillis();
+
+        log.info("Seed: " + seed);
+
+        Random rnd = new Random(seed);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+        // Uncompressed positions and original offsets of the records.
+        List<long[]> recs = new ArrayList<>();
+
+        long recOff = 0;
+
+        try (FramedSegmentWriter writer = new FramedSegmentWriter(ioFactory.create(file, CREATE, WRITE), proc,
+            compression, CompressionProcessor.getDefaultCompressionLevel(compression))) {
+            for (int i = 0; i < RECORDS; i++) {
+                // Mostly small records and some larger than a frame.
+                byte[] rec = new byte[i % 5000 == 1 ? FramedSegmentWriter.FRAME_SIZE + rnd.nextInt(1000) :
+                    1 + rnd.nextInt(200)];
+
+                for (int j = 0; j < rec.length; j++)
+                    rec[j] = (byte)(j % 7 == 0 ? rnd.nextInt() : i);
+
+                recs.add(new long[] {expected.size(), recOff});
+
+                writer.write(ByteBuffer.wrap(rec), recOff);
+
+                expected.write(rec);
+
+                // Logical records are sparse in the original segment.
+                recOff += rec.length + rnd.nextInt(100);
+            }
+        }
+
+        byte[] exp = expected.toByteArray();
+
+        assertTrue(file.length() < exp.length);
+
+        try (FileIO raw = ioFactory.create(file, READ)) {
+            assertTrue(FramedSegmentFileIO.isFramed(raw));
+        }
+
+        try (FramedSegmentFileIO io = new FramedSegmentFileIO(ioFactory.create(file, READ), proc)) {
+            assertEquals(exp.length, io.size());
+
+            ByteBuffer buf = ByteBuffer.allocate(exp.length);
+
+            while (io.read(buf) > 0) {
+                // No-op.
+            }
+
+            assertEquals(exp.length, buf.position());
+            assertEquals(ByteBuffer.wrap(exp), buf.flip());
+
+            for (int i = 0; i < 1000; i++) {
+                long[] rec = recs.get(rnd.nextInt(RECORDS));
+
+                long framePos = io.framePosition(rec[1]);
+
+                assertTrue(framePos <= rec[0]);
+                assertTrue(rec[0] - framePos < FramedSegmentWriter.FRAME_SIZE);
+
+                io.position(framePos);
+
+                ByteBuffer part = ByteBuffer.allocate((int)Math.min(4096, exp.length - framePos));
+
+                io.readFully(part);
+
+                assertEquals(ByteBuffer.wrap(exp, (int)framePos, part.capacity()), part.flip());
+            }
+        }
+    }
+}
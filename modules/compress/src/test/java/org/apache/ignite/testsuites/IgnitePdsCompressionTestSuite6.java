@@ -21,9 +21,12 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.IgnitePdsCheckpointSimulationWithRealCpDisabledAndWalCompressionTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalCompactionAndPageCompressionTest;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalCompactionLz4Test;
+import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalCompactionZstdTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalRecoveryWithPageCompressionAndTdeTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalRecoveryWithPageCompressionTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotCompressionBasicTest;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.FramedSegmentFileIOTest;
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionConfigValidationTest;
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionIntegrationTest;
 import org.apache.ignite.internal.processors.compress.WalPageCompressionIntegrationTest;
@@ -47,6 +50,9 @@ public class IgnitePdsCompressionTestSuite6 extends AbstractIgnitePdsCompression
         suite.add(WalRecoveryWithPageCompressionAndTdeTest.class);
         suite.add(IgnitePdsCheckpointSimulationWithRealCpDisabledAndWalCompressionTest.class);
         suite.add(WalCompactionAndPageCompressionTest.class);
+        suite.add(WalCompactionZstdTest.class);
+        suite.add(WalCompactionLz4Test.class);
+        suite.add(FramedSegmentFileIOTest.class);
 
         suite.add(SnapshotCompressionBasicTest.class);
 
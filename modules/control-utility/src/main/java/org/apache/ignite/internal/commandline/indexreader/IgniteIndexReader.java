@@ -49,6 +49,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyTypeRegistry;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineLeafIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.CompressedInlineLeafIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType;
 import org.apache.ignite.internal.commandline.CommandHandler;
@@ -1340,8 +1341,8 @@ public class IgniteIndexReader implements AutoCloseable {
 
             BPlusLeafIO<?> io = PageIO.getPageIO(addr);
 
-            if (io instanceof AbstractInlineLeafIO)
-                visitInline(addr, (AbstractInlineLeafIO)io, ctx);
+            if (io instanceof AbstractInlineLeafIO || io instanceof CompressedInlineLeafIO)
+                visitInline(addr, io, ctx);
 
             doWithoutErrors(() -> {
                 for (int i = 0; i < io.getCount(addr); i++) {
@@ -1356,7 +1357,7 @@ public class IgniteIndexReader implements AutoCloseable {
         }
 
         /** */
-        private void visitInline(long addr, AbstractInlineLeafIO io, ScanContext ctx) {
+        private void visitInline(long addr, BPlusLeafIO<?> io, ScanContext ctx) {
             int inlineSz = ((InlineIO)io).inlineSize();
 
             if (ctx.inlineFldCnt == 0)
@@ -1368,12 +1369,12 @@ public class IgniteIndexReader implements AutoCloseable {
             IndexKeyTypeSettings settings = new IndexKeyTypeSettings();
 
             for (int i = 0; i < io.getCount(addr); i++) {
-                int itemOff = io.offset(i);
+                long keysAddr = ((InlineIO)io).keysAddress(addr, i);
                 int realInlineSz = 0;
                 int fldCnt = 0;
 
                 while (realInlineSz < inlineSz && fldCnt < ctx.inlineFldCnt) {
-                    int type0 = PageUtils.getByte(addr, itemOff + realInlineSz);
+                    int type0 = PageUtils.getByte(keysAddr, realInlineSz);
 
                     IndexKeyType idxKeyType;
 
@@ -1405,7 +1406,7 @@ public class IgniteIndexReader implements AutoCloseable {
                     if (type.keySize() == UNKNOWN_CACHE) {
                         try {
                             // Assuming all variable length keys written using `writeBytes` method.
-                            byte[] bytes = NullableInlineIndexKeyType.readBytes(addr, itemOff + realInlineSz);
+                            byte[] bytes = NullableInlineIndexKeyType.readBytes(keysAddr, realInlineSz);
 
                             realInlineSz += Short.BYTES; /* size of the array is short number. */
                             realInlineSz += bytes.length;
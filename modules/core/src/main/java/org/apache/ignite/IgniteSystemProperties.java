@@ -32,6 +32,7 @@ import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.DeploymentMode;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkBuilder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
@@ -39,6 +40,7 @@ import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSn
 import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
 import org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter;
 import org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker;
+import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitorImpl;
 import org.apache.ignite.internal.processors.rest.GridRestCommand;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteExperimental;
@@ -54,6 +56,7 @@ import static org.apache.ignite.internal.IgniteKernal.DFLT_LONG_OPERATIONS_DUMP_
 import static org.apache.ignite.internal.LongJVMPauseDetector.DEFAULT_JVM_PAUSE_DETECTOR_THRESHOLD;
 import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DETECTOR_LAST_EVENTS_COUNT;
 import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DETECTOR_PRECISION;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkBuilder.DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender.DFLT_THROTTLE_INLINE_SIZE_CALCULATION;
 import static org.apache.ignite.internal.managers.discovery.GridDiscoveryManager.DFLT_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.affinity.AffinityAssignment.DFLT_AFFINITY_BACKUPS_THRESHOLD;
@@ -83,18 +86,23 @@ import static org.apache.ignite.internal.processors.cache.distributed.dht.topolo
 import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition.DFLT_CACHE_REMOVE_ENTRIES_TTL;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_RECOVERY_WAL_READ_AHEAD;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage.DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriterFactory.DFLT_CHECKPOINT_WRITE_COALESCE_PAGES;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.Checkpointer.DFLT_CHECKPOINT_DIRTY_PAGES_MAX_AGE;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.HEAP_LOG;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.SharedPageLockTracker.DFLT_PAGE_LOCK_TRACKER_CHECK_INTERVAL;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_PDS_READ_AHEAD_PAGES;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.AbstractWalRecordsIterator.DFLT_WAL_MMAP_READ;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT;
@@ -127,6 +135,7 @@ import static org.apache.ignite.internal.processors.platform.client.ClientReques
 import static org.apache.ignite.internal.processors.pool.PoolProcessor.DFLT_PERIODIC_STARVATION_CHECK_FREQ;
 import static org.apache.ignite.internal.processors.query.QueryUtils.DFLT_INDEXING_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitorImpl.DFLT_INDEX_REBUILD_CACHE_PARALLELISM;
 import static org.apache.ignite.internal.processors.rest.GridRestProcessor.DFLT_SES_TIMEOUT;
 import static org.apache.ignite.internal.processors.rest.GridRestProcessor.DFLT_SES_TOKEN_INVALIDATE_INTERVAL;
 import static org.apache.ignite.internal.processors.rest.handlers.task.GridTaskCommandHandler.DFLT_MAX_TASK_RESULTS;
@@ -1146,6 +1155,14 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     @SystemProperty(value = "Enables usage of the mapped byte buffer", defaults = "" + DFLT_WAL_MMAP)
     public static final String IGNITE_WAL_MMAP = "IGNITE_WAL_MMAP";
 
+    /**
+     * Enables reading of complete WAL segments (archived segments, CDC and standalone iterators) from the memory
+     * mapping of the file instead of copying them to the read buffer.
+     */
+    @SystemProperty(value = "Enables reading of complete WAL segments through the mapped byte buffer",
+        defaults = "" + DFLT_WAL_MMAP_READ)
+    public static final String IGNITE_WAL_MMAP_READ = "IGNITE_WAL_MMAP_READ";
+
     /**
      * When set to {@code true}, Data store folders are generated only by consistent id, and no consistent ID will be
      * set based on existing data store folders. This option also enables compatible folder generation mode as it was
@@ -1248,6 +1265,15 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "deletion'", defaults = "" + DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP)
     public static final String IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP = "IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP";
 
+    /**
+     * Count of pages of a partition to read ahead when the pages of the partition are read from disk sequentially,
+     * for example by a full scan of a persistent cache. Default is {@code 0}, read-ahead is disabled.
+     */
+    @SystemProperty(value = "Count of pages of a partition to read ahead when the pages of the partition are read " +
+        "from disk sequentially. 0 disables read-ahead", type = Integer.class,
+        defaults = "" + DFLT_PDS_READ_AHEAD_PAGES)
+    public static final String IGNITE_PDS_READ_AHEAD_PAGES = "IGNITE_PDS_READ_AHEAD_PAGES";
+
     /**
      * Property for setup percentage of archive size for checkpoint trigger. Default value is 0.25
      */
@@ -1309,6 +1335,23 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     @SystemProperty(value = "Disables secondary indexes B+Tree metrics", defaults = "false")
     public static final String IGNITE_BPLUS_TREE_DISABLE_METRICS = "IGNITE_BPLUS_TREE_DISABLE_METRICS";
 
+    /**
+     * Enables optimistic reads of B+Tree inner pages by lookups: page is copied without taking the read lock and the
+     * copy is validated against concurrent modifications.
+     */
+    @SystemProperty(value = "Enables optimistic reads of B+Tree inner pages by lookups: page is copied without " +
+        "taking the read lock and the copy is validated against concurrent modifications", defaults = "true")
+    public static final String IGNITE_BPLUS_TREE_OPTIMISTIC_READ = "IGNITE_BPLUS_TREE_OPTIMISTIC_READ";
+
+    /**
+     * Enables compression of inlined keys in index leaf pages: bytes shared by all inlined keys of a page, such as
+     * a common prefix of strings, are stored once per page. Pages in this format can't be read by nodes of previous
+     * versions.
+     */
+    @SystemProperty(value = "Enables compression of inlined keys in index leaf pages: bytes shared by all inlined " +
+        "keys of a page, such as a common prefix of strings, are stored once per page", defaults = "false")
+    public static final String IGNITE_INDEX_INLINE_KEYS_COMPRESSION = "IGNITE_INDEX_INLINE_KEYS_COMPRESSION";
+
     /**
      * Amount of memory reserved in the heap at node start, which can be dropped to increase the chances of success when
      * handling OutOfMemoryError.
@@ -1584,6 +1627,15 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class)
     public static final String IGNITE_RECOVERY_SEMAPHORE_PERMITS = "IGNITE_RECOVERY_SEMAPHORE_PERMITS";
 
+    /**
+     * Max number of WAL records read and deserialized ahead of applying them during the recovery procedure.
+     * Reading is done in a separate thread, {@code 0} disables the read-ahead.
+     */
+    @SystemProperty(value = "Max number of WAL records read and deserialized ahead of applying them during " +
+        "the recovery procedure. Reading is done in a separate thread, 0 disables the read-ahead", type = Integer.class,
+        defaults = "" + DFLT_RECOVERY_WAL_READ_AHEAD)
+    public static final String IGNITE_RECOVERY_WAL_READ_AHEAD = "IGNITE_RECOVERY_WAL_READ_AHEAD";
+
     /**
      * Maximum size of history of server nodes (server node IDs) that ever joined to current topology.
      */
@@ -1636,6 +1688,26 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD)
     public static final String CHECKPOINT_PARALLEL_SORT_THRESHOLD = "CHECKPOINT_PARALLEL_SORT_THRESHOLD";
 
+    /**
+     * Max number of dirty pages with consecutive indexes of the same partition written by a single I/O operation during
+     * checkpoint in case of {@link CheckpointWriteOrder#SEQUENTIAL}. Values less than 2 disable coalescing of page
+     * writes.
+     */
+    @SystemProperty(value = "Max number of dirty pages with consecutive indexes of the same partition written " +
+        "by a single I/O operation during checkpoint. Values less than 2 disable coalescing of page writes",
+        type = Integer.class, defaults = "" + DFLT_CHECKPOINT_WRITE_COALESCE_PAGES)
+    public static final String IGNITE_CHECKPOINT_WRITE_COALESCE_PAGES = "IGNITE_CHECKPOINT_WRITE_COALESCE_PAGES";
+
+    /**
+     * Max age in milliseconds of the oldest page marked dirty since the last checkpoint began, after which the next
+     * checkpoint is started. Keeps the checkpoints small and steady under the write load which doesn't reach the
+     * dirty pages threshold. {@code 0} disables the trigger.
+     */
+    @SystemProperty(value = "Max age in milliseconds of the oldest page marked dirty since the last checkpoint " +
+        "began, after which the next checkpoint is started. 0 disables the trigger",
+        type = Long.class, defaults = "" + DFLT_CHECKPOINT_DIRTY_PAGES_MAX_AGE)
+    public static final String IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE = "IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE";
+
     /**
      * Keep static cache configuration even if stored cache data differs from the static config. When this property
      * is set, static cache configuration will override persisted configuration. DDL operations are not allowed
@@ -1926,6 +1998,42 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class)
     public static final String IGNITE_CALCITE_EXEC_IO_BATCH_CNT = "IGNITE_CALCITE_EXEC_IO_BATCH_CNT";
 
+    /**
+     * Calcite-based SQL engine. Estimated size (in bytes) of outgoing data message. Batches of wide rows are cut by
+     * this size, batches of narrow rows grow up to this size, and total size of not acknowledged messages of each
+     * outbox is limited. {@code 0} limits messages by count of rows only.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Estimated size (in bytes) of outgoing data message. Batches " +
+        "of wide rows are cut by this size, batches of narrow rows grow up to this size, and total size of not " +
+        "acknowledged messages of each outbox is limited. 0 limits messages by count of rows only",
+        type = Integer.class, defaults = "262144")
+    public static final String IGNITE_CALCITE_EXEC_IO_BATCH_BYTES = "IGNITE_CALCITE_EXEC_IO_BATCH_BYTES";
+
+    /**
+     * Calcite-based SQL engine. Enables compression of outgoing data messages.
+     */
+    @SystemProperty("Calcite-based SQL engine. Enables compression of outgoing data messages")
+    public static final String IGNITE_CALCITE_EXEC_IO_BATCH_COMPRESSION = "IGNITE_CALCITE_EXEC_IO_BATCH_COMPRESSION";
+
+    /**
+     * Calcite-based SQL engine. Enables batch execution mode: scans push rows to the downstream nodes by batches
+     * instead of one by one, and filter, project and hash aggregate nodes process the whole batch at once.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Enables batch execution mode: scans push rows to the " +
+        "downstream nodes by batches instead of one by one, and filter, project and hash aggregate nodes process " +
+        "the whole batch at once")
+    public static final String IGNITE_CALCITE_EXEC_BATCH_MODE = "IGNITE_CALCITE_EXEC_BATCH_MODE";
+
+    /**
+     * Calcite-based SQL engine. Maximum count of distinct join keys of the hash join build side to create a runtime
+     * filter for the rows of the probe side, sent through an exchange. {@code 0} disables runtime filters.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Maximum count of distinct join keys of the hash join build " +
+        "side to create a runtime filter for the rows of the probe side, sent through an exchange. 0 disables " +
+        "runtime filters", type = Integer.class, defaults = "65536")
+    public static final String IGNITE_CALCITE_EXEC_RUNTIME_FILTER_MAX_KEYS =
+        "IGNITE_CALCITE_EXEC_RUNTIME_FILTER_MAX_KEYS";
+
     /**
      * Calcite-based SQL engine. Pretty print serialized to JSON plan, when sending it to remote nodes.
      */
@@ -1941,6 +2049,27 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE)
     public static final String IGNITE_INDEX_REBUILD_BATCH_SIZE = "IGNITE_INDEX_REBUILD_BATCH_SIZE";
 
+    /**
+     * Maximum number of partitions of one cache which indexes are built or rebuilt concurrently by the threads of
+     * the index build pool, {@code 0} means no limit. Limit it to leave the pool threads to other caches and to keep
+     * serving the load while indexes are rebuilt.
+     * The default value is {@link SchemaIndexCacheVisitorImpl#DFLT_INDEX_REBUILD_CACHE_PARALLELISM}.
+     */
+    @SystemProperty(value = "Maximum number of partitions of one cache which indexes are built or rebuilt " +
+        "concurrently by the threads of the index build pool, 0 means no limit", type = Integer.class,
+        defaults = "" + DFLT_INDEX_REBUILD_CACHE_PARALLELISM)
+    public static final String IGNITE_INDEX_REBUILD_CACHE_PARALLELISM = "IGNITE_INDEX_REBUILD_CACHE_PARALLELISM";
+
+    /**
+     * Count of rows sorted in memory when an index is rebuilt in the maintenance mode, the rest of rows are sorted
+     * in temporary files of the work directory.
+     * The default value is {@link InlineIndexBulkBuilder#DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE}.
+     */
+    @SystemProperty(value = "Count of rows sorted in memory when an index is rebuilt in the maintenance mode, " +
+        "the rest of rows are sorted in temporary files of the work directory", type = Integer.class,
+        defaults = "" + DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE)
+    public static final String IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE = "IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE";
+
     /**
      * Throttle frequency for an index row inline size calculation and logging index inline size recommendation.
      * The default value is {@link InlineRecommender#DFLT_THROTTLE_INLINE_SIZE_CALCULATION}.
@@ -346,6 +346,9 @@ public class DataStorageConfiguration implements Serializable {
      */
     private int walCompactionLevel = DFLT_WAL_COMPACTION_LEVEL;
 
+    /** Compression algorithm of WAL compaction, {@code null} for ZIP. */
+    private DiskPageCompression walCompactionCompression;
+
     /** Timeout for checkpoint read lock acquisition. */
     private Long checkpointReadLockTimeout;
 
@@ -1297,6 +1300,34 @@ public class DataStorageConfiguration implements Serializable {
         this.walCompactionLevel = walCompactionLevel;
     }
 
+    /**
+     * Gets compression algorithm of WAL compaction.
+     *
+     * @return Compression algorithm or {@code null} if WAL segments are compacted to ZIP archives.
+     * @see #setWalCompactionCompression(DiskPageCompression)
+     */
+    public DiskPageCompression getWalCompactionCompression() {
+        return walCompactionCompression;
+    }
+
+    /**
+     * Sets compression algorithm of WAL compaction.
+     * <p>
+     * By default compacted WAL segments are ZIP archives compressed with the {@link #getWalCompactionLevel() level}.
+     * With {@link DiskPageCompression#ZSTD Zstd} or {@link DiskPageCompression#LZ4 LZ4} a segment is compressed by
+     * independent frames, which are faster to compress and decompress and allow reading the compacted segment from
+     * the frame containing the requested WAL pointer. Requires {@code ignite-compress} module in classpath.
+     * Segments compacted with different algorithms can be read regardless of the current setting.
+     *
+     * @param walCompactionCompression Compression algorithm or {@code null} for ZIP.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalCompactionCompression(DiskPageCompression walCompactionCompression) {
+        this.walCompactionCompression = walCompactionCompression;
+
+        return this;
+    }
+
     /**
      * Returns timeout for checkpoint read lock acquisition.
      *
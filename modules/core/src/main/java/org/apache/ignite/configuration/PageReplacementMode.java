@@ -70,7 +70,26 @@ public enum PageReplacementMode {
      * This algorithm has near to zero maintenance cost and replacement policy efficiency between random-LRU and
      * segmented-LRU.
      */
-    CLOCK;
+    CLOCK,
+
+    /**
+     * Adaptive 2Q algorithm.
+     *
+     * Pages are kept in two lists. Pages loaded to memory are added to the tail of the FIFO "in" list, repeated
+     * accesses to these pages are considered correlated (for example, reading several rows of the same page by a scan)
+     * and don't change the order. Keys of pages replaced from both lists are remembered in two "ghost" tables. A page
+     * which is loaded again while its key is in a ghost table is added to the LRU "main" list, its accesses move it to
+     * the tail of the list. Page to replace is polled from the head of the "in" list when the list exceeds its target
+     * size, from the head of the "main" list otherwise. As in the ARC algorithm, the target size of the "in" list
+     * grows on hits in the ghost table of the "in" list and shrinks on hits in the ghost table of the "main" list, so
+     * the algorithm adapts between recency and frequency of page accesses.
+     *
+     * One-time scans only pass through the "in" list and don't displace the frequently used pages of the "main" list.
+     * This algorithm requires a bit more memory than segmented-LRU to store the ghost tables and, as segmented-LRU,
+     * needs to update the pages list on page accesses. It's recommended for environments with a high rate of page
+     * replacement and large one-time scans of the data.
+     */
+    TWO_QUEUE;
 
     /** Enumerated values. */
     private static final PageReplacementMode[] VALS = values();
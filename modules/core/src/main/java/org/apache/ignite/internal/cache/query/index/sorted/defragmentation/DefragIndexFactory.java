@@ -30,6 +30,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTre
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineInnerIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineLeafIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.CompressedInlineLeafIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.IORowHandler;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InnerIO;
@@ -149,6 +150,7 @@ public class DefragIndexFactory extends InlineIndexFactory {
         }
         else {
             assert io instanceof AbstractInlineLeafIO
+                || io instanceof CompressedInlineLeafIO
                 || io instanceof LeafIO;
 
             return new BPlusLeafIoDelegate((BPlusLeafIO<IndexRow>)io, rowHnd);
@@ -188,8 +190,6 @@ public class DefragIndexFactory extends InlineIndexFactory {
     ) {
         long link = io.link(pageAddr, idx);
 
-        int off = io.offset(idx);
-
         int inlineSize = io.inlineSize();
 
         byte[] values;
@@ -197,7 +197,7 @@ public class DefragIndexFactory extends InlineIndexFactory {
         if (rowHnd.inlineIndexKeyTypes().isEmpty())
             values = EMPTY_BYTES;
         else
-            values = PageUtils.getBytes(pageAddr, off, inlineSize);
+            values = PageUtils.getBytes(io.keysAddress(pageAddr, idx), 0, inlineSize);
 
         return new DefragIndexRowImpl(rowHnd, new CacheDataRowAdapter(link), values);
     }
@@ -246,6 +246,11 @@ public class DefragIndexFactory extends InlineIndexFactory {
         @Override public int inlineSize() {
             return io.inlineSize();
         }
+
+        /** {@inheritDoc} */
+        @Override public long keysAddress(long pageAddr, int idx) {
+            return io.keysAddress(pageAddr, idx);
+        }
     }
 
     /** */
@@ -292,6 +297,21 @@ public class DefragIndexFactory extends InlineIndexFactory {
         @Override public int inlineSize() {
             return io.inlineSize();
         }
+
+        /** {@inheritDoc} */
+        @Override public long keysAddress(long pageAddr, int idx) {
+            return io.keysAddress(pageAddr, idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int offset(int idx) {
+            return io.offset(idx);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int getMaxCount(long pageAddr, int pageSize) {
+            return io.getMaxCount(pageAddr, pageSize);
+        }
     }
 
     /**
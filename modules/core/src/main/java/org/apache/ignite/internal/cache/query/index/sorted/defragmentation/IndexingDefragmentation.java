@@ -32,6 +32,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler
 import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
 import org.apache.ignite.internal.cache.query.index.sorted.defragmentation.DefragIndexFactory.DefragIndexRowImpl;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndex;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkLoad;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
@@ -151,6 +152,9 @@ public class IndexingDefragmentation {
                     .createIndex(cctx, idxDef)
                     .unwrap(InlineIndexImpl.class);
 
+                // Rows of the old segments come in the index order, so the new index is built bottom-up.
+                InlineIndexBulkLoad load = new InlineIndexBulkLoad(newIdx, InlineIndexBulkLoad.DFLT_FILL_FACTOR);
+
                 int segments = oldIdx.segmentsCount();
 
                 for (int i = 0; i < segments; ++i) {
@@ -165,10 +169,6 @@ public class IndexingDefragmentation {
                             lastCpLockTs.set(System.currentTimeMillis());
                         }
 
-                        assert 1 == io.getVersion()
-                            : "IO version " + io.getVersion() + " is not supported by current defragmentation algorithm." +
-                            " Please implement copying of tree in a new format.";
-
                         BPlusIO<IndexRow> h2IO = DefragIndexFactory.wrap(io, oldRowHnd);
 
                         IndexRow row = theTree.getRow(h2IO, pageAddr, idx);
@@ -193,12 +193,14 @@ public class IndexingDefragmentation {
                                 r
                             );
 
-                            newIdx.putIndexRow(newRow);
+                            load.add(newIdx.segmentForRow(newRow.cacheDataRow()), newRow);
                         }
 
                         return true;
                     });
                 }
+
+                load.finish();
             }
 
             return true;
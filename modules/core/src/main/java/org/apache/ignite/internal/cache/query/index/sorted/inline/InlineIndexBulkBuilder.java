@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.inline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
+
+/**
+ * Builds the empty index from cache rows coming in arbitrary order. The rows are sorted in the index order and
+ * {@link InlineIndexBulkLoad loaded} to the index bottom-up, so the index pages are written once and filled densely.
+ * Rows which don't fit the sort buffer are sorted in runs of links spilled to temporary files, the runs are merged
+ * on the load. The index must not be updated until the build is finished.
+ */
+public class InlineIndexBulkBuilder implements AutoCloseable {
+    /** Default count of rows sorted in memory. */
+    public static final int DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE = 1_000_000;
+
+    /** Count of rows sorted in memory. */
+    private final int bufSize = getInteger(IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE, DFLT_INDEX_REBUILD_SORT_BUFFER_SIZE);
+
+    /** Count of rows loaded within a single checkpoint lock. */
+    private final int batchSize = getInteger(IGNITE_INDEX_REBUILD_BATCH_SIZE, DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE);
+
+    /** Index. */
+    private final InlineIndexImpl idx;
+
+    /** Row handler. */
+    private final InlineIndexRowHandler rowHnd;
+
+    /** Directory of the spilled runs. */
+    private final File tmpDir;
+
+    /** Sorted in memory rows per segment. */
+    private final List<IndexRowImpl>[] bufs;
+
+    /** Spilled runs per segment. */
+    private final List<File>[] runs;
+
+    /** Count of buffered rows. */
+    private int buffered;
+
+    /**
+     * @param idx Index.
+     * @param tmpDir Directory of the runs spilled when rows don't fit the sort buffer.
+     */
+    @SuppressWarnings("unchecked")
+    public InlineIndexBulkBuilder(InlineIndexImpl idx, File tmpDir) {
+        this.idx = idx;
+        this.tmpDir = tmpDir;
+
+        rowHnd = idx.segment(0).rowHandler();
+
+        bufs = new List[idx.segmentsCount()];
+        runs = new List[idx.segmentsCount()];
+
+        for (int i = 0; i < bufs.length; i++) {
+            bufs[i] = new ArrayList<>();
+            runs[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds the cache row to the index. Can be called concurrently.
+     *
+     * @param row Cache row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void add(CacheDataRow row) throws IgniteCheckedException {
+        IndexRowImpl idxRow = sortRow(row);
+
+        int segment = idx.segmentForRow(row);
+
+        synchronized (this) {
+            bufs[segment].add(idxRow);
+
+            if (++buffered >= bufSize)
+                spill();
+        }
+    }
+
+    /**
+     * Loads the added rows to the index.
+     *
+     * @param db Database manager.
+     * @throws IgniteCheckedException If failed.
+     */
+    public synchronized void build(IgniteCacheDatabaseSharedManager db) throws IgniteCheckedException {
+        InlineIndexBulkLoad load = new InlineIndexBulkLoad(idx, InlineIndexBulkLoad.DFLT_FILL_FACTOR);
+
+        int cnt = 0;
+
+        db.checkpointReadLock();
+
+        try {
+            for (int i = 0; i < bufs.length; i++) {
+                bufs[i].sort(this::compare);
+
+                PriorityQueue<RowSource> queue = new PriorityQueue<>((s1, s2) -> compare(s1.row, s2.row));
+
+                addSource(queue, new BufferSource(bufs[i].iterator()));
+
+                for (File run : runs[i])
+                    addSource(queue, new RunSource(i, run));
+
+                while (!queue.isEmpty()) {
+                    RowSource src = queue.poll();
+
+                    load.add(i, src.row);
+
+                    addSource(queue, src);
+
+                    if (++cnt % batchSize == 0) {
+                        db.checkpointReadUnlock();
+                        db.checkpointReadLock();
+                    }
+                }
+
+                bufs[i] = null;
+            }
+
+            load.finish();
+        }
+        finally {
+            db.checkpointReadUnlock();
+        }
+    }
+
+    /** Deletes the spilled runs. */
+    @Override public void close() {
+        for (List<File> segmentRuns : runs) {
+            for (File run : segmentRuns)
+                U.delete(run);
+        }
+    }
+
+    /**
+     * Sorts the buffered rows and writes links of every segment to a new run.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    private void spill() throws IgniteCheckedException {
+        for (int i = 0; i < bufs.length; i++) {
+            if (bufs[i].isEmpty())
+                continue;
+
+            bufs[i].sort(this::compare);
+
+            try {
+                if (!tmpDir.exists() && !tmpDir.mkdirs() && !tmpDir.exists())
+                    throw new IgniteCheckedException("Failed to create directory: " + tmpDir);
+
+                File run = File.createTempFile("run-", ".tmp", tmpDir);
+
+                runs[i].add(run);
+
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run)))) {
+                    for (IndexRowImpl row : bufs[i])
+                        out.writeLong(row.link());
+                }
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to write sorted index rows [dir=" + tmpDir + ']', e);
+            }
+
+            bufs[i].clear();
+        }
+
+        buffered = 0;
+    }
+
+    /**
+     * @param row Full cache row.
+     * @return Index row with the computed keys, keeping only the link of the cache row.
+     */
+    private IndexRowImpl sortRow(CacheDataRow row) {
+        IndexKey[] keys = new IndexKey[rowHnd.indexKeyDefinitions().size()];
+
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = rowHnd.indexKey(i, row);
+
+        return new IndexRowImpl(rowHnd, new CacheDataRowAdapter(row.link()), keys);
+    }
+
+    /**
+     * Compares rows in the index order.
+     *
+     * @param r1 First row.
+     * @param r2 Second row.
+     * @return Comparison result.
+     */
+    private int compare(IndexRow r1, IndexRow r2) {
+        try {
+            return InlineIndexTree.compareFullRows(r1, r2, 0, rowHnd, idx.indexDefinition().rowComparator());
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * Moves the source to the next row and returns it to the queue unless it is exhausted.
+     *
+     * @param queue Merge queue.
+     * @param src Row source.
+     * @throws IgniteCheckedException If failed.
+     */
+    private static void addSource(PriorityQueue<RowSource> queue, RowSource src) throws IgniteCheckedException {
+        if (src.next())
+            queue.add(src);
+        else
+            src.close();
+    }
+
+    /** Source of sorted rows for the merge. */
+    private abstract static class RowSource {
+        /** Current row. */
+        IndexRow row;
+
+        /**
+         * @return {@code False} if there are no more rows.
+         * @throws IgniteCheckedException If failed.
+         */
+        abstract boolean next() throws IgniteCheckedException;
+
+        /**
+         * Releases the source.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        void close() throws IgniteCheckedException {
+            // No-op.
+        }
+    }
+
+    /** Rows sorted in memory. */
+    private static class BufferSource extends RowSource {
+        /** Rows. */
+        private final Iterator<IndexRowImpl> it;
+
+        /**
+         * @param it Rows.
+         */
+        BufferSource(Iterator<IndexRowImpl> it) {
+            this.it = it;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean next() {
+            row = it.hasNext() ? it.next() : null;
+
+            return row != null;
+        }
+    }
+
+    /** Rows of the spilled run. */
+    private class RunSource extends RowSource {
+        /** Segment. */
+        private final int segment;
+
+        /** Run file. */
+        private final File run;
+
+        /** Run input. */
+        private final DataInputStream in;
+
+        /**
+         * @param segment Segment.
+         * @param run Run file.
+         * @throws IgniteCheckedException If failed.
+         */
+        RunSource(int segment, File run) throws IgniteCheckedException {
+            this.segment = segment;
+            this.run = run;
+
+            try {
+                in = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to read sorted index rows [file=" + run + ']', e);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean next() throws IgniteCheckedException {
+            long link;
+
+            try {
+                link = in.readLong();
+            }
+            catch (EOFException ignored) {
+                return false;
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to read sorted index rows [file=" + run + ']', e);
+            }
+
+            row = sortRow(idx.segment(segment).createIndexRow(link).cacheDataRow());
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override void close() {
+            U.closeQuiet(in);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.inline;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+
+/**
+ * Loads rows sorted in the index order to the empty index segments bottom-up, see {@link BPlusTree#bulkLoad(float)}.
+ * The index must not be updated until the load is finished. Each call must be done under the checkpoint read lock.
+ */
+public class InlineIndexBulkLoad {
+    /** Part of the page capacity filled by the bulk load, the rest is left for further inserts. */
+    public static final float DFLT_FILL_FACTOR = 0.9f;
+
+    /** Index. */
+    private final InlineIndexImpl idx;
+
+    /** Part of the page capacity to fill. */
+    private final float fillFactor;
+
+    /** Loaders of the segments, created on the first row of the segment. */
+    private final BPlusTree<IndexRow, IndexRow>.BulkLoad[] loads;
+
+    /**
+     * @param idx Index.
+     * @param fillFactor Part of the page capacity to fill.
+     */
+    @SuppressWarnings("unchecked")
+    public InlineIndexBulkLoad(InlineIndexImpl idx, float fillFactor) {
+        this.idx = idx;
+        this.fillFactor = fillFactor;
+
+        loads = new BPlusTree.BulkLoad[idx.segmentsCount()];
+    }
+
+    /**
+     * Adds the row next to the previously added row of the segment.
+     *
+     * @param segment Segment.
+     * @param row Index row, must be greater than the previously added row of the segment.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void add(int segment, IndexRow row) throws IgniteCheckedException {
+        InlineIndexTree tree = idx.segment(segment);
+
+        ThreadLocalRowHandlerHolder.rowHandler(tree.rowHandler());
+
+        try {
+            if (loads[segment] == null)
+                loads[segment] = tree.bulkLoad(fillFactor);
+
+            loads[segment].add(row);
+        }
+        finally {
+            ThreadLocalRowHandlerHolder.clearRowHandler();
+        }
+    }
+
+    /**
+     * Makes the loaded rows available in the index.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void finish() throws IgniteCheckedException {
+        for (int i = 0; i < loads.length; i++) {
+            if (loads[i] == null)
+                continue;
+
+            ThreadLocalRowHandlerHolder.rowHandler(idx.segment(i).rowHandler());
+
+            try {
+                loads[i].finish();
+            }
+            finally {
+                ThreadLocalRowHandlerHolder.clearRowHandler();
+            }
+        }
+    }
+}
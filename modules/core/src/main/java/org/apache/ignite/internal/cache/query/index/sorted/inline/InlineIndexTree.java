@@ -37,6 +37,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition
 import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineInnerIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineLeafIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageMemory;
@@ -266,7 +267,7 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
 
         IndexRow currRow = null;
 
-        int off = io.offset(idx);
+        long keysAddr = ((InlineIO)io).keysAddress(pageAddr, idx);
 
         List<IndexKeyDefinition> keyDefs = rowHnd.indexKeyDefinitions();
         List<InlineIndexKeyType> keyTypes = rowHnd.inlineIndexKeyTypes();
@@ -282,12 +283,12 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
 
                 InlineIndexKeyType keyType = keyTypes.get(keyIdx);
 
-                int cmp = def.rowComparator().compareKey(pageAddr, off + fieldOff, maxSize, row.key(keyIdx), keyType);
+                int cmp = def.rowComparator().compareKey(keysAddr, fieldOff, maxSize, row.key(keyIdx), keyType);
 
                 if (cmp == CANT_BE_COMPARE || cmp == COMPARE_UNSUPPORTED)
                     break;
                 else
-                    fieldOff += keyType.inlineSize(pageAddr, off + fieldOff);
+                    fieldOff += keyType.inlineSize(keysAddr, fieldOff);
 
                 if (cmp != 0) {
                     IndexKeyDefinition keyDef = keyDefs.get(keyIdx);
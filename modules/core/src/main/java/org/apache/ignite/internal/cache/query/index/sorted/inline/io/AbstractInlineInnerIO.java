@@ -30,6 +30,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
 
 /**
  * Inner page to store index rows with inlined keys.
@@ -115,13 +116,11 @@ public abstract class AbstractInlineInnerIO extends BPlusInnerIO<IndexRow> imple
     @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<IndexRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        int srcOff = srcIo.offset(srcIdx);
-
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
+        long srcKeysAddr = ((InlineIO)srcIo).keysAddress(srcPageAddr, srcIdx);
 
         int dstOff = offset(dstIdx);
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        PageHandler.copyMemory(srcKeysAddr, 0, dstPageAddr, dstOff, inlineSize);
 
         IORowHandler.store(dstPageAddr, dstOff + inlineSize, (InlineIO)srcIo, srcPageAddr, srcIdx);
     }
@@ -136,6 +135,11 @@ public abstract class AbstractInlineInnerIO extends BPlusInnerIO<IndexRow> imple
         return inlineSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public long keysAddress(long pageAddr, int idx) {
+        return pageAddr + offset(idx);
+    }
+
     /**
      * @param payload Payload size.
      * @return IOVersions for given payload.
@@ -25,11 +25,13 @@ import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandler
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
 import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusLeafIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
 
 /**
  * Leaf page to store index rows with inlined keys.
@@ -63,7 +65,13 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
         for (short payload = 1; payload <= PageIO.MAX_PAYLOAD_SIZE; payload++) {
             short ioType = (short)(PageIO.T_H2_EX_REF_LEAF_START + payload - 1);
 
-            IOVersions<? extends AbstractInlineLeafIO> versions = new IOVersions<>(new InlineLeafIO(ioType, payload));
+            int size = payload;
+
+            // Versions of compressed pages follow the uncompressed one, version is the number of shared bytes plus one.
+            IOVersions<BPlusLeafIO<IndexRow>> versions = new IOVersions<>(
+                ver -> new CompressedInlineLeafIO(ioType, size, ver - 1),
+                size + 1,
+                new InlineLeafIO(ioType, payload));
 
             PageIO.registerH2ExtraLeaf(versions);
         }
@@ -115,13 +123,11 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
     @Override public final void store(long dstPageAddr, int dstIdx, BPlusIO<IndexRow> srcIo, long srcPageAddr, int srcIdx) {
         assertPageType(dstPageAddr);
 
-        int srcOff = srcIo.offset(srcIdx);
-
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
+        long srcKeysAddr = ((InlineIO)srcIo).keysAddress(srcPageAddr, srcIdx);
 
         int dstOff = offset(dstIdx);
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        PageHandler.copyMemory(srcKeysAddr, 0, dstPageAddr, dstOff, inlineSize);
 
         IORowHandler.store(dstPageAddr, dstOff + inlineSize, (InlineIO)srcIo, srcPageAddr, srcIdx);
     }
@@ -136,6 +142,44 @@ public abstract class AbstractInlineLeafIO extends BPlusLeafIO<IndexRow> impleme
         return inlineSize;
     }
 
+    /** {@inheritDoc} */
+    @Override public long keysAddress(long pageAddr, int idx) {
+        return pageAddr + offset(idx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void splitForwardPage(
+        long pageAddr,
+        long fwdId,
+        long fwdPageAddr,
+        int mid,
+        int cnt,
+        int pageSize,
+        PageMetrics metrics
+    ) throws IgniteCheckedException {
+        if (CompressedInlineLeafIO.enabled())
+            CompressedInlineLeafIO.splitForwardPage(this, pageAddr, fwdId, fwdPageAddr, mid, cnt, pageSize, metrics);
+        else
+            super.splitForwardPage(pageAddr, fwdId, fwdPageAddr, mid, cnt, pageSize, metrics);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean merge(
+        BPlusIO<IndexRow> prntIo,
+        long prntPageAddr,
+        int prntIdx,
+        long leftPageAddr,
+        long rightPageAddr,
+        boolean emptyBranch,
+        int pageSize
+    ) throws IgniteCheckedException {
+        // Right page can be compressed.
+        if (PageIO.getVersion(rightPageAddr) == getVersion())
+            return super.merge(prntIo, prntPageAddr, prntIdx, leftPageAddr, rightPageAddr, emptyBranch, pageSize);
+
+        return CompressedInlineLeafIO.merge(this, leftPageAddr, rightPageAddr, emptyBranch, pageSize);
+    }
+
     /**
      * @param payload Payload size.
      * @return IOVersions for given payload.
@@ -73,4 +73,9 @@ public abstract class AbstractLeafIO extends BPlusLeafIO<IndexRow> implements In
     @Override public int inlineSize() {
         return 0;
     }
+
+    /** {@inheritDoc} */
+    @Override public long keysAddress(long pageAddr, int idx) {
+        return pageAddr + offset(idx);
+    }
 }
@@ -0,0 +1,805 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.inline.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
+import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
+import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusLeafIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_INLINE_KEYS_COMPRESSION;
+
+/**
+ * Leaf page to store index rows with compressed inlined keys. Bytes which are equal in all the inlined keys of the page,
+ * for example a common prefix of strings or high bytes of close numbers, are stored once in the page header, items
+ * keep only the rest of the inlined keys. Positions of the shared bytes are described by a few runs of adjacent bytes.
+ * <p>
+ * Item size depends on the number of the shared bytes, so each number has its own version of the IO. Leaf pages are
+ * converted to this format on split if it increases the page capacity. If a new row does not match the shared bytes,
+ * the page is rewritten to share fewer bytes. Capacity of a compressed page is limited to guarantee that a half of its
+ * items with a new row fit the page in the uncompressed format.
+ * <p>
+ * Page layout after the common B+Tree header:
+ * <pre>
+ * | runs count (1) | MAX_RUNS x (run offset (2), run length (2)) | shared bytes | items |
+ * </pre>
+ */
+public final class CompressedInlineLeafIO extends BPlusLeafIO<IndexRow> implements InlineIO {
+    /** Maximum number of runs of the shared bytes. */
+    private static final int MAX_RUNS = 4;
+
+    /** Minimum length of a run of the shared bytes. */
+    private static final int MIN_RUN_LEN = 2;
+
+    /** */
+    private static final int RUNS_CNT_OFF = ITEMS_OFF;
+
+    /** */
+    private static final int RUNS_OFF = RUNS_CNT_OFF + 1;
+
+    /** */
+    private static final int SHARED_OFF = RUNS_OFF + MAX_RUNS * 4;
+
+    /** Buffer for the decompressed inlined keys of an item. */
+    private static final ThreadLocal<ByteBuffer> KEYS_BUF =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(PageIO.MAX_PAYLOAD_SIZE));
+
+    /** Buffer for the inlined keys of a row. */
+    private static final ThreadLocal<ByteBuffer> ROW_BUF =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(PageIO.MAX_PAYLOAD_SIZE));
+
+    /** Buffer for a copy of the page being rewritten. */
+    private static final ThreadLocal<ByteBuffer> PAGE_BUF = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(0));
+
+    /** Whether leaf pages are compressed on split. */
+    private static volatile boolean enabled = IgniteSystemProperties.getBoolean(IGNITE_INDEX_INLINE_KEYS_COMPRESSION);
+
+    /** Amount of bytes to store inlined index keys. */
+    private final int inlineSize;
+
+    /** Number of the shared bytes. */
+    private final int sharedLen;
+
+    /**
+     * @param type Page type.
+     * @param inlineSize Size of calculated inlined index keys.
+     * @param sharedLen Number of the bytes shared by all the inlined keys of the page.
+     */
+    CompressedInlineLeafIO(short type, int inlineSize, int sharedLen) {
+        // Meta stores link to a cache row.
+        super(type, sharedLen + 1, inlineSize - sharedLen + 8);
+
+        assert sharedLen > 0 && sharedLen <= inlineSize : sharedLen;
+
+        this.inlineSize = inlineSize;
+        this.sharedLen = sharedLen;
+    }
+
+    /**
+     * @return {@code True} if leaf pages are compressed on split.
+     */
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled Whether leaf pages are compressed on split.
+     */
+    @TestOnly
+    public static void enabled(boolean enabled) {
+        CompressedInlineLeafIO.enabled = enabled;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int offset(int idx) {
+        assert idx >= 0 : idx;
+
+        return SHARED_OFF + sharedLen + idx * getItemSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getMaxCount(long pageAddr, int pageSize) {
+        return maxCount(inlineSize, sharedLen, pageSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void storeByOffset(long pageAddr, int off, IndexRow row) {
+        assert row.link() != 0 : row;
+        assertPageType(pageAddr);
+
+        long keysAddr = rowKeys(row, inlineSize);
+
+        // Only a row replacing the equal one can mismatch the shared bytes, keep the stored keys in this case.
+        if (matches(pageAddr, keysAddr))
+            compress(pageAddr, keysAddr, pageAddr + off);
+
+        IORowHandler.store(pageAddr, off + inlineSize - sharedLen, row);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void store(long dstPageAddr, int dstIdx, BPlusIO<IndexRow> srcIo, long srcPageAddr, int srcIdx) {
+        assertPageType(dstPageAddr);
+
+        long keysAddr = ((InlineIO)srcIo).keysAddress(srcPageAddr, srcIdx);
+
+        assert matches(dstPageAddr, keysAddr);
+
+        int dstOff = offset(dstIdx);
+
+        compress(dstPageAddr, keysAddr, dstPageAddr + dstOff);
+
+        IORowHandler.store(dstPageAddr, dstOff + inlineSize - sharedLen, (InlineIO)srcIo, srcPageAddr, srcIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public IndexRow getLookupRow(BPlusTree<IndexRow, ?> tree, long pageAddr, int idx)
+        throws IgniteCheckedException {
+        long link = link(pageAddr, idx);
+
+        assert link != 0;
+
+        return ((InlineIndexTree)tree).createIndexRow(link);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long link(long pageAddr, int idx) {
+        return PageUtils.getLong(pageAddr, offset(idx) + inlineSize - sharedLen);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int inlineSize() {
+        return inlineSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long keysAddress(long pageAddr, int idx) {
+        long keysAddr = GridUnsafe.bufferAddress(KEYS_BUF.get());
+
+        decompress(pageAddr, pageAddr + offset(idx), keysAddr);
+
+        return keysAddr;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean canStore(long pageAddr, IndexRow row) {
+        return matches(pageAddr, rowKeys(row, inlineSize));
+    }
+
+    /** {@inheritDoc} */
+    @Override public BPlusIO<IndexRow> rewrite(long pageAddr, IndexRow row, int pageSize) {
+        assertPageType(pageAddr);
+
+        long rowKeysAddr = rowKeys(row, inlineSize);
+
+        SharedBytes shared = sharedBytes(pageAddr);
+
+        // Keep only the shared bytes matching the row.
+        boolean[] eq = new boolean[inlineSize];
+
+        for (int r = 0; r < shared.runs; r++) {
+            for (int p = shared.offs[r]; p < shared.offs[r] + shared.lens[r]; p++)
+                eq[p] = GridUnsafe.getByte(rowKeysAddr + p) == shared.ref[p];
+        }
+
+        SharedBytes newShared = sharedBytes(eq, shared.ref, inlineSize, pageSize);
+
+        BPlusLeafIO<IndexRow> newIo = leafIo(inlineSize, newShared);
+
+        if (getCount(pageAddr) >= newIo.getMaxCount(pageAddr, pageSize))
+            return null;
+
+        convert(pageAddr, this, newIo, newShared, pageSize);
+
+        return newIo;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void splitForwardPage(
+        long pageAddr,
+        long fwdId,
+        long fwdPageAddr,
+        int mid,
+        int cnt,
+        int pageSize,
+        PageMetrics metrics
+    ) throws IgniteCheckedException {
+        splitForwardPage(this, pageAddr, fwdId, fwdPageAddr, mid, cnt, pageSize, metrics);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean merge(
+        BPlusIO<IndexRow> prntIo,
+        long prntPageAddr,
+        int prntIdx,
+        long leftPageAddr,
+        long rightPageAddr,
+        boolean emptyBranch,
+        int pageSize
+    ) throws IgniteCheckedException {
+        return merge(this, leftPageAddr, rightPageAddr, emptyBranch, pageSize);
+    }
+
+    /**
+     * Restores the inlined keys of the item.
+     *
+     * @param pageAddr Page address.
+     * @param itemAddr Item address.
+     * @param dstAddr Destination address.
+     */
+    private void decompress(long pageAddr, long itemAddr, long dstAddr) {
+        int runs = PageUtils.getUnsignedByte(pageAddr, RUNS_CNT_OFF);
+
+        long sharedAddr = pageAddr + SHARED_OFF;
+
+        int pos = 0;
+
+        for (int r = 0; r < runs; r++) {
+            int runOff = runOffset(pageAddr, r);
+            int runLen = runLength(pageAddr, r);
+
+            GridUnsafe.copyMemory(itemAddr, dstAddr + pos, runOff - pos);
+            GridUnsafe.copyMemory(sharedAddr, dstAddr + runOff, runLen);
+
+            itemAddr += runOff - pos;
+            sharedAddr += runLen;
+            pos = runOff + runLen;
+        }
+
+        GridUnsafe.copyMemory(itemAddr, dstAddr + pos, inlineSize - pos);
+    }
+
+    /**
+     * Stores the inlined keys which are not shared to the item.
+     *
+     * @param pageAddr Page address.
+     * @param keysAddr Inlined keys address.
+     * @param itemAddr Item address.
+     */
+    private void compress(long pageAddr, long keysAddr, long itemAddr) {
+        int runs = PageUtils.getUnsignedByte(pageAddr, RUNS_CNT_OFF);
+
+        int pos = 0;
+
+        for (int r = 0; r < runs; r++) {
+            int runOff = runOffset(pageAddr, r);
+
+            GridUnsafe.copyMemory(keysAddr + pos, itemAddr, runOff - pos);
+
+            itemAddr += runOff - pos;
+            pos = runOff + runLength(pageAddr, r);
+        }
+
+        GridUnsafe.copyMemory(keysAddr + pos, itemAddr, inlineSize - pos);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param keysAddr Inlined keys address.
+     * @return {@code True} if the inlined keys match the shared bytes of the page.
+     */
+    private boolean matches(long pageAddr, long keysAddr) {
+        int runs = PageUtils.getUnsignedByte(pageAddr, RUNS_CNT_OFF);
+
+        long sharedAddr = pageAddr + SHARED_OFF;
+
+        for (int r = 0; r < runs; r++) {
+            int runOff = runOffset(pageAddr, r);
+            int runLen = runLength(pageAddr, r);
+
+            for (int i = 0; i < runLen; i++) {
+                if (GridUnsafe.getByte(keysAddr + runOff + i) != GridUnsafe.getByte(sharedAddr + i))
+                    return false;
+            }
+
+            sharedAddr += runLen;
+        }
+
+        return true;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return Shared bytes of the page.
+     */
+    private SharedBytes sharedBytes(long pageAddr) {
+        int runs = PageUtils.getUnsignedByte(pageAddr, RUNS_CNT_OFF);
+
+        int[] offs = new int[runs];
+        int[] lens = new int[runs];
+        byte[] ref = new byte[inlineSize];
+
+        int sharedOff = SHARED_OFF;
+
+        for (int r = 0; r < runs; r++) {
+            offs[r] = runOffset(pageAddr, r);
+            lens[r] = runLength(pageAddr, r);
+
+            PageUtils.getBytes(pageAddr, sharedOff, ref, offs[r], lens[r]);
+
+            sharedOff += lens[r];
+        }
+
+        return new SharedBytes(offs, lens, ref);
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param r Run index.
+     * @return Offset of the run in the inlined keys.
+     */
+    private static int runOffset(long pageAddr, int r) {
+        return PageUtils.getShort(pageAddr, RUNS_OFF + r * 4) & 0xFFFF;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param r Run index.
+     * @return Length of the run.
+     */
+    private static int runLength(long pageAddr, int r) {
+        return PageUtils.getShort(pageAddr, RUNS_OFF + r * 4 + 2) & 0xFFFF;
+    }
+
+    /**
+     * @param inlineSize Inline size.
+     * @param sharedLen Number of the shared bytes.
+     * @param pageSize Page size.
+     * @return Max items count of a page.
+     */
+    private static int maxCount(int inlineSize, int sharedLen, int pageSize) {
+        return (pageSize - SHARED_OFF - sharedLen) / (inlineSize - sharedLen + 8);
+    }
+
+    /**
+     * Inlines keys of the row to a thread local buffer.
+     *
+     * @param row Row.
+     * @param inlineSize Inline size.
+     * @return Address of the inlined keys.
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach")
+    private static long rowKeys(IndexRow row, int inlineSize) {
+        long keysAddr = GridUnsafe.bufferAddress(ROW_BUF.get());
+
+        // Unused tail of the inlined keys must not differ from row to row.
+        GridUnsafe.setMemory(keysAddr, inlineSize, (byte)0);
+
+        int fieldOff = 0;
+
+        InlineIndexRowHandler rowHnd = ThreadLocalRowHandlerHolder.rowHandler();
+
+        for (int i = 0; i < rowHnd.inlineIndexKeyTypes().size(); i++) {
+            try {
+                InlineIndexKeyType keyType = rowHnd.inlineIndexKeyTypes().get(i);
+
+                int size = keyType.put(keysAddr, fieldOff, row.key(i), inlineSize - fieldOff);
+
+                // Inline size has exceeded.
+                if (size == 0)
+                    break;
+
+                fieldOff += size;
+            }
+            catch (Exception e) {
+                throw new IgniteException("Failed to store new index row.", e);
+            }
+        }
+
+        return keysAddr;
+    }
+
+    /**
+     * Splits the leaf page compressing the forward page if it is enabled.
+     *
+     * @param io IO of the page being split.
+     * @param pageAddr Splitting page address.
+     * @param fwdId Forward page ID.
+     * @param fwdPageAddr Forward page address.
+     * @param mid Bisection index.
+     * @param cnt Initial elements count in the page being split.
+     * @param pageSize Page size.
+     * @param metrics Page metrics.
+     */
+    static void splitForwardPage(
+        BPlusLeafIO<IndexRow> io,
+        long pageAddr,
+        long fwdId,
+        long fwdPageAddr,
+        int mid,
+        int cnt,
+        int pageSize,
+        PageMetrics metrics
+    ) {
+        InlineIO inlineIo = (InlineIO)io;
+
+        int inlineSize = inlineIo.inlineSize();
+
+        SharedBytes shared = null;
+
+        if (enabled) {
+            // Find bytes shared by all the items moved to the forward page.
+            byte[] ref = PageUtils.getBytes(inlineIo.keysAddress(pageAddr, mid), 0, inlineSize);
+
+            boolean[] eq = new boolean[inlineSize];
+
+            Arrays.fill(eq, true);
+
+            for (int i = mid + 1; i < cnt; i++) {
+                long keysAddr = inlineIo.keysAddress(pageAddr, i);
+
+                for (int p = 0; p < inlineSize; p++) {
+                    if (eq[p] && GridUnsafe.getByte(keysAddr + p) != ref[p])
+                        eq[p] = false;
+                }
+            }
+
+            shared = sharedBytes(eq, ref, inlineSize, pageSize);
+        }
+        else if (io instanceof CompressedInlineLeafIO)
+            shared = ((CompressedInlineLeafIO)io).sharedBytes(pageAddr);
+
+        BPlusLeafIO<IndexRow> fwdIo = leafIo(inlineSize, shared);
+
+        fwdIo.initNewPage(fwdPageAddr, fwdId, pageSize, metrics);
+
+        if (shared != null)
+            shared.write(fwdPageAddr);
+
+        for (int i = mid; i < cnt; i++)
+            storeItem(fwdIo, fwdPageAddr, i - mid, inlineIo.keysAddress(pageAddr, i), inlineIo.link(pageAddr, i));
+
+        fwdIo.setCount(fwdPageAddr, cnt - mid);
+        fwdIo.setForward(fwdPageAddr, io.getForward(pageAddr));
+
+        // Copy remove ID to make sure that if inner remove touched this page, then retry
+        // will happen even for newly allocated forward page.
+        fwdIo.setRemoveId(fwdPageAddr, io.getRemoveId(pageAddr));
+    }
+
+    /**
+     * Merges leaf pages which can have different formats.
+     *
+     * @param io Left page IO.
+     * @param leftPageAddr Left page address.
+     * @param rightPageAddr Right page address.
+     * @param emptyBranch We are merging an empty branch.
+     * @param pageSize Page size.
+     * @return {@code false} If we were not able to merge.
+     * @throws IgniteCheckedException If failed.
+     */
+    static boolean merge(
+        BPlusLeafIO<IndexRow> io,
+        long leftPageAddr,
+        long rightPageAddr,
+        boolean emptyBranch,
+        int pageSize
+    ) throws IgniteCheckedException {
+        BPlusLeafIO<IndexRow> rightIo = PageIO.getBPlusIO(rightPageAddr);
+
+        int inlineSize = ((InlineIO)io).inlineSize();
+
+        int leftCnt = io.getCount(leftPageAddr);
+        int rightCnt = rightIo.getCount(rightPageAddr);
+
+        int newCnt = leftCnt + rightCnt;
+
+        BPlusLeafIO<IndexRow> newIo = io;
+        SharedBytes newShared = null;
+
+        if (leftCnt == 0 && rightCnt > 0) {
+            // Empty page just takes the format of the right one.
+            if (rightIo instanceof CompressedInlineLeafIO)
+                newShared = ((CompressedInlineLeafIO)rightIo).sharedBytes(rightPageAddr);
+
+            newIo = leafIo(inlineSize, newShared);
+        }
+        else if (rightCnt > 0 && io instanceof CompressedInlineLeafIO) {
+            SharedBytes shared = ((CompressedInlineLeafIO)io).sharedBytes(leftPageAddr);
+
+            // Keep only the shared bytes matching all the right items.
+            boolean[] eq = new boolean[inlineSize];
+
+            for (int r = 0; r < shared.runs; r++)
+                Arrays.fill(eq, shared.offs[r], shared.offs[r] + shared.lens[r], true);
+
+            for (int i = 0; i < rightCnt; i++) {
+                long keysAddr = ((InlineIO)rightIo).keysAddress(rightPageAddr, i);
+
+                for (int p = 0; p < inlineSize; p++) {
+                    if (eq[p] && GridUnsafe.getByte(keysAddr + p) != shared.ref[p])
+                        eq[p] = false;
+                }
+            }
+
+            newShared = sharedBytes(eq, shared.ref, inlineSize, pageSize);
+
+            if (newShared == null || !newShared.equals(shared))
+                newIo = leafIo(inlineSize, newShared);
+            else
+                newShared = null;
+        }
+
+        if (newCnt > newIo.getMaxCount(leftPageAddr, pageSize)) {
+            assert !emptyBranch;
+
+            return false;
+        }
+
+        if (newIo != io || newShared != null)
+            convert(leftPageAddr, io, newIo, newShared, pageSize);
+
+        for (int i = 0; i < rightCnt; i++) {
+            storeItem(newIo, leftPageAddr, leftCnt + i, ((InlineIO)rightIo).keysAddress(rightPageAddr, i),
+                ((InlineIO)rightIo).link(rightPageAddr, i));
+        }
+
+        newIo.setCount(leftPageAddr, newCnt);
+        newIo.setForward(leftPageAddr, rightIo.getForward(rightPageAddr));
+
+        long rmvId = rightIo.getRemoveId(rightPageAddr);
+
+        // Need to have maximum remove ID.
+        if (rmvId > newIo.getRemoveId(leftPageAddr))
+            newIo.setRemoveId(leftPageAddr, rmvId);
+
+        return true;
+    }
+
+    /**
+     * Rewrites items of the page in another format.
+     *
+     * @param pageAddr Page address.
+     * @param io Current IO of the page.
+     * @param newIo New IO of the page.
+     * @param newShared Shared bytes of the new format, {@code null} for the uncompressed format.
+     * @param pageSize Page size.
+     */
+    private static void convert(
+        long pageAddr,
+        BPlusLeafIO<IndexRow> io,
+        BPlusLeafIO<IndexRow> newIo,
+        @Nullable SharedBytes newShared,
+        int pageSize
+    ) {
+        ByteBuffer pageBuf = PAGE_BUF.get();
+
+        if (pageBuf.capacity() < pageSize)
+            PAGE_BUF.set(pageBuf = ByteBuffer.allocateDirect(pageSize));
+
+        long copyAddr = GridUnsafe.bufferAddress(pageBuf);
+
+        GridUnsafe.copyMemory(pageAddr, copyAddr, pageSize);
+
+        PageIO.setVersion(pageAddr, newIo.getVersion());
+
+        if (newShared != null)
+            newShared.write(pageAddr);
+
+        int cnt = io.getCount(copyAddr);
+
+        for (int i = 0; i < cnt; i++) {
+            storeItem(newIo, pageAddr, i, ((InlineIO)io).keysAddress(copyAddr, i),
+                ((InlineIO)io).link(copyAddr, i));
+        }
+    }
+
+    /**
+     * @param io Page IO.
+     * @param pageAddr Page address.
+     * @param idx Index.
+     * @param keysAddr Inlined keys address.
+     * @param link Row link.
+     */
+    private static void storeItem(BPlusLeafIO<IndexRow> io, long pageAddr, int idx, long keysAddr, long link) {
+        int off = io.offset(idx);
+
+        int keysSize;
+
+        if (io instanceof CompressedInlineLeafIO) {
+            CompressedInlineLeafIO io0 = (CompressedInlineLeafIO)io;
+
+            assert io0.matches(pageAddr, keysAddr);
+
+            io0.compress(pageAddr, keysAddr, pageAddr + off);
+
+            keysSize = io0.inlineSize - io0.sharedLen;
+        }
+        else {
+            keysSize = ((InlineIO)io).inlineSize();
+
+            PageHandler.copyMemory(keysAddr, 0, pageAddr, off, keysSize);
+        }
+
+        PageUtils.putLong(pageAddr, off + keysSize, link);
+    }
+
+    /**
+     * @param inlineSize Inline size.
+     * @param shared Shared bytes, {@code null} for the uncompressed format.
+     * @return Leaf IO.
+     */
+    private static BPlusLeafIO<IndexRow> leafIo(int inlineSize, @Nullable SharedBytes shared) {
+        return AbstractInlineLeafIO.versions(inlineSize).forVersion(shared == null ? 1 : shared.len + 1);
+    }
+
+    /**
+     * Chooses runs of the shared bytes to compress a page.
+     *
+     * @param eq Flags of the bytes shared by all the inlined keys.
+     * @param ref Reference inlined keys.
+     * @param inlineSize Inline size.
+     * @param pageSize Page size.
+     * @return Shared bytes or {@code null} if the compression does not increase the page capacity.
+     */
+    private static @Nullable SharedBytes sharedBytes(boolean[] eq, byte[] ref, int inlineSize, int pageSize) {
+        int[] offs = new int[MAX_RUNS];
+        int[] lens = new int[MAX_RUNS];
+
+        int runs = 0;
+
+        // Keep the longest runs.
+        for (int p = 0; p < inlineSize; ) {
+            if (!eq[p]) {
+                p++;
+
+                continue;
+            }
+
+            int off = p;
+
+            while (p < inlineSize && eq[p])
+                p++;
+
+            int len = p - off;
+
+            if (len < MIN_RUN_LEN)
+                continue;
+
+            if (runs < MAX_RUNS) {
+                offs[runs] = off;
+                lens[runs++] = len;
+
+                continue;
+            }
+
+            int min = 0;
+
+            for (int r = 1; r < runs; r++) {
+                if (lens[r] < lens[min])
+                    min = r;
+            }
+
+            if (lens[min] < len) {
+                // Keep the runs ordered by offset.
+                System.arraycopy(offs, min + 1, offs, min, runs - min - 1);
+                System.arraycopy(lens, min + 1, lens, min, runs - min - 1);
+
+                offs[runs - 1] = off;
+                lens[runs - 1] = len;
+            }
+        }
+
+        int len = 0;
+
+        for (int r = 0; r < runs; r++)
+            len += lens[r];
+
+        int plainMaxCnt = (pageSize - ITEMS_OFF) / (inlineSize + 8);
+
+        // Any half of the page items with a new row must fit the page in the uncompressed format.
+        while (len > 0 && maxCount(inlineSize, len, pageSize) > 2 * (plainMaxCnt - 2)) {
+            if (lens[runs - 1] > MIN_RUN_LEN) {
+                lens[runs - 1]--;
+                len--;
+            }
+            else
+                len -= lens[--runs];
+        }
+
+        if (len == 0 || maxCount(inlineSize, len, pageSize) <= plainMaxCnt)
+            return null;
+
+        return new SharedBytes(Arrays.copyOf(offs, runs), Arrays.copyOf(lens, runs), ref);
+    }
+
+    /**
+     * Bytes shared by all the inlined keys of a page.
+     */
+    private static class SharedBytes {
+        /** Number of runs. */
+        private final int runs;
+
+        /** Offsets of the runs. */
+        private final int[] offs;
+
+        /** Lengths of the runs. */
+        private final int[] lens;
+
+        /** Inlined keys containing the shared bytes. */
+        private final byte[] ref;
+
+        /** Number of the shared bytes. */
+        private final int len;
+
+        /**
+         * @param offs Offsets of the runs.
+         * @param lens Lengths of the runs.
+         * @param ref Inlined keys containing the shared bytes.
+         */
+        private SharedBytes(int[] offs, int[] lens, byte[] ref) {
+            assert offs.length == lens.length && offs.length <= MAX_RUNS;
+
+            this.offs = offs;
+            this.lens = lens;
+            this.ref = ref;
+
+            runs = offs.length;
+
+            int len0 = 0;
+
+            for (int l : lens)
+                len0 += l;
+
+            len = len0;
+        }
+
+        /**
+         * @param pageAddr Page address.
+         */
+        private void write(long pageAddr) {
+            PageUtils.putUnsignedByte(pageAddr, RUNS_CNT_OFF, runs);
+
+            int sharedOff = SHARED_OFF;
+
+            for (int r = 0; r < MAX_RUNS; r++) {
+                PageUtils.putShort(pageAddr, RUNS_OFF + r * 4, (short)(r < runs ? offs[r] : 0));
+                PageUtils.putShort(pageAddr, RUNS_OFF + r * 4 + 2, (short)(r < runs ? lens[r] : 0));
+
+                if (r < runs) {
+                    PageUtils.putBytes(pageAddr, sharedOff, ref, offs[r], lens[r]);
+
+                    sharedOff += lens[r];
+                }
+            }
+        }
+
+        /**
+         * @param other Other shared bytes.
+         * @return {@code True} if the runs are the same.
+         */
+        private boolean equals(SharedBytes other) {
+            return Arrays.equals(offs, other.offs) && Arrays.equals(lens, other.lens);
+        }
+    }
+}
@@ -32,4 +32,14 @@ public interface InlineIO {
      * @return Number of bytes stored in the inline payload.
      */
     public int inlineSize();
+
+    /**
+     * Gets address of the inlined keys of the item. The address may point to a thread local buffer, so it is valid
+     * only until the next call of this method by the thread.
+     *
+     * @param pageAddr Page address.
+     * @param idx Index.
+     * @return Address of {@link #inlineSize()} bytes of the inlined keys.
+     */
+    public long keysAddress(long pageAddr, int idx);
 }
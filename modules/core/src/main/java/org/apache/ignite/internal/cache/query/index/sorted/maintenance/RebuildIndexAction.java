@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.cache.query.index.sorted.maintenance;
 
+import java.io.File;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -26,6 +27,7 @@ import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.cache.query.index.Index;
 import org.apache.ignite.internal.cache.query.index.IndexDefinition;
 import org.apache.ignite.internal.cache.query.index.IndexProcessor;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexBulkBuilder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexFactory;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
@@ -50,6 +52,9 @@ import static org.apache.ignite.internal.processors.cache.persistence.Checkpoint
  * Maintenance action that handles index rebuilding.
  */
 public class RebuildIndexAction implements MaintenanceAction<Boolean> {
+    /** Directory of the rows sorted in temporary files, relative to the work directory. */
+    private static final String INDEX_REBUILD_SORT_DIR = "index_rebuild_sort";
+
     /** Indexes to rebuild. */
     private final List<MaintenanceRebuildIndexTarget> indexesToRebuild;
 
@@ -168,16 +173,32 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
 
         IndexRebuildCancelToken token = new IndexRebuildCancelToken();
 
+        IndexProcessor idxProc = ctx.indexProcessor();
+
+        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
+
+        TableDescriptor tblDesc = oldIdxDesc.table();
+        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
+
         SchemaIndexCacheVisitorImpl visitor = new SchemaIndexCacheVisitorImpl(cctx, token, createIdxFut) {
             /** {@inheritDoc} */
             @Override public void visit(SchemaIndexCacheVisitorClosure clo) {
                 // Rebuild index after it is created.
                 storage.onStartRebuildIndexes(cctx, false);
 
-                try {
-                    super.visit(clo);
+                InlineIndexImpl idx = idxProc.index(definition.idxName()).unwrap(InlineIndexImpl.class);
+
+                // Nothing updates the cache in the maintenance mode, so the collected rows are sorted
+                // and loaded to the index bottom-up instead of inserting them one by one.
+                try (InlineIndexBulkBuilder builder = new InlineIndexBulkBuilder(idx, sortDirectory())) {
+                    super.visit(row -> {
+                        if (idx.canHandle(row))
+                            builder.add(row);
+                    });
 
                     buildIdxFut.get();
+
+                    builder.build(cctx.shared().database());
                 }
                 catch (Exception e) {
                     throw new IgniteException(e);
@@ -188,13 +209,6 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
             }
         };
 
-        IndexProcessor idxProc = ctx.indexProcessor();
-
-        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
-
-        TableDescriptor tblDesc = oldIdxDesc.table();
-        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
-
         Index newIdx = idxProc.createIndexDynamically(tblDesc.cacheInfo().cacheContext(),
             InlineIndexFactory.INSTANCE, definition, visitor);
 
@@ -212,6 +226,13 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
         assert createIdxFut.isDone();
     }
 
+    /**
+     * @return Directory of the rows sorted in temporary files.
+     */
+    private File sortDirectory() {
+        return new File(ctx.config().getWorkDirectory(), INDEX_REBUILD_SORT_DIR);
+    }
+
     /**
      * Prepares system for the rebuild.
      *
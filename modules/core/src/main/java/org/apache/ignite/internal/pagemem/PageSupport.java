@@ -85,6 +85,20 @@ public interface PageSupport {
      */
     public void readUnlock(int grpId, long pageId, long page);
 
+    /**
+     * Copies the page without taking the read lock. The copy is consistent only if the page was not write locked
+     * during the copy, otherwise the caller must fall back to {@link #readLock(int, long, long)}.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param buf Address of a buffer of the page size to copy the page to.
+     * @return {@code True} if the page was copied consistently.
+     */
+    public default boolean readOptimistic(int grpId, long pageId, long page, long buf) {
+        return false;
+    }
+
     /**
      *
      * @param grpId Cache group ID.
@@ -552,6 +552,20 @@ public class PageMemoryNoStoreImpl implements PageMemory {
         rwLock.readUnlock(page + LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean readOptimistic(int cacheId, long pageId, long page, long buf) {
+        assert started;
+
+        long stamp = rwLock.tryOptimisticRead(page + LOCK_OFFSET, PageIdUtils.tag(pageId));
+
+        if (stamp == 0L)
+            return false;
+
+        GridUnsafe.copyMemory(page + PAGE_OVERHEAD, buf, pageSize());
+
+        return rwLock.validate(page + LOCK_OFFSET, stamp);
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int cacheId, long pageId, long page) {
         assert started;
@@ -95,6 +95,41 @@ public interface PageStore extends Closeable {
      */
     public void write(long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with consecutive indexes, the default implementation writes them one by one.
+     *
+     * @param pageIds Page IDs, the index of every next page is greater by one.
+     * @param cnt Number of pages.
+     * @param pagesBuf Buffer with the content of the pages from its beginning to the limit.
+     * @param tag Partition file version, see {@link #write(long, ByteBuffer, int, boolean)}.
+     * @param calculateCrc if {@code False} crc calculation will be forcibly skipped.
+     * @throws IgniteCheckedException If page writing failed (IO error occurred).
+     */
+    public default void write(
+        long[] pageIds,
+        int cnt,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++)
+            write(pageIds[i], pageBuffer(pagesBuf, i, getPageSize()), tag, calculateCrc);
+    }
+
+    /**
+     * @param pagesBuf Buffer with the content of several pages.
+     * @param idx Index of the page in the buffer.
+     * @param pageSize Page size.
+     * @return Buffer with the content of the page, positioned at zero.
+     */
+    public static ByteBuffer pageBuffer(ByteBuffer pagesBuf, int idx, int pageSize) {
+        ByteBuffer buf = pagesBuf.duplicate();
+
+        buf.limit((idx + 1) * pageSize).position(idx * pageSize);
+
+        return buf.slice().order(pagesBuf.order());
+    }
+
     /**
      * Gets page offset within the store file.
      *
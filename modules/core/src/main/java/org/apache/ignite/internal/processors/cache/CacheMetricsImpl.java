@@ -57,6 +57,9 @@ public class CacheMetricsImpl implements CacheMetrics {
     private static final int REBALANCE_RATE_INTERVAL = IgniteSystemProperties.getInteger(
         IgniteSystemProperties.IGNITE_REBALANCE_STATISTICS_TIME_INTERVAL, 60000);
 
+    /** Index rebuild rate interval. */
+    private static final int IDX_REBUILD_RATE_INTERVAL = 10_000;
+
     /** */
     private static final long NANOS_IN_MICROSECOND = 1000L;
 
@@ -234,6 +237,12 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** The number of local node partitions that remain to be processed to complete indexing. */
     private final IntMetricImpl idxBuildPartitionsLeftCnt;
 
+    /** Estimated number of keys to process during index rebuilding. */
+    private final AtomicLongMetric idxRebuildKeysTotal;
+
+    /** Index rebuild speed in keys. */
+    private final HitRateMetric idxRebuildKeysRate;
+
     /** Cache metric registry. */
     private final MetricRegistryImpl mreg;
 
@@ -436,6 +445,20 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         idxBuildPartitionsLeftCnt = mreg.intMetric("IndexBuildPartitionsLeftCount",
             "The number of local node partitions that remain to be processed to complete indexing.");
+
+        idxRebuildKeysTotal = mreg.longMetric("IndexRebuildKeysTotal",
+            "Estimated number of keys to process during the index rebuilding.");
+
+        idxRebuildKeysRate = mreg.hitRateMetric("IndexRebuildKeysRate",
+            "Index rebuild speed in keys processed within the last " + IDX_REBUILD_RATE_INTERVAL + " milliseconds.",
+            IDX_REBUILD_RATE_INTERVAL,
+            20);
+
+        mreg.register("IndexRebuildKeysPerSecond", this::getIndexRebuildKeysPerSecond,
+            "Index rebuild speed in keys per second.");
+
+        mreg.register("IndexRebuildEstimatedTimeLeft", this::getIndexRebuildEstimatedTimeLeft,
+            "Estimated time left to complete the index rebuilding in milliseconds, -1 if unknown.");
     }
 
     /**
@@ -758,6 +781,8 @@ public class CacheMetricsImpl implements CacheMetrics {
         txKeyCollisionInfo = null;
 
         idxRebuildKeyProcessed.reset();
+        idxRebuildKeysTotal.reset();
+        idxRebuildKeysRate.reset();
 
         if (rslvrAcceptedCnt != null)
             rslvrAcceptedCnt.reset();
@@ -1687,6 +1712,8 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** Reset metric - number of keys processed during index rebuilding. */
     public void resetIndexRebuildKeyProcessed() {
         idxRebuildKeyProcessed.reset();
+        idxRebuildKeysTotal.reset();
+        idxRebuildKeysRate.reset();
     }
 
     /**
@@ -1696,6 +1723,37 @@ public class CacheMetricsImpl implements CacheMetrics {
      */
     public void addIndexRebuildKeyProcessed(long val) {
         idxRebuildKeyProcessed.add(val);
+        idxRebuildKeysRate.add(val);
+    }
+
+    /**
+     * Increase estimated number of keys to process during index rebuilding.
+     *
+     * @param val Number of keys.
+     */
+    public void addIndexRebuildKeysTotal(long val) {
+        idxRebuildKeysTotal.add(val);
+    }
+
+    /**
+     * @return Index rebuild speed in keys per second.
+     */
+    public long getIndexRebuildKeysPerSecond() {
+        return idxRebuildKeysRate.value() * 1000 / IDX_REBUILD_RATE_INTERVAL;
+    }
+
+    /**
+     * @return Estimated time left to complete the index rebuilding in milliseconds, {@code -1} if unknown.
+     */
+    public long getIndexRebuildEstimatedTimeLeft() {
+        long rate = idxRebuildKeysRate.value();
+
+        if (rate <= 0)
+            return -1L;
+
+        long left = Math.max(0, idxRebuildKeysTotal.value() - idxRebuildKeyProcessed.value());
+
+        return left * IDX_REBUILD_RATE_INTERVAL / rate;
     }
 
     /** */
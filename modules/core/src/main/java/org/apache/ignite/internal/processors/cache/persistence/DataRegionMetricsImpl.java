@@ -27,6 +27,7 @@ import org.apache.ignite.DataRegionMetricsProvider;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetricsImpl;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
@@ -123,6 +124,12 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric readPagesTime;
 
+    /** */
+    private final LongAdderMetric hitPages;
+
+    /** */
+    private final LongAdderMetric readAheadPages;
+
     /** */
     private final LongAdderMetric writtenPages;
 
@@ -255,6 +262,17 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         readPagesTime = mreg.longAdderMetric("PagesReadTime",
             "Total pages read time in nanoseconds since last restart.");
 
+        hitPages = mreg.longAdderMetric("PagesHit",
+            "Number of page accesses served from memory without reading the page from persistent storage " +
+                "since last restart.");
+
+        mreg.register("PagesHitRatio", this::getPagesHitRatio,
+            "Ratio of page accesses served from memory to all page accesses which either hit the memory or read " +
+                "the page from persistent storage since last restart.");
+
+        readAheadPages = mreg.longAdderMetric("PagesReadAhead",
+            "Number of pages read ahead of sequential reads of partition files since last restart.");
+
         writtenPages = mreg.longAdderMetric("PagesWritten",
             "Number of pages written from last restart.");
 
@@ -553,6 +571,36 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         }
     }
 
+    /**
+     * @return Ratio of page accesses served from memory to all page accesses which either hit the memory or read the
+     * page from persistent storage.
+     */
+    public double getPagesHitRatio() {
+        if (!metricsEnabled)
+            return 0;
+
+        long hits = hitPages.value();
+        long total = hits + readPages.value();
+
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
+    /**
+     * Updates page hit.
+     */
+    public void onPageHit() {
+        if (metricsEnabled)
+            hitPages.increment();
+    }
+
+    /**
+     * Updates page read by the sequential read-ahead.
+     */
+    public void onPageReadAhead() {
+        if (metricsEnabled)
+            readAheadPages.increment();
+    }
+
     /**
      * Updates page read.
      *
@@ -764,6 +812,20 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         mreg.register("UsedCheckpointBufferSize",
             this::getUsedCheckpointBufferSize,
             "Gets used checkpoint buffer size in bytes");
+
+        mreg.register("DirtyPagesMaxAge",
+            this::getDirtyPagesMaxAge,
+            "Gets age of the oldest page marked dirty since the last checkpoint began, in milliseconds");
+    }
+
+    /**
+     * @return Age of the oldest page marked dirty since the last checkpoint began, in milliseconds.
+     */
+    public long getDirtyPagesMaxAge() {
+        if (!persistenceEnabled || !(pageMem instanceof PageMemoryEx))
+            return 0;
+
+        return ((PageMemoryEx)pageMem).dirtyPagesMaxAge();
     }
 
     /**
@@ -810,6 +872,8 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         dirtyPages.reset();
         readPages.reset();
         readPagesTime.reset();
+        hitPages.reset();
+        readAheadPages.reset();
         writtenPages.reset();
         replacedPages.reset();
         pageReplaceTime.reset();
@@ -167,6 +167,15 @@ public class DataStorageMetricsImpl {
     /** */
     private final HistogramMetricImpl cpHistogram;
 
+    /** */
+    private final HistogramMetricImpl walFsyncHistogram;
+
+    /** */
+    private final HistogramMetricImpl walFsyncBatchHistogram;
+
+    /** */
+    private final HistogramMetricImpl walCommitHistogram;
+
     /** Total number of logged bytes into the WAL. */
     private final LongAdderMetric walWrittenBytes;
 
@@ -333,6 +342,17 @@ public class DataStorageMetricsImpl {
         cpHistogram = mreg.histogram("CheckpointHistogram", cpBounds,
                 "Histogram of checkpoint duration in milliseconds.");
 
+        long[] walBounds = new long[] {50, 100, 500, 1000, 5000, 10000, 50000};
+
+        walFsyncHistogram = mreg.histogram("WalFsyncHistogram", walBounds,
+            "Histogram of WAL fsync duration in microseconds.");
+
+        walFsyncBatchHistogram = mreg.histogram("WalFsyncBatchHistogram", new long[] {1, 2, 4, 8, 16, 32, 64},
+            "Histogram of the number of commits waiting for a single WAL fsync.");
+
+        walCommitHistogram = mreg.histogram("WalCommitHistogram", walBounds,
+            "Histogram of the time commits wait for the WAL fsync in microseconds.");
+
         walWrittenBytes = mreg.longAdderMetric(
             "WalWrittenBytes",
             "Total number of logged bytes into the WAL."
@@ -778,8 +798,9 @@ public class DataStorageMetricsImpl {
 
     /**
      * @param nanoTime Fsync nano time.
+     * @param batch Number of commits waiting for the fsync.
      */
-    public void onFsync(long nanoTime) {
+    public void onFsync(long nanoTime, int batch) {
         if (!metricsEnabled)
             return;
 
@@ -787,6 +808,21 @@ public class DataStorageMetricsImpl {
 
         walFsyncTimeDuration.add(microseconds);
         walFsyncTimeNum.increment();
+
+        walFsyncHistogram.value(microseconds);
+        walFsyncBatchHistogram.value(batch);
+    }
+
+    /**
+     * Callback on a commit satisfied by the WAL fsync.
+     *
+     * @param nanoTime Time the commit waited for the fsync in nanoseconds.
+     */
+    public void onWalCommit(long nanoTime) {
+        if (!metricsEnabled)
+            return;
+
+        walCommitHistogram.value(nanoTime / 1_000);
     }
 
     /**
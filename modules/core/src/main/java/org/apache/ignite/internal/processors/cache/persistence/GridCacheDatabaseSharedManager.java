@@ -128,6 +128,7 @@ import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPa
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PagePartitionMetaIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ReadAheadWalIterator;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager;
@@ -171,6 +172,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_WAL_REBALANCE_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PREFER_WAL_REBALANCE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_RECOVERY_WAL_READ_AHEAD;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.cluster.DistributedConfigurationUtils.makeUpdateListener;
@@ -247,6 +249,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     /** @see IgniteSystemProperties#IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE */
     public static final int DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE = 60;
 
+    /** @see IgniteSystemProperties#IGNITE_RECOVERY_WAL_READ_AHEAD */
+    public static final int DFLT_RECOVERY_WAL_READ_AHEAD = 16 * 1024;
+
     /**
      * Threshold value to use history or full rebalance for local partition.
      * Master value contained in {@link #historicalRebalanceThreshold}.
@@ -268,6 +273,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     private final int defragmentationRegionSizePercentageOfConfiguredSize =
         getInteger(IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE, DFLT_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE);
 
+    /** Max number of WAL records read ahead of applying them on recovery. */
+    private final int recoveryWalReadAhead = getInteger(IGNITE_RECOVERY_WAL_READ_AHEAD, DFLT_RECOVERY_WAL_READ_AHEAD);
+
     /** WAL marker prefix for meta store. */
     private static final String WAL_KEY_PREFIX = "grp-wal-";
 
@@ -2230,7 +2238,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         long lastArchivedSegment = cctx.wal().lastArchivedSegment();
 
-        WALIterator it = cctx.wal().replay(recPtr, recordTypePredicate);
+        WALIterator it = recoveryIterator(recPtr, recordTypePredicate);
 
         RestoreBinaryState restoreBinaryState = new RestoreBinaryState(status, it, lastArchivedSegment, cacheGroupsPredicate);
 
@@ -2383,6 +2391,27 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         return restoreBinaryState;
     }
 
+    /**
+     * Creates an iterator over the WAL records to recover. The records are read and deserialized in a separate thread
+     * while the previously read ones are applied, see {@link IgniteSystemProperties#IGNITE_RECOVERY_WAL_READ_AHEAD}.
+     *
+     * @param start Start pointer.
+     * @param recordTypePredicate Filter by record type.
+     * @return WAL iterator.
+     * @throws IgniteCheckedException If failed.
+     */
+    private WALIterator recoveryIterator(
+        WALPointer start,
+        IgniteBiPredicate<WALRecord.RecordType, WALPointer> recordTypePredicate
+    ) throws IgniteCheckedException {
+        WALIterator it = cctx.wal().replay(start, recordTypePredicate);
+
+        if (recoveryWalReadAhead <= 0)
+            return it;
+
+        return new ReadAheadWalIterator(it, recoveryWalReadAhead, cctx.igniteInstanceName());
+    }
+
     /**
      * @param consumer Runnable task.
      * @param grpId Group Id.
@@ -2614,7 +2643,7 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         Map<GroupPartitionId, Integer> partitionRecoveryStates = new HashMap<>();
 
-        WALIterator it = cctx.wal().replay(status.startPtr, recordTypePredicate);
+        WALIterator it = recoveryIterator(status.startPtr, recordTypePredicate);
 
         RestoreLogicalState restoreLogicalState =
             new RestoreLogicalState(status, it, lastArchivedSegment, cacheGroupsPredicate, partitionRecoveryStates);
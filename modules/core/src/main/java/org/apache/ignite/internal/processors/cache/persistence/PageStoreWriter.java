@@ -38,4 +38,24 @@ public interface PageStoreWriter {
      * @throws IgniteCheckedException If write page failed.
      */
     void writePage(FullPageId fullPageId, ByteBuffer buf, int tag) throws IgniteCheckedException;
+
+    /**
+     * Callback for write page which allows to defer the write. {@link PageMemoryEx} keeps the page pinned, so that it
+     * can't be replaced and read from the store before it is written, until {@code release} is run. The writer must
+     * run {@code release} exactly once, even if the write fails.
+     *
+     * @param fullPageId Page ID.
+     * @param buf Temporary buffer with the page content, may be reused after the method returns.
+     * @param tag {@code Partition generation}.
+     * @param release Action releasing the page.
+     * @throws IgniteCheckedException If write page failed.
+     */
+    default void writePage(FullPageId fullPageId, ByteBuffer buf, int tag, Runnable release) throws IgniteCheckedException {
+        try {
+            writePage(fullPageId, buf, tag);
+        }
+        finally {
+            release.run();
+        }
+    }
 }
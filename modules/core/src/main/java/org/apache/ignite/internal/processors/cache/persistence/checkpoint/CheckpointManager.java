@@ -31,6 +31,8 @@ import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.LongJVMPauseDetector;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheProcessor;
@@ -185,7 +187,19 @@ public class CheckpointManager {
         checkpointPagesWriterFactory = new CheckpointPagesWriterFactory(
             cacheProcessor.context().kernalContext(),
             logger,
-            (pageMemEx, fullPage, buf, tag) -> pageStoreManager.write(fullPage.groupId(), fullPage.pageId(), buf, tag, true),
+            new CheckpointPagesWriter.CheckpointPageWriter() {
+                /** {@inheritDoc} */
+                @Override public PageStore write(PageMemoryEx pageMemEx, FullPageId fullPageId, ByteBuffer buf, int tag)
+                    throws IgniteCheckedException {
+                    return pageStoreManager.write(fullPageId.groupId(), fullPageId.pageId(), buf, tag, true);
+                }
+
+                /** {@inheritDoc} */
+                @Override public PageStore write(PageMemoryEx pageMemEx, int grpId, long[] pageIds, int cnt,
+                    ByteBuffer buf, int tag) throws IgniteCheckedException {
+                    return pageStoreManager.write(grpId, pageIds, cnt, buf, tag, true);
+                }
+            },
             persStoreMetrics,
             throttlingPolicy, threadBuf,
             pageMemoryGroupResolver
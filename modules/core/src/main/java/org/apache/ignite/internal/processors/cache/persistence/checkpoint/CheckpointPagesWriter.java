@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -35,10 +36,13 @@ import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemor
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagemem.PageIdUtils.partId;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getType;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getVersion;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
@@ -86,6 +90,9 @@ public class CheckpointPagesWriter implements Runnable {
     /** Shutdown now. */
     private final BooleanSupplier shutdownNow;
 
+    /** Max number of pages with consecutive indexes written by a single I/O operation. */
+    private final int coalescePages;
+
     /**
      * Creates task for write pages
      *
@@ -102,6 +109,7 @@ public class CheckpointPagesWriter implements Runnable {
      * @param progress Checkpoint progress.
      * @param pageWriter File page store manager.
      * @param shutdownNow Shutdown supplier.
+     * @param coalescePages Max number of pages with consecutive indexes written by a single I/O operation.
      */
     CheckpointPagesWriter(
         CheckpointMetricsTracker tracker,
@@ -116,7 +124,8 @@ public class CheckpointPagesWriter implements Runnable {
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver,
         CheckpointProgressImpl progress,
         CheckpointPageWriter pageWriter,
-        BooleanSupplier shutdownNow
+        BooleanSupplier shutdownNow,
+        int coalescePages
     ) {
         this.tracker = tracker;
         this.writePageIds = writePageIds;
@@ -131,6 +140,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.curCpProgress = progress;
         this.pageWriter = pageWriter;
         this.shutdownNow = shutdownNow;
+        this.coalescePages = coalescePages;
     }
 
     /** {@inheritDoc} */
@@ -179,6 +189,42 @@ public class CheckpointPagesWriter implements Runnable {
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
+        PagesBatch batch = coalescePages > 1 ? new PagesBatch(coalescePages, tmpWriteBuf.capacity()) : null;
+
+        try {
+            writePages(writePageIds, res, pagesToRetry, pageStoreWriters, batch, tmpWriteBuf, throttlingEnabled, tracker);
+        }
+        finally {
+            if (batch != null)
+                batch.close();
+        }
+
+        return pagesToRetry.isEmpty() ?
+            GridConcurrentMultiPairQueue.EMPTY :
+            new GridConcurrentMultiPairQueue<>(pagesToRetry);
+    }
+
+    /**
+     * @param writePageIds Collections of pages to write.
+     * @param res Result holder.
+     * @param pagesToRetry Pages which should be retried.
+     * @param pageStoreWriters Page store writers.
+     * @param batch Batch of pages to write at once or {@code null} if pages are written one by one.
+     * @param tmpWriteBuf Page buffer.
+     * @param throttlingEnabled Throttling enabled flag.
+     * @param tracker Checkpoint metrics tracker.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void writePages(
+        GridConcurrentMultiPairQueue<PageMemoryEx, FullPageId> writePageIds,
+        GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res,
+        Map<PageMemoryEx, List<FullPageId>> pagesToRetry,
+        Map<PageMemoryEx, PageStoreWriter> pageStoreWriters,
+        PagesBatch batch,
+        ByteBuffer tmpWriteBuf,
+        boolean throttlingEnabled,
+        CheckpointMetricsTracker tracker
+    ) throws IgniteCheckedException {
         while (writePageIds.next(res)) {
             if (shutdownNow.getAsBoolean())
                 break;
@@ -191,8 +237,8 @@ public class CheckpointPagesWriter implements Runnable {
 
             tmpWriteBuf.rewind();
 
-            PageStoreWriter pageStoreWriter =
-                pageStoreWriters.computeIfAbsent(pageMem, pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
+            PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMem,
+                pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry, batch));
 
             pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker, false);
 
@@ -210,9 +256,8 @@ public class CheckpointPagesWriter implements Runnable {
             }
         }
 
-        return pagesToRetry.isEmpty() ?
-            GridConcurrentMultiPairQueue.EMPTY :
-            new GridConcurrentMultiPairQueue<>(pagesToRetry);
+        if (batch != null)
+            batch.flush();
     }
 
     /**
@@ -220,11 +265,13 @@ public class CheckpointPagesWriter implements Runnable {
      *
      * @param pageMemEx
      * @param pagesToRetry List pages for retry.
+     * @param batch Batch of pages to write at once or {@code null} if pages are written one by one.
      * @return Checkpoint page write context.
      */
     private PageStoreWriter createPageStoreWriter(
         PageMemoryEx pageMemEx,
-        Map<PageMemoryEx, List<FullPageId>> pagesToRetry
+        Map<PageMemoryEx, List<FullPageId>> pagesToRetry,
+        PagesBatch batch
     ) {
         return new PageStoreWriter() {
             /** {@inheritDoc} */
@@ -236,27 +283,217 @@ public class CheckpointPagesWriter implements Runnable {
                     return;
                 }
 
-                long pageId = fullPageId.pageId();
+                onPageWrite(fullPageId, buf);
+
+                long start = System.nanoTime();
 
-                assert getType(buf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
-                assert getVersion(buf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+                PageStore store = pageWriter.write(pageMemEx, fullPageId, buf, tag);
+
+                onPagesWritten(store, 1, start);
+            }
 
-                if (persStoreMetrics.metricsEnabled()) {
-                    int pageType = getType(buf);
+            /** {@inheritDoc} */
+            @Override public void writePage(FullPageId fullPageId, ByteBuffer buf, int tag,
+                Runnable release) throws IgniteCheckedException {
+                if (batch == null || tag == PageMemoryImpl.TRY_AGAIN_TAG) {
+                    PageStoreWriter.super.writePage(fullPageId, buf, tag, release);
 
-                    if (PageIO.isDataPageType(pageType))
-                        tracker.onDataPageWritten();
+                    return;
                 }
 
-                curCpProgress.updateWrittenPages(1);
+                boolean added = false;
 
-                PageStore store = pageWriter.write(pageMemEx, fullPageId, buf, tag);
+                try {
+                    onPageWrite(fullPageId, buf);
+
+                    if (!batch.canAppend(pageMemEx, fullPageId, tag))
+                        batch.flush();
 
-                updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
+                    batch.append(pageMemEx, fullPageId, buf, tag, release);
+
+                    added = true;
+
+                    if (batch.full())
+                        batch.flush();
+                }
+                finally {
+                    if (!added)
+                        release.run();
+                }
             }
         };
     }
 
+    /**
+     * @param fullPageId Page ID.
+     * @param buf Page buffer.
+     */
+    private void onPageWrite(FullPageId fullPageId, ByteBuffer buf) {
+        long pageId = fullPageId.pageId();
+
+        assert getType(buf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
+        assert getVersion(buf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
+
+        if (persStoreMetrics.metricsEnabled()) {
+            int pageType = getType(buf);
+
+            if (PageIO.isDataPageType(pageType))
+                tracker.onDataPageWritten();
+        }
+    }
+
+    /**
+     * @param store Page store the pages were written to.
+     * @param cnt Number of pages.
+     * @param start Write start time in nanoseconds.
+     */
+    private void onPagesWritten(PageStore store, int cnt, long start) {
+        tracker.onPagesWritten(cnt, System.nanoTime() - start);
+
+        curCpProgress.updateWrittenPages(cnt);
+
+        updStores.computeIfAbsent(store, k -> new LongAdder()).add(cnt);
+    }
+
+    /**
+     * Pages with consecutive indexes of the same partition which are written by a single I/O operation. The pages
+     * stay pinned in the page memory until they are written.
+     */
+    private class PagesBatch implements AutoCloseable {
+        /** Buffer with the content of the pages. */
+        private final ByteBuffer buf;
+
+        /** Page size. */
+        private final int pageSize;
+
+        /** Page IDs. */
+        private final long[] pageIds;
+
+        /** Actions releasing the pages. */
+        private final Runnable[] releases;
+
+        /** Number of pages. */
+        private int cnt;
+
+        /** Page memory of the pages. */
+        private PageMemoryEx pageMem;
+
+        /** Cache group ID of the pages. */
+        private int grpId;
+
+        /** Partition generation of the pages. */
+        private int tag;
+
+        /**
+         * @param maxPages Max number of pages.
+         * @param pageSize Page size.
+         */
+        private PagesBatch(int maxPages, int pageSize) {
+            this.pageSize = pageSize;
+
+            buf = GridUnsafe.allocateBuffer(maxPages * pageSize).order(ByteOrder.nativeOrder());
+            pageIds = new long[maxPages];
+            releases = new Runnable[maxPages];
+        }
+
+        /**
+         * @param pageMem Page memory.
+         * @param fullPageId Page ID.
+         * @param tag Partition generation.
+         * @return {@code True} if the page directly follows the last page of the batch or the batch is empty.
+         */
+        private boolean canAppend(PageMemoryEx pageMem, FullPageId fullPageId, int tag) {
+            if (cnt == 0)
+                return true;
+
+            long lastPageId = pageIds[cnt - 1];
+
+            return pageMem == this.pageMem && fullPageId.groupId() == grpId && tag == this.tag &&
+                partId(fullPageId.pageId()) == partId(lastPageId) &&
+                pageIndex(fullPageId.pageId()) == pageIndex(lastPageId) + 1;
+        }
+
+        /**
+         * @param pageMem Page memory.
+         * @param fullPageId Page ID.
+         * @param pageBuf Page content.
+         * @param tag Partition generation.
+         * @param release Action releasing the page.
+         */
+        private void append(PageMemoryEx pageMem, FullPageId fullPageId, ByteBuffer pageBuf, int tag, Runnable release) {
+            assert canAppend(pageMem, fullPageId, tag) && !full();
+
+            if (cnt == 0) {
+                this.pageMem = pageMem;
+                this.grpId = fullPageId.groupId();
+                this.tag = tag;
+            }
+
+            buf.clear().position(cnt * pageSize);
+
+            buf.put(pageBuf.duplicate());
+
+            pageIds[cnt] = fullPageId.pageId();
+            releases[cnt] = release;
+
+            cnt++;
+        }
+
+        /**
+         * @return {@code True} if no more pages can be appended.
+         */
+        private boolean full() {
+            return cnt == pageIds.length;
+        }
+
+        /**
+         * Writes the pages and releases them.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        private void flush() throws IgniteCheckedException {
+            if (cnt == 0)
+                return;
+
+            try {
+                buf.clear().limit(cnt * pageSize);
+
+                long start = System.nanoTime();
+
+                // Page write listeners expect a buffer of the page size.
+                PageStore store = cnt == 1 ?
+                    pageWriter.write(pageMem, new FullPageId(pageIds[0], grpId), PageStore.pageBuffer(buf, 0, pageSize),
+                        tag) :
+                    pageWriter.write(pageMem, grpId, pageIds, cnt, buf, tag);
+
+                onPagesWritten(store, cnt, start);
+            }
+            finally {
+                release();
+            }
+        }
+
+        /** Releases the pages. */
+        private void release() {
+            for (int i = 0; i < cnt; i++) {
+                releases[i].run();
+
+                releases[i] = null;
+            }
+
+            cnt = 0;
+            pageMem = null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            // The pages are released even if they were not written because of an error.
+            release();
+
+            GridUnsafe.freeBuffer(buf);
+        }
+    }
+
     /** Interface which allows to write one page to page store. */
     public interface CheckpointPageWriter {
         /**
@@ -270,5 +507,30 @@ public class CheckpointPagesWriter implements Runnable {
          */
         PageStore write(PageMemoryEx pageMemEx, FullPageId fullPageId, ByteBuffer buf, int tag)
             throws IgniteCheckedException;
+
+        /**
+         * Writes pages with consecutive indexes of the same partition, the default implementation writes them one by
+         * one.
+         *
+         * @param pageMemEx Page memory from which pages should be written.
+         * @param grpId Cache group ID.
+         * @param pageIds Page IDs.
+         * @param cnt Number of pages.
+         * @param buf Buffer with the content of the pages.
+         * @param tag Page tag.
+         * @return {@link PageStore} which was used to write.
+         * @throws IgniteCheckedException if fail.
+         */
+        default PageStore write(PageMemoryEx pageMemEx, int grpId, long[] pageIds, int cnt, ByteBuffer buf, int tag)
+            throws IgniteCheckedException {
+            PageStore store = null;
+
+            for (int i = 0; i < cnt; i++) {
+                store = write(pageMemEx, new FullPageId(pageIds[i], grpId),
+                    PageStore.pageBuffer(buf, i, buf.limit() / cnt), tag);
+            }
+
+            return store;
+        }
     }
 }
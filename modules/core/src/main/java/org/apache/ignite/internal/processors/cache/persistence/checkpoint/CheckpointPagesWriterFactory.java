@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -43,12 +44,17 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.WorkProgressDispatcher;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_COALESCE_PAGES;
+
 /**
  * Factory class for checkpoint pages writer.
  *
  * It holds all dependency which is needed for creation of checkpoint writer and recovery checkpoint writer.
  */
 public class CheckpointPagesWriterFactory {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_WRITE_COALESCE_PAGES */
+    public static final int DFLT_CHECKPOINT_WRITE_COALESCE_PAGES = 16;
+
     /** Context. */
     private final GridKernalContext ctx;
 
@@ -70,6 +76,10 @@ public class CheckpointPagesWriterFactory {
     /** Writer which writes pages to page store during the checkpoint. */
     private final CheckpointPagesWriter.CheckpointPageWriter checkpointPageWriter;
 
+    /** Max number of pages with consecutive indexes written by a single I/O operation. */
+    private final int coalescePages = IgniteSystemProperties.getInteger(IGNITE_CHECKPOINT_WRITE_COALESCE_PAGES,
+        DFLT_CHECKPOINT_WRITE_COALESCE_PAGES);
+
     /**
      * @param ctx Context.
      * @param logger Logger.
@@ -129,7 +139,8 @@ public class CheckpointPagesWriterFactory {
             pageMemoryGroupResolver,
             curCpProgress,
             checkpointPageWriter,
-            shutdownNow
+            shutdownNow,
+            coalescePages
         );
     }
 
@@ -25,6 +25,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +61,7 @@ import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
 import org.apache.ignite.internal.processors.cache.persistence.StorageException;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.CheckpointMetricsTracker;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PartitionedDirtyPages;
 import org.apache.ignite.internal.processors.cache.persistence.partstate.PartitionAllocationMap;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.thread.pool.IgniteForkJoinPool;
@@ -470,17 +473,55 @@ public class CheckpointWorkflow {
 
         int totalPagesCnt = cpPages.pagesNum();
 
+        boolean sequential = checkpointWriteOrder == CheckpointWriteOrder.SEQUENTIAL;
+
+        Comparator<FullPageId> cmp = Comparator.comparingInt(FullPageId::groupId)
+            .thenComparingLong(FullPageId::effectivePageId);
+
+        ExecutorService pool = null;
+
         for (Map.Entry<PageMemoryEx, GridMultiCollectionWrapper<FullPageId>> regPages : cpPages.cpPages()) {
-            FullPageId[] pages = new FullPageId[regPages.getValue().size()];
+            GridMultiCollectionWrapper<FullPageId> regCpPages = regPages.getValue();
+
+            FullPageId[] pages = new FullPageId[regCpPages.size()];
 
             int pagePos = 0;
 
-            for (int i = 0; i < regPages.getValue().collectionsSize(); i++) {
-                for (FullPageId page : regPages.getValue().innerCollection(i)) {
-                    if (realPagesArrSize++ == totalPagesCnt)
-                        throw new AssertionError("Incorrect estimated dirty pages number: " + totalPagesCnt);
+            if (sequential && partitioned(regCpPages)) {
+                // Pages are already grouped by partitions, only the pages of a partition have to be sorted.
+                for (List<Collection<FullPageId>> partPages : partitionsOrdered(regCpPages).values()) {
+                    int partStart = pagePos;
+
+                    for (Collection<FullPageId> segPartPages : partPages) {
+                        for (FullPageId page : segPartPages) {
+                            if (realPagesArrSize++ == totalPagesCnt)
+                                throw new AssertionError("Incorrect estimated dirty pages number: " + totalPagesCnt);
 
-                    pages[pagePos++] = page;
+                            pages[pagePos++] = page;
+                        }
+                    }
+
+                    if (pagePos - partStart >= parallelSortThreshold)
+                        pool = parallelSortInIsolatedPool(pages, partStart, pagePos, cmp, pool);
+                    else
+                        Arrays.sort(pages, partStart, pagePos, cmp);
+                }
+            }
+            else {
+                for (int i = 0; i < regCpPages.collectionsSize(); i++) {
+                    for (FullPageId page : regCpPages.innerCollection(i)) {
+                        if (realPagesArrSize++ == totalPagesCnt)
+                            throw new AssertionError("Incorrect estimated dirty pages number: " + totalPagesCnt);
+
+                        pages[pagePos++] = page;
+                    }
+                }
+
+                if (sequential) {
+                    if (pagePos >= parallelSortThreshold)
+                        pool = parallelSortInIsolatedPool(pages, 0, pagePos, cmp, pool);
+                    else
+                        Arrays.sort(pages, 0, pagePos, cmp);
                 }
             }
 
@@ -491,35 +532,57 @@ public class CheckpointWorkflow {
                 cpPagesPerRegion.add(new T2<>(regPages.getKey(), pages));
         }
 
-        if (checkpointWriteOrder == CheckpointWriteOrder.SEQUENTIAL) {
-            Comparator<FullPageId> cmp = Comparator.comparingInt(FullPageId::groupId)
-                .thenComparingLong(FullPageId::effectivePageId);
+        if (pool != null)
+            pool.shutdown();
 
-            ExecutorService pool = null;
+        return new GridConcurrentMultiPairQueue<>(cpPagesPerRegion);
+    }
 
-            for (T2<PageMemoryEx, FullPageId[]> pagesPerReg : cpPagesPerRegion) {
-                if (pagesPerReg.getValue().length >= parallelSortThreshold)
-                    pool = parallelSortInIsolatedPool(pagesPerReg.get2(), cmp, pool);
-                else
-                    Arrays.sort(pagesPerReg.get2(), cmp);
-            }
+    /**
+     * @param pages Checkpoint pages of a data region.
+     * @return {@code True} if dirty pages of all segments are indexed by partition.
+     */
+    private static boolean partitioned(GridMultiCollectionWrapper<FullPageId> pages) {
+        for (int i = 0; i < pages.collectionsSize(); i++) {
+            if (!(pages.innerCollection(i) instanceof PartitionedDirtyPages))
+                return false;
+        }
 
-            if (pool != null)
-                pool.shutdown();
+        return true;
+    }
+
+    /**
+     * @param pages Checkpoint pages of a data region indexed by partition in each segment.
+     * @return Pages of each segment by partition in the order of cache group IDs and partition IDs.
+     */
+    private static SortedMap<Long, List<Collection<FullPageId>>> partitionsOrdered(
+        GridMultiCollectionWrapper<FullPageId> pages
+    ) {
+        SortedMap<Long, List<Collection<FullPageId>>> parts = new TreeMap<>();
+
+        for (int i = 0; i < pages.collectionsSize(); i++) {
+            PartitionedDirtyPages segPages = (PartitionedDirtyPages)pages.innerCollection(i);
+
+            for (Map.Entry<Long, Collection<FullPageId>> e : segPages.partitions().entrySet())
+                parts.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue());
         }
 
-        return new GridConcurrentMultiPairQueue<>(cpPagesPerRegion);
+        return parts;
     }
 
     /**
      * Performs parallel sort in isolated fork join pool.
      *
      * @param pagesArr Pages array.
+     * @param from Index of the first element to be sorted, inclusive.
+     * @param to Index of the last element to be sorted, exclusive.
      * @param cmp Cmp.
      * @return ForkJoinPool instance, check {@link ForkJoinTask#fork()} realization.
      */
     private ExecutorService parallelSortInIsolatedPool(
         FullPageId[] pagesArr,
+        int from,
+        int to,
         Comparator<FullPageId> cmp,
         ExecutorService pool
     ) throws IgniteCheckedException {
@@ -527,7 +590,7 @@ public class CheckpointWorkflow {
             ? new IgniteForkJoinPool("checkpoint-pages-sorter", igniteInstanceName, PARALLEL_SORT_THREADS + 1, null, false)
             : pool;
 
-        Future<?> sortTask = execPool.submit(() -> Arrays.parallelSort(pagesArr, cmp));
+        Future<?> sortTask = execPool.submit(() -> Arrays.parallelSort(pagesArr, from, to, cmp));
 
         try {
             sortTask.get();
@@ -542,6 +605,23 @@ public class CheckpointWorkflow {
         return execPool;
     }
 
+    /**
+     * @return Age in milliseconds of the oldest page marked dirty since the last checkpoint began in all persistent
+     * data regions or {@code 0} if there are no such pages.
+     */
+    public long dirtyPagesMaxAge() {
+        long age = 0;
+
+        for (DataRegion memPlc : dataRegions.get()) {
+            if (!memPlc.config().isPersistenceEnabled())
+                continue;
+
+            age = Math.max(age, ((PageMemoryEx)memPlc.pageMemory()).dirtyPagesMaxAge());
+        }
+
+        return age;
+    }
+
     /**
      * Do some actions on checkpoint finish(After all pages were written to disk).
      *
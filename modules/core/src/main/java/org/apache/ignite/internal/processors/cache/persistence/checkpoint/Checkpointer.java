@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.failure.FailureType;
 import org.apache.ignite.internal.GridKernalContext;
@@ -71,9 +72,11 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_JVM_PAUSE_DETECTOR_THRESHOLD;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.IgniteSystemProperties.getLong;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.LongJVMPauseDetector.DEFAULT_JVM_PAUSE_DETECTOR_THRESHOLD;
@@ -116,9 +119,16 @@ public class Checkpointer extends GridWorker {
         "pages=%d, " +
         "reason='%s']";
 
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE */
+    public static final long DFLT_CHECKPOINT_DIRTY_PAGES_MAX_AGE = 0;
+
     /** Skip sync. */
     private final boolean skipSync = getBoolean(IGNITE_PDS_CHECKPOINT_TEST_SKIP_SYNC);
 
+    /** Max age of dirty pages in milliseconds after which the checkpoint is triggered, {@code 0} if disabled. */
+    private final long dirtyPagesMaxAge =
+        getLong(IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE, DFLT_CHECKPOINT_DIRTY_PAGES_MAX_AGE);
+
     /** Timeout between partition file destroy and checkpoint to handle it. */
     private static final long PARTITION_DESTROY_CHECKPOINT_TIMEOUT = 30 * 1000; // 30 Seconds.
 
@@ -518,7 +528,7 @@ public class Checkpointer extends GridWorker {
                 if (log.isInfoEnabled()) {
                     log.info(String.format("Checkpoint finished [cpId=%s, pages=%d, markPos=%s, " +
                             "walSegmentsCovered=%s, markDuration=%dms, recoveryWrite=%dms, pagesWrite=%dms, " +
-                            "fsync=%dms, total=%dms]",
+                            "pageWriteAvg=%dns, pagesPerWrite=%.1f, fsync=%dms, total=%dms]",
                         chp.cpEntry != null ? chp.cpEntry.checkpointId() : "",
                         chp.pagesSize,
                         chp.cpEntry != null ? chp.cpEntry.checkpointMark() : "",
@@ -526,6 +536,8 @@ public class Checkpointer extends GridWorker {
                         tracker.markDuration(),
                         tracker.recoveryDataWriteDuration(),
                         tracker.pagesWriteDuration(),
+                        tracker.pageWriteAverageNanos(),
+                        tracker.pagesPerWrite(),
                         tracker.fsyncDuration(),
                         tracker.totalDuration()));
                 }
@@ -906,6 +918,20 @@ public class Checkpointer extends GridWorker {
                 long remaining = U.nanosToMillis(scheduledCp.nextCpNanos() - System.nanoTime());
 
                 while (remaining > 0 && !isCancelled()) {
+                    if (dirtyPagesMaxAge > 0) {
+                        long age = checkpointWorkflow.dirtyPagesMaxAge();
+
+                        if (age >= dirtyPagesMaxAge) {
+                            if (scheduledCp.reason() == null)
+                                scheduledCp.reason("too old dirty pages");
+
+                            break;
+                        }
+
+                        // Pages marked dirty later can't reach the max age earlier.
+                        remaining = Math.min(remaining, dirtyPagesMaxAge - age);
+                    }
+
                     blockingSectionBegin();
 
                     try {
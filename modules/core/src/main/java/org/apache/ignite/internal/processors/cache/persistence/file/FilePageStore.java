@@ -788,6 +788,120 @@ public class FilePageStore implements PageStore {
         }
     }
 
+    /**
+     * Writes pages with consecutive indexes by a single I/O operation.
+     *
+     * {@inheritDoc}
+     */
+    @Override public void write(
+        long[] pageIds,
+        int cnt,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        init();
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIO fileIO = this.fileIO;
+
+            try {
+                lock.readLock().lock();
+
+                try {
+                    if (tag < this.tag)
+                        return;
+
+                    long off = pageOffset(pageIds[0]);
+
+                    assert (off >= 0 && off + (long)(cnt - 1) * pageSize <= allocated.get()) || recover :
+                        "off=" + U.hexLong(off) + ", cnt=" + cnt + ", allocated=" + U.hexLong(allocated.get()) +
+                            ", pageId=" + U.hexLong(pageIds[0]) + ", file=" + getFileAbsolutePath();
+
+                    assert pagesBuf.position() == 0 && pagesBuf.limit() == cnt * pageSize : pagesBuf;
+                    assert pagesBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pagesBuf.order()
+                        + " should be same with " + ByteOrder.nativeOrder();
+
+                    for (int i = 0; i < cnt; i++) {
+                        long pageId = pageIds[i];
+
+                        assert pageOffset(pageId) == off + (long)i * pageSize : "Pages are not consecutive [pageId=" +
+                            U.hexLong(pageId) + ", first=" + U.hexLong(pageIds[0]) + ", idx=" + i + ']';
+
+                        ByteBuffer pageBuf = PageStore.pageBuffer(pagesBuf, i, pageSize);
+
+                        assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
+                        assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+
+                        if (calculateCrc && !skipCrc) {
+                            assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+
+                            PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+                        }
+
+                        for (PageWriteListener lsnr : lsnrs) {
+                            lsnr.accept(pageId, pageBuf);
+
+                            pageBuf.rewind();
+                        }
+                    }
+
+                    fileIO.writeFully(pagesBuf, off);
+
+                    resetCrc(pagesBuf, cnt);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIO);
+
+                        resetCrc(pagesBuf, cnt);
+
+                        continue;
+                    }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
+
+                        e = e0;
+                    }
+                }
+
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", pageId=" + pageIds[0] + ", cnt=" + cnt + ", tag=" + tag + "]", e);
+            }
+        }
+    }
+
+    /**
+     * Resets CRC of the written pages, it is expected to be 0 after each write.
+     *
+     * @param pagesBuf Pages buffer.
+     * @param cnt Number of pages.
+     */
+    private void resetCrc(ByteBuffer pagesBuf, int cnt) {
+        pagesBuf.rewind();
+
+        for (int i = 0; i < cnt; i++)
+            PageIO.setCrc(PageStore.pageBuffer(pagesBuf, i, pageSize), 0);
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
@@ -460,6 +460,18 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         return pmPageMgr.write(grpId, pageId, pageBuf, tag, calculateCrc);
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        long[] pageIds,
+        int cnt,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        return pmPageMgr.write(grpId, pageIds, cnt, pagesBuf, tag, calculateCrc);
+    }
+
     /** {@inheritDoc} */
     @Override public long pageOffset(int grpId, long pageId) throws IgniteCheckedException {
         PageStore store = getStore(grpId, PageIdUtils.partId(pageId));
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntryType;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
@@ -47,9 +48,30 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COW_PAGES_UPDATER =
         AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "cowPages");
 
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> PAGE_WRITES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "pageWrites");
+
+    /** */
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> WRITTEN_PAGES_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "writtenPages");
+
+    /** */
+    private static final AtomicLongFieldUpdater<CheckpointMetricsTracker> PAGES_WRITE_NANOS_UPDATER =
+        AtomicLongFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "pagesWriteNanos");
+
     /** */
     private volatile int dataPages;
 
+    /** Number of I/O operations writing pages to the page stores. */
+    private volatile int pageWrites;
+
+    /** Number of pages written to the page stores. */
+    private volatile int writtenPages;
+
+    /** Total time of writing pages to the page stores in nanoseconds. */
+    private volatile long pagesWriteNanos;
+
     /** */
     private volatile int cowPages;
 
@@ -110,6 +132,36 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * Accounts pages written to a page store by a single I/O operation.
+     *
+     * @param pages Number of pages.
+     * @param nanos Write duration in nanoseconds.
+     */
+    public void onPagesWritten(int pages, long nanos) {
+        PAGE_WRITES_UPDATER.incrementAndGet(this);
+        WRITTEN_PAGES_UPDATER.addAndGet(this, pages);
+        PAGES_WRITE_NANOS_UPDATER.addAndGet(this, nanos);
+    }
+
+    /**
+     * @return Average time of writing a page to the page store in nanoseconds.
+     */
+    public long pageWriteAverageNanos() {
+        int pages = writtenPages;
+
+        return pages == 0 ? 0 : pagesWriteNanos / pages;
+    }
+
+    /**
+     * @return Average number of pages written by a single I/O operation.
+     */
+    public double pagesPerWrite() {
+        int writes = pageWrites;
+
+        return writes == 0 ? 0 : (double)writtenPages / writes;
+    }
+
     /**
      * @return COW pages.
      */
@@ -193,4 +193,12 @@ public interface PageMemoryEx extends PageMemory {
      * Total pages can be placed to memory.
      */
     public long totalPages();
+
+    /**
+     * Gets age of the oldest page marked dirty since the last checkpoint began, such pages will be written by the next
+     * checkpoint.
+     *
+     * @return Age in milliseconds or {@code 0} if no pages were marked dirty since the last checkpoint began.
+     */
+    public long dirtyPagesMaxAge();
 }
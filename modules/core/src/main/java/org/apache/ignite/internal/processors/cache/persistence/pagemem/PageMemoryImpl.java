@@ -75,7 +75,6 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDat
 import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
 import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
-import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.GridMultiCollectionWrapper;
 import org.apache.ignite.internal.util.GridUnsafe;
@@ -97,6 +96,7 @@ import static java.lang.Boolean.TRUE;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_READ_AHEAD_PAGES;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.pagemem.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePool.SEGMENT_INDEX_MASK;
@@ -160,6 +160,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** @see IgniteSystemProperties#IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP */
     public static final boolean DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP = true;
 
+    /** @see IgniteSystemProperties#IGNITE_PDS_READ_AHEAD_PAGES */
+    public static final int DFLT_PDS_READ_AHEAD_PAGES = 0;
+
     /** Tracking io. */
     private static final TrackingPageIO trackingIO = TrackingPageIO.VERSIONS.latest();
 
@@ -189,6 +192,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** */
     private final ExecutorService asyncRunner;
 
+    /** Sequential read-ahead of partition pages, {@code null} if disabled. */
+    @Nullable private final PageReadAhead readAhead;
+
     /** Page manager. */
     private final PageReadWriteManager pmPageMgr;
 
@@ -339,6 +345,11 @@ public class PageMemoryImpl implements PageMemoryEx {
             SECONDS.toMillis(30),
             new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors())
         );
+
+        int readAheadPages = IgniteSystemProperties.getInteger(IGNITE_PDS_READ_AHEAD_PAGES, DFLT_PDS_READ_AHEAD_PAGES);
+
+        readAhead = readAheadPages > 0 ?
+            new PageReadAhead(ctx.igniteInstanceName(), readAheadPages, new ReadAheadPageLoader(), log) : null;
         
         switch (dataRegionCfg.getPageReplacementMode()) {
             case RANDOM_LRU:
@@ -352,6 +363,10 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TWO_QUEUE:
+                pageReplacementPolicyFactory = new TwoQueuePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
@@ -461,6 +476,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             U.shutdownNow(getClass(), asyncRunner, log);
 
+            if (readAhead != null)
+                readAhead.stop();
+
             if (segments != null) {
                 for (Segment seg : segments)
                     seg.close();
@@ -717,13 +735,13 @@ public class PageMemoryImpl implements PageMemoryEx {
 
     /** {@inheritDoc} */
     @Override public long acquirePage(int grpId, long pageId, AtomicBoolean pageAllocated) throws IgniteCheckedException {
-        return acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, pageAllocated);
+        return acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, pageAllocated, false);
     }
 
     /** {@inheritDoc} */
     @Override public long acquirePage(int grpId, long pageId, IoStatisticsHolder statHolder,
         boolean restore) throws IgniteCheckedException {
-        return acquirePage(grpId, pageId, statHolder, restore, null);
+        return acquirePage(grpId, pageId, statHolder, restore, null, false);
     }
 
     /**
@@ -732,9 +750,10 @@ public class PageMemoryImpl implements PageMemoryEx {
      * @param statHolder Stat holder.
      * @param restore Restore.
      * @param pageAllocated Page allocated.
+     * @param readAheadLoad {@code True} if the page is loaded by the read-ahead.
      */
     private long acquirePage(int grpId, long pageId, IoStatisticsHolder statHolder,
-        boolean restore, @Nullable AtomicBoolean pageAllocated) throws IgniteCheckedException {
+        boolean restore, @Nullable AtomicBoolean pageAllocated, boolean readAheadLoad) throws IgniteCheckedException {
         assert started;
 
         int partId = PageIdUtils.partId(pageId);
@@ -760,6 +779,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 seg.pageReplacementPolicy.onHit(relPtr);
 
+                dataRegionMetrics.onPageHit();
+
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
                 return absPtr;
@@ -879,6 +900,8 @@ public class PageMemoryImpl implements PageMemoryEx {
                 absPtr = seg.absolute(relPtr);
 
                 seg.pageReplacementPolicy.onHit(relPtr);
+
+                dataRegionMetrics.onPageHit();
             }
 
             seg.acquirePage(absPtr);
@@ -924,6 +947,11 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                     if (PageIO.isIndexPage(PageIO.getType(buf)))
                         dataRegionMetrics.cacheGrpPageMetrics(grpId).indexPages().increment();
+
+                    if (readAheadLoad)
+                        dataRegionMetrics.onPageReadAhead();
+                    else if (readAhead != null)
+                        readAhead.onPageRead(grpId, pageId);
                 }
                 catch (IgniteDataIntegrityViolationException e) {
                     U.warn(log, "Failed to read page (data integrity violation encountered, will try to " +
@@ -1124,6 +1152,23 @@ public class PageMemoryImpl implements PageMemoryEx {
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public long dirtyPagesMaxAge() {
+        if (segments == null)
+            return 0;
+
+        long firstDirtyTs = Long.MAX_VALUE;
+
+        for (Segment seg : segments) {
+            long ts = seg.firstDirtyTs;
+
+            if (ts != 0)
+                firstDirtyTs = Math.min(firstDirtyTs, ts);
+        }
+
+        return firstDirtyTs == Long.MAX_VALUE ? 0 : Math.max(U.currentTimeMillis() - firstDirtyTs, 0);
+    }
+
     /** {@inheritDoc} */
     @Override public GridMultiCollectionWrapper<FullPageId> beginCheckpoint(
         ThrowableSupplier<Boolean, IgniteCheckedException> allowToReplace
@@ -1357,19 +1402,28 @@ public class PageMemoryImpl implements PageMemoryEx {
         finally {
             rwLock.writeUnlock(absPtr + PAGE_LOCK_OFFSET, OffheapReadWriteLock.TAG_LOCK_ALWAYS);
 
+            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
+            // Must release the page only after write unlock.
+            boolean release = !keepDirty || !pageSingleAcquire;
+
             if (canWrite) {
                 buf.rewind();
 
-                pageStoreWriter.writePage(fullId, buf, tag);
+                if (release) {
+                    // The writer releases the page once it is written.
+                    release = false;
+
+                    pageStoreWriter.writePage(fullId, buf, tag, () -> PageHeader.releasePage(absPtr));
+                }
+                else
+                    pageStoreWriter.writePage(fullId, buf, tag);
 
                 dataRegionMetrics.onPageWritten();
 
                 buf.rewind();
             }
 
-            // We pinned the page either when allocated the temp buffer, or when resolved abs pointer.
-            // Must release the page only after write unlock.
-            if (!keepDirty || !pageSingleAcquire)
+            if (release)
                 PageHeader.releasePage(absPtr);
         }
     }
@@ -1613,6 +1667,25 @@ public class PageMemoryImpl implements PageMemoryEx {
         rwLock.readUnlock(absPtr + PAGE_LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean readOptimistic(int grpId, long pageId, long page, long buf) {
+        assert started;
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId));
+
+        if (stamp == 0L)
+            return false;
+
+        GridUnsafe.copyMemory(page + PAGE_OVERHEAD, buf, pageSize());
+
+        if (!rwLock.validate(page + PAGE_LOCK_OFFSET, stamp))
+            return false;
+
+        touchPage(page, true);
+
+        return true;
+    }
+
     /**
      * Checks if a page has temp copy buffer.
      *
@@ -1868,6 +1941,9 @@ public class PageMemoryImpl implements PageMemoryEx {
                 if (seg.dirtyPages.add(pageId)) {
                     long dirtyPagesCnt = seg.dirtyPagesCntr.incrementAndGet();
 
+                    if (seg.firstDirtyTs == 0)
+                        seg.firstDirtyTs = U.currentTimeMillis();
+
                     if (dirtyPagesCnt >= seg.maxDirtyPages)
                         safeToUpdate.set(false);
 
@@ -2010,11 +2086,14 @@ public class PageMemoryImpl implements PageMemoryEx {
         private long memPerRepl;
 
         /** Pages marked as dirty since the last checkpoint. */
-        private volatile Collection<FullPageId> dirtyPages = new GridConcurrentHashSet<>();
+        private volatile Collection<FullPageId> dirtyPages = new PartitionedDirtyPages();
 
         /** Atomic size counter for {@link #dirtyPages}. Used for {@link PageMemoryImpl#safeToUpdate()} calculation. */
         private final AtomicLong dirtyPagesCntr = new AtomicLong();
 
+        /** Time when the first page of {@link #dirtyPages} was marked dirty, {@code 0} if there are no such pages. */
+        private volatile long firstDirtyTs;
+
         /** Wrapper of pages of current checkpoint. */
         private volatile CheckpointPages checkpointPages;
 
@@ -2157,9 +2236,11 @@ public class PageMemoryImpl implements PageMemoryEx {
          * Clear dirty pages collection and reset counter.
          */
         private void resetDirtyPages() {
-            dirtyPages = new GridConcurrentHashSet<>();
+            dirtyPages = new PartitionedDirtyPages();
 
             dirtyPagesCntr.set(0);
+
+            firstDirtyTs = 0;
         }
 
         /**
@@ -2529,6 +2610,26 @@ public class PageMemoryImpl implements PageMemoryEx {
         dataRegionMetrics.incrementPagesWithTimestamp(newTs & PageHeader.TIMESTAMP_MASK);
     }
 
+    /**
+     * Loader of pages read ahead.
+     */
+    private class ReadAheadPageLoader implements PageReadAhead.PageLoader {
+        /** {@inheritDoc} */
+        @Override public int pages(int grpId, int partId) throws IgniteCheckedException {
+            return ctx.pageStore().pages(grpId, partId);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void load(int grpId, long pageId) throws IgniteCheckedException {
+            if (hasLoadedPage(new FullPageId(pageId, grpId)))
+                return;
+
+            long page = acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false, null, true);
+
+            releasePage(grpId, pageId, page);
+        }
+    }
+
     /**
      *
      */
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Sequential read-ahead of partition pages.
+ * <p>
+ * Page reads from the page store are tracked per partition. When a few pages of a partition are read in ascending
+ * order of page indexes, the next pages of the partition are loaded to the page memory asynchronously, so a cold scan
+ * of a partition reads its file sequentially instead of faulting pages in one by one.
+ */
+public class PageReadAhead {
+    /** Count of sequential page reads of a partition which starts the read-ahead. */
+    static final int SEQUENTIAL_READS_THRESHOLD = 2;
+
+    /** Count of tracked partitions, must be a power of 2. */
+    private static final int STREAMS_CNT = 1024;
+
+    /** Count of pages to read ahead. */
+    private final int pages;
+
+    /** Page loader. */
+    private final PageLoader loader;
+
+    /** Read-ahead executor. */
+    private final ExecutorService executor;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Read streams, partitions with the same hash of the partition key share a slot. */
+    private final Stream[] streams = new Stream[STREAMS_CNT];
+
+    /**
+     * @param igniteInstanceName Ignite instance name.
+     * @param pages Count of pages to read ahead.
+     * @param loader Page loader.
+     * @param log Logger.
+     */
+    public PageReadAhead(String igniteInstanceName, int pages, PageLoader loader, IgniteLogger log) {
+        assert pages > 0 : pages;
+
+        this.pages = pages;
+        this.loader = loader;
+        this.log = log;
+
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+        executor = new IgniteThreadPoolExecutor(
+            "page-read-ahead",
+            igniteInstanceName,
+            0,
+            threads,
+            SECONDS.toMillis(30),
+            new ArrayBlockingQueue<>(threads)
+        );
+    }
+
+    /**
+     * Handles page read from the page store, starts the read-ahead if the pages of the partition are read
+     * sequentially.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     */
+    public void onPageRead(int grpId, long pageId) {
+        int partId = PageIdUtils.partId(pageId);
+        int pageIdx = PageIdUtils.pageIndex(pageId);
+
+        long partKey = PartitionedDirtyPages.partitionKey(grpId, partId);
+
+        int slot = U.hash(Long.hashCode(partKey)) & (STREAMS_CNT - 1);
+
+        Stream stream = streams[slot];
+
+        if (stream == null || stream.partKey != partKey)
+            streams[slot] = stream = new Stream(partKey);
+
+        int from;
+        int to;
+
+        synchronized (stream) {
+            // Next page or a page right after the pages being read ahead.
+            if (pageIdx > stream.lastIdx && pageIdx <= Math.max(stream.lastIdx, stream.readAheadIdx) + 1)
+                stream.seqReads++;
+            else {
+                stream.seqReads = 0;
+                stream.readAheadIdx = pageIdx;
+            }
+
+            stream.lastIdx = pageIdx;
+
+            if (stream.seqReads < SEQUENTIAL_READS_THRESHOLD || stream.readAheadIdx - pageIdx > pages / 2)
+                return;
+
+            from = Math.max(pageIdx, stream.readAheadIdx) + 1;
+            to = pageIdx + pages;
+
+            stream.readAheadIdx = to;
+        }
+
+        try {
+            executor.execute(() -> readAhead(grpId, partId, from, to));
+        }
+        catch (RejectedExecutionException ignore) {
+            // All threads are busy, the pages will be read on demand.
+        }
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @param from First page index, inclusive.
+     * @param to Last page index, inclusive.
+     */
+    private void readAhead(int grpId, int partId, int from, int to) {
+        byte flag = partId == PageIdAllocator.INDEX_PARTITION ? PageIdAllocator.FLAG_IDX : PageIdAllocator.FLAG_DATA;
+
+        try {
+            // Pages count is checked for each page, the partition may be truncated concurrently.
+            for (int pageIdx = from; pageIdx <= to && !Thread.currentThread().isInterrupted(); pageIdx++) {
+                if (pageIdx >= loader.pages(grpId, partId))
+                    break;
+
+                loader.load(grpId, PageIdUtils.pageId(partId, flag, pageIdx));
+            }
+        }
+        catch (IgniteCheckedException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to read ahead partition pages [grpId=" + grpId + ", partId=" + partId +
+                    ", from=" + from + ", to=" + to + ", err=" + e.getMessage() + ']');
+            }
+        }
+    }
+
+    /**
+     * Stops the read-ahead and waits for the pages being loaded.
+     */
+    public void stop() {
+        U.shutdownNow(getClass(), executor, log);
+    }
+
+    /**
+     * Loader of pages to the page memory.
+     */
+    public interface PageLoader {
+        /**
+         * @param grpId Cache group ID.
+         * @param partId Partition ID.
+         * @return Count of pages allocated in the partition.
+         * @throws IgniteCheckedException If failed.
+         */
+        public int pages(int grpId, int partId) throws IgniteCheckedException;
+
+        /**
+         * Loads page to the page memory if it's not loaded yet.
+         *
+         * @param grpId Cache group ID.
+         * @param pageId Page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void load(int grpId, long pageId) throws IgniteCheckedException;
+    }
+
+    /**
+     * Sequential read stream of a partition.
+     */
+    private static class Stream {
+        /** Partition key. */
+        private final long partKey;
+
+        /** Index of the last page read on demand. */
+        private int lastIdx = -1;
+
+        /** Index of the last page read ahead. */
+        private int readAheadIdx = -1;
+
+        /** Count of sequential reads. */
+        private int seqReads;
+
+        /**
+         * @param partKey Partition key.
+         */
+        private Stream(long partKey) {
+            this.partKey = partKey;
+        }
+    }
+}
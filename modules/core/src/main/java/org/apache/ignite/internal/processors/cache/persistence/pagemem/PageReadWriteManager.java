@@ -45,6 +45,37 @@ public interface PageReadWriteManager {
      */
     public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with consecutive indexes of the same partition, the default implementation writes them one by one.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs.
+     * @param cnt Number of pages.
+     * @param pagesBuf Buffer with the content of the pages.
+     * @param tag Partition generation.
+     * @param calculateCrc If {@code False} crc calculation will be forcibly skipped.
+     * @return Page store the pages were written to.
+     * @throws IgniteCheckedException If failed to write pages.
+     * @see PageStore#write(long[], int, ByteBuffer, int, boolean)
+     */
+    public default PageStore write(
+        int grpId,
+        long[] pageIds,
+        int cnt,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        int pageSize = pagesBuf.limit() / cnt;
+
+        PageStore store = null;
+
+        for (int i = 0; i < cnt; i++)
+            store = write(grpId, pageIds[i], PageStore.pageBuffer(pagesBuf, i, pageSize), tag, calculateCrc);
+
+        return store;
+    }
+
     /**
      * Allocates a page for the given page space.
      *
@@ -126,6 +126,35 @@ public class PageReadWriteManagerImpl implements PageReadWriteManager {
         return store;
     }
 
+    /** {@inheritDoc} */
+    @Override public PageStore write(
+        int grpId,
+        long[] pageIds,
+        int cnt,
+        ByteBuffer pagesBuf,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        CacheGroupContext grpCtx = ctx.cache().cacheGroup(grpId);
+
+        // Compressed and encrypted pages are transformed one by one.
+        if (grpCtx == null || grpCtx.compressionHandler().compressionEnabled() || grpCtx.config().isEncryptionEnabled())
+            return PageReadWriteManager.super.write(grpId, pageIds, cnt, pagesBuf, tag, calculateCrc);
+
+        PageStore store = pageStores.getStore(grpId, PageIdUtils.partId(pageIds[0]));
+
+        try {
+            store.write(pageIds, cnt, pagesBuf, tag, calculateCrc);
+        }
+        catch (StorageException e) {
+            ctx.failure().process(new FailureContext(FailureType.CRITICAL_ERROR, e));
+
+            throw e;
+        }
+
+        return store;
+    }
+
     /** {@inheritDoc} */
     @Override public long allocatePage(int grpId, int partId, byte flags) throws IgniteCheckedException {
         assert partId <= MAX_PARTITION_ID || partId == INDEX_PARTITION;
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Concurrent set of dirty pages indexed by cache group and partition at the time the page is marked dirty.
+ * <p>
+ * Checkpoint takes the set of a page memory segment as a whole, so the pages can be grouped by partition outside of
+ * the checkpoint write lock without scanning all of them. Sets of partitions which became empty are not removed, the
+ * whole set is replaced by a new one on each checkpoint.
+ */
+public class PartitionedDirtyPages extends AbstractCollection<FullPageId> {
+    /** Pages by partition key. */
+    private final ConcurrentMap<Long, Collection<FullPageId>> parts = new ConcurrentHashMap<>();
+
+    /** Number of pages. */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Gets partition key, natural order of the keys is the order of cache group IDs and then partition IDs.
+     *
+     * @param grpId Cache group ID.
+     * @param partId Partition ID.
+     * @return Partition key.
+     */
+    public static long partitionKey(int grpId, int partId) {
+        return ((long)grpId << 32) | partId;
+    }
+
+    /**
+     * @param fullId Page ID.
+     * @return Partition key.
+     */
+    private static long partitionKey(FullPageId fullId) {
+        return partitionKey(fullId.groupId(), PageIdUtils.partId(fullId.pageId()));
+    }
+
+    /**
+     * @return Dirty pages by partition key, the pages of a partition are in no particular order.
+     */
+    public Map<Long, Collection<FullPageId>> partitions() {
+        return Collections.unmodifiableMap(parts);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean add(FullPageId fullId) {
+        Long key = partitionKey(fullId);
+
+        Collection<FullPageId> pages = parts.get(key);
+
+        if (pages == null)
+            pages = parts.computeIfAbsent(key, k -> new GridConcurrentHashSet<>());
+
+        if (!pages.add(fullId))
+            return false;
+
+        size.incrementAndGet();
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean remove(Object o) {
+        FullPageId fullId = (FullPageId)o;
+
+        Collection<FullPageId> pages = parts.get(partitionKey(fullId));
+
+        if (pages == null || !pages.remove(fullId))
+            return false;
+
+        size.decrementAndGet();
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean contains(Object o) {
+        FullPageId fullId = (FullPageId)o;
+
+        Collection<FullPageId> pages = parts.get(partitionKey(fullId));
+
+        return pages != null && pages.contains(fullId);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int size() {
+        return size.get();
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public Iterator<FullPageId> iterator() {
+        return new Iterator<FullPageId>() {
+            /** Partitions iterator. */
+            private final Iterator<Collection<FullPageId>> partsIt = parts.values().iterator();
+
+            /** Pages of the current partition. */
+            private Iterator<FullPageId> it = Collections.emptyIterator();
+
+            /** Last returned page. */
+            private FullPageId last;
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                while (!it.hasNext() && partsIt.hasNext())
+                    it = partsIt.next().iterator();
+
+                return it.hasNext();
+            }
+
+            /** {@inheritDoc} */
+            @Override public FullPageId next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                return last = it.next();
+            }
+
+            /** {@inheritDoc} */
+            @Override public void remove() {
+                if (last == null)
+                    throw new IllegalStateException();
+
+                PartitionedDirtyPages.this.remove(last);
+
+                last = null;
+            }
+        };
+    }
+}
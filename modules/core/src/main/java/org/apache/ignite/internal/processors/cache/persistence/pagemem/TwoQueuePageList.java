@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Pages list of the adaptive 2Q page replacement algorithm.
+ * <p>
+ * Resident pages are kept in two lists: pages loaded once are in the FIFO "in" list, pages referenced again after
+ * being replaced are in the LRU "main" list. Keys of replaced pages are remembered in two ghost tables, one for each
+ * list. A ghost hit on page load shows which of the lists was too small, so the target size of the "in" list is
+ * adapted like in ARC. Unlike ARC, the target is limited by a half of the pages, so a scan can't replace all pages of
+ * the "main" list. Ghost tables are direct-mapped, so an older ghost can be overwritten by a newer one.
+ *
+ * @see PageReplacementMode#TWO_QUEUE
+ */
+public class TwoQueuePageList {
+    /** Ratio of the initial target size of the "in" list to the total pages count. */
+    private static final double IN_TO_TOTAL_PAGES_RATIO = 0.25;
+
+    /** Ratio of the max target size of the "in" list to the total pages count, limits pages taken by scans. */
+    private static final double MAX_IN_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Ratio of the min target size of the "in" list to the total pages count. */
+    private static final double MIN_IN_TO_TOTAL_PAGES_RATIO = 1.0 / 32;
+
+    /** Ratio of the size of each ghost table to the total pages count. */
+    private static final double GHOST_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** Index of the head page of the "in" list. */
+    private int inHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of the "in" list. */
+    private int inTailIdx = NULL_IDX;
+
+    /** Index of the head page of the "main" list. */
+    private int mainHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of the "main" list. */
+    private int mainTailIdx = NULL_IDX;
+
+    /** Count of pages in the "in" list. */
+    private int inPagesCnt;
+
+    /** Count of pages in the "main" list. */
+    private int mainPagesCnt;
+
+    /** Target count of pages in the "in" list. */
+    private int inPagesTarget;
+
+    /** Min target count of pages in the "in" list. */
+    private final int minInPagesTarget;
+
+    /** Max target count of pages in the "in" list. */
+    private final int maxInPagesTarget;
+
+    /** Capacity of each ghost table. */
+    private final int ghostCap;
+
+    /** Count of keys in the ghost table of the "in" list. */
+    private int inGhostsCnt;
+
+    /** Count of keys in the ghost table of the "main" list. */
+    private int mainGhostsCnt;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store "main" list flags. */
+    private final long flagsPtr;
+
+    /** Pointer to memory region to store ghost table of the "in" list. */
+    private final long inGhostsPtr;
+
+    /** Pointer to memory region to store ghost table of the "main" list. */
+    private final long mainGhostsPtr;
+
+    /**
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TwoQueuePageList(int totalPagesCnt, long memPtr) {
+        ghostCap = ghostCapacity(totalPagesCnt);
+
+        linksPtr = memPtr;
+        flagsPtr = linksPtr + (((long)totalPagesCnt) << 3);
+        inGhostsPtr = flagsPtr + flagsSize(totalPagesCnt);
+        mainGhostsPtr = inGhostsPtr + (((long)ghostCap) << 3);
+
+        GridUnsafe.setMemory(linksPtr, ((long)totalPagesCnt) << 3, (byte)0xFF);
+        GridUnsafe.zeroMemory(flagsPtr, flagsSize(totalPagesCnt) + (((long)ghostCap) << 4));
+
+        inPagesTarget = (int)(totalPagesCnt * IN_TO_TOTAL_PAGES_RATIO);
+        minInPagesTarget = (int)(totalPagesCnt * MIN_IN_TO_TOTAL_PAGES_RATIO);
+        maxInPagesTarget = (int)(totalPagesCnt * MAX_IN_TO_TOTAL_PAGES_RATIO);
+    }
+
+    /**
+     * Adds loaded page. The page is added to the "main" list if its key is found in a ghost table, the target size of
+     * the "in" list is adapted in this case.
+     *
+     * @param pageIdx Page index.
+     * @param pageKey Page key.
+     */
+    public synchronized void addLoaded(int pageIdx, long pageKey) {
+        if (removeGhost(inGhostsPtr, pageKey)) {
+            inGhostsCnt--;
+
+            // The page would have been hit if the "in" list were larger.
+            inPagesTarget = Math.min(maxInPagesTarget,
+                inPagesTarget + Math.max(1, mainGhostsCnt / (inGhostsCnt + 1)));
+
+            addToTail(pageIdx, true);
+        }
+        else if (removeGhost(mainGhostsPtr, pageKey)) {
+            mainGhostsCnt--;
+
+            // The page would have been hit if the "main" list were larger.
+            inPagesTarget = Math.max(minInPagesTarget,
+                inPagesTarget - Math.max(1, inGhostsCnt / (mainGhostsCnt + 1)));
+
+            addToTail(pageIdx, true);
+        }
+        else
+            addToTail(pageIdx, false);
+    }
+
+    /**
+     * Handles page hit. Page of the "main" list is moved to the tail of the list, repeated references to a page of
+     * the "in" list are treated as correlated and ignored.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void onHit(int pageIdx) {
+        if (!mainPage(pageIdx) || mainTailIdx == pageIdx)
+            return;
+
+        remove0(pageIdx);
+
+        addToTail(pageIdx, true);
+    }
+
+    /**
+     * Removes the page to replace. The page is taken from the head of the "in" list if the list exceeds its target
+     * size, from the head of the "main" list otherwise.
+     *
+     * @return Page index or {@code -1} if list is empty.
+     */
+    public synchronized int poll() {
+        int idx = (inPagesCnt > inPagesTarget || mainHeadIdx == NULL_IDX) ? inHeadIdx : mainHeadIdx;
+
+        if (idx == NULL_IDX)
+            idx = mainHeadIdx;
+
+        if (idx != NULL_IDX)
+            remove0(idx);
+
+        return idx;
+    }
+
+    /**
+     * Remembers key of the replaced page in the ghost table of the list the page was polled from.
+     *
+     * @param pageIdx Index of the page returned by {@link #poll()}.
+     * @param pageKey Page key.
+     */
+    public synchronized void onReplaced(int pageIdx, long pageKey) {
+        if (mainPage(pageIdx)) {
+            if (putGhost(mainGhostsPtr, pageKey))
+                mainGhostsCnt++;
+        }
+        else if (putGhost(inGhostsPtr, pageKey))
+            inGhostsCnt++;
+    }
+
+    /**
+     * Returns page which can't be replaced to the tail of the list the page was polled from.
+     *
+     * @param pageIdx Index of the page returned by {@link #poll()}.
+     */
+    public synchronized void putBack(int pageIdx) {
+        addToTail(pageIdx, mainPage(pageIdx));
+    }
+
+    /**
+     * Removes page from the list by page index.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        remove0(pageIdx);
+    }
+
+    /**
+     * @param pageIdx Page index.
+     */
+    private void remove0(int pageIdx) {
+        assert pageIdx != NULL_IDX;
+
+        boolean main = mainPage(pageIdx);
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert (main ? mainHeadIdx : inHeadIdx) == pageIdx : "Unexpected page index [pageIdx=" + pageIdx +
+                ", main=" + main + ", inHeadIdx=" + inHeadIdx + ", mainHeadIdx=" + mainHeadIdx + ']';
+
+            if (main)
+                mainHeadIdx = nextIdx;
+            else
+                inHeadIdx = nextIdx;
+        }
+        else
+            next(prevIdx, nextIdx);
+
+        if (nextIdx == NULL_IDX) {
+            assert (main ? mainTailIdx : inTailIdx) == pageIdx : "Unexpected page index [pageIdx=" + pageIdx +
+                ", main=" + main + ", inTailIdx=" + inTailIdx + ", mainTailIdx=" + mainTailIdx + ']';
+
+            if (main)
+                mainTailIdx = prevIdx;
+            else
+                inTailIdx = prevIdx;
+        }
+        else
+            prev(nextIdx, prevIdx);
+
+        clearLinks(pageIdx);
+
+        if (main)
+            mainPagesCnt--;
+        else
+            inPagesCnt--;
+    }
+
+    /**
+     * Adds page to the tail of the "in" or "main" list. The "main" list flag is kept after the page is removed, so
+     * {@link #onReplaced(int, long)} and {@link #putBack(int)} know which list the page was polled from.
+     *
+     * @param pageIdx Page index.
+     * @param main {@code True} to add to the "main" list.
+     */
+    private void addToTail(int pageIdx, boolean main) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        mainPage(pageIdx, main);
+
+        int tailIdx = main ? mainTailIdx : inTailIdx;
+
+        if (tailIdx == NULL_IDX) {
+            if (main)
+                mainHeadIdx = pageIdx;
+            else
+                inHeadIdx = pageIdx;
+        }
+        else
+            link(tailIdx, pageIdx);
+
+        if (main) {
+            mainTailIdx = pageIdx;
+
+            mainPagesCnt++;
+        }
+        else {
+            inTailIdx = pageIdx;
+
+            inPagesCnt++;
+        }
+    }
+
+    /**
+     * @param ghostsPtr Ghost table pointer.
+     * @param pageKey Page key.
+     * @return {@code True} if the key wasn't in the table and the slot was empty before.
+     */
+    private boolean putGhost(long ghostsPtr, long pageKey) {
+        if (ghostCap == 0)
+            return false;
+
+        long ptr = ghostSlot(ghostsPtr, pageKey);
+
+        long prev = GridUnsafe.getLong(ptr);
+
+        GridUnsafe.putLong(ptr, ghostHash(pageKey));
+
+        return prev == 0;
+    }
+
+    /**
+     * @param ghostsPtr Ghost table pointer.
+     * @param pageKey Page key.
+     * @return {@code True} if the key was found and removed.
+     */
+    private boolean removeGhost(long ghostsPtr, long pageKey) {
+        if (ghostCap == 0)
+            return false;
+
+        long ptr = ghostSlot(ghostsPtr, pageKey);
+
+        if (GridUnsafe.getLong(ptr) != ghostHash(pageKey))
+            return false;
+
+        GridUnsafe.putLong(ptr, 0);
+
+        return true;
+    }
+
+    /**
+     * @param ghostsPtr Ghost table pointer.
+     * @param pageKey Page key.
+     * @return Pointer to the ghost table slot of the key.
+     */
+    private long ghostSlot(long ghostsPtr, long pageKey) {
+        long hash = pageKey * 0x9E3779B97F4A7C15L;
+
+        return ghostsPtr + (((hash >>> 1) % ghostCap) << 3);
+    }
+
+    /**
+     * @param pageKey Page key.
+     * @return Non-zero hash of the key stored in the ghost table.
+     */
+    private static long ghostHash(long pageKey) {
+        return pageKey == 0 ? 1 : pageKey;
+    }
+
+    /**
+     * Link two pages.
+     *
+     * @param prevIdx Previous page index.
+     * @param nextIdx Next page index.
+     */
+    private void link(int prevIdx, int nextIdx) {
+        prev(nextIdx, prevIdx);
+        next(prevIdx, nextIdx);
+    }
+
+    /**
+     * Clear page links.
+     *
+     * @param pageIdx Page index.
+     */
+    private void clearLinks(int pageIdx) {
+        GridUnsafe.putLong(linksPtr + (((long)pageIdx) << 3), -1L);
+    }
+
+    /**
+     * Gets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3));
+    }
+
+    /**
+     * Gets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Sets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Sets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets "main" list flag of the page.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean mainPage(int pageIdx) {
+        long flags = GridUnsafe.getLong(flagsPtr + ((pageIdx >> 3) & (~7)));
+
+        return (flags & (1L << pageIdx)) != 0L;
+    }
+
+    /**
+     * Sets "main" list flag of the page.
+     *
+     * @param pageIdx Page index.
+     * @param main "Main" list flag.
+     */
+    private void mainPage(int pageIdx, boolean main) {
+        long ptr = flagsPtr + ((pageIdx >> 3) & (~7));
+
+        if (main)
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << pageIdx));
+        else
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) & ~(1L << pageIdx));
+    }
+
+    /**
+     * Gets count of pages in the "in" list.
+     */
+    synchronized int inPagesCount() {
+        return inPagesCnt;
+    }
+
+    /**
+     * Gets count of pages in the "main" list.
+     */
+    synchronized int mainPagesCount() {
+        return mainPagesCnt;
+    }
+
+    /**
+     * Gets target count of pages in the "in" list.
+     */
+    synchronized int inPagesTarget() {
+        return inPagesTarget;
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Capacity of each ghost table.
+     */
+    private static int ghostCapacity(int pagesCnt) {
+        return (int)(pagesCnt * GHOST_TO_TOTAL_PAGES_RATIO);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Size of the "main" list flags, 1 bit per page with 8 byte align.
+     */
+    private static long flagsSize(int pagesCnt) {
+        return ((pagesCnt + 63L) >> 6) << 3;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return ((long)pagesCnt << 3) /* links = 2 ints per page */ +
+            flagsSize(pagesCnt) /* "main" list flags */ +
+            ((long)ghostCapacity(pagesCnt) << 4) /* two ghost tables = 1 long per slot */;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.tree;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,9 +39,11 @@ import org.apache.ignite.internal.UnregisteredBinaryTypeException;
 import org.apache.ignite.internal.UnregisteredClassException;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixLeftmostChildRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.FixRemoveId;
@@ -69,6 +73,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.util.GridArrays;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
@@ -80,6 +85,7 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_LOCK_RETRIES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READ;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.DONE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.FALSE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.READY;
@@ -234,6 +240,10 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     private static final int LOCK_RETRIES = IgniteSystemProperties.getInteger(
         IGNITE_BPLUS_TREE_LOCK_RETRIES, IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT);
 
+    /** Inner pages are read by lookups without taking read locks. */
+    private static final boolean OPTIMISTIC_READ = IgniteSystemProperties.getBoolean(
+        IGNITE_BPLUS_TREE_OPTIMISTIC_READ, true);
+
     /** */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -567,7 +577,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 // Here forward page can't be concurrently removed because we keep write lock on tail which is the only
                 // page who knows about the forward page, because it was just produced by split.
                 p.rightId = io.getForward(pageAddr);
-                p.setTailForSplit(pageId, page, pageAddr, io, p.btmLvl - 1);
+
+                // Page could be rewritten in another format to store the row.
+                p.setTailForSplit(pageId, page, pageAddr, io(pageAddr), p.btmLvl - 1);
 
                 assert p.rightId != 0;
             }
@@ -1624,7 +1636,10 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                // Hot inner pages are rarely modified, so read them optimistically to avoid CAS on the page lock.
+                Result res = OPTIMISTIC_READ && lvl > 0 ?
+                    readOptimistic(pageId, page, search, g, lvl, RETRY, statisticsHolder()) :
+                    read(pageId, page, search, g, lvl, RETRY);
 
                 switch (res) {
                     case GO_DOWN:
@@ -2496,6 +2511,27 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Creates a loader which builds the tree bottom-up from rows sorted in the tree order: leaf pages are filled one
+     * after another and the inner levels are built on top of them, so there are no tree descents and page splits.
+     * The tree must be empty and must not be accessed until the loader is {@link BulkLoad#finish() finished}.
+     *
+     * @param fillFactor Part of the page capacity to fill, the rest is left for further inserts.
+     * @return Bulk loader.
+     * @throws IgniteCheckedException If failed.
+     */
+    public final BulkLoad bulkLoad(float fillFactor) throws IgniteCheckedException {
+        checkDestroyed();
+
+        if (fillFactor <= 0 || fillFactor > 1)
+            throw new IllegalArgumentException("Fill factor must be in (0, 1] range: " + fillFactor);
+
+        if (!isEmpty())
+            throw new IgniteCheckedException("Bulk load requires an empty tree [tree=" + name() + ']');
+
+        return new BulkLoad(fillFactor);
+    }
+
     /**
      * Returns number of elements in the tree by scanning pages of the bottom (leaf) level.
      * Since a concurrent access is permitted, there is no guarantee about
@@ -2952,15 +2988,17 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
      * @param fwdId Forward page ID.
      * @param fwdBuf Forward buffer.
      * @param idx Insertion index.
+     * @param rewrite Whether the page has to be rewritten to store the inserted row.
      * @return {@code true} The middle index was shifted to the right.
      * @throws IgniteCheckedException If failed.
      */
     private boolean splitPage(
-        long pageId, long page, long pageAddr, BPlusIO io, long fwdId, long fwdBuf, int idx
+        long pageId, long page, long pageAddr, BPlusIO io, long fwdId, long fwdBuf, int idx, boolean rewrite
     ) throws IgniteCheckedException {
         int cnt = io.getCount(pageAddr);
 
-        int mid = sequentialWriteOptsEnabled ? (int)(cnt * 0.85) : cnt >>> 1;
+        // Page to be rewritten must keep no more than a half of items to fit them in any format.
+        int mid = sequentialWriteOptsEnabled && !rewrite ? (int)(cnt * 0.85) : cnt >>> 1;
 
         boolean res = false;
 
@@ -3628,11 +3666,42 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             if (cnt == maxCnt) // Need to split page.
                 return insertWithSplit(pageId, page, pageAddr, io, idx, lvl);
 
+            if (!io.canStore(pageAddr, row)) {
+                BPlusIO<L> newIo = rewrite(pageId, page, pageAddr, io, null);
+
+                if (newIo == null) // No room for the row in the rewritten page.
+                    return insertWithSplit(pageId, page, pageAddr, io, idx, lvl);
+
+                io = newIo;
+            }
+
             insertSimple(pageId, page, pageAddr, io, idx, null);
 
             return null;
         }
 
+        /**
+         * @param pageId Page ID.
+         * @param page Page pointer.
+         * @param pageAddr Page address.
+         * @param io IO.
+         * @param walPlc Full page WAL record policy.
+         * @return IO of the rewritten page or {@code null} if the page must be split to store the row.
+         * @throws IgniteCheckedException If failed.
+         */
+        private BPlusIO<L> rewrite(long pageId, long page, long pageAddr, BPlusIO<L> io, Boolean walPlc)
+            throws IgniteCheckedException {
+            BPlusIO<L> newIo = io.rewrite(pageAddr, row, pageSize());
+
+            // Rare case, we can afford full page record to avoid complexity.
+            if (newIo != null && needWalDeltaRecord(pageId, page, walPlc)) {
+                wal.log(new PageSnapshot(new FullPageId(pageId, grpId), pageAddr, pageMem.pageSize(),
+                    pageMem.realPageSize(grpId)));
+            }
+
+            return newIo;
+        }
+
         /**
          * @param pageId Page ID.
          * @param page Page pointer.
@@ -3679,12 +3748,20 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 final Boolean fwdPageWalPlc = Boolean.TRUE;
 
                 try {
-                    boolean midShift = splitPage(pageId, page, pageAddr, io, fwdId, fwdPageAddr, idx);
+                    boolean rewrite = !io.canStore(pageAddr, row);
+
+                    boolean midShift = splitPage(pageId, page, pageAddr, io, fwdId, fwdPageAddr, idx, rewrite);
 
                     // Do insert.
                     int cnt = io.getCount(pageAddr);
 
                     if (idx < cnt || (idx == cnt && !midShift)) { // Insert into back page.
+                        if (rewrite) {
+                            io = rewrite(pageId, page, pageAddr, io, null);
+
+                            assert io != null : "Half of the page items must fit the page in any format.";
+                        }
+
                         insertSimple(pageId, page, pageAddr, io, idx, null);
 
                         // Fix leftmost child of forward page, because newly inserted row will go up.
@@ -3696,8 +3773,18 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                                 wal.log(new FixLeftmostChildRecord(grpId, fwdId, rightId));
                         }
                     }
-                    else // Insert into newly allocated forward page.
-                        insertSimple(fwdId, fwdPage, fwdPageAddr, io, idx - cnt, fwdPageWalPlc);
+                    else { // Insert into newly allocated forward page.
+                        // Forward page can have another format than the split one.
+                        BPlusIO<L> fwdIo = io(fwdPageAddr);
+
+                        if (!fwdIo.canStore(fwdPageAddr, row)) {
+                            fwdIo = rewrite(fwdId, fwdPage, fwdPageAddr, fwdIo, fwdPageWalPlc);
+
+                            assert fwdIo != null : "Half of the page items must fit the page in any format.";
+                        }
+
+                        insertSimple(fwdId, fwdPage, fwdPageAddr, fwdIo, idx - cnt, fwdPageWalPlc);
+                    }
 
                     // Do move up.
                     cnt = io.getCount(pageAddr);
@@ -4941,7 +5028,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
          */
         private boolean doMerge(Tail<L> prnt, Tail<L> left, Tail<L> right)
             throws IgniteCheckedException {
-            assert right.io == left.io; // Otherwise incompatible.
+            assert right.io.isLeaf() == left.io.isLeaf(); // Otherwise incompatible.
             assert left.io.getForward(left.buf) == right.pageId;
 
             int prntCnt = prnt.getCount();
@@ -4965,6 +5052,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             if (!left.io.merge(prnt.io, prnt.buf, prntIdx, left.buf, right.buf, emptyBranch, pageSize()))
                 return false;
 
+            // Merged page could be rewritten in another format.
+            left.io = io(left.buf);
+
             // Invalidate indexes after successful merge.
             prnt.idx = Short.MIN_VALUE;
             left.idx = Short.MIN_VALUE;
@@ -5188,7 +5278,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         private Boolean walPlc;
 
         /** */
-        private final BPlusIO<L> io;
+        private BPlusIO<L> io;
 
         /** */
         private byte type;
@@ -5638,6 +5728,360 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Builds the tree bottom-up from sorted rows. Every level has a single page being filled in a private buffer,
+     * the page is written to the page memory as a whole with a full page WAL record once it is filled and the ID
+     * of its forward page is known. The last key of every filled page is passed to the upper level. Each call must
+     * be done under the checkpoint read lock, no page locks are held between the calls.
+     */
+    public final class BulkLoad {
+        /** Part of the page capacity to fill. */
+        private final float fillFactor;
+
+        /** Levels being built, the leaf level goes first. */
+        private final List<BulkLoadLevel> lvls = new ArrayList<>();
+
+        /** Last added row. */
+        private L lastRow;
+
+        /** Whether the loader is finished. */
+        private boolean finished;
+
+        /**
+         * @param fillFactor Part of the page capacity to fill.
+         */
+        private BulkLoad(float fillFactor) {
+            this.fillFactor = fillFactor;
+        }
+
+        /**
+         * Adds the row next to the previously added one.
+         *
+         * @param row Row, must be greater than the previously added row.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void add(L row) throws IgniteCheckedException {
+            assert row != null;
+
+            if (finished)
+                throw new IllegalStateException("Bulk load is finished [tree=" + name() + ']');
+
+            BulkLoadLevel leaf = lvls.isEmpty() ? level(0) : lvls.get(0);
+
+            int cnt = leaf.io.getCount(leaf.addr);
+
+            // Rows of the sequential write mode are appended without comparison, as on regular inserts.
+            if (cnt > 0 && !sequentialWriteOptsEnabled && compare(0, leaf.io, leaf.addr, cnt - 1, row) >= 0) {
+                throw new IgniteCheckedException("Rows must be added in the tree order without duplicates " +
+                    "[tree=" + name() + ']');
+            }
+
+            if (cnt > 0 && !leaf.io.canStore(leaf.addr, row)) {
+                BPlusIO<L> newIo = cnt < fillLimit(leaf) ? leaf.io.rewrite(leaf.addr, row, pageSize()) : null;
+
+                if (newIo == null)
+                    cnt = nextPage(leaf);
+                else
+                    leaf.io = newIo;
+            }
+            else if (cnt > 0 && cnt >= fillLimit(leaf))
+                cnt = nextPage(leaf);
+
+            leaf.io.insert(leaf.addr, cnt, row, null, 0L, false);
+
+            lastRow = row;
+        }
+
+        /**
+         * Writes the pages being filled and makes the built levels the tree.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        public void finish() throws IgniteCheckedException {
+            if (finished)
+                return;
+
+            finished = true;
+
+            if (lvls.isEmpty())
+                return;
+
+            for (int i = 1; i < lvls.size(); i++) {
+                BulkLoadLevel lvl = lvls.get(i);
+
+                // There is always room for the pending key: the fill limit of inner pages is less than capacity.
+                if (lvl.pendingRow != null)
+                    commitPending(lvl, false);
+            }
+
+            for (BulkLoadLevel lvl : lvls)
+                lvl.flush();
+
+            long metaPage = acquirePage(metaPageId);
+
+            try {
+                long metaPageAddr = writeLock(metaPageId, metaPage);
+
+                assert metaPageAddr != 0L;
+
+                long oldRootId;
+
+                try {
+                    BPlusMetaIO io = BPlusMetaIO.VERSIONS.forPage(metaPageAddr);
+
+                    assert io.getRootLevel(metaPageAddr) == 0;
+
+                    oldRootId = io.getFirstPageId(metaPageAddr, 0);
+
+                    io.initRoot(metaPageAddr, lvls.get(0).firstPageId, pageSize());
+
+                    for (int i = 1; i < lvls.size(); i++)
+                        io.addRoot(metaPageAddr, lvls.get(i).firstPageId, pageSize());
+
+                    BulkLoadLevel root = lvls.get(lvls.size() - 1);
+
+                    treeMeta = new TreeMetaData(lvls.size() - 1, root.firstPageId);
+                }
+                finally {
+                    writeUnlock(metaPageId, metaPage, metaPageAddr, Boolean.TRUE, true);
+                }
+
+                freeEmptyRoot(oldRootId);
+            }
+            finally {
+                releasePage(metaPageId, metaPage);
+            }
+        }
+
+        /**
+         * @param lvl Level.
+         * @return Level being built, created if absent.
+         * @throws IgniteCheckedException If failed.
+         */
+        private BulkLoadLevel level(int lvl) throws IgniteCheckedException {
+            if (lvl < lvls.size())
+                return lvls.get(lvl);
+
+            assert lvl == lvls.size();
+
+            BulkLoadLevel res = new BulkLoadLevel(lvl == 0 ? latestLeafIO() : latestInnerIO());
+
+            res.init(allocatePage(null));
+
+            res.firstPageId = res.pageId;
+
+            // The leftmost child of an inner level is the first page of the level below.
+            if (lvl > 0)
+                ((BPlusInnerIO<L>)res.io).setLeft(res.addr, 0, lvls.get(lvl - 1).firstPageId);
+
+            lvls.add(res);
+
+            return res;
+        }
+
+        /**
+         * @param lvl Level.
+         * @return Number of items to fill the level page with.
+         */
+        private int fillLimit(BulkLoadLevel lvl) {
+            int maxCnt = lvl.io.getMaxCount(lvl.addr, pageSize());
+
+            int limit = Math.max(1, (int)(maxCnt * fillFactor));
+
+            if (lvl.io.isLeaf())
+                return limit;
+
+            assert maxCnt > 1 : maxCnt;
+
+            // Keep room for the pending key of inner levels.
+            return Math.min(limit, maxCnt - 1);
+        }
+
+        /**
+         * Writes the filled leaf page and starts the next one.
+         *
+         * @param leaf Leaf level.
+         * @return Items count of the new page.
+         * @throws IgniteCheckedException If failed.
+         */
+        private int nextPage(BulkLoadLevel leaf) throws IgniteCheckedException {
+            long nextPageId = allocatePage(null);
+
+            leaf.io.setForward(leaf.addr, nextPageId);
+
+            leaf.flush();
+
+            leaf.io = latestLeafIO();
+            leaf.init(nextPageId);
+
+            addChild(1, lastRow, nextPageId);
+
+            return 0;
+        }
+
+        /**
+         * Adds the key separating the child from its left neighbour to the inner level. The key is kept pending
+         * until the next key comes, so the last key of a filled page can be moved up instead of leaving the next page
+         * without keys.
+         *
+         * @param lvl Inner level.
+         * @param row Separating key, the last row of the left neighbour subtree.
+         * @param childId Child page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void addChild(int lvl, L row, long childId) throws IgniteCheckedException {
+            BulkLoadLevel inner = level(lvl);
+
+            if (inner.pendingRow != null)
+                commitPending(inner, true);
+
+            inner.pendingRow = row;
+            inner.pendingChildId = childId;
+        }
+
+        /**
+         * @param inner Inner level.
+         * @param split Whether to start the next page if the current one is filled.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void commitPending(BulkLoadLevel inner, boolean split) throws IgniteCheckedException {
+            int cnt = inner.io.getCount(inner.addr);
+
+            L row = inner.pendingRow;
+            long childId = inner.pendingChildId;
+
+            inner.pendingRow = null;
+
+            if (split && cnt >= fillLimit(inner)) {
+                long nextPageId = allocatePage(null);
+
+                inner.io.setForward(inner.addr, nextPageId);
+
+                inner.flush();
+
+                inner.init(nextPageId);
+
+                ((BPlusInnerIO<L>)inner.io).setLeft(inner.addr, 0, childId);
+
+                addChild(inner.lvl + 1, row, nextPageId);
+            }
+            else
+                inner.io.insert(inner.addr, cnt, row, null, childId, false);
+        }
+
+        /**
+         * Frees the root page of the empty tree replaced by the built levels.
+         *
+         * @param pageId Page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void freeEmptyRoot(long pageId) throws IgniteCheckedException {
+            if (reuseList == null)
+                return;
+
+            ReuseBag bag = new LongListReuseBag();
+
+            long page = acquirePage(pageId);
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    bag.addFreePage(recyclePage(pageId, page, pageAddr, null));
+                }
+                finally {
+                    writeUnlock(pageId, page, pageAddr, true);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+
+            reuseList.addForRecycle(bag);
+        }
+
+        /**
+         * Level being built.
+         */
+        private final class BulkLoadLevel {
+            /** Level. */
+            private final int lvl;
+
+            /** Buffer of the page being filled. */
+            private final ByteBuffer buf;
+
+            /** Buffer address. */
+            private final long addr;
+
+            /** IO of the page being filled. */
+            private BPlusIO<L> io;
+
+            /** ID of the first page of the level. */
+            private long firstPageId;
+
+            /** ID of the page being filled. */
+            private long pageId;
+
+            /** Key waiting to be added to the inner level. */
+            private L pendingRow;
+
+            /** Child page on the right of the pending key. */
+            private long pendingChildId;
+
+            /**
+             * @param io Page IO.
+             */
+            private BulkLoadLevel(BPlusIO<L> io) {
+                this.io = io;
+
+                lvl = lvls.size();
+                buf = ByteBuffer.allocateDirect(pageMem.pageSize()).order(ByteOrder.nativeOrder());
+                addr = GridUnsafe.bufferAddress(buf);
+            }
+
+            /**
+             * Starts filling of the page.
+             *
+             * @param pageId Page ID.
+             */
+            private void init(long pageId) {
+                this.pageId = pageId;
+
+                GridUnsafe.setMemory(addr, buf.capacity(), (byte)0);
+
+                io.initNewPage(addr, pageId, pageSize(), metrics);
+            }
+
+            /**
+             * Writes the page being filled to the page memory.
+             *
+             * @throws IgniteCheckedException If failed.
+             */
+            private void flush() throws IgniteCheckedException {
+                long page = acquirePage(pageId);
+
+                try {
+                    long pageAddr = writeLock(pageId, page);
+
+                    assert pageAddr != 0L;
+
+                    try {
+                        GridUnsafe.copyMemory(addr, pageAddr, pageSize());
+                    }
+                    finally {
+                        // The page is new, so the full page record is written instead of the delta records.
+                        writeUnlock(pageId, page, pageAddr, Boolean.TRUE, true);
+                    }
+                }
+                finally {
+                    releasePage(pageId, page);
+                }
+            }
+        }
+    }
+
     /**
      * Forward cursor.
      */
@@ -317,6 +317,33 @@ public abstract class BPlusIO<L> extends PageIO implements CompactablePageIO {
         return store(pageAddr, idx, row, rowBytes, needRowBytes);
     }
 
+    /**
+     * Checks if the row can be stored in the page in its current format. Pages which store data shared by all
+     * their items only once can require to be {@link #rewrite(long, Object, int) rewritten} to store the row.
+     *
+     * @param pageAddr Page address.
+     * @param row Row to store.
+     * @return {@code True} if the row can be stored in the page as is.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean canStore(long pageAddr, L row) throws IgniteCheckedException {
+        return true;
+    }
+
+    /**
+     * Rewrites the page in a format which can store the given row along with all the items of the page.
+     * The page is not changed if in the new format it has no room for one more item.
+     *
+     * @param pageAddr Page address.
+     * @param row Row to store.
+     * @param pageSize Page size without encryption overhead.
+     * @return IO of the rewritten page or {@code null} if the page must be split to store the row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public BPlusIO<L> rewrite(long pageAddr, L row, int pageSize) throws IgniteCheckedException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * @param pageAddr Splitting page address.
      * @param fwdId Forward page ID.
@@ -17,6 +17,9 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.tree.io;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.internal.S;
 
 /**
@@ -32,16 +35,44 @@ public final class IOVersions<V extends PageIO> {
     /** */
     private final V latest;
 
+    /** Factory of the versions following the registered ones, {@code null} if there are no such versions. */
+    @GridToStringExclude
+    private final IntFunction<V> extVerFactory;
+
+    /** Maximum version created by {@link #extVerFactory}. */
+    private final int maxExtVer;
+
+    /** Versions created by {@link #extVerFactory}, lazily initialized. */
+    @GridToStringExclude
+    private volatile AtomicReferenceArray<V> extVers;
+
     /**
      * @param vers Versions.
      */
     @SafeVarargs
     public IOVersions(V... vers) {
+        this(null, 0, vers);
+    }
+
+    /**
+     * Creates versions registry with versions which follow the given ones and are created on demand. Such versions
+     * are never {@link #latest()}, they are used for pages which are converted to a version depending on the page
+     * content.
+     *
+     * @param extVerFactory Factory of the versions following the given ones.
+     * @param maxExtVer Maximum version created by the factory.
+     * @param vers Versions.
+     */
+    @SafeVarargs
+    public IOVersions(IntFunction<V> extVerFactory, int maxExtVer, V... vers) {
         assert vers != null;
         assert vers.length > 0;
+        assert extVerFactory == null || maxExtVer > vers.length;
 
         this.vers = vers;
         this.type = vers[0].getType();
+        this.extVerFactory = extVerFactory;
+        this.maxExtVer = maxExtVer;
 
         latest = vers[vers.length - 1];
 
@@ -84,7 +115,46 @@ public final class IOVersions<V extends PageIO> {
         if (ver == 0)
             throw new IllegalStateException("Failed to get page IO instance (page content is corrupted)");
 
-        return vers[ver - 1];
+        if (ver <= vers.length)
+            return vers[ver - 1];
+
+        return extVersion(ver);
+    }
+
+    /**
+     * @param ver Version following the registered ones.
+     * @return IO.
+     */
+    private V extVersion(int ver) {
+        if (extVerFactory == null || ver > maxExtVer)
+            throw new IllegalStateException("Failed to get page IO instance (unknown version) [type=" + type +
+                ", ver=" + ver + ']');
+
+        AtomicReferenceArray<V> extVers0 = extVers;
+
+        if (extVers0 == null) {
+            synchronized (this) {
+                extVers0 = extVers;
+
+                if (extVers0 == null)
+                    extVers = extVers0 = new AtomicReferenceArray<>(maxExtVer - vers.length);
+            }
+        }
+
+        int idx = ver - vers.length - 1;
+
+        V io = extVers0.get(idx);
+
+        if (io == null) {
+            io = extVerFactory.apply(ver);
+
+            assert io.getType() == type && io.getVersion() == ver : io;
+
+            if (!extVers0.compareAndSet(idx, null, io))
+                io = extVers0.get(idx);
+        }
+
+        return io;
     }
 
     /**
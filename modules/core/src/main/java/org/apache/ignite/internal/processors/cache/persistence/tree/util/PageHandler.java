@@ -38,6 +38,10 @@ import static org.apache.ignite.internal.processors.cache.persistence.tree.io.Pa
  * Page handler.
  */
 public abstract class PageHandler<X, R> {
+    /** Buffer for page copies of optimistic reads, {@code null} while the buffer is in use. */
+    private static final ThreadLocal<ByteBuffer> OPTIMISTIC_READ_BUF =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(0));
+
     /** */
     private static final PageHandler<Void, Boolean> NO_OP = new PageHandler<Void, Boolean>() {
         @Override public Boolean run(int cacheId, long pageId, long page, long pageAddr, PageIO io, Boolean walPlc,
@@ -179,6 +183,66 @@ public abstract class PageHandler<X, R> {
         }
     }
 
+    /**
+     * Runs the handler on a copy of the page made without taking the read lock. Falls back to
+     * {@link #readPage(PageMemory, int, long, long, PageLockListener, PageHandler, Object, int, Object,
+     * IoStatisticsHolder, PageIoResolver)} if the page is modified concurrently. Handler must not keep the page address
+     * after it returns.
+     *
+     * @param pageMem Page memory.
+     * @param cacheId Cache ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param lsnr Lock listener.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param lockFailed Result in case of lock failure due to page recycling.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Handler result.
+     * @throws IgniteCheckedException If failed.
+     */
+    public static <X, R> R readPageOptimistic(
+        PageMemory pageMem,
+        int cacheId,
+        long pageId,
+        long page,
+        PageLockListener lsnr,
+        PageHandler<X, R> h,
+        X arg,
+        int intArg,
+        R lockFailed,
+        IoStatisticsHolder statHolder,
+        PageIoResolver pageIoRslvr
+    ) throws IgniteCheckedException {
+        ByteBuffer buf = OPTIMISTIC_READ_BUF.get();
+
+        // Buffer is taken by an outer optimistic read of this thread.
+        if (buf == null)
+            return readPage(pageMem, cacheId, pageId, page, lsnr, h, arg, intArg, lockFailed, statHolder, pageIoRslvr);
+
+        if (buf.capacity() < pageMem.pageSize())
+            buf = ByteBuffer.allocateDirect(pageMem.pageSize());
+
+        OPTIMISTIC_READ_BUF.set(null);
+
+        try {
+            long bufAddr = GridUnsafe.bufferAddress(buf);
+
+            if (!pageMem.readOptimistic(cacheId, pageId, page, bufAddr)) {
+                return readPage(pageMem, cacheId, pageId, page, lsnr, h, arg, intArg, lockFailed, statHolder,
+                    pageIoRslvr);
+            }
+
+            PageIO io = pageIoRslvr.resolve(bufAddr);
+
+            return h.run(cacheId, pageId, page, bufAddr, io, null, arg, intArg, statHolder);
+        }
+        finally {
+            OPTIMISTIC_READ_BUF.set(buf);
+        }
+    }
+
     /**
      * @param pageMem Page memory.
      * @param cacheId Cache ID.
@@ -25,17 +25,20 @@ import java.nio.ByteOrder;
 import java.util.Optional;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.MappedFileInput;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.SegmentHeader;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
 import org.apache.ignite.internal.util.typedef.P2;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -43,6 +46,7 @@ import org.apache.ignite.lang.IgniteBiTuple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP_READ;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.readSegmentHeader;
 
 /**
@@ -54,6 +58,9 @@ public abstract class AbstractWalRecordsIterator
     /** */
     private static final long serialVersionUID = 0L;
 
+    /** @see IgniteSystemProperties#IGNITE_WAL_MMAP_READ */
+    public static final boolean DFLT_WAL_MMAP_READ = true;
+
     /**
      * Current record preloaded, to be returned on next()<br> Normally this should be not null because advance() method
      * should already prepare some value<br>
@@ -100,6 +107,9 @@ public abstract class AbstractWalRecordsIterator
     /** Optional inclusive high bound. */
     protected final @Nullable WALPointer highBound;
 
+    /** Whether complete segments may be read through the memory mapping, see {@link #mapSegment}. */
+    protected final boolean mmapRead = IgniteSystemProperties.getBoolean(IGNITE_WAL_MMAP_READ, DFLT_WAL_MMAP_READ);
+
     /** Position of last read valid record. */
     private WALPointer lastRead;
 
@@ -359,12 +369,21 @@ public abstract class AbstractWalRecordsIterator
             if (isCompacted)
                 serializerFactory.skipPositionCheck(true);
 
-            FileInput in = segmentFileInputFactory.createFileInput(fileIO, buf);
+            FileInput in = mapSegment(desc) ?
+                new MappedFileInput(fileIO, desc.file()) :
+                segmentFileInputFactory.createFileInput(fileIO, buf);
 
             if (start != null && desc.idx() == start.index()) {
                 if (isCompacted) {
-                    if (start.fileOffset() != 0)
+                    if (start.fileOffset() != 0) {
+                        long framePos = fileIO.framePosition(start.fileOffset());
+
+                        // Skip the frames preceding the start record instead of deserializing their records.
+                        if (framePos > in.position())
+                            in.seek(framePos);
+
                         serializerFactory.recordDeserializeFilter(new StartSeekingFilter(start));
+                    }
                 }
                 else {
                     // Make sure we skip header with serializer version.
@@ -418,7 +437,7 @@ public abstract class AbstractWalRecordsIterator
         SegmentIO fileIO = null;
 
         try {
-            fileIO = desc.toReadOnlyIO(ioFactory);
+            fileIO = desc.toReadOnlyIO(ioFactory, sharedCtx.kernalContext().compress());
 
             SegmentHeader segmentHdr;
 
@@ -456,6 +475,17 @@ public abstract class AbstractWalRecordsIterator
         }
     }
 
+    /**
+     * Checks whether the segment can be read from the memory mapping of the file instead of reading it to the buffer.
+     * Only complete uncompressed segments which are neither written nor truncated while read can be mapped.
+     *
+     * @param desc File descriptor.
+     * @return {@code True} if the segment should be read by {@link MappedFileInput}.
+     */
+    protected boolean mapSegment(AbstractFileDescriptor desc) {
+        return false;
+    }
+
     /** */
     protected abstract AbstractReadFileHandle createReadFileHandle(
         SegmentIO fileIO,
@@ -527,9 +557,11 @@ public abstract class AbstractWalRecordsIterator
          * Make fileIo by this description.
          *
          * @param fileIOFactory Factory for fileIo creation.
+         * @param compressProc Compression processor required to read segments compacted by frames.
          * @return One of implementation of {@link FileIO}.
          * @throws IOException if creation of fileIo was not success.
          */
-        SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory) throws IOException;
+        SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory, @Nullable CompressionProcessor compressProc)
+            throws IOException;
     }
 }
@@ -23,7 +23,9 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
 import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
 import org.apache.ignite.internal.processors.cache.persistence.file.UnzipFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.FramedSegmentFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
@@ -122,8 +124,32 @@ public class FileDescriptor implements Comparable<FileDescriptor>, AbstractWalRe
     }
 
     /** {@inheritDoc} */
-    @Override public SegmentIO toReadOnlyIO(FileIOFactory fileIOFactory) throws IOException {
-        FileIO fileIO = isCompressed() ? new UnzipFileIO(file()) : fileIOFactory.create(file(), READ);
+    @Override public SegmentIO toReadOnlyIO(
+        FileIOFactory fileIOFactory,
+        @Nullable CompressionProcessor compressProc
+    ) throws IOException {
+        FileIO fileIO = fileIOFactory.create(file(), READ);
+
+        if (isCompressed()) {
+            try {
+                if (FramedSegmentFileIO.isFramed(fileIO)) {
+                    if (compressProc == null)
+                        throw new IOException("Compression processor is required to read WAL segment: " + file);
+
+                    fileIO = new FramedSegmentFileIO(fileIO, compressProc);
+                }
+                else {
+                    fileIO.close();
+
+                    fileIO = new UnzipFileIO(file());
+                }
+            }
+            catch (IOException e) {
+                U.closeQuiet(fileIO);
+
+                throw e;
+            }
+        }
 
         return new SegmentIO(idx, fileIO);
     }
@@ -17,13 +17,11 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInput;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -51,7 +49,6 @@ import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
@@ -98,6 +95,8 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.Fi
 import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileWriteHandle;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.FramedSegmentFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.FramedSegmentWriter;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.LockedSegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
@@ -135,6 +134,7 @@ import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
@@ -372,6 +372,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Page snapshot records compression level. */
     private int pageCompressionLevel;
 
+    /** Compression algorithm of WAL compaction, {@code null} for ZIP. */
+    @Nullable private DiskPageCompression compactionCompression;
+
+    /** Compression level of WAL compaction. */
+    private int compactionCompressionLevel;
+
     /**
      * Local segment sizes: absolute segment index -> size in bytes.
      * For segments from {@link #ft} and {@link #ft#walArchiveFiles()}.
@@ -547,7 +553,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             lockedSegmentFileInputFactory = new LockedSegmentFileInputFactory(
                 segmentAware,
                 segmentRouter,
-                ioFactory
+                ioFactory,
+                cctx.kernalContext().compress()
             );
 
             pageCompression = dsCfg.getWalPageCompression();
@@ -563,6 +570,19 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
                 pageCompressionLevel = getCompressionLevel(dsCfg.getWalPageCompressionLevel(), pageCompression);
             }
+
+            compactionCompression = dsCfg.getWalCompactionCompression();
+
+            if (compactionCompression != null) {
+                if (compactionCompression != DiskPageCompression.ZSTD && compactionCompression != DiskPageCompression.LZ4) {
+                    throw new IgniteCheckedException("WAL compaction supports only ZSTD and LZ4 compression: " +
+                        compactionCompression);
+                }
+
+                cctx.kernalContext().compress().checkPageCompressionSupported();
+
+                compactionCompressionLevel = getCompressionLevel(null, compactionCompression);
+            }
         }
     }
 
@@ -1244,7 +1264,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     @Nullable private FileDescriptor readFileDescriptor(File file, FileIOFactory ioFactory) {
         FileDescriptor ds = new FileDescriptor(file);
 
-        try (SegmentIO fileIO = ds.toReadOnlyIO(ioFactory)) {
+        try (SegmentIO fileIO = ds.toReadOnlyIO(ioFactory, cctx.kernalContext().compress())) {
             // File may be empty when LOG_ONLY mode is enabled and mmap is disabled.
             if (fileIO.size() == 0)
                 return null;
@@ -2434,6 +2454,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     .getSerializerVersion();
             }
 
+            if (compactionCompression != null) {
+                compressSegmentToFrames(idx, serializerVer, zip);
+
+                return;
+            }
+
             try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
                 zos.setLevel(dsCfg.getWalCompactionLevel());
                 zos.putNextEntry(new ZipEntry(idx + WAL_SEGMENT_FILE_EXT));
@@ -2471,6 +2497,62 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             }
         }
 
+        /**
+         * Compresses the segment by independent frames, see {@link FramedSegmentWriter}.
+         *
+         * @param idx Segment absolute index.
+         * @param serializerVer Serializer version.
+         * @param file File to write.
+         * @throws IOException If failed.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void compressSegmentToFrames(
+            long idx,
+            int serializerVer,
+            File file
+        ) throws IOException, IgniteCheckedException {
+            try (FramedSegmentWriter writer = new FramedSegmentWriter(
+                ioFactory.create(file, CREATE, TRUNCATE_EXISTING, WRITE),
+                cctx.kernalContext().compress(),
+                compactionCompression,
+                compactionCompressionLevel
+            )) {
+                ByteBuffer buf = ByteBuffer.allocate(HEADER_RECORD_SIZE);
+                buf.order(ByteOrder.nativeOrder());
+
+                writer.write(prepareSerializerVersionBuffer(idx, serializerVer, true, buf), 0);
+
+                long[] lastOff = new long[1];
+
+                CIX1<WALRecord> appendC = new CIX1<WALRecord>() {
+                    @Override public void applyx(WALRecord record) throws IgniteCheckedException {
+                        MarshalledRecord marshRec = (MarshalledRecord)record;
+
+                        lastOff[0] = marshRec.position().fileOffset();
+
+                        try {
+                            writer.write(ByteBuffer.wrap(marshRec.buffer().array(), 0, marshRec.buffer().remaining()),
+                                lastOff[0]);
+                        }
+                        catch (IOException e) {
+                            throw new IgniteCheckedException(e);
+                        }
+                    }
+                };
+
+                try (SingleSegmentLogicalRecordsIterator iter = new SingleSegmentLogicalRecordsIterator(
+                    log, cctx, ioFactory, BUF_SIZE, idx, ft, appendC)) {
+
+                    while (iter.hasNextX())
+                        iter.nextX();
+                }
+
+                RecordSerializer ser = new RecordSerializerFactoryImpl(cctx).createSerializer(serializerVer);
+
+                writer.write(ByteBuffer.wrap(prepareSwitchSegmentRecordBuffer(idx, ser).array()), lastOff[0]);
+            }
+        }
+
         /**
          * @param idx Segment index.
          * @param ser Record Serializer.
@@ -2576,8 +2658,14 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     File unzipTmp = ft.tempWalArchiveSegment(segmentToDecompress);
                     File unzip = ft.walArchiveSegment(segmentToDecompress);
 
+                    FileDescriptor zipDesc = new FileDescriptor(zip);
+
                     long currSize = 0;
-                    long reservedSize = U.uncompressedSize(zip);
+                    long reservedSize;
+
+                    try (SegmentIO in = zipDesc.toReadOnlyIO(ioFactory, cctx.kernalContext().compress())) {
+                        reservedSize = in.size();
+                    }
 
                     segmentAware.addSize(segmentToDecompress, reservedSize);
 
@@ -2587,12 +2675,19 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         if (unzip.exists())
                             throw new FileAlreadyExistsException(unzip.getAbsolutePath());
 
-                        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
+                        try (SegmentIO in = zipDesc.toReadOnlyIO(ioFactory, cctx.kernalContext().compress());
                              FileIO io = ioFactory.create(unzipTmp)) {
-                            zis.getNextEntry();
+                            ByteBuffer buf = ByteBuffer.wrap(arr);
+
+                            while (in.read(buf) > 0) {
+                                buf.flip();
+
+                                io.writeFully(buf);
+
+                                buf.clear();
 
-                            while (io.writeFully(arr, 0, zis.read(arr)) > 0)
                                 updateHeartbeat();
+                            }
                         }
 
                         Files.move(unzipTmp.toPath(), unzip.toPath());
@@ -2925,7 +3020,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         "[segmentIdx=" + desc.idx() + "]");
                 }
 
-                if (decompressor != null)
+                // Segments compacted by frames are read directly, without decompressing the whole segment.
+                if (decompressor != null && !isFramed(zipFile))
                     decompressor.decompressFile(desc.idx()).get();
                 else
                     currDesc = zipFile;
@@ -2934,6 +3030,27 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             return (ReadFileHandle)super.initReadHandle(currDesc, start);
         }
 
+        /** {@inheritDoc} */
+        @Override protected boolean mapSegment(AbstractFileDescriptor desc) {
+            // Segments of the work directory are reused, archived ones are complete until deleted.
+            return mmapRead && ft.walArchiveEnabled() && !desc.isCompressed()
+                && desc.file().equals(ft.walArchiveSegment(desc.idx()));
+        }
+
+        /**
+         * @param zipFile Compacted segment.
+         * @return {@code True} if the segment is compacted by frames.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean isFramed(FileDescriptor zipFile) throws IgniteCheckedException {
+            try (FileIO fileIO = ioFactory.create(zipFile.file(), READ)) {
+                return FramedSegmentFileIO.isFramed(fileIO);
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to read compacted WAL segment: " + zipFile.file(), e);
+            }
+        }
+
         /** {@inheritDoc} */
         @Override protected void onClose() throws IgniteCheckedException {
             super.onClose();
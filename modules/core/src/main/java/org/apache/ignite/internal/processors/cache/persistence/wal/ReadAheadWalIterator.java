@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.thread.IgniteThread;
+
+/**
+ * WAL iterator which reads and deserializes records of the delegate iterator in a separate thread ahead of the
+ * consumer. Used on recovery to read the WAL while the previously read records are applied.
+ * <p>
+ * The records, {@link #lastRead()} pointers and the errors are returned exactly as the delegate returns them.
+ */
+public class ReadAheadWalIterator extends GridCloseableIteratorAdapter<IgniteBiTuple<WALPointer, WALRecord>>
+    implements WALIterator {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Number of records passed to the consumer at once. */
+    private static final int BATCH_SIZE = 256;
+
+    /** Delegate iterator. */
+    private final WALIterator delegate;
+
+    /** Batches read ahead. */
+    private final BlockingQueue<Batch> queue;
+
+    /** Reader thread. */
+    private final IgniteThread reader;
+
+    /** Stop flag of the reader thread. */
+    private volatile boolean stopped;
+
+    /** Current batch. */
+    private Batch cur;
+
+    /** Index of the next record in the current batch. */
+    private int curIdx;
+
+    /** Pointer to the last read record. */
+    private Optional<WALPointer> lastRead = Optional.empty();
+
+    /**
+     * @param delegate Delegate iterator.
+     * @param readAhead Max number of records read ahead.
+     * @param igniteInstanceName Ignite instance name.
+     */
+    public ReadAheadWalIterator(WALIterator delegate, int readAhead, String igniteInstanceName) {
+        this.delegate = delegate;
+
+        queue = new ArrayBlockingQueue<>(Math.max(1, readAhead / BATCH_SIZE));
+
+        reader = new IgniteThread(igniteInstanceName, "wal-read-ahead", this::readAhead);
+
+        reader.start();
+    }
+
+    /**
+     * Reads the records of the delegate iterator to the queue.
+     */
+    private void readAhead() {
+        Batch batch = new Batch();
+
+        try {
+            while (!stopped && delegate.hasNextX()) {
+                batch.add(delegate.nextX(), delegate.lastRead());
+
+                if (batch.recs.size() == BATCH_SIZE) {
+                    if (!put(batch))
+                        return;
+
+                    batch = new Batch();
+                }
+            }
+        }
+        catch (Throwable e) {
+            batch.err = e;
+        }
+
+        batch.last = true;
+        batch.lastRead = delegate.lastRead();
+
+        put(batch);
+    }
+
+    /**
+     * @param batch Batch.
+     * @return {@code False} if the iterator was closed.
+     */
+    private boolean put(Batch batch) {
+        try {
+            while (!stopped) {
+                if (queue.offer(batch, 100, TimeUnit.MILLISECONDS))
+                    return true;
+            }
+        }
+        catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean onHasNext() throws IgniteCheckedException {
+        while (true) {
+            if (cur != null) {
+                if (curIdx < cur.recs.size())
+                    return true;
+
+                if (cur.last) {
+                    lastRead = cur.lastRead;
+
+                    if (cur.err == null)
+                        return false;
+
+                    if (cur.err instanceof IgniteCheckedException)
+                        throw (IgniteCheckedException)cur.err;
+
+                    if (cur.err instanceof RuntimeException)
+                        throw (RuntimeException)cur.err;
+
+                    if (cur.err instanceof Error)
+                        throw (Error)cur.err;
+
+                    throw new IgniteCheckedException(cur.err);
+                }
+            }
+
+            try {
+                cur = queue.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedCheckedException(e);
+            }
+
+            curIdx = 0;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteBiTuple<WALPointer, WALRecord> onNext() throws IgniteCheckedException {
+        if (!onHasNext())
+            throw new NoSuchElementException();
+
+        lastRead = cur.lastReads.get(curIdx);
+
+        return cur.recs.get(curIdx++);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Optional<WALPointer> lastRead() {
+        return lastRead;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void onClose() throws IgniteCheckedException {
+        stopped = true;
+
+        queue.clear();
+
+        U.join(reader);
+
+        delegate.close();
+    }
+
+    /** Records read ahead. */
+    private static class Batch {
+        /** Records. */
+        private final List<IgniteBiTuple<WALPointer, WALRecord>> recs = new ArrayList<>(BATCH_SIZE);
+
+        /** Pointers to the last read records of the delegate after each record. */
+        private final List<Optional<WALPointer>> lastReads = new ArrayList<>(BATCH_SIZE);
+
+        /** Last batch flag. */
+        private boolean last;
+
+        /** Pointer to the last read record of the delegate after the last batch. */
+        private Optional<WALPointer> lastRead;
+
+        /** Error of the delegate. */
+        private Throwable err;
+
+        /**
+         * @param rec Record.
+         * @param lastRead Pointer to the last read record of the delegate.
+         */
+        private void add(IgniteBiTuple<WALPointer, WALRecord> rec, Optional<WALPointer> lastRead) {
+            recs.add(rec);
+            lastReads.add(lastRead);
+        }
+    }
+}
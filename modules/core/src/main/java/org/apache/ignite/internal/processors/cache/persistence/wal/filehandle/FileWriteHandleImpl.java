@@ -27,6 +27,7 @@ import java.nio.MappedByteBuffer;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -35,7 +36,6 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
-import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.cdc.CdcManager;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
@@ -103,9 +103,12 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** */
     private final Lock lock = new ReentrantLock();
 
-    /** Condition for timed wait of several threads, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()}. */
+    /** Condition for timed wait of several threads, see {@link WalGroupCommit#window()}. */
     private final Condition fsync = lock.newCondition();
 
+    /** Number of commits waiting for the {@link #lock} to sync the segment. */
+    private final AtomicInteger fsyncWaiters = new AtomicInteger();
+
     /**
      * Next segment available condition. Protection from "spurious wakeup" is provided by predicate {@link
      * #fileIO}=<code>null</code>.
@@ -118,8 +121,8 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** */
     private final WALMode mode;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit scheduler. */
+    private final WalGroupCommit grpCommit;
 
     /** Persistence metrics tracker. */
     private final DataStorageMetricsImpl metrics;
@@ -152,20 +155,20 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
      * @param mode WAL mode.
      * @param mmap Mmap.
      * @param resume Created on resume logging flag.
-     * @param fsyncDelay Fsync delay.
+     * @param grpCommit Group commit scheduler.
      * @param maxWalSegmentSize Max WAL segment size.
      * @throws IOException If failed.
      */
     FileWriteHandleImpl(
         GridCacheSharedContext cctx, SegmentIO fileIO, SegmentedRingByteBuffer rbuf, RecordSerializer serializer,
         DataStorageMetricsImpl metrics, FileHandleManagerImpl.WALWriter writer, long pos, WALMode mode, boolean mmap,
-        boolean resume, long fsyncDelay, long maxWalSegmentSize) throws IOException {
+        boolean resume, WalGroupCommit grpCommit, long maxWalSegmentSize) throws IOException {
         super(fileIO);
         assert serializer != null;
 
         this.mmap = mmap;
         this.mode = mode;
-        this.fsyncDelay = fsyncDelay;
+        this.grpCommit = grpCommit;
         this.metrics = metrics;
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.log = cctx.logger(FileWriteHandleImpl.class);
@@ -367,19 +370,33 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
      * @throws StorageException If failed.
      */
     @Override public void fsync(WALPointer ptr) throws StorageException, IgniteCheckedException {
+        long commitStart = ptr != null ? grpCommit.onCommitStart() : 0;
+
+        fsyncWaiters.incrementAndGet();
+
         lock.lock();
 
         try {
+            fsyncWaiters.decrementAndGet();
+
             if (ptr != null) {
-                if (!needFsync(ptr))
+                if (!needFsync(ptr)) {
+                    grpCommit.onCommitFinish(commitStart);
+
                     return;
+                }
 
-                if (fsyncDelay > 0 && !stop.get()) {
+                long window = grpCommit.window();
+
+                if (window > 0 && !stop.get()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    U.await(fsync, window, TimeUnit.NANOSECONDS);
+
+                    if (!needFsync(ptr)) {
+                        grpCommit.onCommitFinish(commitStart);
 
-                    if (!needFsync(ptr))
                         return;
+                    }
                 }
             }
 
@@ -395,9 +412,9 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 // Fsync position must be behind.
                 assert lastFsyncPos0 < written0 : "lastFsyncPos=" + lastFsyncPos0 + ", written=" + written0;
 
-                boolean metricsEnabled = metrics.metricsEnabled();
+                int batch = fsyncWaiters.get() + 1;
 
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 if (mmap) {
                     long pos = ptr == null ? -1 : ptr.fileOffset();
@@ -415,14 +432,13 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
 
                 lastFsyncPos = written;
 
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
-
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                grpCommit.onFsync(System.nanoTime() - start, batch);
             }
+
+            if (ptr != null)
+                grpCommit.onCommitFinish(commitStart);
         }
         finally {
             lock.unlock();
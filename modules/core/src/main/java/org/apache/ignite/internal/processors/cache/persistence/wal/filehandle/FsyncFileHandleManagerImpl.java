@@ -55,8 +55,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
     /** WAL segment size in bytes. This is maximum value, actual segments may be shorter. */
     private final long maxWalSegmentSize;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit scheduler. */
+    private final WalGroupCommit grpCommit;
 
     /** Thread local byte buffer size. */
     private final int tlbSize;
@@ -88,7 +88,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         this.serializer = serializer;
         currentHandleSupplier = handle;
         this.maxWalSegmentSize = maxWalSegmentSize;
-        this.fsyncDelay = fsyncDelay;
+        grpCommit = new WalGroupCommit(fsyncDelay, metrics);
         this.tlbSize = tlbSize;
     }
 
@@ -97,7 +97,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         RecordSerializer serializer) throws IOException {
         return new FsyncFileWriteHandle(
             cctx, fileIO, metrics, serializer, position,
-            mode, maxWalSegmentSize, tlbSize, fsyncDelay
+            mode, maxWalSegmentSize, tlbSize, grpCommit
         );
     }
 
@@ -106,7 +106,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         RecordSerializer serializer) throws IOException {
         return new FsyncFileWriteHandle(
             cctx, fileIO, metrics, serializer, 0,
-            mode, maxWalSegmentSize, tlbSize, fsyncDelay
+            mode, maxWalSegmentSize, tlbSize, grpCommit
         );
     }
 
@@ -25,11 +25,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
-import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
@@ -93,9 +93,15 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Condition activated each time writeBuffer() completes. Used to wait previously flushed write to complete */
     private final Condition writeComplete = lock.newCondition();
 
-    /** Condition for timed wait of several threads, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()} */
+    /** Condition activated each time an fsync completes. Used by commits waiting for a concurrent flusher. */
     private final Condition fsync = lock.newCondition();
 
+    /** Fsync in progress flag, guarded by {@link #lock}. */
+    private boolean flushing;
+
+    /** Number of commits waiting for a concurrent flusher, guarded by {@link #lock}. */
+    private int fsyncWaiters;
+
     /**
      * Next segment available condition. Protection from "spurious wakeup" is provided by predicate {@link
      * #fileIO}=<code>null</code>
@@ -117,8 +123,8 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Logger. */
     protected final IgniteLogger log;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit scheduler. */
+    private final WalGroupCommit grpCommit;
 
     /** Switch segment record offset. */
     private int switchSegmentRecordOffset;
@@ -147,13 +153,13 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @param mode WAL mode.
      * @param maxSegmentSize Max segment size.
      * @param size Thread local byte buffer size.
-     * @param fsyncDelay Fsync delay.
+     * @param grpCommit Group commit scheduler.
      * @throws IOException If failed.
      */
     FsyncFileWriteHandle(
         GridCacheSharedContext cctx, SegmentIO fileIO,
         DataStorageMetricsImpl metrics, RecordSerializer serializer, long pos,
-        WALMode mode, long maxSegmentSize, int size, long fsyncDelay) throws IOException {
+        WALMode mode, long maxSegmentSize, int size, WalGroupCommit grpCommit) throws IOException {
         super(fileIO);
         assert serializer != null;
 
@@ -162,7 +168,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
         this.cctx = cctx;
         this.metrics = metrics;
         this.log = cctx.logger(FsyncFileWriteHandle.class);
-        this.fsyncDelay = fsyncDelay;
+        this.grpCommit = grpCommit;
         this.maxSegmentSize = maxSegmentSize;
         this.serializer = serializer;
         this.written = pos;
@@ -561,38 +567,93 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     }
 
     /**
+     * Syncs the segment up to the given pointer. Concurrent commits are grouped: the first one becomes the flusher
+     * and syncs everything written so far out of the {@link #lock}, so that the next batch can be written meanwhile.
+     * The others wait for the flusher and check their pointers afterwards. See {@link WalGroupCommit}.
+     *
      * @param ptr Pointer to sync.
      * @throws StorageException If failed.
      * @throws IgniteInterruptedCheckedException If interrupted.
      */
     protected void fsync(WALPointer ptr, boolean stop) throws StorageException, IgniteInterruptedCheckedException {
+        long commitStart = ptr != null ? grpCommit.onCommitStart() : 0;
+
         lock.lock();
 
         try {
-            if (ptr != null) {
-                if (!needFsync(ptr))
+            while (flushing) {
+                if (ptr != null && !needFsync(ptr)) {
+                    grpCommit.onCommitFinish(commitStart);
+
                     return;
+                }
 
-                if (fsyncDelay > 0 && !stopped()) {
-                    // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                fsyncWaiters++;
 
-                    if (!needFsync(ptr))
-                        return;
+                try {
+                    fsync.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new IgniteInterruptedCheckedException(e);
                 }
+                finally {
+                    fsyncWaiters--;
+                }
+            }
+
+            if (ptr != null && !needFsync(ptr)) {
+                grpCommit.onCommitFinish(commitStart);
+
+                return;
+            }
+
+            if (this.stop.get()) {
+                // The segment is being closed and will be synced by close.
+                flushOrWait(ptr, stop);
+
+                return;
+            }
+
+            flushing = true;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            if (ptr != null) {
+                long window = grpCommit.window();
+
+                // Delay fsync to collect as many updates as possible: trade latency for throughput.
+                if (window > 0)
+                    LockSupport.parkNanos(window);
             }
 
-            flushOrWait(ptr, stop);
+            // Write the whole chain to cover the commits which joined the batch.
+            flushOrWait(null, stop);
 
             if (stopped())
                 return;
 
-            if (lastFsyncPos != written) {
-                assert lastFsyncPos < written; // Fsync position must be behind.
+            long syncPos;
+            int batch;
 
-                boolean metricsEnabled = metrics.metricsEnabled();
+            lock.lock();
 
-                long start = metricsEnabled ? System.nanoTime() : 0;
+            try {
+                syncPos = written;
+                batch = fsyncWaiters + 1;
+            }
+            finally {
+                lock.unlock();
+            }
+
+            if (lastFsyncPos != syncPos) {
+                assert lastFsyncPos < syncPos; // Fsync position must be behind.
+
+                long start = System.nanoTime();
 
                 try {
                     fileIO.force();
@@ -601,19 +662,25 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                     throw new StorageException(e);
                 }
 
-                lastFsyncPos = written;
-
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                grpCommit.onFsync(System.nanoTime() - start, batch);
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
-
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                lastFsyncPos = syncPos;
             }
+
+            if (ptr != null)
+                grpCommit.onCommitFinish(commitStart);
         }
         finally {
-            lock.unlock();
+            lock.lock();
+
+            try {
+                flushing = false;
+
+                fsync.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
         }
     }
 
@@ -626,6 +693,10 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
             lock.lock();
 
             try {
+                // Concurrent flusher syncs the file out of the lock.
+                while (flushing)
+                    U.awaitQuiet(fsync);
+
                 flushOrWait(null, true);
 
                 assert stopped() : "Segment is not closed after close flush: " + head.get();
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Group commit scheduler of the WAL fsync requests.
+ * <p>
+ * Commits waiting for the fsync of a segment are served by a single flusher: the first commit that finds no fsync
+ * in progress syncs everything written so far, the others wait for it and check their pointers afterwards. Before
+ * the fsync the flusher may wait for a short window to let more commits join the batch. The window adapts to the
+ * load: it is used only when commits arrive faster than an fsync completes, is limited by a half of the average
+ * fsync duration and never exceeds {@link DataStorageConfiguration#getWalFsyncDelayNanos()}.
+ * <p>
+ * The moving averages are updated without synchronization, lost updates only make them a bit less precise.
+ */
+class WalGroupCommit {
+    /** Weight of the last sample in the moving averages is {@code 1 / 2^EWMA_SHIFT}. */
+    private static final int EWMA_SHIFT = 3;
+
+    /** Max wait window in nanoseconds. */
+    private final long maxWindow;
+
+    /** Data storage metrics. */
+    private final DataStorageMetricsImpl metrics;
+
+    /** Moving average of the fsync duration in nanoseconds. */
+    private volatile long avgFsyncNanos;
+
+    /** Moving average of the interval between commits in nanoseconds, {@code 0} if unknown. */
+    private volatile long avgIntervalNanos;
+
+    /** Time of the last commit. */
+    private volatile long lastCommitNanos;
+
+    /**
+     * @param maxWindow Max wait window in nanoseconds.
+     * @param metrics Data storage metrics.
+     */
+    WalGroupCommit(long maxWindow, DataStorageMetricsImpl metrics) {
+        this.maxWindow = maxWindow;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Callback on a commit requesting the fsync.
+     *
+     * @return Commit start time.
+     */
+    long onCommitStart() {
+        long now = System.nanoTime();
+
+        long prev = lastCommitNanos;
+
+        lastCommitNanos = now;
+
+        if (prev != 0)
+            avgIntervalNanos = avg(avgIntervalNanos, now - prev);
+
+        return now;
+    }
+
+    /**
+     * Callback on a commit satisfied by an fsync.
+     *
+     * @param start Commit start time, see {@link #onCommitStart()}.
+     */
+    void onCommitFinish(long start) {
+        metrics.onWalCommit(System.nanoTime() - start);
+    }
+
+    /**
+     * Callback on an fsync completion.
+     *
+     * @param duration Fsync duration in nanoseconds.
+     * @param batch Number of commits waiting for the fsync.
+     */
+    void onFsync(long duration, int batch) {
+        avgFsyncNanos = avg(avgFsyncNanos, duration);
+
+        metrics.onFsync(duration, batch);
+    }
+
+    /**
+     * @return Time in nanoseconds the flusher should wait for other commits before the fsync.
+     */
+    long window() {
+        long interval = avgIntervalNanos;
+        long fsync = avgFsyncNanos;
+
+        // Waiting is useless if the next commit is not expected before the fsync would complete.
+        if (interval == 0 || interval >= fsync)
+            return 0;
+
+        return Math.min(maxWindow, fsync / 2);
+    }
+
+    /**
+     * @param avg Current average.
+     * @param val New sample.
+     * @return New average.
+     */
+    private static long avg(long avg, long val) {
+        return avg == 0 ? val : avg + ((val - avg) >> EWMA_SHIFT);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(WalGroupCommit.class, this);
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.AbstractFileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * {@link FileIO} reading a WAL segment compacted by {@link FramedSegmentWriter}.
+ * <p>
+ * Frames are located by the headers scanned on open, so the position can be set to any offset of the uncompressed
+ * segment and only the frame containing it is decompressed.
+ */
+public class FramedSegmentFileIO extends AbstractFileIO {
+    /** Compressed file. */
+    private final FileIO fileIO;
+
+    /** Compression processor. */
+    private final CompressionProcessor compressProc;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Number of frames. */
+    private int frames;
+
+    /** Offsets of the frames in the uncompressed segment. */
+    private long[] rawOffs = new long[16];
+
+    /** Positions of the frame headers in the file. */
+    private long[] filePoss = new long[16];
+
+    /** Original offsets of the first records of the frames. */
+    private long[] recOffs = new long[16];
+
+    /** Uncompressed segment size. */
+    private long size;
+
+    /** Frame header buffer. */
+    private final ByteBuffer hdrBuf = ByteBuffer.allocate(FramedSegmentWriter.FRAME_HEADER_SIZE);
+
+    /** Compressed frame buffer. */
+    private ByteBuffer srcBuf;
+
+    /** Decompressed frame buffer. */
+    private ByteBuffer frameBuf;
+
+    /** Index of the frame in {@link #frameBuf}, {@code -1} if none. */
+    private int curFrame = -1;
+
+    /** Position in the uncompressed segment. */
+    private long pos;
+
+    /**
+     * @param fileIO Compressed file, closed along with this I/O.
+     * @param compressProc Compression processor.
+     * @throws IOException If failed.
+     */
+    public FramedSegmentFileIO(FileIO fileIO, CompressionProcessor compressProc) throws IOException {
+        this.fileIO = fileIO;
+        this.compressProc = compressProc;
+
+        try {
+            ByteBuffer hdr = hdrBuf;
+
+            hdr.limit(FramedSegmentWriter.FILE_HEADER_SIZE);
+
+            readFile(hdr, 0);
+
+            if (hdr.getLong() != FramedSegmentWriter.MAGIC)
+                throw new IOException("Not a framed WAL segment.");
+
+            compression = FramedSegmentWriter.compression(hdr.get());
+
+            int maxCompressed = 0;
+            int maxRaw = 0;
+
+            long filePos = FramedSegmentWriter.FILE_HEADER_SIZE;
+            long fileSize = fileIO.size();
+
+            while (filePos < fileSize) {
+                hdr.clear();
+
+                readFile(hdr, filePos);
+
+                int compressedLen = hdr.getInt();
+                int rawLen = hdr.getInt();
+                long recOff = hdr.getLong();
+
+                if (frames == rawOffs.length) {
+                    rawOffs = Arrays.copyOf(rawOffs, frames * 2);
+                    filePoss = Arrays.copyOf(filePoss, frames * 2);
+                    recOffs = Arrays.copyOf(recOffs, frames * 2);
+                }
+
+                rawOffs[frames] = size;
+                filePoss[frames] = filePos;
+                recOffs[frames] = recOff;
+
+                frames++;
+
+                size += rawLen;
+                filePos += FramedSegmentWriter.FRAME_HEADER_SIZE + compressedLen;
+
+                maxCompressed = Math.max(maxCompressed, compressedLen);
+                maxRaw = Math.max(maxRaw, rawLen);
+            }
+
+            srcBuf = GridUnsafe.allocateBuffer(Math.max(maxCompressed, 1));
+            frameBuf = GridUnsafe.allocateBuffer(Math.max(maxRaw, 1));
+        }
+        catch (IOException e) {
+            fileIO.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * @param fileIO Compacted WAL segment.
+     * @return {@code True} if the segment is compacted by {@link FramedSegmentWriter}.
+     * @throws IOException If failed.
+     */
+    public static boolean isFramed(FileIO fileIO) throws IOException {
+        if (fileIO.size() < FramedSegmentWriter.FILE_HEADER_SIZE)
+            return false;
+
+        ByteBuffer buf = ByteBuffer.allocate(Long.BYTES);
+
+        while (buf.hasRemaining()) {
+            if (fileIO.read(buf, buf.position()) < 0)
+                return false;
+        }
+
+        buf.flip();
+
+        return buf.getLong() == FramedSegmentWriter.MAGIC;
+    }
+
+    /**
+     * Gets position of the frame to start searching a record from. Frames always start at a record boundary.
+     *
+     * @param recOff Offset of the record in the original segment.
+     * @return Position in the uncompressed segment of the last frame starting at or before the record.
+     */
+    public long framePosition(long recOff) {
+        int idx = Arrays.binarySearch(recOffs, 0, frames, recOff);
+
+        if (idx < 0)
+            idx = -idx - 2;
+
+        return idx < 0 ? 0 : rawOffs[idx];
+    }
+
+    /**
+     * @param buf Buffer to fill.
+     * @param filePos Position in the file.
+     * @throws IOException If failed.
+     */
+    private void readFile(ByteBuffer buf, long filePos) throws IOException {
+        while (buf.hasRemaining()) {
+            int read = fileIO.read(buf, filePos);
+
+            if (read < 0)
+                throw new EOFException("Unexpected end of framed WAL segment [pos=" + filePos + ']');
+
+            filePos += read;
+        }
+
+        buf.flip();
+    }
+
+    /**
+     * Decompresses the frame containing the current position.
+     *
+     * @throws IOException If failed.
+     */
+    private void loadFrame() throws IOException {
+        int idx = Arrays.binarySearch(rawOffs, 0, frames, pos);
+
+        if (idx < 0)
+            idx = -idx - 2;
+
+        if (idx == curFrame)
+            return;
+
+        curFrame = -1;
+
+        hdrBuf.clear();
+
+        readFile(hdrBuf, filePoss[idx]);
+
+        int compressedLen = hdrBuf.getInt();
+        int rawLen = hdrBuf.getInt();
+
+        srcBuf.clear();
+        srcBuf.limit(compressedLen);
+
+        readFile(srcBuf, filePoss[idx] + FramedSegmentWriter.FRAME_HEADER_SIZE);
+
+        frameBuf.clear();
+        frameBuf.limit(rawLen);
+
+        try {
+            compressProc.decompress(compression, srcBuf, frameBuf);
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            throw new IOException("Failed to decompress frame of WAL segment [frame=" + idx + ']', e);
+        }
+
+        frameBuf.flip();
+
+        curFrame = idx;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getFileSystemBlockSize() {
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getSparseSize() {
+        return -1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int punchHole(long position, int len) {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long position() throws IOException {
+        return pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void position(long newPosition) throws IOException {
+        if (newPosition < 0)
+            throw new IllegalArgumentException("Negative position: " + newPosition);
+
+        pos = newPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dstBuf) throws IOException {
+        if (pos >= size)
+            return -1;
+
+        loadFrame();
+
+        int off = (int)(pos - rawOffs[curFrame]);
+        int len = Math.min(dstBuf.remaining(), frameBuf.limit() - off);
+
+        ByteBuffer src = frameBuf.duplicate();
+
+        src.position(off).limit(off + len);
+
+        dstBuf.put(src);
+
+        pos += len;
+
+        return len;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dstBuf, long position) throws IOException {
+        long prev = pos;
+
+        pos = position;
+
+        try {
+            return read(dstBuf);
+        }
+        finally {
+            pos = prev;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(byte[] buf, int off, int len) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void force(boolean withMetadata) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long size() throws IOException {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear() throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public MappedByteBuffer map(int sizeBytes) throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws IOException {
+        if (srcBuf != null) {
+            GridUnsafe.freeBuffer(srcBuf);
+            GridUnsafe.freeBuffer(frameBuf);
+
+            srcBuf = null;
+            frameBuf = null;
+        }
+
+        fileIO.close();
+    }
+}
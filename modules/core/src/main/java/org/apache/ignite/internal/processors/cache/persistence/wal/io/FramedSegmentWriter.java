@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Writer of a compacted WAL segment compressed by independent frames.
+ * <p>
+ * File format: {@link #MAGIC}, compression algorithm byte and a sequence of frames. Every frame consists of a header
+ * (compressed length, uncompressed length, original offset of the first record) and the compressed data. A frame
+ * always starts at a record boundary, so a reader looking for a record can start from the frame preceding it, see
+ * {@link FramedSegmentFileIO#framePosition(long)}.
+ */
+public class FramedSegmentWriter implements AutoCloseable {
+    /** File magic, differs from the ZIP local file header signature. */
+    static final long MAGIC = 0x4947574C46524D31L;
+
+    /** File header size. */
+    static final int FILE_HEADER_SIZE = Long.BYTES + 1;
+
+    /** Frame header size. */
+    static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+
+    /** Uncompressed size after which a frame is flushed. */
+    public static final int FRAME_SIZE = 512 * 1024;
+
+    /** Output file. */
+    private final FileIO fileIO;
+
+    /** Compression processor. */
+    private final CompressionProcessor compressProc;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Compression level. */
+    private final int compressLevel;
+
+    /** Frame header buffer. */
+    private final ByteBuffer hdrBuf = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+
+    /** Uncompressed frame buffer. */
+    private ByteBuffer frameBuf;
+
+    /** Compressed frame buffer. */
+    private ByteBuffer dstBuf;
+
+    /** Original offset of the first record of the current frame. */
+    private long frameRecOff;
+
+    /**
+     * @param fileIO Output file, closed along with the writer.
+     * @param compressProc Compression processor.
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     * @throws IOException If failed.
+     */
+    public FramedSegmentWriter(
+        FileIO fileIO,
+        CompressionProcessor compressProc,
+        DiskPageCompression compression,
+        int compressLevel
+    ) throws IOException {
+        this.fileIO = fileIO;
+        this.compressProc = compressProc;
+        this.compression = compression;
+        this.compressLevel = compressLevel;
+
+        try {
+            ByteBuffer hdr = ByteBuffer.allocate(FILE_HEADER_SIZE);
+
+            hdr.putLong(MAGIC);
+            hdr.put(code(compression));
+
+            hdr.flip();
+
+            fileIO.writeFully(hdr);
+
+            allocate(FRAME_SIZE);
+        }
+        catch (IOException | RuntimeException e) {
+            freeBuffers();
+
+            fileIO.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @return Compression algorithm code.
+     */
+    private static byte code(DiskPageCompression compression) {
+        switch (compression) {
+            case ZSTD:
+                return 1;
+
+            case LZ4:
+                return 2;
+        }
+
+        throw new IllegalArgumentException("Unsupported WAL compaction compression: " + compression);
+    }
+
+    /**
+     * @param code Compression algorithm code.
+     * @return Compression algorithm.
+     * @throws IOException If the code is unknown.
+     */
+    static DiskPageCompression compression(byte code) throws IOException {
+        switch (code) {
+            case 1:
+                return DiskPageCompression.ZSTD;
+
+            case 2:
+                return DiskPageCompression.LZ4;
+        }
+
+        throw new IOException("Unknown compression of framed WAL segment: " + code);
+    }
+
+    /**
+     * Appends a record or the segment header.
+     *
+     * @param rec Serialized record, the remaining bytes are written.
+     * @param recOff Offset of the record in the original segment.
+     * @throws IOException If failed.
+     */
+    public void write(ByteBuffer rec, long recOff) throws IOException {
+        int len = rec.remaining();
+
+        if (frameBuf.position() > 0 && frameBuf.position() + len > FRAME_SIZE)
+            flushFrame();
+
+        if (frameBuf.position() == 0) {
+            frameRecOff = recOff;
+
+            // A record is never split between frames.
+            if (len > frameBuf.capacity())
+                allocate(len);
+        }
+
+        frameBuf.put(rec);
+    }
+
+    /**
+     * Compresses and writes the current frame.
+     *
+     * @throws IOException If failed.
+     */
+    private void flushFrame() throws IOException {
+        if (frameBuf.position() == 0)
+            return;
+
+        frameBuf.flip();
+        dstBuf.clear();
+
+        int rawLen = frameBuf.remaining();
+
+        try {
+            compressProc.compress(compression, compressLevel, frameBuf, dstBuf);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException("Failed to compress WAL segment frame.", e);
+        }
+
+        dstBuf.flip();
+
+        hdrBuf.clear();
+
+        hdrBuf.putInt(dstBuf.remaining());
+        hdrBuf.putInt(rawLen);
+        hdrBuf.putLong(frameRecOff);
+
+        hdrBuf.flip();
+
+        fileIO.writeFully(hdrBuf);
+        fileIO.writeFully(dstBuf);
+
+        frameBuf.clear();
+    }
+
+    /**
+     * @param frameSize Frame buffer size.
+     * @throws IOException If failed.
+     */
+    private void allocate(int frameSize) throws IOException {
+        freeBuffers();
+
+        frameBuf = GridUnsafe.allocateBuffer(frameSize);
+
+        try {
+            dstBuf = GridUnsafe.allocateBuffer(compressProc.maxCompressedLength(compression, frameSize));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /** */
+    private void freeBuffers() {
+        if (frameBuf != null) {
+            GridUnsafe.freeBuffer(frameBuf);
+
+            frameBuf = null;
+        }
+
+        if (dstBuf != null) {
+            GridUnsafe.freeBuffer(dstBuf);
+
+            dstBuf = null;
+        }
+    }
+
+    /**
+     * Flushes the last frame and closes the file.
+     *
+     * @throws IOException If failed.
+     */
+    @Override public void close() throws IOException {
+        try {
+            if (frameBuf != null)
+                flushFrame();
+        }
+        finally {
+            freeBuffers();
+
+            fileIO.close();
+        }
+    }
+}
@@ -42,4 +42,13 @@ public class SegmentIO extends FileIODecorator {
     public long getSegmentId() {
         return segmentId;
     }
+
+    /**
+     * @param recOff Offset of a record in the original segment.
+     * @return Position to start searching the record from if the segment is compacted, see
+     *      {@link FramedSegmentFileIO#framePosition(long)}.
+     */
+    public long framePosition(long recOff) {
+        return delegate instanceof FramedSegmentFileIO ? ((FramedSegmentFileIO)delegate).framePosition(recOff) : 0;
+    }
 }
@@ -48,6 +48,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentFileInputFactory;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleSegmentFileInputFactory;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
 import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -305,6 +306,9 @@ public class IgniteWalIteratorFactory {
 
         final FileIOFactory ioFactory = iteratorParametersBuilder.ioFactory;
 
+        final CompressionProcessor compressProc = iteratorParametersBuilder.sharedCtx == null ? null :
+            iteratorParametersBuilder.sharedCtx.kernalContext().compress();
+
         final TreeSet<FileDescriptor> descriptors = new TreeSet<>();
 
         for (File file : filesOrDirs) {
@@ -312,7 +316,7 @@ public class IgniteWalIteratorFactory {
                 try {
                     walkFileTree(file.toPath(), new SimpleFileVisitor<Path>() {
                         @Override public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
-                            addFileDescriptor(path.toFile(), ioFactory, descriptors);
+                            addFileDescriptor(path.toFile(), ioFactory, compressProc, descriptors);
 
                             return FileVisitResult.CONTINUE;
                         }
@@ -325,7 +329,7 @@ public class IgniteWalIteratorFactory {
                 continue;
             }
 
-            addFileDescriptor(file, ioFactory, descriptors);
+            addFileDescriptor(file, ioFactory, compressProc, descriptors);
         }
 
         return new ArrayList<>(descriptors);
@@ -334,16 +338,22 @@ public class IgniteWalIteratorFactory {
     /**
      * @param file File.
      * @param ioFactory IO factory.
+     * @param compressProc Compression processor.
      * @param descriptors List of descriptors.
      */
-    private void addFileDescriptor(File file, FileIOFactory ioFactory, TreeSet<FileDescriptor> descriptors) {
+    private void addFileDescriptor(
+        File file,
+        FileIOFactory ioFactory,
+        @Nullable CompressionProcessor compressProc,
+        TreeSet<FileDescriptor> descriptors
+    ) {
         if (file.length() < HEADER_RECORD_SIZE)
             return; // Filter out this segment as it is too short.
 
         if (!NodeFileTree.walSegment(file) && !NodeFileTree.walCompactedSegment(file))
             return;  // Filter out this because it is not segment file.
 
-        FileDescriptor desc = readFileDescriptor(file, ioFactory);
+        FileDescriptor desc = readFileDescriptor(file, ioFactory, compressProc);
 
         if (desc != null)
             descriptors.add(desc);
@@ -352,12 +362,17 @@ public class IgniteWalIteratorFactory {
     /**
      * @param file File to read.
      * @param ioFactory IO factory.
+     * @param compressProc Compression processor.
      */
-    private FileDescriptor readFileDescriptor(File file, FileIOFactory ioFactory) {
+    private FileDescriptor readFileDescriptor(
+        File file,
+        FileIOFactory ioFactory,
+        @Nullable CompressionProcessor compressProc
+    ) {
         FileDescriptor ds = new FileDescriptor(file);
 
         try (
-            SegmentIO fileIO = ds.toReadOnlyIO(ioFactory);
+            SegmentIO fileIO = ds.toReadOnlyIO(ioFactory, compressProc);
             ByteBufferExpander buf = new ByteBufferExpander(HEADER_RECORD_SIZE, ByteOrder.nativeOrder())
         ) {
             final DataInput in = segmentFileInputFactory.createFileInput(fileIO, buf);
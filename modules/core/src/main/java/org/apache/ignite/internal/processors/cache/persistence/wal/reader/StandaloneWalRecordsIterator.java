@@ -318,7 +318,7 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         SegmentHeader segmentHdr;
         while (true) {
             try {
-                fileIO = fd.toReadOnlyIO(ioFactory);
+                fileIO = fd.toReadOnlyIO(ioFactory, sharedCtx.kernalContext().compress());
 
                 segmentHdr = readSegmentHeader(fileIO, FILE_INPUT_FACTORY);
 
@@ -496,6 +496,12 @@ class StandaloneWalRecordsIterator extends AbstractWalRecordsIterator {
         curWalSegmIdx = Integer.MAX_VALUE;
     }
 
+    /** {@inheritDoc} */
+    @Override protected boolean mapSegment(AbstractFileDescriptor desc) {
+        // Segments read by the standalone iterator (CDC and offline tools) are complete files.
+        return mmapRead && !desc.isCompressed();
+    }
+
     /** {@inheritDoc} */
     @Override protected AbstractReadFileHandle createReadFileHandle(
         SegmentIO fileIO, RecordSerializer ser, FileInput in
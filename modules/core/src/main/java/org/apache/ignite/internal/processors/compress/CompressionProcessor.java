@@ -375,4 +375,47 @@ public class CompressionProcessor extends GridProcessorAdapter {
     protected void doDecompressPage(int compressType, ByteBuffer page, int compressedSize, int compactSize) {
         throw new IllegalStateException("Unsupported compression: " + compressType);
     }
+
+    /**
+     * @param compression Compression algorithm.
+     * @param len Length of the data to compress.
+     * @return Max size of the compressed data.
+     * @throws IgniteCheckedException If failed.
+     */
+    public int maxCompressedLength(DiskPageCompression compression, int len) throws IgniteCheckedException {
+        return fail();
+    }
+
+    /**
+     * Compresses the remaining bytes of the source buffer to the destination buffer starting at its position.
+     * The positions of both buffers are advanced.
+     *
+     * @param compression Compression algorithm, {@link DiskPageCompression#ZSTD} or {@link DiskPageCompression#LZ4}.
+     * @param compressLevel Compression level.
+     * @param src Source buffer.
+     * @param dst Destination buffer, must be direct for {@link DiskPageCompression#ZSTD}.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void compress(
+        DiskPageCompression compression,
+        int compressLevel,
+        ByteBuffer src,
+        ByteBuffer dst
+    ) throws IgniteCheckedException {
+        fail();
+    }
+
+    /**
+     * Decompresses the remaining bytes of the source buffer produced by
+     * {@link #compress(DiskPageCompression, int, ByteBuffer, ByteBuffer)}. The remaining bytes of the destination
+     * buffer must exactly match the decompressed length. The positions of both buffers are advanced.
+     *
+     * @param compression Compression algorithm.
+     * @param src Source buffer.
+     * @param dst Destination buffer, must be direct for {@link DiskPageCompression#ZSTD}.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void decompress(DiskPageCompression compression, ByteBuffer src, ByteBuffer dst) throws IgniteCheckedException {
+        fail();
+    }
 }
@@ -20,7 +20,9 @@ package org.apache.ignite.internal.processors.query.schema;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.IgniteCheckedException;
@@ -45,15 +47,24 @@ import org.apache.ignite.internal.util.worker.GridWorkerFuture;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ENABLE_EXTRA_INDEX_REBUILD_LOGGING;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_CACHE_PARALLELISM;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 
 /**
  * Visitor who create/rebuild indexes in parallel by partition for a given cache.
  */
 public class SchemaIndexCacheVisitorImpl implements SchemaIndexCacheVisitor {
+    /** Default maximum number of partitions of one cache processed concurrently, {@code 0} means no limit. */
+    public static final int DFLT_INDEX_REBUILD_CACHE_PARALLELISM = 0;
+
     /** Is extra index rebuild logging enabled. */
     private final boolean collectStat = getBoolean(IGNITE_ENABLE_EXTRA_INDEX_REBUILD_LOGGING, false);
 
+    /** Maximum number of partitions of the cache processed concurrently. */
+    private final int parallelism = getInteger(IGNITE_INDEX_REBUILD_CACHE_PARALLELISM,
+        DFLT_INDEX_REBUILD_CACHE_PARALLELISM);
+
     /** Cache context. */
     private final GridCacheContext cctx;
 
@@ -107,6 +118,9 @@ public class SchemaIndexCacheVisitorImpl implements SchemaIndexCacheVisitor {
         cctx.cache().metrics0().addIndexBuildPartitionsLeftCount(locParts.size());
         cctx.cache().metrics0().resetIndexRebuildKeyProcessed();
 
+        for (GridDhtLocalPartition locPart : locParts)
+            cctx.cache().metrics0().addIndexRebuildKeysTotal(locPart.dataStore().cacheSize(cctx.cacheId()));
+
         beforeExecute();
 
         AtomicInteger partsCnt = new AtomicInteger(locParts.size());
@@ -117,6 +131,10 @@ public class SchemaIndexCacheVisitorImpl implements SchemaIndexCacheVisitor {
         // and rebuilding indexes, which can lead to a fail of the node.
         SchemaIndexCacheCompoundFuture buildIdxCompoundFut = new SchemaIndexCacheCompoundFuture();
 
+        // Partitions beyond the parallelism limit wait for the workers of the cache to finish, so the rebuild
+        // of one cache does not take all the threads of the pool.
+        Queue<GridWorker> workers = new ConcurrentLinkedQueue<>();
+
         for (GridDhtLocalPartition locPart : locParts) {
             GridWorkerFuture<SchemaIndexCacheStat> workerFut = new GridWorkerFuture<>();
 
@@ -126,9 +144,16 @@ public class SchemaIndexCacheVisitorImpl implements SchemaIndexCacheVisitor {
             workerFut.setWorker(worker);
             buildIdxCompoundFut.add(workerFut);
 
-            cctx.kernalContext().pools().buildIndexExecutorService().execute(worker);
+            workerFut.listen(() -> executeNext(workers));
+
+            workers.add(worker);
         }
 
+        int parallel = parallelism > 0 ? Math.min(parallelism, locParts.size()) : locParts.size();
+
+        for (int i = 0; i < parallel; i++)
+            executeNext(workers);
+
         buildIdxCompoundFut.listen(() -> {
             Throwable err = buildIdxCompoundFut.error();
 
@@ -155,6 +180,18 @@ public class SchemaIndexCacheVisitorImpl implements SchemaIndexCacheVisitor {
         buildIdxCompoundFut.markInitialized();
     }
 
+    /**
+     * Executes the next waiting worker.
+     *
+     * @param workers Waiting workers.
+     */
+    private void executeNext(Queue<GridWorker> workers) {
+        GridWorker worker = workers.poll();
+
+        if (worker != null)
+            cctx.kernalContext().pools().buildIndexExecutorService().execute(worker);
+    }
+
     /**
      * Prints index cache stats to log.
      *
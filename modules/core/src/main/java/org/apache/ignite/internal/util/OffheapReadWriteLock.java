@@ -27,12 +27,15 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 /**
  * Lock state structure is as follows:
  * <pre>
- *     +----------------+---------------+---------+----------+
- *     | WRITE WAIT CNT | READ WAIT CNT |   TAG   | LOCK CNT |
- *     +----------------+---------------+---------+----------+
- *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
- *     +----------------+---------------+---------+----------+
+ *     +----------------+---------------+---------+---------+----------+
+ *     | WRITE WAIT CNT | READ WAIT CNT | VERSION |   TAG   | LOCK CNT |
+ *     +----------------+---------------+---------+---------+----------+
+ *     |     12 bits    |    12 bits    |  1 byte | 2 bytes |  2 bytes |
+ *     +----------------+---------------+---------+---------+----------+
  * </pre>
+ * Version is incremented on each write unlock, so a reader can read the protected resource without taking the lock
+ * (see {@link #tryOptimisticRead(long, int)}) and then validate that the resource was not modified concurrently
+ * (see {@link #validate(long, long)}).
  */
 public class OffheapReadWriteLock {
     /** @see #IGNITE_OFFHEAP_RWLOCK_SPIN_COUNT */
@@ -64,7 +67,7 @@ public class OffheapReadWriteLock {
     public static final int LOCK_SIZE = 8;
 
     /** Maximum number of waiting threads, read or write. */
-    public static final int MAX_WAITERS = 0xFFFF;
+    public static final int MAX_WAITERS = 0xFFF;
 
     /** */
     private final ReentrantLock[] locks;
@@ -248,6 +251,39 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Obtains a stamp for an optimistic read of the resource protected by the lock. The stamp must be validated with
+     * {@link #validate(long, long)} after the resource is read.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Non-zero stamp or {@code 0} if the write lock is held or tag validation failed.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        assert state != 0;
+
+        return checkTag(state, tag) && canReadLock(state) ? state : 0L;
+    }
+
+    /**
+     * Checks that the write lock was not acquired since the stamp was obtained. Version has only 256 distinct values,
+     * so the read should be short enough to not miss that many write locks of the same resource.
+     *
+     * @param lock Lock address.
+     * @param stamp Stamp obtained by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the resource was not modified since the stamp was obtained.
+     */
+    public boolean validate(long lock, long stamp) {
+        // Resource reads must not be reordered with the state read below.
+        GridUnsafe.loadFence();
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return canReadLock(state) && version(state) == version(stamp) && tag(state) == tag(stamp);
+    }
+
     /**
      * @param lock Lock to check.
      * @return {@code True} if write lock is held by any thread for the given offheap RW lock.
@@ -564,12 +600,20 @@ public class OffheapReadWriteLock {
         return (int)((state >>> 16) & 0xFFFF);
     }
 
+    /**
+     * @param state Lock state.
+     * @return Lock version.
+     */
+    private int version(long state) {
+        return (int)((state >>> 32) & 0xFF);
+    }
+
     /**
      * @param state State.
      * @return Writers wait count.
      */
     private int writersWaitCount(long state) {
-        return (int)((state >>> 48) & 0xFFFF);
+        return (int)((state >>> 52) & MAX_WAITERS);
     }
 
     /**
@@ -577,7 +621,7 @@ public class OffheapReadWriteLock {
      * @return Readers wait count.
      */
     private int readersWaitCount(long state) {
-        return (int)((state >>> 32) & 0xFFFF);
+        return (int)((state >>> 40) & MAX_WAITERS);
     }
 
     /**
@@ -590,6 +634,7 @@ public class OffheapReadWriteLock {
     private long updateState(long state, int lockDelta, int readersWaitDelta, int writersWaitDelta) {
         int lock = lockCount(state);
         int tag = tag(state);
+        int ver = version(state);
         int readersWait = readersWaitCount(state);
         int writersWait = writersWaitCount(state);
 
@@ -607,7 +652,7 @@ public class OffheapReadWriteLock {
         assert writersWait >= 0 : writersWait;
         assert lock >= -1;
 
-        return buildState(writersWait, readersWait, tag, lock);
+        return buildState(writersWait, readersWait, ver, tag, lock);
     }
 
     /**
@@ -619,6 +664,7 @@ public class OffheapReadWriteLock {
         int readersWait = readersWaitCount(state);
         int writersWait = writersWaitCount(state);
         int tag = newTag == TAG_LOCK_ALWAYS ? tag(state) : newTag & 0xFFFF;
+        int ver = (version(state) + 1) & 0xFF;
 
         lock += 1;
 
@@ -626,7 +672,7 @@ public class OffheapReadWriteLock {
         assert writersWait >= 0 : writersWait;
         assert lock >= -1;
 
-        return buildState(writersWait, readersWait, tag, lock);
+        return buildState(writersWait, readersWait, ver, tag, lock);
     }
 
     /**
@@ -634,14 +680,17 @@ public class OffheapReadWriteLock {
      *
      * @param writersWait Writers wait count.
      * @param readersWait Readers wait count.
+     * @param ver Version.
      * @param tag Tag.
      * @param lock Lock count.
      * @return State.
      */
-    private long buildState(int writersWait, int readersWait, int tag, int lock) {
+    private long buildState(int writersWait, int readersWait, int ver, int tag, int lock) {
         assert (tag & 0xFFFF0000) == 0;
+        assert (ver & 0xFFFFFF00) == 0;
 
-        return ((long)writersWait << 48) | ((long)readersWait << 32) | ((tag & 0x0000FFFFL) << 16) | (lock & 0xFFFFL);
+        return ((long)writersWait << 52) | ((long)readersWait << 40) | ((long)ver << 32) | ((tag & 0x0000FFFFL) << 16) |
+            (lock & 0xFFFFL);
     }
 
     /**
@@ -692,6 +741,7 @@ public class OffheapReadWriteLock {
         long state = GridUnsafe.getLongVolatile(null, lock);
 
         return "tag=" + tag(state) +
+            ", version=" + version(state) +
             ", lockCount=" + lockCount(state) +
             ", writersWaitCount=" + writersWaitCount(state) +
             ", readersWaitCount=" + readersWaitCount(state);
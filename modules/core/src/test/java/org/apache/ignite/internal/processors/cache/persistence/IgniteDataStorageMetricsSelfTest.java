@@ -70,6 +70,7 @@ import org.junit.Test;
 import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.StringUtils.repeat;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
 import static org.apache.ignite.cache.CacheMode.PARTITIONED;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.cluster.ClusterState.ACTIVE;
@@ -78,6 +79,7 @@ import static org.apache.ignite.internal.processors.cache.CacheGroupMetricsImpl.
 import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.HEADER_RECORD_SIZE;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.testframework.GridTestUtils.runMultiThreaded;
 import static org.apache.ignite.testframework.GridTestUtils.setFieldValue;
 import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
 
@@ -414,6 +416,45 @@ public class IgniteDataStorageMetricsSelfTest extends GridCommonAbstractTest {
         assertEquals(exp, dsMetricRegistry(n).<LongAdderMetric>findMetric("WalWrittenBytes").value());
     }
 
+    /**
+     * Checks the WAL group commit histograms in {@link WALMode#FSYNC} mode.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWalGroupCommitMetrics() throws Exception {
+        IgniteEx n = startGrid(0, (UnaryOperator<IgniteConfiguration>)cfg -> {
+            cfg.getDataStorageConfiguration().setWalMode(WALMode.FSYNC);
+
+            return cfg;
+        });
+
+        n.cluster().state(ACTIVE);
+        awaitPartitionMapExchange();
+
+        IgniteCache<Long, byte[]> cache = n.getOrCreateCache(
+            cacheConfiguration(null, "tx-cache", PARTITIONED, TRANSACTIONAL, 0, null));
+
+        runMultiThreaded(() -> {
+            for (int i = 0; i < 100; i++)
+                cache.put(ThreadLocalRandom.current().nextLong(), new byte[128]);
+        }, 8, "tx-load");
+
+        MetricRegistry mreg = dsMetricRegistry(n);
+
+        HistogramMetric fsyncHistogram = mreg.findMetric("WalFsyncHistogram");
+        HistogramMetric fsyncBatchHistogram = mreg.findMetric("WalFsyncBatchHistogram");
+        HistogramMetric commitHistogram = mreg.findMetric("WalCommitHistogram");
+
+        long fsyncs = Arrays.stream(fsyncHistogram.value()).sum();
+
+        assertTrue(fsyncs > 0);
+        assertEquals(fsyncs, Arrays.stream(fsyncBatchHistogram.value()).sum());
+
+        // Each commit waits for the fsync at least once, grouped commits share an fsync.
+        assertTrue(Arrays.stream(commitHistogram.value()).sum() >= fsyncs);
+    }
+
     /**
      * Checking that the metrics of the total size compressed segment are working correctly.
      *
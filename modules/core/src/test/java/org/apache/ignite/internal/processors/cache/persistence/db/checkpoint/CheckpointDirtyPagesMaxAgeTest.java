@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.checkpoint;
+
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE;
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_DATA_REG_DEFAULT_NAME;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Checks the checkpoint triggered by the max age of dirty pages.
+ */
+@WithSystemProperty(key = IGNITE_CHECKPOINT_DIRTY_PAGES_MAX_AGE, value = "1000")
+public class CheckpointDirtyPagesMaxAgeTest extends GridCommonAbstractTest {
+    /** */
+    private final ListeningTestLogger testLog = new ListeningTestLogger(log);
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setGridLogger(testLog)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setCheckpointFrequency(getTestTimeout())
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMetricsEnabled(true)
+                    .setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCheckpointByDirtyPagesAge() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        forceCheckpoint();
+
+        DataRegionMetricsImpl metrics = ignite.context().cache().context().database()
+            .dataRegion(DFLT_DATA_REG_DEFAULT_NAME).metrics();
+
+        LogListener lsnr = LogListener.matches("reason='too old dirty pages'").build();
+
+        testLog.registerListener(lsnr);
+
+        ignite.getOrCreateCache(DEFAULT_CACHE_NAME).put(0, 0);
+
+        assertTrue(waitForCondition(() -> metrics.getDirtyPagesMaxAge() > 0, getTestTimeout()));
+
+        assertTrue(waitForCondition(lsnr::check, getTestTimeout()));
+
+        assertTrue(waitForCondition(() -> metrics.getDirtyPagesMaxAge() < 1000, getTestTimeout()));
+    }
+}
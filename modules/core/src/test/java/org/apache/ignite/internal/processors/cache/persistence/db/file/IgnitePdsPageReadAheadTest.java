@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.metric.MetricRegistry;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_READ_AHEAD_PAGES;
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests sequential read-ahead of partition pages.
+ */
+@WithSystemProperty(key = IGNITE_PDS_READ_AHEAD_PAGES, value = "32")
+public class IgnitePdsPageReadAheadTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 20_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)
+                    .setMetricsEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, 4)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that sequential reads of partition pages after restart load the next pages ahead and the pages are
+     * the same as the pages read on demand.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialRead() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, new byte[200]);
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        PageMemory pageMem = ig.context().cache().context().database().dataRegion(null).pageMemory();
+        IgnitePageStoreManager pageStoreMgr = ig.context().cache().context().pageStore();
+
+        int grpId = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        for (int partId = 0; partId < 4; partId++) {
+            int pages = pageStoreMgr.pages(grpId, partId);
+
+            assertTrue(pages > 64);
+
+            for (int pageIdx = 0; pageIdx < pages; pageIdx++) {
+                long pageId = PageIdUtils.pageId(partId, PageIdAllocator.FLAG_DATA, pageIdx);
+
+                long page = pageMem.acquirePage(grpId, pageId);
+
+                try {
+                    long pageAddr = pageMem.readLockForce(grpId, pageId, page);
+
+                    try {
+                        long actualPageId = PageIO.getPageId(pageAddr);
+
+                        if (actualPageId != 0)
+                            assertEquals(PageIdUtils.effectivePageId(pageId), PageIdUtils.effectivePageId(actualPageId));
+                    }
+                    finally {
+                        pageMem.readUnlock(grpId, pageId, page);
+                    }
+                }
+                finally {
+                    pageMem.releasePage(grpId, pageId, page);
+                }
+            }
+        }
+
+        MetricRegistry mreg = ig.context().metric().registry(metricName(DATAREGION_METRICS_PREFIX,
+            ig.configuration().getDataStorageConfiguration().getDefaultDataRegionConfiguration().getName()));
+
+        LongAdderMetric readAheadPages = mreg.findMetric("PagesReadAhead");
+
+        assertTrue(waitForCondition(() -> readAheadPages.value() > 0, getTestTimeout()));
+
+        cache = ig.cache(DEFAULT_CACHE_NAME);
+
+        int cnt = 0;
+
+        for (Cache.Entry<Integer, byte[]> e : cache.query(new ScanQuery<Integer, byte[]>())) {
+            assertEquals(200, e.getValue().length);
+
+            cnt++;
+        }
+
+        assertEquals(KEYS, cnt);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdAllocator;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PartitionedDirtyPages.partitionKey;
+
+/**
+ * Tests {@link PartitionedDirtyPages}.
+ */
+public class PartitionedDirtyPagesTest extends GridCommonAbstractTest {
+    /**
+     * Checks that the collection behaves as a set and indexes the pages by partition.
+     */
+    @Test
+    public void testSetOperations() {
+        PartitionedDirtyPages pages = new PartitionedDirtyPages();
+
+        Set<FullPageId> exp = new HashSet<>();
+
+        Random rnd = new Random();
+
+        for (int i = 0; i < 10_000; i++) {
+            FullPageId fullId = randomPage(rnd);
+
+            assertEquals(exp.add(fullId), pages.add(fullId));
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            FullPageId fullId = randomPage(rnd);
+
+            assertEquals(exp.remove(fullId), pages.remove(fullId));
+        }
+
+        assertEquals(exp.size(), pages.size());
+        assertEquals(exp, new HashSet<>(pages));
+
+        for (FullPageId fullId : exp)
+            assertTrue(pages.contains(fullId));
+
+        int cnt = 0;
+
+        for (Map.Entry<Long, Collection<FullPageId>> e : pages.partitions().entrySet()) {
+            for (FullPageId fullId : e.getValue()) {
+                assertEquals((long)e.getKey(), partitionKey(fullId.groupId(), PageIdUtils.partId(fullId.pageId())));
+
+                cnt++;
+            }
+        }
+
+        assertEquals(exp.size(), cnt);
+
+        for (Iterator<FullPageId> it = pages.iterator(); it.hasNext(); ) {
+            FullPageId fullId = it.next();
+
+            if (rnd.nextBoolean()) {
+                it.remove();
+
+                exp.remove(fullId);
+            }
+        }
+
+        assertEquals(exp.size(), pages.size());
+        assertEquals(exp, new HashSet<>(pages));
+    }
+
+    /**
+     * Checks that the order of partition keys is the order of checkpoint writes.
+     */
+    @Test
+    public void testPartitionKeyOrder() {
+        List<Long> keys = new ArrayList<>();
+
+        for (int grpId : new int[] {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}) {
+            for (int partId : new int[] {0, 1, PageIdAllocator.MAX_PARTITION_ID, PageIdAllocator.INDEX_PARTITION})
+                keys.add(partitionKey(grpId, partId));
+        }
+
+        for (int i = 1; i < keys.size(); i++)
+            assertTrue(keys.get(i - 1) < keys.get(i));
+    }
+
+    /**
+     * @param rnd Random.
+     * @return Random page of one of a few partitions.
+     */
+    private static FullPageId randomPage(Random rnd) {
+        int partId = rnd.nextInt(8);
+
+        long pageId = PageIdUtils.pageId(partId, PageIdAllocator.FLAG_DATA, rnd.nextInt(1000));
+
+        return new FullPageId(pageId, rnd.nextInt(3) - 1);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.TwoQueuePageList.NULL_IDX;
+
+/**
+ * Tests adaptive 2Q pages list implementation.
+ */
+public class TwoQueuePageListTest extends GridCommonAbstractTest {
+    /** Memory provider. */
+    private DirectMemoryProvider provider;
+
+    /** Pages list. */
+    private TwoQueuePageList list;
+
+    /** */
+    @After
+    public void tearDown() {
+        if (provider != null)
+            provider.shutdown(true);
+    }
+
+    /** */
+    @Test
+    public void testPollOrder() {
+        createList(16);
+
+        for (int i = 0; i < 8; i++)
+            list.addLoaded(i, i);
+
+        // Repeated references to the pages of the "in" list are ignored.
+        list.onHit(0);
+        list.onHit(1);
+
+        assertEquals(8, list.inPagesCount());
+        assertEquals(0, list.mainPagesCount());
+
+        // The "in" list exceeds its target, its pages are polled in FIFO order.
+        assertEquals(0, list.poll());
+        assertEquals(1, list.poll());
+
+        list.onReplaced(0, 0);
+        list.onReplaced(1, 1);
+
+        // Pages loaded again after being replaced are added to the "main" list.
+        list.addLoaded(0, 1);
+        list.addLoaded(1, 0);
+
+        assertEquals(6, list.inPagesCount());
+        assertEquals(2, list.mainPagesCount());
+
+        // LRU order of the "main" list.
+        list.onHit(0);
+
+        for (int i = 2; i < 8; i++)
+            list.remove(i);
+
+        assertEquals(1, list.poll());
+        assertEquals(0, list.poll());
+
+        assertEquals(NULL_IDX, list.poll());
+    }
+
+    /** */
+    @Test
+    public void testRemoveAndPutBack() {
+        createList(8);
+
+        for (int i = 0; i < 6; i++)
+            list.addLoaded(i, i);
+
+        list.remove(0); // Head.
+        list.remove(5); // Tail.
+        list.remove(2); // Middle.
+
+        assertEquals(3, list.inPagesCount());
+
+        int idx = list.poll();
+
+        assertEquals(1, idx);
+
+        list.putBack(idx);
+
+        assertEquals(3, list.poll());
+        assertEquals(4, list.poll());
+        assertEquals(1, list.poll());
+        assertEquals(NULL_IDX, list.poll());
+
+        assertEquals(0, list.inPagesCount());
+        assertEquals(0, list.mainPagesCount());
+    }
+
+    /** */
+    @Test
+    public void testTargetAdaptation() {
+        createList(16);
+
+        int target = list.inPagesTarget();
+
+        for (int i = 0; i < 16; i++)
+            list.addLoaded(i, i);
+
+        int idx = list.poll();
+
+        list.onReplaced(idx, 100);
+        list.addLoaded(idx, 100);
+
+        assertTrue(list.inPagesTarget() > target);
+
+        target = list.inPagesTarget();
+
+        for (int i = 1; i < 16; i++)
+            list.remove(i);
+
+        // Page of the "main" list is replaced and loaded again.
+        idx = list.poll();
+
+        assertEquals(0, idx);
+
+        list.onReplaced(idx, 200);
+        list.addLoaded(idx, 200);
+
+        assertTrue(list.inPagesTarget() < target);
+    }
+
+    /**
+     * Checks that one-time scan doesn't replace frequently used pages.
+     */
+    @Test
+    public void testScanResistance() {
+        int pagesCnt = 1000;
+        int hotPagesCnt = 400;
+
+        createList(pagesCnt);
+
+        PageCache cache = new PageCache(pagesCnt);
+
+        // Warm up the hot pages with some cold pages between the rounds.
+        for (int round = 0; round < 10; round++) {
+            for (long key = 0; key < hotPagesCnt; key++)
+                cache.access(key);
+
+            for (long key = 0; key < pagesCnt; key++)
+                cache.access(1_000_000L * (round + 1) + key);
+        }
+
+        // One-time scan of many pages, each page is accessed several times.
+        for (long key = 0; key < 10 * pagesCnt; key++) {
+            for (int i = 0; i < 3; i++)
+                cache.access(100_000_000L + key);
+        }
+
+        cache.hits = 0;
+
+        for (long key = 0; key < hotPagesCnt; key++)
+            cache.access(key);
+
+        assertTrue("Hot pages hits: " + cache.hits, cache.hits > hotPagesCnt * 9 / 10);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     */
+    private void createList(int pagesCnt) {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {TwoQueuePageList.requiredMemory(pagesCnt)});
+
+        DirectMemoryRegion region = provider.nextRegion();
+
+        list = new TwoQueuePageList(pagesCnt, region.address());
+    }
+
+    /**
+     * Pages cache driven by the tested list.
+     */
+    private class PageCache {
+        /** Keys of the pages by page index. */
+        private final long[] keys;
+
+        /** Page indexes by key. */
+        private final Map<Long, Integer> idxs = new HashMap<>();
+
+        /** Count of loaded pages. */
+        private int loaded;
+
+        /** Hits count. */
+        private int hits;
+
+        /**
+         * @param pagesCnt Pages count.
+         */
+        private PageCache(int pagesCnt) {
+            keys = new long[pagesCnt];
+        }
+
+        /**
+         * @param key Page key.
+         */
+        private void access(long key) {
+            Integer idx = idxs.get(key);
+
+            if (idx != null) {
+                hits++;
+
+                list.onHit(idx);
+
+                return;
+            }
+
+            if (loaded < keys.length)
+                idx = loaded++;
+            else {
+                idx = list.poll();
+
+                list.onReplaced(idx, keys[idx]);
+
+                idxs.remove(keys[idx]);
+            }
+
+            keys[idx] = key;
+            idxs.put(key, idx);
+
+            list.addLoaded(idx, key);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.util.Optional;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PartitionDestroyRecord;
+import org.apache.ignite.internal.util.GridCloseableIteratorAdapter;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests {@link ReadAheadWalIterator}.
+ */
+public class ReadAheadWalIteratorTest extends GridCommonAbstractTest {
+    /** */
+    private static final int RECORDS = 10_000;
+
+    /**
+     * Checks that records and pointers are returned in the order of the delegate.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecordsOrder() throws Exception {
+        TestIterator delegate = new TestIterator(RECORDS, -1);
+
+        try (WALIterator it = new ReadAheadWalIterator(delegate, 1000, getTestIgniteInstanceName())) {
+            assertFalse(it.lastRead().isPresent());
+
+            for (int i = 0; i < RECORDS; i++) {
+                assertTrue(it.hasNextX());
+
+                IgniteBiTuple<WALPointer, WALRecord> rec = it.nextX();
+
+                assertEquals(i, rec.get1().fileOffset());
+                assertEquals(i, ((PartitionDestroyRecord)rec.get2()).partitionId());
+                assertEquals(i, it.lastRead().get().fileOffset());
+            }
+
+            assertFalse(it.hasNextX());
+        }
+
+        assertTrue(delegate.isClosed());
+    }
+
+    /**
+     * Checks that an error of the delegate is thrown after all the records read before it.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testError() throws Exception {
+        int errIdx = RECORDS / 2 + 7;
+
+        try (WALIterator it = new ReadAheadWalIterator(new TestIterator(RECORDS, errIdx), 1000,
+            getTestIgniteInstanceName())) {
+            for (int i = 0; i < errIdx; i++)
+                assertEquals(i, it.nextX().get1().fileOffset());
+
+            GridTestUtils.assertThrows(log, () -> it.hasNextX(), IgniteCheckedException.class, "Test error");
+
+            assertEquals(errIdx - 1, it.lastRead().get().fileOffset());
+        }
+    }
+
+    /**
+     * Checks that the iterator can be closed before all the records are read.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCloseBeforeEnd() throws Exception {
+        TestIterator delegate = new TestIterator(RECORDS, -1);
+
+        WALIterator it = new ReadAheadWalIterator(delegate, 1000, getTestIgniteInstanceName());
+
+        assertEquals(0, it.nextX().get1().fileOffset());
+
+        it.close();
+
+        assertTrue(delegate.isClosed());
+        assertTrue(delegate.idx < RECORDS);
+    }
+
+    /** Iterator over generated records. */
+    private static class TestIterator extends GridCloseableIteratorAdapter<IgniteBiTuple<WALPointer, WALRecord>>
+        implements WALIterator {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Records count. */
+        private final int cnt;
+
+        /** Index of the record failed to read or {@code -1}. */
+        private final int errIdx;
+
+        /** Next record index. */
+        private volatile int idx;
+
+        /**
+         * @param cnt Records count.
+         * @param errIdx Index of the record failed to read or {@code -1}.
+         */
+        TestIterator(int cnt, int errIdx) {
+            this.cnt = cnt;
+            this.errIdx = errIdx;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected IgniteBiTuple<WALPointer, WALRecord> onNext() {
+            WALPointer ptr = new WALPointer(0, idx, 1);
+
+            return new IgniteBiTuple<>(ptr, new PartitionDestroyRecord(0, idx++));
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean onHasNext() throws IgniteCheckedException {
+            if (idx == errIdx)
+                throw new IgniteCheckedException("Test error");
+
+            return idx < cnt;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Optional<WALPointer> lastRead() {
+            return idx == 0 ? Optional.empty() : Optional.of(new WALPointer(0, idx - 1, 1));
+        }
+    }
+}
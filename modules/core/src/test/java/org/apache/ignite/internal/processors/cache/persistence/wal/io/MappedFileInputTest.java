@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.io;
+
+import java.io.EOFException;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferExpander;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Tests {@link MappedFileInput}.
+ */
+public class MappedFileInputTest extends GridCommonAbstractTest {
+    /** Size of the data following the header. */
+    private static final int DATA_SIZE = 1024 * 1024;
+
+    /** Header size. */
+    private static final int HDR_SIZE = 29;
+
+    /** */
+    private final RandomAccessFileIOFactory ioFactory = new RandomAccessFileIOFactory();
+
+    /** */
+    private File file;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        file = File.createTempFile("mapped", ".wal");
+
+        ByteBuffer buf = ByteBuffer.allocate(HDR_SIZE + DATA_SIZE).order(ByteOrder.nativeOrder());
+
+        Random rnd = new Random();
+
+        while (buf.hasRemaining())
+            buf.put((byte)rnd.nextInt());
+
+        buf.flip();
+
+        try (FileIO io = ioFactory.create(file, CREATE, WRITE)) {
+            io.writeFully(buf);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        file.delete();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that the mapped input reads the same values at the same positions as the buffered one.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadsAsSimpleInput() throws Exception {
+        try (
+            ByteBufferExpander buf = new ByteBufferExpander(64, ByteOrder.nativeOrder());
+            SegmentIO simpleIO = segmentIO();
+            SegmentIO mappedIO = segmentIO()
+        ) {
+            FileInput exp = new SimpleFileInput(simpleIO, buf);
+            MappedFileInput in = new MappedFileInput(mappedIO, file);
+
+            assertEquals(HDR_SIZE, in.position());
+
+            Random rnd = new Random();
+
+            for (int i = 0; i < 1000; i++) {
+                long pos = HDR_SIZE + rnd.nextInt(DATA_SIZE - 1024);
+
+                exp.seek(pos);
+                in.seek(pos);
+
+                assertEquals(exp.readInt(), in.readInt());
+                assertEquals(exp.readLong(), in.readLong());
+                assertEquals(exp.readShort(), in.readShort());
+                assertEquals(exp.readByte(), in.readByte());
+
+                byte[] expBytes = new byte[rnd.nextInt(512)];
+                byte[] bytes = new byte[expBytes.length];
+
+                exp.readFully(expBytes);
+                in.readFully(bytes);
+
+                assertEqualsArraysAware(expBytes, bytes);
+
+                long skipPos = in.position() + rnd.nextInt(256);
+
+                in.skipBytes((int)(skipPos - in.position()));
+                exp.seek(skipPos);
+
+                assertEquals(skipPos, in.position());
+                assertEquals(exp.readDouble(), in.readDouble());
+            }
+
+            in.io().close();
+        }
+    }
+
+    /**
+     * Checks EOF at the end of the segment.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testEof() throws Exception {
+        try (SegmentIO io = segmentIO()) {
+            MappedFileInput in = new MappedFileInput(io, file);
+
+            in.seek(HDR_SIZE + DATA_SIZE - 4);
+
+            in.readInt();
+
+            GridTestUtils.assertThrowsWithCause(() -> in.readByte(), EOFException.class);
+            GridTestUtils.assertThrowsWithCause(() -> {
+                in.seek(HDR_SIZE + DATA_SIZE + 1);
+
+                return null;
+            }, EOFException.class);
+
+            in.io().close();
+        }
+    }
+
+    /**
+     * @return Segment I/O positioned after the header.
+     * @throws Exception If failed.
+     */
+    private SegmentIO segmentIO() throws Exception {
+        SegmentIO io = new SegmentIO(0, ioFactory.create(file, READ));
+
+        io.position(HDR_SIZE);
+
+        return io;
+    }
+}
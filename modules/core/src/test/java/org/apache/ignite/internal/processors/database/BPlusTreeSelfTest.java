@@ -307,6 +307,88 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         assertTrue(tree.isEmpty());
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBulkLoad() throws Exception {
+        for (int maxPerPage : new int[] {2, 3, 5, 0}) {
+            MAX_PER_PAGE = maxPerPage;
+
+            for (int size : new int[] {0, 1, 2, 7, 100, 5000}) {
+                for (float fillFactor : new float[] {0.5f, 1f}) {
+                    TestTree tree = createTestTree(true);
+
+                    BPlusTree<Long, Long>.BulkLoad load = tree.bulkLoad(fillFactor);
+
+                    TreeMap<Long, Long> map = new TreeMap<>();
+
+                    for (long i = 0; i < size; i++) {
+                        long row = i * 2;
+
+                        load.add(row);
+                        map.put(row, row);
+                    }
+
+                    load.finish();
+
+                    assertNoLocks();
+
+                    tree.validateTree();
+
+                    assertEquals(size, tree.size());
+
+                    checkCursor(tree.find(null, null), map.values().iterator());
+
+                    for (long i = 0; i < size * 2; i++)
+                        assertEquals(map.get(i), tree.findOne(i));
+
+                    // The built tree must stay consistent on further updates.
+                    for (int i = 0; i < size; i++) {
+                        long row = rnd.nextInt(size * 2 + 1);
+
+                        if (rnd.nextBoolean()) {
+                            tree.put(row);
+                            map.put(row, row);
+                        }
+                        else {
+                            tree.remove(row);
+                            map.remove(row);
+                        }
+                    }
+
+                    tree.validateTree();
+
+                    checkCursor(tree.find(null, null), map.values().iterator());
+                }
+            }
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBulkLoadUnsortedRows() throws Exception {
+        TestTree tree = createTestTree(true);
+
+        BPlusTree<Long, Long>.BulkLoad load = tree.bulkLoad(1f);
+
+        load.add(1L);
+        load.add(2L);
+
+        GridTestUtils.assertThrows(log, () -> {
+            load.add(2L);
+
+            return null;
+        }, IgniteCheckedException.class, "Rows must be added in the tree order");
+
+        tree.put(3L);
+
+        GridTestUtils.assertThrows(log, () -> tree.bulkLoad(1f), IgniteCheckedException.class,
+            "Bulk load requires an empty tree");
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
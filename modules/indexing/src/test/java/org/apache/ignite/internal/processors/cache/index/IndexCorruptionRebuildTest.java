@@ -16,6 +16,7 @@
  */
 package org.apache.ignite.internal.processors.cache.index;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -54,9 +55,12 @@ import org.apache.ignite.internal.processors.localtask.DurableBackgroundTasksPro
 import org.apache.ignite.internal.processors.query.schema.IndexRebuildCancelToken;
 import org.apache.ignite.internal.processors.query.schema.management.IndexDescriptor;
 import org.apache.ignite.internal.processors.query.schema.management.SchemaManager;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.maintenance.MaintenanceRegistry;
 import org.apache.ignite.maintenance.MaintenanceTask;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
@@ -65,6 +69,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.INDEX_REBUILD_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.parseMaintenanceTaskParameters;
 import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
@@ -234,6 +239,15 @@ public class IndexCorruptionRebuildTest extends GridCommonAbstractTest {
         validateIndexes(srv);
     }
 
+    /** */
+    @Test
+    @WithSystemProperty(key = IGNITE_INDEX_REBUILD_SORT_BUFFER_SIZE, value = "7")
+    public void testCorruptedTreeSortedInFiles() throws Exception {
+        testCorruptedTree();
+
+        assertTrue(F.isEmpty(new File(U.defaultWorkDirectory(), "index_rebuild_sort").list()));
+    }
+
     /**
      * Checks that caches have certain corrupted indexes.
      *
@@ -38,10 +38,13 @@ import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.spi.metric.BooleanMetric;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.junit.Test;
 
 import static java.util.Objects.requireNonNull;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_CACHE_PARALLELISM;
 import static org.apache.ignite.internal.processors.cache.index.AbstractSchemaSelfTest.KeyClass;
 import static org.apache.ignite.internal.processors.cache.index.AbstractSchemaSelfTest.ValueClass;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
@@ -219,6 +222,54 @@ public class IndexMetricsTest extends AbstractIndexingCommonTest {
         assertEquals(0, idxRebuildKeyProcessedCluster);
     }
 
+    /**
+     * Checks index rebuild speed and progress metrics.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_INDEX_REBUILD_CACHE_PARALLELISM, value = "2")
+    public void testIndexRebuildProgressMetrics() throws Exception {
+        IgniteEx ig0 = startGrid(0);
+
+        ig0.cluster().state(ClusterState.ACTIVE);
+
+        String cacheName = "cache1";
+
+        IgniteCache<KeyClass, ValueClass> cache = ig0.getOrCreateCache(cacheConfiguration(cacheName));
+
+        int entryCnt = 1000;
+
+        for (int i = 0; i < entryCnt; i++)
+            cache.put(new KeyClass(i), new ValueClass((long)i));
+
+        List<Path> idxPaths = getIndexBinPaths(cacheName);
+
+        stopAllGrids();
+
+        idxPaths.forEach(idxPath -> assertTrue(U.delete(idxPath)));
+
+        IndexProcessor.idxRebuildCls = BlockingIndexesRebuildTask.class;
+
+        IgniteEx n = startGrid(0);
+
+        LongMetric keysTotal = indexRebuildMetric(n, cacheName, "IndexRebuildKeysTotal");
+        LongMetric keysPerSec = indexRebuildMetric(n, cacheName, "IndexRebuildKeysPerSecond");
+        LongMetric timeLeft = indexRebuildMetric(n, cacheName, "IndexRebuildEstimatedTimeLeft");
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        assertEquals(-1, timeLeft.value());
+
+        ((BlockingIndexesRebuildTask)n.context().indexProcessor().idxRebuild()).stopBlock(cacheName);
+
+        n.cache(cacheName).indexReadyFuture().get(30_000);
+
+        assertEquals(entryCnt, keysTotal.value());
+        assertTrue(keysPerSec.value() > 0);
+        assertEquals(0, timeLeft.value());
+    }
+
     /**
      * Get index rebuild metric.
      *
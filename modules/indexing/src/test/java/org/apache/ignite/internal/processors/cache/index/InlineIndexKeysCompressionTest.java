@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.query.index.Index;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.CompressedInlineLeafIO;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.junit.Test;
+
+/**
+ * Tests compression of the keys inlined to index leaf pages.
+ */
+public class InlineIndexKeysCompressionTest extends AbstractIndexingCommonTest {
+    /** */
+    private static final int KEYS = 20_000;
+
+    /** */
+    private static final String PREFIX = "organization/department/employee-";
+
+    /** */
+    private boolean persistence;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(persistence)
+                    .setMaxSize(256L * 1024 * 1024)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        CompressedInlineLeafIO.enabled(false);
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that compressed index pages store more keys.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIndexPagesCount() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        long plainPages = loadAndCountIndexPages(ignite, "PLAIN");
+
+        CompressedInlineLeafIO.enabled(true);
+
+        long compressedPages = loadAndCountIndexPages(ignite, "COMPRESSED");
+
+        assertTrue("Compressed index must take less pages [plain=" + plainPages +
+            ", compressed=" + compressedPages + ']', compressedPages < plainPages * 0.8);
+    }
+
+    /**
+     * Checks queries over an index with compressed pages after random updates.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRandomUpdates() throws Exception {
+        CompressedInlineLeafIO.enabled(true);
+
+        IgniteEx ignite = startGrid(0);
+
+        createTable(ignite, "T");
+
+        NavigableMap<Integer, String> expected = new TreeMap<>();
+
+        for (int i = 0; i < KEYS; i++)
+            put(ignite, "T", i, name(i), expected);
+
+        randomUpdates(ignite, "T", expected);
+
+        checkIndex(ignite, "T", expected);
+    }
+
+    /**
+     * Checks that an index with compressed pages is restored from WAL.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWalRecovery() throws Exception {
+        CompressedInlineLeafIO.enabled(true);
+
+        persistence = true;
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        createTable(ignite, "T");
+
+        NavigableMap<Integer, String> expected = new TreeMap<>();
+
+        for (int i = 0; i < KEYS; i++)
+            put(ignite, "T", i, name(i), expected);
+
+        forceCheckpoint();
+
+        GridCacheDatabaseSharedManager dbMgr = (GridCacheDatabaseSharedManager)ignite.context().cache().context().database();
+
+        dbMgr.enableCheckpoints(false).get();
+
+        randomUpdates(ignite, "T", expected);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        checkIndex(ignite, "T", expected);
+
+        // Compressed pages must be readable with the compression disabled.
+        CompressedInlineLeafIO.enabled(false);
+
+        randomUpdates(ignite, "T", expected);
+
+        checkIndex(ignite, "T", expected);
+    }
+
+    /**
+     * @param ignite Node.
+     * @param tbl Table name.
+     * @return Number of index pages of the table cache group.
+     */
+    private long loadAndCountIndexPages(IgniteEx ignite, String tbl) {
+        createTable(ignite, tbl);
+
+        CacheGroupContext grp = ignite.context().cache().cacheGroup(CU.cacheId(cacheName(tbl)));
+
+        long before = grp.dataRegion().metrics().cacheGrpPageMetrics(grp.groupId()).indexPages().value();
+
+        for (int i = 0; i < KEYS; i++)
+            sql(ignite, "INSERT INTO " + tbl + " (id, name) VALUES (?, ?)", i, name(i));
+
+        return grp.dataRegion().metrics().cacheGrpPageMetrics(grp.groupId()).indexPages().value() - before;
+    }
+
+    /**
+     * @param ignite Node.
+     * @param tbl Table name.
+     * @param expected Expected table content.
+     */
+    private void randomUpdates(IgniteEx ignite, String tbl, Map<Integer, String> expected) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < KEYS; i++) {
+            int id = rnd.nextInt(KEYS * 2);
+
+            int op = rnd.nextInt(3);
+
+            if (op == 0) {
+                sql(ignite, "DELETE FROM " + tbl + " WHERE id = ?", id);
+
+                expected.remove(id);
+            }
+            else {
+                // Names which do not share the prefix force rewrites of the compressed pages.
+                String name = op == 1 ? name(rnd.nextInt(KEYS * 2)) : "other-" + rnd.nextInt(KEYS);
+
+                put(ignite, tbl, id, name, expected);
+            }
+        }
+    }
+
+    /**
+     * @param ignite Node.
+     * @param tbl Table name.
+     * @param expected Expected table content.
+     */
+    private void checkIndex(IgniteEx ignite, String tbl, NavigableMap<Integer, String> expected) throws Exception {
+        for (Index idx : ignite.context().indexProcessor().indexes(cacheName(tbl))) {
+            InlineIndexImpl inlineIdx = idx.unwrap(InlineIndexImpl.class);
+
+            if (inlineIdx == null)
+                continue;
+
+            for (int i = 0; i < inlineIdx.segmentsCount(); i++)
+                inlineIdx.segment(i).validateTree();
+        }
+
+        List<String> names = new ArrayList<>(expected.values());
+
+        names.sort(null);
+
+        List<List<?>> res = sql(ignite, "SELECT name FROM " + tbl + " USE INDEX(" + tbl + "_NAME_IDX) " +
+            "WHERE name > '' ORDER BY name");
+
+        assertEquals(names.size(), res.size());
+
+        for (int i = 0; i < names.size(); i++)
+            assertEquals(names.get(i), res.get(i).get(0));
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 100; i++) {
+            int id = rnd.nextInt(KEYS * 2);
+
+            String name = name(id);
+
+            long cnt = names.stream().filter(name::equals).count();
+
+            assertEquals(cnt, sql(ignite, "SELECT COUNT(*) FROM " + tbl + " WHERE name = ?", name).get(0).get(0));
+        }
+    }
+
+    /**
+     * @param ignite Node.
+     * @param tbl Table name.
+     */
+    private void createTable(IgniteEx ignite, String tbl) {
+        sql(ignite, "CREATE TABLE " + tbl + " (id INT PRIMARY KEY, name VARCHAR) WITH \"CACHE_NAME=" +
+            cacheName(tbl) + "\"");
+
+        sql(ignite, "CREATE INDEX " + tbl + "_NAME_IDX ON " + tbl + " (name) INLINE_SIZE 64");
+    }
+
+    /**
+     * @param ignite Node.
+     * @param tbl Table name.
+     * @param id Row ID.
+     * @param name Name.
+     * @param expected Expected table content.
+     */
+    private void put(IgniteEx ignite, String tbl, int id, String name, Map<Integer, String> expected) {
+        sql(ignite, "MERGE INTO " + tbl + " (id, name) VALUES (?, ?)", id, name);
+
+        expected.put(id, name);
+    }
+
+    /**
+     * @param ignite Node.
+     * @param sql SQL query.
+     * @param args Query arguments.
+     * @return Query result.
+     */
+    private List<List<?>> sql(IgniteEx ignite, String sql, Object... args) {
+        return ignite.context().query().querySqlFields(new SqlFieldsQuery(sql).setArgs(args), false).getAll();
+    }
+
+    /**
+     * @param tbl Table name.
+     * @return Cache name.
+     */
+    private static String cacheName(String tbl) {
+        return "CACHE_" + tbl;
+    }
+
+    /**
+     * @param i Index.
+     * @return Name with a common prefix.
+     */
+    private static String name(int i) {
+        return PREFIX + String.format("%08d", i);
+    }
+}
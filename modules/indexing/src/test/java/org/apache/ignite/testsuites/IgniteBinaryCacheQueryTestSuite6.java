@@ -63,6 +63,7 @@ import org.apache.ignite.internal.processors.cache.index.H2DynamicIndexingComple
 import org.apache.ignite.internal.processors.cache.index.H2DynamicIndexingComplexServerTransactionalReplicatedTest;
 import org.apache.ignite.internal.processors.cache.index.H2DynamicTableSelfTest;
 import org.apache.ignite.internal.processors.cache.index.IndexMetricsTest;
+import org.apache.ignite.internal.processors.cache.index.InlineIndexKeysCompressionTest;
 import org.apache.ignite.internal.processors.cache.index.QueryEntityValidationSelfTest;
 import org.apache.ignite.internal.processors.cache.index.SchemaExchangeSelfTest;
 import org.apache.ignite.internal.processors.cache.index.StopNodeOnRebuildIndexFailureTest;
@@ -108,6 +109,7 @@ import org.junit.runners.Suite;
     BasicIndexMultinodeTest.class,
     IndexMetricsTest.class,
     BPlusTreeMetricsTest.class,
+    InlineIndexKeysCompressionTest.class,
     QueryEntityValidationSelfTest.class,
     DuplicateKeyValueClassesSelfTest.class,
     GridCacheQueryPartitionsReleaseTest.class,
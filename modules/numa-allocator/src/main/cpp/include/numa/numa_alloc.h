@@ -104,6 +104,8 @@ namespace numa {
 
     size_t Size(void *ptr);
 
+    bool AdviseHugePages(void *ptr);
+
     void Free(void *ptr);
 }
 
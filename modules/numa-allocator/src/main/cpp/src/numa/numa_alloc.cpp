@@ -16,6 +16,7 @@
  */
 
 #include <numa.h>
+#include <sys/mman.h>
 #include <numa/numa_alloc.h>
 
 namespace numa {
@@ -205,6 +206,20 @@ namespace numa {
         return 0;
     }
 
+    /**
+     * Advises kernel to back the whole region including header with transparent huge pages. Header starts at the
+     * beginning of the mapping created by libnuma, so it is aligned to the page size.
+     */
+    bool AdviseHugePages(void *buf) {
+#ifdef MADV_HUGEPAGE
+        auto ptr = ConvertPointer(buf);
+        if (ptr) {
+            return madvise(ptr, ptr->size + sizeof(region_size), MADV_HUGEPAGE) == 0;
+        }
+#endif
+        return false;
+    }
+
     void Free(void *buf) {
         auto ptr = ConvertPointer(buf);
         if (ptr) {
@@ -127,3 +127,12 @@ JNIEXPORT void JNICALL Java_org_apache_ignite_internal_mem_NumaAllocUtil_free(JN
 JNIEXPORT jint JNICALL Java_org_apache_ignite_internal_mem_NumaAllocUtil_nodesCount(JNIEnv *, jclass) {
     return static_cast<jint>(numa::NumaNodesCount());
 }
+
+JNIEXPORT jboolean JNICALL Java_org_apache_ignite_internal_mem_NumaAllocUtil_adviseHugePages(
+        JNIEnv *,
+        jclass,
+        jlong addr
+) {
+    void* ptr = reinterpret_cast<void*>(addr);
+    return static_cast<jboolean>(numa::AdviseHugePages(ptr));
+}
@@ -142,6 +142,15 @@ public class NumaAllocUtil {
      */
     public static native void free(long addr);
 
+    /**
+     * Advise kernel to back allocated buffer with transparent huge pages. Uses
+     * {@code int madvise(void*, size_t, MADV_HUGEPAGE)} under the hood.
+     *
+     * @param addr Address of buffer.
+     * @return {@code True} if advice is accepted, {@code false} if transparent huge pages aren't supported.
+     */
+    public static native boolean adviseHugePages(long addr);
+
     /**
      * Get NUMA nodes count.
      *
@@ -26,6 +26,11 @@ import org.apache.ignite.internal.mem.NumaAllocUtil;
  * <p>
  * Allocation strategy can be defined by setting {@code allocStrategy} to
  * {@link NumaAllocator#NumaAllocator(NumaAllocationStrategy)}.
+ * <p>
+ * Use {@link NumaAllocator#NumaAllocator(NumaAllocationStrategy, boolean)} to back allocated memory with transparent
+ * huge pages. Page memory of large data regions is accessed randomly, so huge pages reduce TLB misses. Transparent
+ * huge pages must be enabled in {@code always} or {@code madvise} mode, see
+ * {@code /sys/kernel/mm/transparent_hugepage/enabled}.
  */
 public class NumaAllocator implements MemoryAllocator, Serializable {
     /** */
@@ -34,16 +39,34 @@ public class NumaAllocator implements MemoryAllocator, Serializable {
     /** */
     private final NumaAllocationStrategy allocStrategy;
 
+    /** */
+    private final boolean hugePages;
+
     /**
      * @param allocStrategy Allocation strategy.
      */
     public NumaAllocator(NumaAllocationStrategy allocStrategy) {
+        this(allocStrategy, false);
+    }
+
+    /**
+     * @param allocStrategy Allocation strategy.
+     * @param hugePages If {@code true}, allocated memory is backed with transparent huge pages.
+     */
+    public NumaAllocator(NumaAllocationStrategy allocStrategy, boolean hugePages) {
         this.allocStrategy = allocStrategy;
+        this.hugePages = hugePages;
     }
 
     /** {@inheritDoc}*/
     @Override public long allocateMemory(long size) {
-        return allocStrategy.allocateMemory(size);
+        long ptr = allocStrategy.allocateMemory(size);
+
+        // Advice is a hint, memory is still usable with regular pages if it isn't accepted.
+        if (hugePages && ptr != 0)
+            NumaAllocUtil.adviseHugePages(ptr);
+
+        return ptr;
     }
 
     /** {@inheritDoc}*/
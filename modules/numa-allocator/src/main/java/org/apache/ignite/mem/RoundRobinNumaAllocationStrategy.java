@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.mem;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.mem.NumaAllocUtil;
+import org.apache.ignite.internal.util.tostring.GridToStringBuilder;
+import org.apache.ignite.internal.util.tostring.GridToStringInclude;
+import org.apache.ignite.internal.util.typedef.internal.A;
+
+/**
+ * Round-robin NUMA allocation strategy.
+ * <p>
+ * Each allocation is placed entirely on one NUMA node, consecutive allocations are placed on consecutive nodes.
+ * Data region allocates each page memory segment separately, so the segments are spread over the nodes while every
+ * segment stays local to one node, unlike {@link InterleavedNumaAllocationStrategy} which interleaves the pages of
+ * every segment. Memory will be allocated using {@code void *numa_alloc_onnode(size_t, int)} of {@code libnuma}.
+ * <p>
+ * Use {@link RoundRobinNumaAllocationStrategy#RoundRobinNumaAllocationStrategy()} to use all available NUMA nodes.
+ * <p>
+ * Use {@link RoundRobinNumaAllocationStrategy#RoundRobinNumaAllocationStrategy(int[])} to use specified nodes.
+ */
+public class RoundRobinNumaAllocationStrategy implements NumaAllocationStrategy, Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** */
+    @GridToStringInclude
+    private final int[] nodes;
+
+    /** */
+    private final AtomicInteger cnt = new AtomicInteger();
+
+    /** */
+    public RoundRobinNumaAllocationStrategy() {
+        this(null);
+    }
+
+    /**
+     * @param nodes Array of NUMA nodes to allocate on.
+     */
+    public RoundRobinNumaAllocationStrategy(int[] nodes) {
+        if (nodes != null && nodes.length > 0) {
+            this.nodes = Arrays.copyOf(nodes, nodes.length);
+
+            Arrays.sort(this.nodes);
+            A.ensure(this.nodes[0] >= 0, "NUMA node number must be positive, passed instead "
+                + Arrays.toString(this.nodes));
+            A.ensure(this.nodes[this.nodes.length - 1] < NumaAllocUtil.NUMA_NODES_CNT,
+                "NUMA node number must be less than NUMA_NODES_CNT=" + NumaAllocUtil.NUMA_NODES_CNT +
+                    ", passed instead " + Arrays.toString(this.nodes));
+        }
+        else
+            this.nodes = IntStream.range(0, NumaAllocUtil.NUMA_NODES_CNT).toArray();
+    }
+
+    /** {@inheritDoc}*/
+    @Override public long allocateMemory(long size) {
+        int node = nodes[(cnt.getAndIncrement() & Integer.MAX_VALUE) % nodes.length];
+
+        return NumaAllocUtil.allocateOnNode(size, node);
+    }
+
+    /** {@inheritDoc}*/
+    @Override public String toString() {
+        return GridToStringBuilder.toString(RoundRobinNumaAllocationStrategy.class, this);
+    }
+}
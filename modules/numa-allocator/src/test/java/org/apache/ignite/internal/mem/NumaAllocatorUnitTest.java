@@ -24,6 +24,7 @@ import org.apache.ignite.mem.InterleavedNumaAllocationStrategy;
 import org.apache.ignite.mem.LocalNumaAllocationStrategy;
 import org.apache.ignite.mem.NumaAllocationStrategy;
 import org.apache.ignite.mem.NumaAllocator;
+import org.apache.ignite.mem.RoundRobinNumaAllocationStrategy;
 import org.apache.ignite.mem.SimpleNumaAllocationStrategy;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
@@ -60,7 +61,9 @@ public class NumaAllocatorUnitTest {
                 new Object[] {new InterleavedNumaAllocationStrategy(EVEN_NODES)},
                 new Object[] {new InterleavedNumaAllocationStrategy(ALL_NODES)},
                 new Object[] {new SimpleNumaAllocationStrategy()},
-                new Object[] {new SimpleNumaAllocationStrategy(NumaAllocUtil.NUMA_NODES_CNT - 1)}
+                new Object[] {new SimpleNumaAllocationStrategy(NumaAllocUtil.NUMA_NODES_CNT - 1)},
+                new Object[] {new RoundRobinNumaAllocationStrategy()},
+                new Object[] {new RoundRobinNumaAllocationStrategy(EVEN_NODES)}
             );
         }
 
@@ -71,8 +74,19 @@ public class NumaAllocatorUnitTest {
         /** */
         @Test
         public void test() {
-            NumaAllocator allocator = new NumaAllocator(strategy);
+            checkAllocation(new NumaAllocator(strategy));
+        }
+
+        /** */
+        @Test
+        public void testHugePages() {
+            checkAllocation(new NumaAllocator(strategy, true));
+        }
 
+        /**
+         * @param allocator Allocator.
+         */
+        private void checkAllocation(NumaAllocator allocator) {
             long ptr = 0;
             try {
                 ptr = allocator.allocateMemory(BUF_SZ);
@@ -117,5 +131,19 @@ public class NumaAllocatorUnitTest {
                     IllegalArgumentException.class, null);
             }
         }
+
+        /** */
+        @Test
+        public void testInvalidRoundRobinStrategyParams() {
+            int[][] invalidNodes = {
+                {-3, -4, 0},
+                IntStream.range(0, NumaAllocUtil.NUMA_NODES_CNT + 1).toArray()
+            };
+
+            for (int[] nodeSet: invalidNodes) {
+                GridTestUtils.assertThrows(log(), () -> new RoundRobinNumaAllocationStrategy(nodeSet),
+                    IllegalArgumentException.class, null);
+            }
+        }
     }
 }
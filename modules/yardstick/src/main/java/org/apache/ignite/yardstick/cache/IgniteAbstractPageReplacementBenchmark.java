@@ -18,21 +18,30 @@
 package org.apache.ignite.yardstick.cache;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteDataStreamer;
 import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.cache.query.annotations.QuerySqlField;
 import org.apache.ignite.events.Event;
+import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.resources.IgniteInstanceResource;
+import org.apache.ignite.spi.metric.DoubleMetric;
 import org.yardstickframework.BenchmarkConfiguration;
 import org.yardstickframework.BenchmarkUtils;
 
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_DATA_REG_DEFAULT_NAME;
 import static org.apache.ignite.events.EventType.EVT_PAGE_REPLACEMENT_STARTED;
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 
 /**
  * Ignite benchmark that performs payload with active page replacement.
@@ -43,6 +52,7 @@ import static org.apache.ignite.events.EventType.EVT_PAGE_REPLACEMENT_STARTED;
  * Execute full scan.
  *
  * On test phase process data belonging to dataregion capacity (calculated on setUp phase) * REPLACE_RATIO parameter.
+ * On tearDown phase print pages hit ratio of the data region on server nodes to compare page replacement modes.
  *
  * NOTE: EVT_PAGE_REPLACEMENT_STARTED event need to be enabled on server side.
  */
@@ -164,6 +174,11 @@ public abstract class IgniteAbstractPageReplacementBenchmark extends IgniteCache
 
     /** {@inheritDoc} */
     @Override public void tearDown() throws Exception {
+        Collection<Double> hitRatios = ignite().compute(ignite().cluster().forServers())
+            .broadcast(new PagesHitRatioCallable());
+
+        BenchmarkUtils.println("Pages hit ratio on server nodes: " + hitRatios);
+
         super.tearDown();
 
         if (backgroundScanThread != null) {
@@ -182,6 +197,27 @@ public abstract class IgniteAbstractPageReplacementBenchmark extends IgniteCache
         return nextRandom(range);
     }
 
+    /**
+     * Gets pages hit ratio of the default data region.
+     */
+    private static class PagesHitRatioCallable implements IgniteCallable<Double> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Ignite instance. */
+        @IgniteInstanceResource
+        private transient Ignite ignite;
+
+        /** {@inheritDoc} */
+        @Override public Double call() {
+            DoubleMetric hitRatio = ((IgniteEx)ignite).context().metric()
+                .registry(metricName(DATAREGION_METRICS_PREFIX, DFLT_DATA_REG_DEFAULT_NAME))
+                .findMetric("PagesHitRatio");
+
+            return hitRatio == null ? null : hitRatio.value();
+        }
+    }
+
     /**
      * Class for test purpose.
      */